@@ -0,0 +1,20 @@
+package io.smallrye.openapi.api;
+
+import org.jboss.logging.BasicLogger;
+import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.LogMessage;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageLogger;
+
+@MessageLogger(projectCode = "SROAP", length = 5)
+interface ApiLogging extends BasicLogger {
+    ApiLogging logger = Logger.getMessageLogger(ApiLogging.class, ApiLogging.class.getPackage().getName());
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 17000, value = "Completed phase %s")
+    void phaseCompleted(PhaseEvent event);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 17001, value = "OpenAPI document built in %s ms: %s")
+    void bootstrapSummary(long millis, String phases);
+}
@@ -1,9 +1,14 @@
 package io.smallrye.openapi.api;
 
+import java.io.IOException;
+
 import org.jboss.logging.Messages;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageBundle;
 
+import io.smallrye.openapi.runtime.io.Format;
+
 @MessageBundle(projectCode = "SROAP", length = 5)
 interface ApiMessages {
     ApiMessages msg = Messages.getBundle(ApiMessages.class);
@@ -16,4 +21,7 @@ interface ApiMessages {
 
     @Message(id = 2, value = "OpenApiConfig must be set before init")
     IllegalStateException configMustBeSet();
+
+    @Message(id = 3, value = "Unable to serialize the OpenAPI document as %s")
+    IllegalStateException documentSerializationFailed(Format format, @Cause IOException cause);
 }
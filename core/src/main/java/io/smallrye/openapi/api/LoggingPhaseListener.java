@@ -0,0 +1,38 @@
+package io.smallrye.openapi.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link PhaseListener} that logs every event at debug level and, once the document
+ * has been built, a summary of the durations of all phases of the bootstrap at info level.
+ * Use it by setting {@link OpenApiConfig#phaseListenerClass()} to the name of this class.
+ */
+public class LoggingPhaseListener implements PhaseListener {
+
+    private final List<PhaseEvent> events = new ArrayList<>();
+
+    @Override
+    public void phaseCompleted(PhaseEvent event) {
+        ApiLogging.logger.phaseCompleted(event);
+
+        if (event.getPhase() == PhaseEvent.Phase.SERIALIZATION) {
+            return;
+        }
+
+        List<PhaseEvent> bootstrapEvents;
+        synchronized (events) {
+            if (event.getPhase() != PhaseEvent.Phase.BOOTSTRAP) {
+                events.add(event);
+                return;
+            }
+            bootstrapEvents = new ArrayList<>(events);
+            events.clear();
+        }
+
+        ApiLogging.logger.bootstrapSummary(event.getDurationMillis(), bootstrapEvents.stream()
+                .map(PhaseEvent::toString)
+                .collect(Collectors.joining(", ")));
+    }
+}
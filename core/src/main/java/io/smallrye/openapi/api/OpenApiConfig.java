@@ -97,6 +97,34 @@ public interface OpenApiConfig {
         return false;
     }
 
+    default boolean streamingParserEnable() {
+        return false;
+    }
+
+    default boolean lazyParserEnable() {
+        return false;
+    }
+
+    default boolean snapshotEnable() {
+        return false;
+    }
+
+    default boolean freezeModelEnable() {
+        return false;
+    }
+
+    default String phaseListenerClass() {
+        return null;
+    }
+
+    default String scanCacheDirectory() {
+        return null;
+    }
+
+    default boolean parallelScanEnable() {
+        return false;
+    }
+
     default Map<String, String> getSchemas() {
         return new HashMap<>();
     }
@@ -41,6 +41,13 @@ public class OpenApiConfigImpl implements OpenApiConfig {
     private Boolean privatePropertiesEnable;
     private String propertyNamingStrategy;
     private Boolean sortedPropertiesEnable;
+    private Boolean streamingParserEnable;
+    private Boolean lazyParserEnable;
+    private Boolean snapshotEnable;
+    private Boolean freezeModelEnable;
+    private String phaseListenerClass;
+    private String scanCacheDirectory;
+    private Boolean parallelScanEnable;
     private Map<String, String> schemas;
     private String version;
     private String infoTitle;
@@ -300,6 +307,83 @@ public class OpenApiConfigImpl implements OpenApiConfig {
         return sortedPropertiesEnable;
     }
 
+    @Override
+    public boolean streamingParserEnable() {
+        if (streamingParserEnable == null) {
+            streamingParserEnable = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_STREAMING_PARSER_ENABLE, Boolean.class)
+                    .orElse(OpenApiConfig.super.streamingParserEnable());
+        }
+
+        return streamingParserEnable;
+    }
+
+    @Override
+    public boolean lazyParserEnable() {
+        if (lazyParserEnable == null) {
+            lazyParserEnable = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_LAZY_PARSER_ENABLE, Boolean.class)
+                    .orElse(OpenApiConfig.super.lazyParserEnable());
+        }
+
+        return lazyParserEnable;
+    }
+
+    @Override
+    public boolean snapshotEnable() {
+        if (snapshotEnable == null) {
+            snapshotEnable = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_SNAPSHOT_ENABLE, Boolean.class)
+                    .orElse(OpenApiConfig.super.snapshotEnable());
+        }
+
+        return snapshotEnable;
+    }
+
+    @Override
+    public boolean freezeModelEnable() {
+        if (freezeModelEnable == null) {
+            freezeModelEnable = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_FREEZE_MODEL_ENABLE, Boolean.class)
+                    .orElse(OpenApiConfig.super.freezeModelEnable());
+        }
+
+        return freezeModelEnable;
+    }
+
+    @Override
+    public String phaseListenerClass() {
+        if (phaseListenerClass == null) {
+            phaseListenerClass = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_PHASE_LISTENER_CLASS, String.class)
+                    .orElse(OpenApiConfig.super.phaseListenerClass());
+        }
+
+        return phaseListenerClass;
+    }
+
+    @Override
+    public String scanCacheDirectory() {
+        if (scanCacheDirectory == null) {
+            scanCacheDirectory = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_SCAN_CACHE_DIRECTORY, String.class)
+                    .orElse(OpenApiConfig.super.scanCacheDirectory());
+        }
+
+        return scanCacheDirectory;
+    }
+
+    @Override
+    public boolean parallelScanEnable() {
+        if (parallelScanEnable == null) {
+            parallelScanEnable = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_PARALLEL_SCAN_ENABLE, Boolean.class)
+                    .orElse(OpenApiConfig.super.parallelScanEnable());
+        }
+
+        return parallelScanEnable;
+    }
+
     @Override
     public Map<String, String> getSchemas() {
         if (schemas == null) {
@@ -1,7 +1,11 @@
 package io.smallrye.openapi.api;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
@@ -12,7 +16,9 @@ import io.smallrye.openapi.api.models.PathsImpl;
 import io.smallrye.openapi.api.models.info.InfoImpl;
 import io.smallrye.openapi.api.util.ConfigUtil;
 import io.smallrye.openapi.api.util.FilterUtil;
+import io.smallrye.openapi.api.util.FreezeUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.io.Format;
 
 /**
  * Holds the final OpenAPI document produced during the startup of the app.
@@ -35,8 +41,12 @@ public class OpenApiDocument {
     private transient Map<String, OASFilter> filters = new HashMap<>();
     private transient String archiveName;
     private transient String version;
+    private transient PhaseListener phaseListener;
 
-    private transient OpenAPI model;
+    private transient volatile OpenAPI model;
+    private transient volatile Supplier<? extends OpenAPI> modelSupplier;
+    // Replaced, never modified, so that cached renderings can be read without locking
+    private transient volatile Map<Format, SerializedDocument> serialized = Collections.emptyMap();
 
     private OpenApiDocument() {
     }
@@ -46,17 +56,69 @@ public class OpenApiDocument {
     }
 
     /**
+     * Returns the final OpenAPI document. When the model has been frozen during
+     * {@link #initialize()} (see {@link OpenApiConfig#freezeModelEnable()}) it is
+     * immutable and may be shared freely between threads.
+     * <p>
+     * When the model has been set with {@link #setLazy(Supplier)}, the first call obtains
+     * it from the supplier. Concurrent first calls wait for that single call of the supplier.
      *
      * @return the final OpenAPI document produced during the startup of the app
      * @throws IllegalStateException If the final model is not initialized yet
      */
-    public synchronized OpenAPI get() {
+    public OpenAPI get() {
+        OpenAPI current = model;
+        if (current == null) {
+            current = supplyModel();
+        }
+        return current;
+    }
+
+    private synchronized OpenAPI supplyModel() {
+        if (model == null && modelSupplier != null) {
+            // Only cleared once the supplier succeeded, the next call retries a failed one
+            model = modelSupplier.get();
+            modelSupplier = null;
+        }
         if (model == null) {
             throw ApiMessages.msg.modelNotInitialized();
         }
         return model;
     }
 
+    /**
+     * Returns the final OpenAPI document rendered in the given format. The rendering
+     * is created on first use and cached until the model is replaced via
+     * {@link #set(OpenAPI)}, {@link #reset()} or a new {@link #initialize()}. Changes
+     * made to the model returned by {@link #get()} are therefore not reflected in an
+     * already cached rendering.
+     *
+     * @param format the format of the rendering
+     * @return the serialized final OpenAPI document
+     * @throws IllegalStateException If the final model is not initialized yet
+     */
+    public SerializedDocument getSerialized(Format format) {
+        SerializedDocument document = serialized.get(format);
+        if (document == null) {
+            document = serialize(format);
+        }
+        return document;
+    }
+
+    private synchronized SerializedDocument serialize(Format format) {
+        SerializedDocument document = serialized.get(format);
+        if (document == null) {
+            long start = System.nanoTime();
+            document = SerializedDocument.of(get(), format);
+            PhaseListener.notify(phaseListener, PhaseEvent.Phase.SERIALIZATION, format.name(), start, 0, model);
+            Map<Format, SerializedDocument> documents = new EnumMap<>(Format.class);
+            documents.putAll(serialized);
+            documents.put(format, document);
+            serialized = documents;
+        }
+        return document;
+    }
+
     /**
      * Set the final OpenAPI document. This method should only be used for testing.
      *
@@ -64,6 +126,33 @@ public class OpenApiDocument {
      */
     public synchronized void set(OpenAPI model) {
         this.model = model;
+        this.modelSupplier = null;
+        serialized = Collections.emptyMap();
+    }
+
+    /**
+     * Set the final OpenAPI document to be obtained from the supplier on first use, e.g.
+     * to build it only when it is first requested:
+     *
+     * <pre>
+     * document.setLazy(() -&gt; OpenApiProcessor.bootstrap(config, index));
+     * </pre>
+     *
+     * or to wait for a build started in the background with
+     * {@link io.smallrye.openapi.runtime.OpenApiBootstrap#buildAsync(java.util.concurrent.Executor)}:
+     *
+     * <pre>
+     * document.setLazy(bootstrap.buildAsync(executor)::join);
+     * </pre>
+     *
+     * The supplier is called at most once, unless it fails.
+     *
+     * @param modelSupplier supplier of the OpenAPI model
+     */
+    public synchronized void setLazy(Supplier<? extends OpenAPI> modelSupplier) {
+        this.model = null;
+        this.modelSupplier = modelSupplier;
+        serialized = Collections.emptyMap();
     }
 
     /**
@@ -71,14 +160,17 @@ public class OpenApiDocument {
      */
     public synchronized void reset() {
         model = null;
+        modelSupplier = null;
+        serialized = Collections.emptyMap();
+        phaseListener = null;
         clear();
     }
 
     /**
-     * @return {@code true} if model initialized
+     * @return {@code true} if model initialized, or set to be supplied on first use
      */
-    public synchronized boolean isSet() {
-        return model != null;
+    public boolean isSet() {
+        return model != null || modelSupplier != null;
     }
 
     public synchronized void config(OpenApiConfig config) {
@@ -103,6 +195,16 @@ public class OpenApiDocument {
         }
     }
 
+    /**
+     * Set the listener notified of the phases of {@link #initialize()} and of the
+     * serialization of the final model. It is kept until {@link #reset()}.
+     *
+     * @param phaseListener the listener, may be null
+     */
+    public void phaseListener(PhaseListener phaseListener) {
+        set(() -> this.phaseListener = phaseListener);
+    }
+
     public void archiveName(String archiveName) {
         set(() -> this.archiveName = archiveName);
     }
@@ -112,7 +214,7 @@ public class OpenApiDocument {
     }
 
     public synchronized void initialize() {
-        if (model != null) {
+        if (isSet()) {
             modelAlreadyInitialized();
         }
         // Check all the required parts are set
@@ -121,13 +223,12 @@ public class OpenApiDocument {
         }
 
         // Phase 1: Use OASModelReader
-        OpenAPI merged = readerModel;
-
         // Phase 2: Merge any static OpenAPI file packaged in the app
-        merged = MergeUtil.mergeObjects(merged, staticFileModel);
-
         // Phase 3: Merge annotations
-        merged = MergeUtil.mergeObjects(merged, annotationsModel);
+        // (all at once, the merge of independent parts of large models runs in parallel)
+        long start = System.nanoTime();
+        OpenAPI merged = MergeUtil.mergeAll(Arrays.asList(readerModel, staticFileModel, annotationsModel));
+        PhaseListener.notify(phaseListener, PhaseEvent.Phase.MERGE, null, start, 0, merged);
 
         // Phase 4: Filter model via OASFilter
         merged = filterModel(merged);
@@ -153,9 +254,17 @@ public class OpenApiDocument {
         }
 
         // Phase 7: Use Config values to add Servers (global, pathItem, operation)
+        start = System.nanoTime();
         ConfigUtil.applyConfig(config, merged);
+        PhaseListener.notify(phaseListener, PhaseEvent.Phase.APPLY_CONFIG, null, start, 0, merged);
+
+        // Phase 8: Optionally make the model immutable so that it can be shared without copies
+        if (config.freezeModelEnable()) {
+            FreezeUtil.freeze(merged);
+        }
 
         model = merged;
+        serialized = Collections.emptyMap();
         clear();
     }
 
@@ -170,13 +279,15 @@ public class OpenApiDocument {
             return model;
         }
         for (OASFilter filter : filters.values()) {
+            long start = System.nanoTime();
             model = FilterUtil.applyFilter(filter, model);
+            PhaseListener.notify(phaseListener, PhaseEvent.Phase.FILTER, filter.getClass().getName(), start, 0, model);
         }
         return model;
     }
 
     private synchronized void set(Runnable action) {
-        if (model != null) {
+        if (isSet()) {
             modelAlreadyInitialized();
         }
         action.run();
@@ -0,0 +1,165 @@
+package io.smallrye.openapi.api;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+
+/**
+ * The duration and the size of the result of a completed phase of building or serializing
+ * the OpenAPI document, see {@link PhaseListener}.
+ */
+public final class PhaseEvent {
+
+    /**
+     * The phases of building and serializing the OpenAPI document.
+     */
+    public enum Phase {
+        /**
+         * Parsing a static file, named by its format.
+         */
+        STATIC_FILE_PARSE,
+        /**
+         * Scanning the <code>@OpenAPIDefinition</code> annotations of packages.
+         */
+        PACKAGE_DEFINITIONS_SCAN,
+        /**
+         * Scanning the annotations of the classes with <code>@Schema</code>.
+         */
+        CLASS_SCHEMAS_SCAN,
+        /**
+         * Scanning the annotations of a framework, named by its annotation scanner. The
+         * classes are those reported by the scanner, e.g. its resource classes.
+         */
+        ANNOTATION_SCAN,
+        /**
+         * Invoking the model reader, named by its class.
+         */
+        READER,
+        /**
+         * Merging the models of the model reader, the static file and the annotations,
+         * reported once for all of them as they are merged at once.
+         */
+        MERGE,
+        /**
+         * Applying a filter, named by its class.
+         */
+        FILTER,
+        /**
+         * Applying the config values to the model.
+         */
+        APPLY_CONFIG,
+        /**
+         * The whole bootstrap of an application, from parsing the static files to the final model.
+         */
+        BOOTSTRAP,
+        /**
+         * Serializing the final model, named by the format.
+         */
+        SERIALIZATION
+    }
+
+    private final Phase phase;
+    private final String name;
+    private final long durationNanos;
+    private final int classes;
+    private final int operations;
+    private final int schemas;
+
+    public PhaseEvent(Phase phase, String name, long durationNanos, int classes, int operations, int schemas) {
+        this.phase = phase;
+        this.name = name;
+        this.durationNanos = durationNanos;
+        this.classes = classes;
+        this.operations = operations;
+        this.schemas = schemas;
+    }
+
+    /**
+     * Creates an event counting the operations and schemas of the model.
+     *
+     * @param phase the completed phase
+     * @param name the name of the part processed by the phase, may be null
+     * @param durationNanos the duration of the phase
+     * @param classes the number of classes processed by the phase
+     * @param model the model resulting from the phase, may be null
+     * @return the event
+     */
+    public static PhaseEvent of(Phase phase, String name, long durationNanos, int classes, OpenAPI model) {
+        int operations = 0;
+        int schemas = 0;
+
+        if (model != null) {
+            if (model.getPaths() != null && model.getPaths().getPathItems() != null) {
+                for (PathItem pathItem : model.getPaths().getPathItems().values()) {
+                    operations += pathItem.getOperations().size();
+                }
+            }
+            Components components = model.getComponents();
+            if (components != null) {
+                Map<String, ?> schemaMap = components.getSchemas();
+                schemas = schemaMap != null ? schemaMap.size() : 0;
+            }
+        }
+
+        return new PhaseEvent(phase, name, durationNanos, classes, operations, schemas);
+    }
+
+    /**
+     * @return the completed phase
+     */
+    public Phase getPhase() {
+        return phase;
+    }
+
+    /**
+     * @return the name of the part processed by the phase, e.g. the name of the annotation
+     *         scanner, or null
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the duration of the phase in nanoseconds
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return the duration of the phase in milliseconds
+     */
+    public long getDurationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    }
+
+    /**
+     * @return the number of classes processed by the phase, 0 for phases that do not process or report classes
+     */
+    public int getClasses() {
+        return classes;
+    }
+
+    /**
+     * @return the number of operations in the model resulting from the phase
+     */
+    public int getOperations() {
+        return operations;
+    }
+
+    /**
+     * @return the number of schemas in the components of the model resulting from the phase
+     */
+    public int getSchemas() {
+        return schemas;
+    }
+
+    @Override
+    public String toString() {
+        return phase + (name != null ? "[" + name + "]" : "") + " " + getDurationMillis() + " ms (" + classes
+                + " classes, " + operations + " operations, " + schemas + " schemas)";
+    }
+}
@@ -0,0 +1,43 @@
+package io.smallrye.openapi.api;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import io.smallrye.openapi.runtime.OpenApiBootstrap;
+
+/**
+ * Receives an event each time a phase of building or serializing the OpenAPI document
+ * has completed, e.g. to monitor where the startup time of an application is spent.
+ * <p>
+ * A listener is set with {@link OpenApiBootstrap#phaseListener(PhaseListener)} or
+ * {@link OpenApiDocument#phaseListener(PhaseListener)}, or named in the config (see
+ * {@link OpenApiConfig#phaseListenerClass()}), in which case it must have a public
+ * no-argument constructor. Implementations must be thread-safe, events of serialization
+ * may be received from any thread.
+ *
+ * @see LoggingPhaseListener
+ */
+@FunctionalInterface
+public interface PhaseListener {
+
+    /**
+     * @param event the event of the completed phase
+     */
+    void phaseCompleted(PhaseEvent event);
+
+    /**
+     * Notifies the listener, if any, that a phase has completed.
+     *
+     * @param listener the listener, may be null
+     * @param phase the completed phase
+     * @param name the name of the part processed by the phase, may be null
+     * @param startNanos the value of {@link System#nanoTime()} when the phase started
+     * @param classes the number of classes processed by the phase
+     * @param model the model resulting from the phase, may be null
+     */
+    static void notify(PhaseListener listener, PhaseEvent.Phase phase, String name, long startNanos, int classes,
+            OpenAPI model) {
+        if (listener != null) {
+            listener.phaseCompleted(PhaseEvent.of(phase, name, System.nanoTime() - startNanos, classes, model));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.smallrye.openapi.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+/**
+ * An immutable rendering of an OpenAPI document in a single {@link Format}, together
+ * with its gzip-compressed variant and a strong entity tag for each. Instances are
+ * cached by {@link OpenApiDocument#getSerialized(Format)} so that serving the document
+ * does not require serializing the model again for every request.
+ */
+public final class SerializedDocument {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Format format;
+    private final byte[] bytes;
+    private final byte[] gzipBytes;
+    private final String etag;
+    private final String gzipEtag;
+
+    private SerializedDocument(Format format, byte[] bytes, byte[] gzipBytes, String etag) {
+        this.format = format;
+        this.bytes = bytes;
+        this.gzipBytes = gzipBytes;
+        this.etag = etag;
+        // The compressed variant is a different representation and needs its own strong tag
+        this.gzipEtag = etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+
+    /**
+     * Serializes the model in the given format.
+     *
+     * @param model the OpenAPI model
+     * @param format the format
+     * @return the serialized document
+     */
+    static SerializedDocument of(OpenAPI model, Format format) {
+        try {
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            OpenApiSerializer.serialize(model, stream, format);
+            byte[] bytes = stream.toByteArray();
+
+            ByteArrayOutputStream gzipStream = new ByteArrayOutputStream(bytes.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(gzipStream)) {
+                gzip.write(bytes);
+            }
+
+            return new SerializedDocument(format, bytes, gzipStream.toByteArray(), etag(bytes));
+        } catch (IOException e) {
+            throw ApiMessages.msg.documentSerializationFailed(format, e);
+        }
+    }
+
+    private static String etag(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder etag = new StringBuilder(digest.length * 2 + 2).append('"');
+            for (byte b : digest) {
+                etag.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+            }
+            return etag.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 must be supported by every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the format of the document
+     */
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * @return the length in bytes of the document
+     */
+    public int getLength() {
+        return bytes.length;
+    }
+
+    /**
+     * @return the length in bytes of the gzip-compressed document
+     */
+    public int getGzipLength() {
+        return gzipBytes.length;
+    }
+
+    /**
+     * @return a copy of the UTF-8 encoded document
+     */
+    public byte[] getBytes() {
+        return bytes.clone();
+    }
+
+    /**
+     * @return a copy of the gzip-compressed document
+     */
+    public byte[] getGzipBytes() {
+        return gzipBytes.clone();
+    }
+
+    /**
+     * @return a read-only buffer over the UTF-8 encoded document
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return a read-only buffer over the gzip-compressed document
+     */
+    public ByteBuffer asGzipByteBuffer() {
+        return ByteBuffer.wrap(gzipBytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * Writes the UTF-8 encoded document to the stream. The stream is not closed.
+     *
+     * @param stream the target stream
+     * @throws IOException Errors writing to the stream
+     */
+    public void writeTo(OutputStream stream) throws IOException {
+        stream.write(bytes);
+    }
+
+    /**
+     * Writes the gzip-compressed document to the stream. The stream is not closed.
+     *
+     * @param stream the target stream
+     * @throws IOException Errors writing to the stream
+     */
+    public void writeGzipTo(OutputStream stream) throws IOException {
+        stream.write(gzipBytes);
+    }
+
+    /**
+     * @return the strong entity tag (including quotes) of the document
+     */
+    public String getETag() {
+        return etag;
+    }
+
+    /**
+     * @return the strong entity tag (including quotes) of the gzip-compressed document
+     */
+    public String getGzipETag() {
+        return gzipEtag;
+    }
+}
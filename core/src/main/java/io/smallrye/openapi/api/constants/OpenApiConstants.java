@@ -25,6 +25,13 @@ public final class OpenApiConstants {
     public static final String SUFFIX_PRIVATE_PROPERTIES_ENABLE = "private-properties.enable";
     public static final String SUFFIX_PROPERTY_NAMING_STRATEGY = "property-naming-strategy";
     public static final String SUFFIX_SORTED_PROPERTIES_ENABLE = "sorted-properties.enable";
+    public static final String SUFFIX_STREAMING_PARSER_ENABLE = "streaming-parser.enable";
+    public static final String SUFFIX_LAZY_PARSER_ENABLE = "lazy-parser.enable";
+    public static final String SUFFIX_SNAPSHOT_ENABLE = "snapshot.enable";
+    public static final String SUFFIX_FREEZE_MODEL_ENABLE = "freeze-model.enable";
+    public static final String SUFFIX_PHASE_LISTENER_CLASS = "phase-listener.class";
+    public static final String SUFFIX_SCAN_CACHE_DIRECTORY = "scan-cache.directory";
+    public static final String SUFFIX_PARALLEL_SCAN_ENABLE = "parallel-scan.enable";
 
     public static final String SCAN_DEPENDENCIES_DISABLE = OASConfig.EXTENSIONS_PREFIX + SUFFIX_SCAN_DEPENDENCIES_DISABLE;
     public static final String SCAN_DEPENDENCIES_JARS = OASConfig.EXTENSIONS_PREFIX + SUFFIX_SCAN_DEPENDENCIES_JARS;
@@ -42,6 +49,13 @@ public final class OpenApiConstants {
     public static final String SMALLRYE_PRIVATE_PROPERTIES_ENABLE = SMALLRYE_PREFIX + SUFFIX_PRIVATE_PROPERTIES_ENABLE;
     public static final String SMALLRYE_PROPERTY_NAMING_STRATEGY = SMALLRYE_PREFIX + SUFFIX_PROPERTY_NAMING_STRATEGY;
     public static final String SMALLRYE_SORTED_PROPERTIES_ENABLE = SMALLRYE_PREFIX + SUFFIX_SORTED_PROPERTIES_ENABLE;
+    public static final String SMALLRYE_STREAMING_PARSER_ENABLE = SMALLRYE_PREFIX + SUFFIX_STREAMING_PARSER_ENABLE;
+    public static final String SMALLRYE_LAZY_PARSER_ENABLE = SMALLRYE_PREFIX + SUFFIX_LAZY_PARSER_ENABLE;
+    public static final String SMALLRYE_SNAPSHOT_ENABLE = SMALLRYE_PREFIX + SUFFIX_SNAPSHOT_ENABLE;
+    public static final String SMALLRYE_FREEZE_MODEL_ENABLE = SMALLRYE_PREFIX + SUFFIX_FREEZE_MODEL_ENABLE;
+    public static final String SMALLRYE_PHASE_LISTENER_CLASS = SMALLRYE_PREFIX + SUFFIX_PHASE_LISTENER_CLASS;
+    public static final String SMALLRYE_SCAN_CACHE_DIRECTORY = SMALLRYE_PREFIX + SUFFIX_SCAN_CACHE_DIRECTORY;
+    public static final String SMALLRYE_PARALLEL_SCAN_ENABLE = SMALLRYE_PREFIX + SUFFIX_PARALLEL_SCAN_ENABLE;
     public static final String SCAN_PROFILES = SMALLRYE_PREFIX + "scan.profiles";
     public static final String SCAN_EXCLUDE_PROFILES = SMALLRYE_PREFIX + "scan.exclude.profiles";
 
@@ -0,0 +1,37 @@
+package io.smallrye.openapi.api.models;
+
+import io.smallrye.openapi.runtime.util.ModelUtil;
+
+/**
+ * Base class for the OpenAPI model implementations, tracking whether the model
+ * object has been frozen.
+ */
+public abstract class BaseModelImpl implements ModelImpl {
+
+    private boolean frozen;
+
+    /**
+     * @see io.smallrye.openapi.api.models.ModelImpl#freeze()
+     */
+    @Override
+    public void freeze() {
+        this.frozen = true;
+    }
+
+    /**
+     * @see io.smallrye.openapi.api.models.ModelImpl#isFrozen()
+     */
+    @Override
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Called by every method modifying the model object.
+     *
+     * @throws UnsupportedOperationException if the model object has been frozen
+     */
+    protected void checkNotFrozen() {
+        ModelUtil.checkNotFrozen(this);
+    }
+}
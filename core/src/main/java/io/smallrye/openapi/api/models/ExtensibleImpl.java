@@ -13,7 +13,7 @@ import io.smallrye.openapi.runtime.util.ModelUtil;
  * 
  * @author eric.wittmann@gmail.com
  */
-public abstract class ExtensibleImpl<T extends Extensible<T>> implements Extensible<T>, ModelImpl {
+public abstract class ExtensibleImpl<T extends Extensible<T>> extends BaseModelImpl implements Extensible<T>, ModelImpl {
 
     private Map<String, Object> extensions;
 
@@ -31,6 +31,7 @@ public abstract class ExtensibleImpl<T extends Extensible<T>> implements Extensi
     @SuppressWarnings("unchecked")
     @Override
     public T addExtension(String name, Object value) {
+        checkNotFrozen();
         this.extensions = ModelUtil.add(name, value, this.extensions, LinkedHashMap<String, Object>::new);
         return (T) this;
     }
@@ -40,6 +41,7 @@ public abstract class ExtensibleImpl<T extends Extensible<T>> implements Extensi
      */
     @Override
     public void removeExtension(String name) {
+        checkNotFrozen();
         ModelUtil.remove(this.extensions, name);
     }
 
@@ -48,6 +50,7 @@ public abstract class ExtensibleImpl<T extends Extensible<T>> implements Extensi
      */
     @Override
     public void setExtensions(Map<String, Object> extensions) {
+        checkNotFrozen();
         this.extensions = ModelUtil.replace(extensions, LinkedHashMap<String, Object>::new);
     }
 
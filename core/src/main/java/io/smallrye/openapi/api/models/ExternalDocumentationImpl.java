@@ -24,6 +24,7 @@ public class ExternalDocumentationImpl extends ExtensibleImpl<ExternalDocumentat
      */
     @Override
     public void setDescription(String description) {
+        checkNotFrozen();
         this.description = description;
     }
 
@@ -40,6 +41,7 @@ public class ExternalDocumentationImpl extends ExtensibleImpl<ExternalDocumentat
      */
     @Override
     public void setUrl(String url) {
+        checkNotFrozen();
         this.url = url;
     }
 
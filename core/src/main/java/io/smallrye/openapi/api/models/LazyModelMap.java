@@ -0,0 +1,348 @@
+package io.smallrye.openapi.api.models;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A map of model objects where some of the values have not yet been converted
+ * to a model. Such values are held as a {@link Supplier} which is invoked the
+ * first time the entry's value is accessed (e.g. via {@link #get(Object)} or by
+ * iterating the entries). Key-only operations such as {@link #containsKey(Object)}
+ * or {@link #keySet()} never materialize a value.
+ * <p>
+ * Copies made with {@link #copy()} and views made with {@link #unmodifiableView()}
+ * share pending values with this map, so a value is materialized at most once
+ * and the same model instance is seen through every map.
+ * <p>
+ * Materializing a value never modifies the map itself, the model is held by the
+ * pending value. Reading the map, including through a view, from several threads
+ * at once is therefore safe, as it is for a {@link LinkedHashMap} that is not
+ * modified. Modifying the map is not thread-safe.
+ *
+ * @param <V> the model type of the values
+ */
+public class LazyModelMap<V> extends AbstractMap<String, V> {
+
+    private final Map<String, Object> entries;
+    private final boolean readOnly;
+    private EntrySet entrySet;
+
+    public LazyModelMap() {
+        this(new LinkedHashMap<>(), false);
+    }
+
+    private LazyModelMap(Map<String, Object> entries, boolean readOnly) {
+        this.entries = entries;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Creates a modifiable copy of the given map. When the map is itself lazy, its
+     * pending values are carried over without being materialized.
+     *
+     * @param map the map to copy
+     * @param <V> the model type of the values
+     * @return a new lazy map with the entries of the given map
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> LazyModelMap<V> copyOf(Map<String, V> map) {
+        if (map instanceof LazyModelMap) {
+            return ((LazyModelMap<V>) map).copy();
+        }
+        LazyModelMap<V> copy = new LazyModelMap<>();
+        copy.entries.putAll(map);
+        return copy;
+    }
+
+    /**
+     * Adds an entry whose value will be created by the given supplier when it is
+     * first accessed.
+     *
+     * @param key the key
+     * @param supplier creates the model value
+     */
+    public void putLazy(String key, Supplier<V> supplier) {
+        checkWritable();
+        entries.put(key, new Pending<>(supplier));
+    }
+
+    /**
+     * Puts the entry for the given key from the source map into this map. A pending
+     * value in the source is carried over without being materialized.
+     *
+     * @param source the map to take the entry from
+     * @param key the key
+     */
+    public void putFrom(Map<String, V> source, String key) {
+        checkWritable();
+        if (source instanceof LazyModelMap) {
+            entries.put(key, ((LazyModelMap<?>) source).entries.get(key));
+        } else {
+            entries.put(key, source.get(key));
+        }
+    }
+
+    /**
+     * Puts the entry for the given key from the source map into this map as a value of
+     * its own, when the source value has not been converted to a model yet. The value
+     * is then converted again from the same raw value on first access, rather than
+     * shared with the source.
+     *
+     * @param source the map to take the entry from
+     * @param key the key
+     * @return false if the source value was already converted, in which case nothing is put
+     */
+    @SuppressWarnings("unchecked")
+    public boolean putUnmaterialized(LazyModelMap<V> source, String key) {
+        checkWritable();
+        Object value = source.entries.get(key);
+        Supplier<V> supplier = value instanceof Pending ? ((Pending<V>) value).getSupplier() : null;
+        if (supplier == null) {
+            return false;
+        }
+        entries.put(key, new Pending<>(supplier));
+        return true;
+    }
+
+    /**
+     * @param key the key
+     * @return true if the value for the key exists and has already been converted to a model
+     */
+    public boolean isMaterialized(Object key) {
+        Object value = entries.get(key);
+        return value instanceof Pending ? ((Pending<?>) value).isDone() : value != null;
+    }
+
+    /**
+     * @return a modifiable copy of this map, sharing any pending values
+     */
+    public LazyModelMap<V> copy() {
+        return new LazyModelMap<>(new LinkedHashMap<>(entries), false);
+    }
+
+    /**
+     * @return an unmodifiable view of this map, materializing values in this map as they are accessed
+     */
+    public LazyModelMap<V> unmodifiableView() {
+        return readOnly ? this : new LazyModelMap<>(entries, true);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        return materialize(entries.get(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A previous value that was not converted to a model yet is converted in order to be
+     * returned, use {@link #putValue(String, Object)} when it is not needed.
+     */
+    @Override
+    public V put(String key, V value) {
+        checkWritable();
+        return materialize(entries.put(key, value));
+    }
+
+    /**
+     * Like {@link #put(String, Object)}, without returning the previous value so that
+     * it is not converted to a model when it was not yet.
+     *
+     * @param key the key
+     * @param value the model value
+     */
+    public void putValue(String key, V value) {
+        checkWritable();
+        entries.put(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A value that was not converted to a model yet is converted in order to be returned,
+     * use {@link #removeLazy(Object)} when it is not needed.
+     */
+    @Override
+    public V remove(Object key) {
+        checkWritable();
+        return materialize(entries.remove(key));
+    }
+
+    /**
+     * Like {@link #remove(Object)}, without returning the value so that it is not
+     * converted to a model when it was not yet.
+     *
+     * @param key the key
+     * @return true if there was a value for the key
+     */
+    public boolean removeLazy(Object key) {
+        checkWritable();
+        return entries.remove(key) != null;
+    }
+
+    @Override
+    public void clear() {
+        checkWritable();
+        entries.clear();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return readOnly ? Collections.unmodifiableSet(entries.keySet()) : entries.keySet();
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private V materialize(Object value) {
+        if (value instanceof Pending) {
+            return cast(((Pending<?>) value).get());
+        }
+        return cast(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V cast(Object value) {
+        return (V) value;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<String, V>> {
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public Iterator<Entry<String, V>> iterator() {
+            Iterator<Entry<String, Object>> delegate = entries.entrySet().iterator();
+
+            return new Iterator<Entry<String, V>>() {
+                @Override
+                public boolean hasNext() {
+                    return delegate.hasNext();
+                }
+
+                @Override
+                public Entry<String, V> next() {
+                    return new LazyEntry(delegate.next());
+                }
+
+                @Override
+                public void remove() {
+                    checkWritable();
+                    delegate.remove();
+                }
+            };
+        }
+    }
+
+    private class LazyEntry implements Entry<String, V> {
+        private final Entry<String, Object> entry;
+
+        LazyEntry(Entry<String, Object> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public String getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public V getValue() {
+            return materialize(entry.getValue());
+        }
+
+        @Override
+        public V setValue(V value) {
+            checkWritable();
+            return materialize(entry.setValue(value));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) o;
+            return Objects.equals(getKey(), other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+    /**
+     * A value that may not have been converted to a model yet. The model is created
+     * only once, even when the pending value is shared by several maps or accessed by
+     * several threads. Once created, it is read without locking.
+     */
+    private static final class Pending<V> {
+        private Supplier<V> supplier;
+        private V value;
+        private volatile boolean done;
+
+        Pending(Supplier<V> supplier) {
+            this.supplier = supplier;
+        }
+
+        boolean isDone() {
+            return done;
+        }
+
+        /**
+         * @return the supplier, or null once the model was created
+         */
+        synchronized Supplier<V> getSupplier() {
+            return supplier;
+        }
+
+        V get() {
+            if (!done) {
+                synchronized (this) {
+                    if (!done) {
+                        value = supplier.get();
+                        supplier = null;
+                        done = true;
+                    }
+                }
+            }
+            return value;
+        }
+    }
+}
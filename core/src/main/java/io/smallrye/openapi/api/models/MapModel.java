@@ -1,6 +1,7 @@
 package io.smallrye.openapi.api.models;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -14,6 +15,32 @@ public interface MapModel<V> extends Map<String, V> {
     void setMap(Map<String, V> map);
 
     default <T> T invokeFunction(Function<Map<String, V>, T> function) {
+        Map<String, V> map = getMap();
+        if (map == null) {
+            // Reading must not modify the model, which may be frozen
+            map = Collections.emptyMap();
+        }
+        return function.apply(map);
+    }
+
+    /**
+     * Invokes a function returning a view of the map. Views are live, so the backing
+     * map is created when missing, except for a frozen model, whose views are empty.
+     */
+    default <T> T invokeView(Function<Map<String, V>, T> function) {
+        Map<String, V> map = getMap();
+        if (map == null) {
+            if (this instanceof ModelImpl && ((ModelImpl) this).isFrozen()) {
+                map = Collections.emptyMap();
+            } else {
+                map = new LinkedHashMap<>();
+                setMap(map);
+            }
+        }
+        return function.apply(map);
+    }
+
+    default <T> T invokeUpdate(Function<Map<String, V>, T> function) {
         Map<String, V> map = getMap();
         if (map == null) {
             map = new LinkedHashMap<>();
@@ -53,17 +80,17 @@ public interface MapModel<V> extends Map<String, V> {
 
     @Override
     default Set<String> keySet() {
-        return invokeFunction(Map::keySet);
+        return invokeView(Map::keySet);
     }
 
     @Override
     default Collection<V> values() {
-        return invokeFunction(Map::values);
+        return invokeView(Map::values);
     }
 
     @Override
     default Set<Entry<String, V>> entrySet() {
-        return invokeFunction(Map::entrySet);
+        return invokeView(Map::entrySet);
     }
 
     @Override
@@ -78,7 +105,7 @@ public interface MapModel<V> extends Map<String, V> {
 
     @Override
     default V put(String key, V value) {
-        return invokeFunction(map -> map.put(key, value));
+        return invokeUpdate(map -> map.put(key, value));
     }
 
     @Override
@@ -1,10 +1,29 @@
 package io.smallrye.openapi.api.models;
 
 /**
- * Marker interface - all data model implementations implement this interface.
+ * Implemented by all data model implementations.
  * 
  * @author eric.wittmann@gmail.com
  */
 public interface ModelImpl {
 
+    /**
+     * Makes this model object immutable. Any later attempt to modify it results in
+     * an {@link UnsupportedOperationException}. The model objects it refers to are
+     * not affected, use {@link io.smallrye.openapi.api.util.FreezeUtil} to freeze
+     * a complete model.
+     * <p>
+     * The default implementation does nothing, for model implementations that do
+     * not support freezing.
+     */
+    default void freeze() {
+    }
+
+    /**
+     * @return true if the model object has been frozen, false by default
+     */
+    default boolean isFrozen() {
+        return false;
+    }
+
 }
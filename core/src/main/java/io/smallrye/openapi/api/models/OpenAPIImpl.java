@@ -41,6 +41,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setOpenapi(String openapi) {
+        checkNotFrozen();
         this.openapi = openapi;
     }
 
@@ -57,6 +58,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setInfo(Info info) {
+        checkNotFrozen();
         this.info = info;
     }
 
@@ -73,6 +75,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setExternalDocs(ExternalDocumentation externalDocs) {
+        checkNotFrozen();
         this.externalDocs = externalDocs;
     }
 
@@ -89,6 +92,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setServers(List<Server> servers) {
+        checkNotFrozen();
         this.servers = ModelUtil.replace(servers, ArrayList<Server>::new);
     }
 
@@ -97,6 +101,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public OpenAPI addServer(Server server) {
+        checkNotFrozen();
         this.servers = ModelUtil.add(server, this.servers, ArrayList<Server>::new);
         return this;
     }
@@ -106,6 +111,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void removeServer(Server server) {
+        checkNotFrozen();
         ModelUtil.remove(this.servers, server);
     }
 
@@ -122,6 +128,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setSecurity(List<SecurityRequirement> security) {
+        checkNotFrozen();
         this.security = ModelUtil.replace(security, ArrayList<SecurityRequirement>::new);
     }
 
@@ -130,6 +137,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public OpenAPI addSecurityRequirement(SecurityRequirement securityRequirement) {
+        checkNotFrozen();
         this.security = ModelUtil.add(securityRequirement, this.security, ArrayList<SecurityRequirement>::new);
         return this;
     }
@@ -139,6 +147,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void removeSecurityRequirement(SecurityRequirement securityRequirement) {
+        checkNotFrozen();
         ModelUtil.remove(this.security, securityRequirement);
     }
 
@@ -155,6 +164,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setTags(List<Tag> tags) {
+        checkNotFrozen();
         this.tags = ModelUtil.replace(tags, ArrayList<Tag>::new);
     }
 
@@ -163,6 +173,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public OpenAPI addTag(Tag tag) {
+        checkNotFrozen();
         if (tag == null) {
             return this;
         }
@@ -180,6 +191,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void removeTag(Tag tag) {
+        checkNotFrozen();
         ModelUtil.remove(this.tags, tag);
     }
 
@@ -208,6 +220,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setPaths(Paths paths) {
+        checkNotFrozen();
         this.paths = paths;
     }
 
@@ -224,6 +237,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setComponents(Components components) {
+        checkNotFrozen();
         this.components = components;
     }
 }
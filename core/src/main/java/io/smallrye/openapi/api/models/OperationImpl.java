@@ -57,6 +57,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setTags(List<String> tags) {
+        checkNotFrozen();
         this.tags = ModelUtil.replace(tags, ArrayList<String>::new);
     }
 
@@ -65,6 +66,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public Operation addTag(String tag) {
+        checkNotFrozen();
         this.tags = ModelUtil.add(tag, this.tags, ArrayList<String>::new);
         return this;
     }
@@ -74,6 +76,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void removeTag(String tag) {
+        checkNotFrozen();
         ModelUtil.remove(this.tags, tag);
     }
 
@@ -90,6 +93,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setSummary(String summary) {
+        checkNotFrozen();
         this.summary = summary;
     }
 
@@ -106,6 +110,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setDescription(String description) {
+        checkNotFrozen();
         this.description = description;
     }
 
@@ -122,6 +127,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setExternalDocs(ExternalDocumentation externalDocs) {
+        checkNotFrozen();
         this.externalDocs = externalDocs;
     }
 
@@ -138,6 +144,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setOperationId(String operationId) {
+        checkNotFrozen();
         this.operationId = operationId;
     }
 
@@ -154,6 +161,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setParameters(List<Parameter> parameters) {
+        checkNotFrozen();
         this.parameters = ModelUtil.replace(parameters, ArrayList<Parameter>::new);
     }
 
@@ -162,6 +170,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public Operation addParameter(Parameter parameter) {
+        checkNotFrozen();
         this.parameters = ModelUtil.add(parameter, this.parameters, ArrayList<Parameter>::new);
         return this;
     }
@@ -171,6 +180,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void removeParameter(Parameter parameter) {
+        checkNotFrozen();
         ModelUtil.remove(this.parameters, parameter);
     }
 
@@ -187,6 +197,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setRequestBody(RequestBody requestBody) {
+        checkNotFrozen();
         this.requestBody = requestBody;
     }
 
@@ -203,6 +214,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setResponses(APIResponses responses) {
+        checkNotFrozen();
         this.responses = responses;
     }
 
@@ -219,6 +231,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setCallbacks(Map<String, Callback> callbacks) {
+        checkNotFrozen();
         this.callbacks = ModelUtil.replace(callbacks, LinkedHashMap<String, Callback>::new);
     }
 
@@ -228,6 +241,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public Operation addCallback(String key, Callback callback) {
+        checkNotFrozen();
         this.callbacks = ModelUtil.add(key, callback, this.callbacks, LinkedHashMap<String, Callback>::new);
         return this;
     }
@@ -237,6 +251,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void removeCallback(String key) {
+        checkNotFrozen();
         ModelUtil.remove(this.callbacks, key);
     }
 
@@ -253,6 +268,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setDeprecated(Boolean deprecated) {
+        checkNotFrozen();
         this.deprecated = deprecated;
     }
 
@@ -269,6 +285,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setSecurity(List<SecurityRequirement> security) {
+        checkNotFrozen();
         this.security = ModelUtil.replace(security, ArrayList<SecurityRequirement>::new);
     }
 
@@ -277,6 +294,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public Operation addSecurityRequirement(SecurityRequirement securityRequirement) {
+        checkNotFrozen();
         this.security = ModelUtil.add(securityRequirement, this.security, ArrayList<SecurityRequirement>::new);
         return this;
     }
@@ -286,6 +304,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void removeSecurityRequirement(SecurityRequirement securityRequirement) {
+        checkNotFrozen();
         ModelUtil.remove(this.security, securityRequirement);
     }
 
@@ -302,6 +321,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setServers(List<Server> servers) {
+        checkNotFrozen();
         this.servers = ModelUtil.replace(servers, ArrayList<Server>::new);
     }
 
@@ -310,6 +330,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public Operation addServer(Server server) {
+        checkNotFrozen();
         this.servers = ModelUtil.add(server, this.servers, ArrayList<Server>::new);
         return this;
     }
@@ -319,6 +340,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void removeServer(Server server) {
+        checkNotFrozen();
         ModelUtil.remove(this.servers, server);
     }
 
@@ -332,6 +354,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
     }
 
     public void setMethodRef(String methodRef) {
+        checkNotFrozen();
         this.methodRef = methodRef;
     }
 
@@ -44,6 +44,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setRef(String ref) {
+        checkNotFrozen();
         this.ref = ref;
     }
 
@@ -60,6 +61,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setSummary(String summary) {
+        checkNotFrozen();
         this.summary = summary;
     }
 
@@ -68,6 +70,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public PathItem summary(String summary) {
+        checkNotFrozen();
         this.summary = summary;
         return this;
     }
@@ -85,6 +88,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setDescription(String description) {
+        checkNotFrozen();
         this.description = description;
     }
 
@@ -101,6 +105,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setGET(Operation get) {
+        checkNotFrozen();
         this.get = get;
     }
 
@@ -117,6 +122,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setPUT(Operation put) {
+        checkNotFrozen();
         this.put = put;
     }
 
@@ -133,6 +139,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setPOST(Operation post) {
+        checkNotFrozen();
         this.post = post;
     }
 
@@ -149,6 +156,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setDELETE(Operation delete) {
+        checkNotFrozen();
         this.delete = delete;
     }
 
@@ -165,6 +173,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setOPTIONS(Operation options) {
+        checkNotFrozen();
         this.options = options;
     }
 
@@ -181,6 +190,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setHEAD(Operation head) {
+        checkNotFrozen();
         this.head = head;
     }
 
@@ -197,6 +207,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setPATCH(Operation patch) {
+        checkNotFrozen();
         this.patch = patch;
     }
 
@@ -213,6 +224,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setTRACE(Operation trace) {
+        checkNotFrozen();
         this.trace = trace;
     }
 
@@ -238,6 +250,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setOperation(PathItem.HttpMethod httpMethod, Operation operation) {
+        checkNotFrozen();
         switch (httpMethod) {
             case GET:
                 this.get = operation;
@@ -286,6 +299,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setServers(List<Server> servers) {
+        checkNotFrozen();
         this.servers = ModelUtil.replace(servers, ArrayList<Server>::new);
     }
 
@@ -294,6 +308,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public PathItem addServer(Server server) {
+        checkNotFrozen();
         this.servers = ModelUtil.add(server, this.servers, ArrayList<Server>::new);
         return this;
     }
@@ -303,6 +318,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void removeServer(Server server) {
+        checkNotFrozen();
         ModelUtil.remove(this.servers, server);
     }
 
@@ -319,6 +335,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setParameters(List<Parameter> parameters) {
+        checkNotFrozen();
         this.parameters = ModelUtil.replace(parameters, ArrayList<Parameter>::new);
     }
 
@@ -327,6 +344,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public PathItem addParameter(Parameter parameter) {
+        checkNotFrozen();
         this.parameters = ModelUtil.add(parameter, this.parameters, ArrayList<Parameter>::new);
         return this;
     }
@@ -336,6 +354,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void removeParameter(Parameter parameter) {
+        checkNotFrozen();
         ModelUtil.remove(this.parameters, parameter);
     }
 
@@ -21,6 +21,7 @@ public class PathsImpl extends ExtensibleImpl<Paths> implements Paths, ModelImpl
      */
     @Override
     public Paths addPathItem(String name, PathItem item) {
+        checkNotFrozen();
         this.pathItems = ModelUtil.add(name, item, this.pathItems, LinkedHashMap<String, PathItem>::new);
         return this;
     }
@@ -30,6 +31,7 @@ public class PathsImpl extends ExtensibleImpl<Paths> implements Paths, ModelImpl
      */
     @Override
     public void removePathItem(String name) {
+        checkNotFrozen();
         ModelUtil.remove(this.pathItems, name);
     }
 
@@ -46,9 +48,20 @@ public class PathsImpl extends ExtensibleImpl<Paths> implements Paths, ModelImpl
      */
     @Override
     public void setPathItems(Map<String, PathItem> items) {
+        checkNotFrozen();
         this.pathItems = ModelUtil.replace(items, LinkedHashMap<String, PathItem>::new);
     }
 
+    /**
+     * @see io.smallrye.openapi.api.models.ModelImpl#freeze()
+     */
+    @Override
+    public void freeze() {
+        // The Map methods operate on the map directly
+        this.pathItems = ModelUtil.unmodifiableMap(this.pathItems);
+        super.freeze();
+    }
+
     // Begin Methods to support implementation of Map for MicroProfile OpenAPI 1.1
 
     @Override
@@ -58,6 +71,7 @@ public class PathsImpl extends ExtensibleImpl<Paths> implements Paths, ModelImpl
 
     @Override
     public void setMap(Map<String, PathItem> map) {
+        checkNotFrozen();
         this.pathItems = map;
     }
 
@@ -73,16 +87,19 @@ public class PathsImpl extends ExtensibleImpl<Paths> implements Paths, ModelImpl
 
     @Override
     public PathItem put(String key, PathItem value) {
+        checkNotFrozen();
         return MapModel.super.put(key, value);
     }
 
     @Override
     public void putAll(Map<? extends String, ? extends PathItem> m) {
+        checkNotFrozen();
         MapModel.super.putAll(m);
     }
 
     @Override
     public PathItem remove(Object key) {
+        checkNotFrozen();
         return MapModel.super.remove(key);
     }
 
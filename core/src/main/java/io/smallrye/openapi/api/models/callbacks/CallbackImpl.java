@@ -33,6 +33,7 @@ public class CallbackImpl extends ExtensibleImpl<Callback> implements Callback,
      */
     @Override
     public void setRef(String ref) {
+        checkNotFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_CALLBACK + ref;
         }
@@ -54,6 +55,7 @@ public class CallbackImpl extends ExtensibleImpl<Callback> implements Callback,
      */
     @Override
     public Callback addPathItem(String name, PathItem item) {
+        checkNotFrozen();
         this.pathItems = ModelUtil.add(name, item, this.pathItems, LinkedHashMap<String, PathItem>::new);
         return this;
     }
@@ -63,6 +65,7 @@ public class CallbackImpl extends ExtensibleImpl<Callback> implements Callback,
      */
     @Override
     public void removePathItem(String name) {
+        checkNotFrozen();
         ModelUtil.remove(this.pathItems, name);
     }
 
@@ -79,9 +82,20 @@ public class CallbackImpl extends ExtensibleImpl<Callback> implements Callback,
      */
     @Override
     public void setPathItems(Map<String, PathItem> items) {
+        checkNotFrozen();
         this.pathItems = ModelUtil.replace(items, LinkedHashMap<String, PathItem>::new);
     }
 
+    /**
+     * @see io.smallrye.openapi.api.models.ModelImpl#freeze()
+     */
+    @Override
+    public void freeze() {
+        // The Map methods operate on the map directly
+        this.pathItems = ModelUtil.unmodifiableMap(this.pathItems);
+        super.freeze();
+    }
+
     // Begin Methods to support implementation of Map for MicroProfile OpenAPI 1.1
 
     @Override
@@ -91,6 +105,7 @@ public class CallbackImpl extends ExtensibleImpl<Callback> implements Callback,
 
     @Override
     public void setMap(Map<String, PathItem> map) {
+        checkNotFrozen();
         this.pathItems = map;
     }
 
@@ -106,16 +121,19 @@ public class CallbackImpl extends ExtensibleImpl<Callback> implements Callback,
 
     @Override
     public PathItem put(String key, PathItem value) {
+        checkNotFrozen();
         return MapModel.super.put(key, value);
     }
 
     @Override
     public void putAll(Map<? extends String, ? extends PathItem> m) {
+        checkNotFrozen();
         MapModel.super.putAll(m);
     }
 
     @Override
     public PathItem remove(Object key) {
+        checkNotFrozen();
         return MapModel.super.remove(key);
     }
 
@@ -30,6 +30,7 @@ public class ExampleImpl extends ExtensibleImpl<Example> implements Example, Mod
      */
     @Override
     public void setRef(String ref) {
+        checkNotFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_EXAMPLE + ref;
         }
@@ -49,6 +50,7 @@ public class ExampleImpl extends ExtensibleImpl<Example> implements Example, Mod
      */
     @Override
     public void setSummary(String summary) {
+        checkNotFrozen();
         this.summary = summary;
     }
 
@@ -65,6 +67,7 @@ public class ExampleImpl extends ExtensibleImpl<Example> implements Example, Mod
      */
     @Override
     public void setDescription(String description) {
+        checkNotFrozen();
         this.description = description;
     }
 
@@ -81,6 +84,7 @@ public class ExampleImpl extends ExtensibleImpl<Example> implements Example, Mod
      */
     @Override
     public void setValue(Object value) {
+        checkNotFrozen();
         this.value = value;
     }
 
@@ -97,6 +101,7 @@ public class ExampleImpl extends ExtensibleImpl<Example> implements Example, Mod
      */
     @Override
     public void setExternalValue(String externalValue) {
+        checkNotFrozen();
         this.externalValue = externalValue;
     }
 
@@ -43,6 +43,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setRef(String ref) {
+        checkNotFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_HEADER + ref;
         }
@@ -62,6 +63,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setDescription(String description) {
+        checkNotFrozen();
         this.description = description;
     }
 
@@ -78,6 +80,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setRequired(Boolean required) {
+        checkNotFrozen();
         this.required = required;
     }
 
@@ -94,6 +97,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setDeprecated(Boolean deprecated) {
+        checkNotFrozen();
         this.deprecated = deprecated;
     }
 
@@ -110,6 +114,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setAllowEmptyValue(Boolean allowEmptyValue) {
+        checkNotFrozen();
         this.allowEmptyValue = allowEmptyValue;
     }
 
@@ -126,6 +131,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setStyle(Style style) {
+        checkNotFrozen();
         this.style = style;
     }
 
@@ -142,6 +148,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setExplode(Boolean explode) {
+        checkNotFrozen();
         this.explode = explode;
     }
 
@@ -158,6 +165,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setSchema(Schema schema) {
+        checkNotFrozen();
         this.schema = schema;
     }
 
@@ -174,6 +182,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setExamples(Map<String, Example> examples) {
+        checkNotFrozen();
         this.examples = ModelUtil.replace(examples, LinkedHashMap<String, Example>::new);
     }
 
@@ -183,6 +192,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public Header addExample(String key, Example example) {
+        checkNotFrozen();
         this.examples = ModelUtil.add(key, example, this.examples, LinkedHashMap<String, Example>::new);
         return this;
     }
@@ -192,6 +202,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void removeExample(String key) {
+        checkNotFrozen();
         ModelUtil.remove(this.examples, key);
     }
 
@@ -208,6 +219,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setExample(Object example) {
+        checkNotFrozen();
         this.example = example;
     }
 
@@ -224,6 +236,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setContent(Content content) {
+        checkNotFrozen();
         this.content = content;
     }
 
@@ -27,6 +27,7 @@ public class ContactImpl extends ExtensibleImpl<Contact> implements Contact, Mod
      */
     @Override
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -43,6 +44,7 @@ public class ContactImpl extends ExtensibleImpl<Contact> implements Contact, Mod
      */
     @Override
     public void setUrl(String url) {
+        checkNotFrozen();
         this.url = url;
     }
 
@@ -59,6 +61,7 @@ public class ContactImpl extends ExtensibleImpl<Contact> implements Contact, Mod
      */
     @Override
     public void setEmail(String email) {
+        checkNotFrozen();
         this.email = email;
     }
 
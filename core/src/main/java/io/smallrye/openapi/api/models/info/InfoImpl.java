@@ -32,6 +32,7 @@ public class InfoImpl extends ExtensibleImpl<Info> implements Info, ModelImpl {
      */
     @Override
     public void setTitle(String title) {
+        checkNotFrozen();
         this.title = title;
     }
 
@@ -48,6 +49,7 @@ public class InfoImpl extends ExtensibleImpl<Info> implements Info, ModelImpl {
      */
     @Override
     public void setDescription(String description) {
+        checkNotFrozen();
         this.description = description;
     }
 
@@ -64,6 +66,7 @@ public class InfoImpl extends ExtensibleImpl<Info> implements Info, ModelImpl {
      */
     @Override
     public void setTermsOfService(String termsOfService) {
+        checkNotFrozen();
         this.termsOfService = termsOfService;
     }
 
@@ -80,6 +83,7 @@ public class InfoImpl extends ExtensibleImpl<Info> implements Info, ModelImpl {
      */
     @Override
     public void setContact(Contact contact) {
+        checkNotFrozen();
         this.contact = contact;
     }
 
@@ -96,6 +100,7 @@ public class InfoImpl extends ExtensibleImpl<Info> implements Info, ModelImpl {
      */
     @Override
     public void setLicense(License license) {
+        checkNotFrozen();
         this.license = license;
     }
 
@@ -112,6 +117,7 @@ public class InfoImpl extends ExtensibleImpl<Info> implements Info, ModelImpl {
      */
     @Override
     public void setVersion(String version) {
+        checkNotFrozen();
         this.version = version;
     }
 
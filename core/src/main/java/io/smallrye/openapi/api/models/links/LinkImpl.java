@@ -37,6 +37,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void setRef(String ref) {
+        checkNotFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_LINK + ref;
         }
@@ -56,6 +57,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void setServer(Server server) {
+        checkNotFrozen();
         this.server = server;
     }
 
@@ -72,6 +74,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void setOperationRef(String operationRef) {
+        checkNotFrozen();
         this.operationRef = operationRef;
     }
 
@@ -88,6 +91,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void setRequestBody(Object requestBody) {
+        checkNotFrozen();
         this.requestBody = requestBody;
     }
 
@@ -104,6 +108,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void setOperationId(String operationId) {
+        checkNotFrozen();
         this.operationId = operationId;
     }
 
@@ -120,6 +125,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void setParameters(Map<String, Object> parameters) {
+        checkNotFrozen();
         this.parameters = ModelUtil.replace(parameters, LinkedHashMap<String, Object>::new);
     }
 
@@ -128,6 +134,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public Link addParameter(String name, Object parameter) {
+        checkNotFrozen();
         this.parameters = ModelUtil.add(name, parameter, this.parameters, LinkedHashMap<String, Object>::new);
         return this;
     }
@@ -137,6 +144,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void removeParameter(String name) {
+        checkNotFrozen();
         ModelUtil.remove(this.parameters, name);
     }
 
@@ -153,6 +161,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void setDescription(String description) {
+        checkNotFrozen();
         this.description = description;
     }
 
@@ -6,6 +6,7 @@ import java.util.Map;
 import org.eclipse.microprofile.openapi.models.media.Content;
 import org.eclipse.microprofile.openapi.models.media.MediaType;
 
+import io.smallrye.openapi.api.models.BaseModelImpl;
 import io.smallrye.openapi.api.models.MapModel;
 import io.smallrye.openapi.api.models.ModelImpl;
 import io.smallrye.openapi.runtime.util.ModelUtil;
@@ -13,7 +14,7 @@ import io.smallrye.openapi.runtime.util.ModelUtil;
 /**
  * An implementation of the {@link Content} OpenAPI model interface.
  */
-public class ContentImpl implements Content, ModelImpl, MapModel<MediaType> {
+public class ContentImpl extends BaseModelImpl implements Content, ModelImpl, MapModel<MediaType> {
 
     private Map<String, MediaType> mediaTypes;
 
@@ -23,6 +24,7 @@ public class ContentImpl implements Content, ModelImpl, MapModel<MediaType> {
      */
     @Override
     public Content addMediaType(String name, MediaType mediaType) {
+        checkNotFrozen();
         this.mediaTypes = ModelUtil.add(name, mediaType, this.mediaTypes, LinkedHashMap<String, MediaType>::new);
         return this;
     }
@@ -32,6 +34,7 @@ public class ContentImpl implements Content, ModelImpl, MapModel<MediaType> {
      */
     @Override
     public void removeMediaType(String name) {
+        checkNotFrozen();
         ModelUtil.remove(this.mediaTypes, name);
     }
 
@@ -48,9 +51,20 @@ public class ContentImpl implements Content, ModelImpl, MapModel<MediaType> {
      */
     @Override
     public void setMediaTypes(Map<String, MediaType> mediaTypes) {
+        checkNotFrozen();
         this.mediaTypes = ModelUtil.replace(mediaTypes, LinkedHashMap<String, MediaType>::new);
     }
 
+    /**
+     * @see io.smallrye.openapi.api.models.ModelImpl#freeze()
+     */
+    @Override
+    public void freeze() {
+        // The Map methods operate on the map directly
+        this.mediaTypes = ModelUtil.unmodifiableMap(this.mediaTypes);
+        super.freeze();
+    }
+
     // Begin Methods to support implementation of Map for MicroProfile OpenAPI 1.1
 
     @Override
@@ -60,6 +74,7 @@ public class ContentImpl implements Content, ModelImpl, MapModel<MediaType> {
 
     @Override
     public void setMap(Map<String, MediaType> map) {
+        checkNotFrozen();
         this.mediaTypes = map;
     }
 
@@ -75,16 +90,19 @@ public class ContentImpl implements Content, ModelImpl, MapModel<MediaType> {
 
     @Override
     public MediaType put(String key, MediaType value) {
+        checkNotFrozen();
         return MapModel.super.put(key, value);
     }
 
     @Override
     public void putAll(Map<? extends String, ? extends MediaType> m) {
+        checkNotFrozen();
         MapModel.super.putAll(m);
     }
 
     @Override
     public MediaType remove(Object key) {
+        checkNotFrozen();
         return MapModel.super.remove(key);
     }
 
@@ -5,13 +5,14 @@ import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.media.Discriminator;
 
+import io.smallrye.openapi.api.models.BaseModelImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
  * An implementation of the {@link Discriminator} OpenAPI model interface.
  */
-public class DiscriminatorImpl implements Discriminator, ModelImpl {
+public class DiscriminatorImpl extends BaseModelImpl implements Discriminator, ModelImpl {
 
     private String propertyName;
     private Map<String, String> mapping;
@@ -29,6 +30,7 @@ public class DiscriminatorImpl implements Discriminator, ModelImpl {
      */
     @Override
     public void setPropertyName(String propertyName) {
+        checkNotFrozen();
         this.propertyName = propertyName;
     }
 
@@ -37,6 +39,7 @@ public class DiscriminatorImpl implements Discriminator, ModelImpl {
      */
     @Override
     public Discriminator addMapping(String name, String value) {
+        checkNotFrozen();
         this.mapping = ModelUtil.add(name, value, this.mapping, LinkedHashMap<String, String>::new);
         return this;
     }
@@ -46,6 +49,7 @@ public class DiscriminatorImpl implements Discriminator, ModelImpl {
      */
     @Override
     public void removeMapping(String name) {
+        checkNotFrozen();
         ModelUtil.remove(this.mapping, name);
     }
 
@@ -62,6 +66,7 @@ public class DiscriminatorImpl implements Discriminator, ModelImpl {
      */
     @Override
     public void setMapping(Map<String, String> mapping) {
+        checkNotFrozen();
         this.mapping = ModelUtil.replace(mapping, LinkedHashMap<String, String>::new);
     }
 
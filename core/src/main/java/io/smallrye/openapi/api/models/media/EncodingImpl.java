@@ -34,6 +34,7 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public void setContentType(String contentType) {
+        checkNotFrozen();
         this.contentType = contentType;
     }
 
@@ -43,6 +44,7 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public Encoding addHeader(String key, Header header) {
+        checkNotFrozen();
         this.headers = ModelUtil.add(key, header, this.headers, LinkedHashMap<String, Header>::new);
         return this;
     }
@@ -52,6 +54,7 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public void removeHeader(String key) {
+        checkNotFrozen();
         ModelUtil.remove(this.headers, key);
     }
 
@@ -68,6 +71,7 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public void setHeaders(Map<String, Header> headers) {
+        checkNotFrozen();
         this.headers = ModelUtil.replace(headers, LinkedHashMap<String, Header>::new);
     }
 
@@ -84,6 +88,7 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public void setStyle(Style style) {
+        checkNotFrozen();
         this.style = style;
     }
 
@@ -100,6 +105,7 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public void setExplode(Boolean explode) {
+        checkNotFrozen();
         this.explode = explode;
     }
 
@@ -116,6 +122,7 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public void setAllowReserved(Boolean allowReserved) {
+        checkNotFrozen();
         this.allowReserved = allowReserved;
     }
 
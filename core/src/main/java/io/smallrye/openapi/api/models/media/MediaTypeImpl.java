@@ -35,6 +35,7 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public void setSchema(Schema schema) {
+        checkNotFrozen();
         this.schema = schema;
     }
 
@@ -51,6 +52,7 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public void setExamples(Map<String, Example> examples) {
+        checkNotFrozen();
         this.examples = ModelUtil.replace(examples, LinkedHashMap<String, Example>::new);
     }
 
@@ -60,6 +62,7 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public MediaType addExample(String key, Example example) {
+        checkNotFrozen();
         this.examples = ModelUtil.add(key, example, this.examples, LinkedHashMap<String, Example>::new);
         return this;
     }
@@ -69,6 +72,7 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public void removeExample(String key) {
+        checkNotFrozen();
         ModelUtil.remove(this.examples, key);
     }
 
@@ -85,6 +89,7 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public void setExample(Object example) {
+        checkNotFrozen();
         this.example = example;
     }
 
@@ -101,6 +106,7 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public void setEncoding(Map<String, Encoding> encoding) {
+        checkNotFrozen();
         this.encoding = ModelUtil.replace(encoding, LinkedHashMap<String, Encoding>::new);
     }
 
@@ -110,6 +116,7 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public MediaType addEncoding(String key, Encoding encodingItem) {
+        checkNotFrozen();
         this.encoding = ModelUtil.add(key, encodingItem, this.encoding, LinkedHashMap<String, Encoding>::new);
         return this;
     }
@@ -119,6 +126,7 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public void removeEncoding(String key) {
+        checkNotFrozen();
         ModelUtil.remove(this.encoding, key);
     }
 
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
 import org.eclipse.microprofile.openapi.models.media.Discriminator;
@@ -14,51 +15,68 @@ import org.eclipse.microprofile.openapi.models.media.XML;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.util.MergeUtil;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
  * An implementation of the {@link Schema} OpenAPI model interface.
+ * <p>
+ * Applications may have many thousands of schemas, most of which set only a few
+ * properties. Rather than a field for each property, the values that are set are
+ * held in a packed array, ordered by the property's slot number, with a bit mask
+ * recording which slots are present.
+ * <p>
+ * The array is grown with some slack so that setting several properties in turn
+ * does not copy it each time, and a removed property is closed up in place. Schemas
+ * copied with {@link #copyFrom(SchemaImpl, UnaryOperator)} get an array of the exact
+ * size, since they are rarely modified afterwards.
  */
 public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelImpl {
 
-    private String ref;
-    private String format;
+    private static final int REF = 0;
+    private static final int FORMAT = 1;
+    private static final int TITLE = 2;
+    private static final int DESCRIPTION = 3;
+    private static final int DEFAULT_VALUE = 4;
+    private static final int MULTIPLE_OF = 5;
+    private static final int MAXIMUM = 6;
+    private static final int EXCLUSIVE_MAXIMUM = 7;
+    private static final int MINIMUM = 8;
+    private static final int EXCLUSIVE_MINIMUM = 9;
+    private static final int MAX_LENGTH = 10;
+    private static final int MIN_LENGTH = 11;
+    private static final int PATTERN = 12;
+    private static final int MAX_ITEMS = 13;
+    private static final int MIN_ITEMS = 14;
+    private static final int UNIQUE_ITEMS = 15;
+    private static final int MAX_PROPERTIES = 16;
+    private static final int MIN_PROPERTIES = 17;
+    private static final int REQUIRED = 18;
+    private static final int ENUMERATION = 19;
+    private static final int TYPE = 20;
+    private static final int ITEMS = 21;
+    private static final int ALL_OF = 22;
+    private static final int PROPERTIES = 23;
+    private static final int ADDITIONAL_PROPERTIES_SCHEMA = 24;
+    private static final int ADDITIONAL_PROPERTIES_BOOLEAN = 25;
+    private static final int READ_ONLY = 26;
+    private static final int XML_OBJECT = 27;
+    private static final int EXTERNAL_DOCS = 28;
+    private static final int EXAMPLE = 29;
+    private static final int ONE_OF = 30;
+    private static final int ANY_OF = 31;
+    private static final int NOT = 32;
+    private static final int DISCRIMINATOR = 33;
+    private static final int NULLABLE = 34;
+    private static final int WRITE_ONLY = 35;
+    private static final int DEPRECATED = 36;
+
+    private static final int SLOT_COUNT = DEPRECATED + 1;
+    private static final Object[] EMPTY = {};
+
     private final String name;
-    private String title;
-    private String description;
-    private Object defaultValue;
-    private BigDecimal multipleOf;
-    private BigDecimal maximum;
-    private Boolean exclusiveMaximum;
-    private BigDecimal minimum;
-    private Boolean exclusiveMinimum;
-    private Integer maxLength;
-    private Integer minLength;
-    private String pattern;
-    private Integer maxItems;
-    private Integer minItems;
-    private Boolean uniqueItems;
-    private Integer maxProperties;
-    private Integer minProperties;
-    private List<String> required;
-    private List<Object> enumeration;
-    private SchemaType type;
-    private Schema items;
-    private List<Schema> allOf;
-    private Map<String, Schema> properties;
-    private Schema additionalPropertiesSchema;
-    private Boolean additionalPropertiesBoolean;
-    private Boolean readOnly;
-    private XML xml;
-    private ExternalDocumentation externalDocs;
-    private Object example;
-    private List<Schema> oneOf;
-    private List<Schema> anyOf;
-    private Schema not;
-    private Discriminator discriminator;
-    private Boolean nullable;
-    private Boolean writeOnly;
-    private Boolean deprecated;
+    private long present;
+    private Object[] values = EMPTY;
     private int modCount;
 
     public static boolean isNamed(Schema schema) {
@@ -81,16 +99,113 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
         return name;
     }
 
+    /**
+     * Creates a shallow copy of the schema. The copy has its own lists and maps, so
+     * that adding to e.g. its properties does not modify the original, but shares the
+     * sub-schemas and other values they contain. The copy is never named, even when
+     * the original is.
+     * <p>
+     * Use {@link io.smallrye.openapi.api.util.CopyUtil#deepCopy(Object)} for a copy
+     * that shares no model objects with the original.
+     *
+     * @param schema the schema to copy, may be null
+     * @return the copy
+     */
+    public static Schema copyOf(Schema schema) {
+        if (!(schema instanceof SchemaImpl)) {
+            return MergeUtil.mergeObjects(new SchemaImpl(), schema);
+        }
+
+        SchemaImpl copy = new SchemaImpl();
+        copy.copyFrom((SchemaImpl) schema, SchemaImpl::copyValue);
+        return copy;
+    }
+
+    private static Object copyValue(Object value) {
+        // Lists and maps of the collection properties, and example or default values that are lists or maps
+        if (value instanceof List) {
+            return new ArrayList<>((List<?>) value);
+        }
+        if (value instanceof Map) {
+            return new LinkedHashMap<>((Map<?, ?>) value);
+        }
+        return value;
+    }
+
+    /**
+     * Replaces all properties and extensions of this schema with those of the source
+     * schema, without reflection. Each (non-null) value is passed through the given
+     * function, which returns the value to set: the value itself, or a copy of it. The
+     * function must not return null.
+     *
+     * @param source the schema to copy from
+     * @param valueCopier the function applied to each value
+     */
+    @SuppressWarnings("unchecked")
+    public void copyFrom(SchemaImpl source, UnaryOperator<Object> valueCopier) {
+        checkNotFrozen();
+        incrementModCount();
+
+        Object[] sourceValues = source.values;
+        int count = Long.bitCount(source.present);
+        Object[] copiedValues = count > 0 ? new Object[count] : EMPTY;
+
+        for (int i = 0; i < count; i++) {
+            copiedValues[i] = valueCopier.apply(sourceValues[i]);
+        }
+
+        present = source.present;
+        values = copiedValues;
+
+        Map<String, Object> extensions = source.getExtensions();
+        setExtensions(extensions != null ? (Map<String, Object>) valueCopier.apply(extensions) : null);
+    }
+
     private void incrementModCount() {
         modCount++;
     }
 
+    private static int index(long present, long bit) {
+        return Long.bitCount(present & (bit - 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(int slot) {
+        long bit = 1L << slot;
+        return (present & bit) != 0 ? (T) values[index(present, bit)] : null;
+    }
+
+    private void set(int slot, Object value) {
+        long bit = 1L << slot;
+        int index = index(present, bit);
+        int count = Long.bitCount(present);
+
+        if ((present & bit) != 0) {
+            if (value != null) {
+                values[index] = value;
+            } else {
+                System.arraycopy(values, index + 1, values, index, count - index - 1);
+                values[count - 1] = null;
+                present &= ~bit;
+            }
+        } else if (value != null) {
+            if (count == values.length) {
+                Object[] grown = new Object[Math.min(SLOT_COUNT, count + Math.max(2, count >> 1))];
+                System.arraycopy(values, 0, grown, 0, count);
+                values = grown;
+            }
+            System.arraycopy(values, index, values, index + 1, count - index);
+            values[index] = value;
+            present |= bit;
+        }
+    }
+
     /**
      * @see org.eclipse.microprofile.openapi.models.Reference#getRef()
      */
     @Override
     public String getRef() {
-        return this.ref;
+        return get(REF);
     }
 
     /**
@@ -98,11 +213,12 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setRef(String ref) {
+        checkNotFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_SCHEMA + ref;
         }
         incrementModCount();
-        this.ref = ref;
+        set(REF, ref);
     }
 
     /**
@@ -110,7 +226,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Discriminator getDiscriminator() {
-        return this.discriminator;
+        return get(DISCRIMINATOR);
     }
 
     /**
@@ -118,8 +234,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setDiscriminator(Discriminator discriminator) {
+        checkNotFrozen();
         incrementModCount();
-        this.discriminator = discriminator;
+        set(DISCRIMINATOR, discriminator);
     }
 
     /**
@@ -127,7 +244,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public String getTitle() {
-        return this.title;
+        return get(TITLE);
     }
 
     /**
@@ -135,8 +252,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setTitle(String title) {
+        checkNotFrozen();
         incrementModCount();
-        this.title = title;
+        set(TITLE, title);
     }
 
     /**
@@ -144,7 +262,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Object getDefaultValue() {
-        return this.defaultValue;
+        return get(DEFAULT_VALUE);
     }
 
     /**
@@ -152,8 +270,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setDefaultValue(Object defaultValue) {
+        checkNotFrozen();
         incrementModCount();
-        this.defaultValue = defaultValue;
+        set(DEFAULT_VALUE, defaultValue);
     }
 
     /**
@@ -161,7 +280,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public List<Object> getEnumeration() {
-        return ModelUtil.unmodifiableList(this.enumeration);
+        return ModelUtil.unmodifiableList(this.<List<Object>> get(ENUMERATION));
     }
 
     /**
@@ -169,8 +288,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setEnumeration(List<Object> enumeration) {
+        checkNotFrozen();
         incrementModCount();
-        this.enumeration = ModelUtil.replace(enumeration, ArrayList<Object>::new);
+        set(ENUMERATION, ModelUtil.replace(enumeration, ArrayList<Object>::new));
     }
 
     /**
@@ -178,8 +298,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema addEnumeration(Object enumeration) {
+        checkNotFrozen();
         incrementModCount();
-        this.enumeration = ModelUtil.add(enumeration, this.enumeration, ArrayList<Object>::new);
+        set(ENUMERATION, ModelUtil.add(enumeration, this.<List<Object>> get(ENUMERATION), ArrayList<Object>::new));
         return this;
     }
 
@@ -188,8 +309,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void removeEnumeration(Object enumeration) {
+        checkNotFrozen();
         incrementModCount();
-        ModelUtil.remove(this.enumeration, enumeration);
+        ModelUtil.remove(this.<List<Object>> get(ENUMERATION), enumeration);
     }
 
     /**
@@ -197,7 +319,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public BigDecimal getMultipleOf() {
-        return this.multipleOf;
+        return get(MULTIPLE_OF);
     }
 
     /**
@@ -205,8 +327,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMultipleOf(BigDecimal multipleOf) {
+        checkNotFrozen();
         incrementModCount();
-        this.multipleOf = multipleOf;
+        set(MULTIPLE_OF, multipleOf);
     }
 
     /**
@@ -214,7 +337,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public BigDecimal getMaximum() {
-        return this.maximum;
+        return get(MAXIMUM);
     }
 
     /**
@@ -222,8 +345,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMaximum(BigDecimal maximum) {
+        checkNotFrozen();
         incrementModCount();
-        this.maximum = maximum;
+        set(MAXIMUM, maximum);
     }
 
     /**
@@ -231,7 +355,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getExclusiveMaximum() {
-        return this.exclusiveMaximum;
+        return get(EXCLUSIVE_MAXIMUM);
     }
 
     /**
@@ -239,8 +363,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setExclusiveMaximum(Boolean exclusiveMaximum) {
+        checkNotFrozen();
         incrementModCount();
-        this.exclusiveMaximum = exclusiveMaximum;
+        set(EXCLUSIVE_MAXIMUM, exclusiveMaximum);
     }
 
     /**
@@ -248,7 +373,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public BigDecimal getMinimum() {
-        return this.minimum;
+        return get(MINIMUM);
     }
 
     /**
@@ -256,8 +381,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMinimum(BigDecimal minimum) {
+        checkNotFrozen();
         incrementModCount();
-        this.minimum = minimum;
+        set(MINIMUM, minimum);
     }
 
     /**
@@ -265,7 +391,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getExclusiveMinimum() {
-        return this.exclusiveMinimum;
+        return get(EXCLUSIVE_MINIMUM);
     }
 
     /**
@@ -273,8 +399,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setExclusiveMinimum(Boolean exclusiveMinimum) {
+        checkNotFrozen();
         incrementModCount();
-        this.exclusiveMinimum = exclusiveMinimum;
+        set(EXCLUSIVE_MINIMUM, exclusiveMinimum);
     }
 
     /**
@@ -282,7 +409,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMaxLength() {
-        return this.maxLength;
+        return get(MAX_LENGTH);
     }
 
     /**
@@ -290,8 +417,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMaxLength(Integer maxLength) {
+        checkNotFrozen();
         incrementModCount();
-        this.maxLength = maxLength;
+        set(MAX_LENGTH, maxLength);
     }
 
     /**
@@ -299,7 +427,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMinLength() {
-        return this.minLength;
+        return get(MIN_LENGTH);
     }
 
     /**
@@ -307,8 +435,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMinLength(Integer minLength) {
+        checkNotFrozen();
         incrementModCount();
-        this.minLength = minLength;
+        set(MIN_LENGTH, minLength);
     }
 
     /**
@@ -316,7 +445,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public String getPattern() {
-        return this.pattern;
+        return get(PATTERN);
     }
 
     /**
@@ -324,8 +453,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setPattern(String pattern) {
+        checkNotFrozen();
         incrementModCount();
-        this.pattern = pattern;
+        set(PATTERN, pattern);
     }
 
     /**
@@ -333,7 +463,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMaxItems() {
-        return this.maxItems;
+        return get(MAX_ITEMS);
     }
 
     /**
@@ -341,8 +471,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMaxItems(Integer maxItems) {
+        checkNotFrozen();
         incrementModCount();
-        this.maxItems = maxItems;
+        set(MAX_ITEMS, maxItems);
     }
 
     /**
@@ -350,7 +481,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMinItems() {
-        return this.minItems;
+        return get(MIN_ITEMS);
     }
 
     /**
@@ -358,8 +489,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMinItems(Integer minItems) {
+        checkNotFrozen();
         incrementModCount();
-        this.minItems = minItems;
+        set(MIN_ITEMS, minItems);
     }
 
     /**
@@ -367,7 +499,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getUniqueItems() {
-        return this.uniqueItems;
+        return get(UNIQUE_ITEMS);
     }
 
     /**
@@ -375,8 +507,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setUniqueItems(Boolean uniqueItems) {
+        checkNotFrozen();
         incrementModCount();
-        this.uniqueItems = uniqueItems;
+        set(UNIQUE_ITEMS, uniqueItems);
     }
 
     /**
@@ -384,7 +517,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMaxProperties() {
-        return this.maxProperties;
+        return get(MAX_PROPERTIES);
     }
 
     /**
@@ -392,8 +525,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMaxProperties(Integer maxProperties) {
+        checkNotFrozen();
         incrementModCount();
-        this.maxProperties = maxProperties;
+        set(MAX_PROPERTIES, maxProperties);
     }
 
     /**
@@ -401,7 +535,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMinProperties() {
-        return this.minProperties;
+        return get(MIN_PROPERTIES);
     }
 
     /**
@@ -409,8 +543,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMinProperties(Integer minProperties) {
+        checkNotFrozen();
         incrementModCount();
-        this.minProperties = minProperties;
+        set(MIN_PROPERTIES, minProperties);
     }
 
     /**
@@ -418,7 +553,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public List<String> getRequired() {
-        return ModelUtil.unmodifiableList(this.required);
+        return ModelUtil.unmodifiableList(this.<List<String>> get(REQUIRED));
     }
 
     /**
@@ -426,8 +561,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setRequired(List<String> required) {
+        checkNotFrozen();
         incrementModCount();
-        this.required = ModelUtil.replace(required, ArrayList<String>::new);
+        set(REQUIRED, ModelUtil.replace(required, ArrayList<String>::new));
     }
 
     /**
@@ -435,8 +571,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema addRequired(String required) {
+        checkNotFrozen();
         incrementModCount();
-        this.required = ModelUtil.add(required, this.required, ArrayList<String>::new);
+        set(REQUIRED, ModelUtil.add(required, this.<List<String>> get(REQUIRED), ArrayList<String>::new));
         return this;
     }
 
@@ -445,8 +582,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void removeRequired(String required) {
+        checkNotFrozen();
         incrementModCount();
-        ModelUtil.remove(this.required, required);
+        ModelUtil.remove(this.<List<String>> get(REQUIRED), required);
     }
 
     /**
@@ -454,7 +592,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public SchemaType getType() {
-        return this.type;
+        return get(TYPE);
     }
 
     /**
@@ -462,8 +600,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setType(SchemaType type) {
+        checkNotFrozen();
         incrementModCount();
-        this.type = type;
+        set(TYPE, type);
     }
 
     /**
@@ -471,7 +610,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema getNot() {
-        return this.not;
+        return get(NOT);
     }
 
     /**
@@ -479,8 +618,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setNot(Schema not) {
+        checkNotFrozen();
         incrementModCount();
-        this.not = not;
+        set(NOT, not);
     }
 
     /**
@@ -488,7 +628,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Map<String, Schema> getProperties() {
-        return ModelUtil.unmodifiableMap(this.properties);
+        return ModelUtil.unmodifiableMap(this.<Map<String, Schema>> get(PROPERTIES));
     }
 
     /**
@@ -496,8 +636,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setProperties(Map<String, Schema> properties) {
+        checkNotFrozen();
         incrementModCount();
-        this.properties = ModelUtil.replace(properties, LinkedHashMap<String, Schema>::new);
+        set(PROPERTIES, ModelUtil.replace(properties, LinkedHashMap<String, Schema>::new));
     }
 
     /**
@@ -506,8 +647,10 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema addProperty(String key, Schema propertySchema) {
+        checkNotFrozen();
         incrementModCount();
-        this.properties = ModelUtil.add(key, propertySchema, this.properties, LinkedHashMap<String, Schema>::new);
+        set(PROPERTIES, ModelUtil.add(key, propertySchema, this.<Map<String, Schema>> get(PROPERTIES),
+                LinkedHashMap<String, Schema>::new));
         return this;
     }
 
@@ -516,18 +659,19 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void removeProperty(String key) {
+        checkNotFrozen();
         incrementModCount();
-        ModelUtil.remove(this.properties, key);
+        ModelUtil.remove(this.<Map<String, Schema>> get(PROPERTIES), key);
     }
 
     @Override
     public Schema getAdditionalPropertiesSchema() {
-        return this.additionalPropertiesSchema;
+        return get(ADDITIONAL_PROPERTIES_SCHEMA);
     }
 
     @Override
     public Boolean getAdditionalPropertiesBoolean() {
-        return this.additionalPropertiesBoolean;
+        return get(ADDITIONAL_PROPERTIES_BOOLEAN);
     }
 
     /**
@@ -535,9 +679,10 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setAdditionalPropertiesSchema(Schema additionalProperties) {
+        checkNotFrozen();
         incrementModCount();
-        this.additionalPropertiesBoolean = null;
-        this.additionalPropertiesSchema = additionalProperties;
+        set(ADDITIONAL_PROPERTIES_BOOLEAN, null);
+        set(ADDITIONAL_PROPERTIES_SCHEMA, additionalProperties);
     }
 
     /**
@@ -545,9 +690,10 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setAdditionalPropertiesBoolean(Boolean additionalProperties) {
+        checkNotFrozen();
         incrementModCount();
-        this.additionalPropertiesSchema = null;
-        this.additionalPropertiesBoolean = additionalProperties;
+        set(ADDITIONAL_PROPERTIES_SCHEMA, null);
+        set(ADDITIONAL_PROPERTIES_BOOLEAN, additionalProperties);
     }
 
     /**
@@ -555,7 +701,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public String getDescription() {
-        return this.description;
+        return get(DESCRIPTION);
     }
 
     /**
@@ -563,8 +709,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setDescription(String description) {
+        checkNotFrozen();
         incrementModCount();
-        this.description = description;
+        set(DESCRIPTION, description);
     }
 
     /**
@@ -572,7 +719,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public String getFormat() {
-        return this.format;
+        return get(FORMAT);
     }
 
     /**
@@ -580,8 +727,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setFormat(String format) {
+        checkNotFrozen();
         incrementModCount();
-        this.format = format;
+        set(FORMAT, format);
     }
 
     /**
@@ -589,7 +737,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getNullable() {
-        return this.nullable;
+        return get(NULLABLE);
     }
 
     /**
@@ -597,8 +745,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setNullable(Boolean nullable) {
+        checkNotFrozen();
         incrementModCount();
-        this.nullable = nullable;
+        set(NULLABLE, nullable);
     }
 
     /**
@@ -606,7 +755,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getReadOnly() {
-        return this.readOnly;
+        return get(READ_ONLY);
     }
 
     /**
@@ -614,8 +763,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setReadOnly(Boolean readOnly) {
+        checkNotFrozen();
         incrementModCount();
-        this.readOnly = readOnly;
+        set(READ_ONLY, readOnly);
     }
 
     /**
@@ -623,7 +773,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getWriteOnly() {
-        return this.writeOnly;
+        return get(WRITE_ONLY);
     }
 
     /**
@@ -631,8 +781,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setWriteOnly(Boolean writeOnly) {
+        checkNotFrozen();
         incrementModCount();
-        this.writeOnly = writeOnly;
+        set(WRITE_ONLY, writeOnly);
     }
 
     /**
@@ -640,7 +791,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Object getExample() {
-        return this.example;
+        return get(EXAMPLE);
     }
 
     /**
@@ -648,8 +799,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setExample(Object example) {
+        checkNotFrozen();
         incrementModCount();
-        this.example = example;
+        set(EXAMPLE, example);
     }
 
     /**
@@ -657,7 +809,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public ExternalDocumentation getExternalDocs() {
-        return this.externalDocs;
+        return get(EXTERNAL_DOCS);
     }
 
     /**
@@ -665,8 +817,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setExternalDocs(ExternalDocumentation externalDocs) {
+        checkNotFrozen();
         incrementModCount();
-        this.externalDocs = externalDocs;
+        set(EXTERNAL_DOCS, externalDocs);
     }
 
     /**
@@ -674,7 +827,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getDeprecated() {
-        return this.deprecated;
+        return get(DEPRECATED);
     }
 
     /**
@@ -682,8 +835,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setDeprecated(Boolean deprecated) {
+        checkNotFrozen();
         incrementModCount();
-        this.deprecated = deprecated;
+        set(DEPRECATED, deprecated);
     }
 
     /**
@@ -691,7 +845,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public XML getXml() {
-        return this.xml;
+        return get(XML_OBJECT);
     }
 
     /**
@@ -699,8 +853,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setXml(XML xml) {
+        checkNotFrozen();
         incrementModCount();
-        this.xml = xml;
+        set(XML_OBJECT, xml);
     }
 
     /**
@@ -708,7 +863,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema getItems() {
-        return this.items;
+        return get(ITEMS);
     }
 
     /**
@@ -716,8 +871,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setItems(Schema items) {
+        checkNotFrozen();
         incrementModCount();
-        this.items = items;
+        set(ITEMS, items);
     }
 
     /**
@@ -725,7 +881,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public List<Schema> getAllOf() {
-        return ModelUtil.unmodifiableList(this.allOf);
+        return ModelUtil.unmodifiableList(this.<List<Schema>> get(ALL_OF));
     }
 
     /**
@@ -733,8 +889,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setAllOf(List<Schema> allOf) {
+        checkNotFrozen();
         incrementModCount();
-        this.allOf = ModelUtil.replace(allOf, ArrayList<Schema>::new);
+        set(ALL_OF, ModelUtil.replace(allOf, ArrayList<Schema>::new));
     }
 
     /**
@@ -742,8 +899,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema addAllOf(Schema allOf) {
+        checkNotFrozen();
         incrementModCount();
-        this.allOf = ModelUtil.add(allOf, this.allOf, ArrayList<Schema>::new);
+        set(ALL_OF, ModelUtil.add(allOf, this.<List<Schema>> get(ALL_OF), ArrayList<Schema>::new));
         return this;
     }
 
@@ -752,8 +910,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void removeAllOf(Schema allOf) {
+        checkNotFrozen();
         incrementModCount();
-        ModelUtil.remove(this.allOf, allOf);
+        ModelUtil.remove(this.<List<Schema>> get(ALL_OF), allOf);
     }
 
     /**
@@ -761,7 +920,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public List<Schema> getAnyOf() {
-        return ModelUtil.unmodifiableList(this.anyOf);
+        return ModelUtil.unmodifiableList(this.<List<Schema>> get(ANY_OF));
     }
 
     /**
@@ -769,8 +928,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setAnyOf(List<Schema> anyOf) {
+        checkNotFrozen();
         incrementModCount();
-        this.anyOf = ModelUtil.replace(anyOf, ArrayList<Schema>::new);
+        set(ANY_OF, ModelUtil.replace(anyOf, ArrayList<Schema>::new));
     }
 
     /**
@@ -778,8 +938,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema addAnyOf(Schema anyOf) {
+        checkNotFrozen();
         incrementModCount();
-        this.anyOf = ModelUtil.add(anyOf, this.anyOf, ArrayList<Schema>::new);
+        set(ANY_OF, ModelUtil.add(anyOf, this.<List<Schema>> get(ANY_OF), ArrayList<Schema>::new));
         return this;
     }
 
@@ -788,8 +949,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void removeAnyOf(Schema anyOf) {
+        checkNotFrozen();
         incrementModCount();
-        ModelUtil.remove(this.anyOf, anyOf);
+        ModelUtil.remove(this.<List<Schema>> get(ANY_OF), anyOf);
     }
 
     /**
@@ -797,7 +959,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public List<Schema> getOneOf() {
-        return ModelUtil.unmodifiableList(this.oneOf);
+        return ModelUtil.unmodifiableList(this.<List<Schema>> get(ONE_OF));
     }
 
     /**
@@ -805,8 +967,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setOneOf(List<Schema> oneOf) {
+        checkNotFrozen();
         incrementModCount();
-        this.oneOf = ModelUtil.replace(oneOf, ArrayList<Schema>::new);
+        set(ONE_OF, ModelUtil.replace(oneOf, ArrayList<Schema>::new));
     }
 
     /**
@@ -814,8 +977,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema addOneOf(Schema oneOf) {
+        checkNotFrozen();
         incrementModCount();
-        this.oneOf = ModelUtil.add(oneOf, this.oneOf, ArrayList<Schema>::new);
+        set(ONE_OF, ModelUtil.add(oneOf, this.<List<Schema>> get(ONE_OF), ArrayList<Schema>::new));
         return this;
     }
 
@@ -824,8 +988,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void removeOneOf(Schema oneOf) {
+        checkNotFrozen();
         incrementModCount();
-        ModelUtil.remove(this.oneOf, oneOf);
+        ModelUtil.remove(this.<List<Schema>> get(ONE_OF), oneOf);
     }
 
 }
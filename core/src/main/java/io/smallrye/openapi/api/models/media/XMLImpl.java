@@ -29,6 +29,7 @@ public class XMLImpl extends ExtensibleImpl<XML> implements XML, ModelImpl {
      */
     @Override
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -45,6 +46,7 @@ public class XMLImpl extends ExtensibleImpl<XML> implements XML, ModelImpl {
      */
     @Override
     public void setNamespace(String namespace) {
+        checkNotFrozen();
         this.namespace = namespace;
     }
 
@@ -61,6 +63,7 @@ public class XMLImpl extends ExtensibleImpl<XML> implements XML, ModelImpl {
      */
     @Override
     public void setPrefix(String prefix) {
+        checkNotFrozen();
         this.prefix = prefix;
     }
 
@@ -77,6 +80,7 @@ public class XMLImpl extends ExtensibleImpl<XML> implements XML, ModelImpl {
      */
     @Override
     public void setAttribute(Boolean attribute) {
+        checkNotFrozen();
         this.attribute = attribute;
     }
 
@@ -93,6 +97,7 @@ public class XMLImpl extends ExtensibleImpl<XML> implements XML, ModelImpl {
      */
     @Override
     public void setWrapped(Boolean wrapped) {
+        checkNotFrozen();
         this.wrapped = wrapped;
     }
 
@@ -48,6 +48,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setRef(String ref) {
+        checkNotFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_PARAMETER + ref;
         }
@@ -67,6 +68,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -83,6 +85,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setDescription(String description) {
+        checkNotFrozen();
         this.description = description;
     }
 
@@ -99,6 +102,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setRequired(Boolean required) {
+        checkNotFrozen();
         this.required = required;
     }
 
@@ -115,6 +119,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setDeprecated(Boolean deprecated) {
+        checkNotFrozen();
         this.deprecated = deprecated;
     }
 
@@ -131,6 +136,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setAllowEmptyValue(Boolean allowEmptyValue) {
+        checkNotFrozen();
         this.allowEmptyValue = allowEmptyValue;
     }
 
@@ -147,6 +153,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setStyle(Style style) {
+        checkNotFrozen();
         this.style = style;
     }
 
@@ -163,6 +170,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setExplode(Boolean explode) {
+        checkNotFrozen();
         this.explode = explode;
     }
 
@@ -179,6 +187,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setAllowReserved(Boolean allowReserved) {
+        checkNotFrozen();
         this.allowReserved = allowReserved;
     }
 
@@ -195,6 +204,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setSchema(Schema schema) {
+        checkNotFrozen();
         this.schema = schema;
     }
 
@@ -211,6 +221,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setExamples(Map<String, Example> examples) {
+        checkNotFrozen();
         this.examples = ModelUtil.replace(examples, LinkedHashMap<String, Example>::new);
     }
 
@@ -220,6 +231,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public Parameter addExample(String key, Example example) {
+        checkNotFrozen();
         this.examples = ModelUtil.add(key, example, this.examples, LinkedHashMap<String, Example>::new);
         return this;
     }
@@ -229,6 +241,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void removeExample(String key) {
+        checkNotFrozen();
         ModelUtil.remove(this.examples, key);
     }
 
@@ -245,6 +258,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setExample(Object example) {
+        checkNotFrozen();
         this.example = example;
     }
 
@@ -261,6 +275,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setContent(Content content) {
+        checkNotFrozen();
         this.content = content;
     }
 
@@ -277,6 +292,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setIn(In in) {
+        checkNotFrozen();
         if (in == In.PATH) {
             this.required = true;
         }
@@ -293,6 +309,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
     }
 
     public void setParamRef(String paramRef) {
+        checkNotFrozen();
         this.paramRef = paramRef;
     }
 
@@ -30,6 +30,7 @@ public class RequestBodyImpl extends ExtensibleImpl<RequestBody> implements Requ
      */
     @Override
     public void setRef(String ref) {
+        checkNotFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_REQUEST_BODY + ref;
         }
@@ -49,6 +50,7 @@ public class RequestBodyImpl extends ExtensibleImpl<RequestBody> implements Requ
      */
     @Override
     public void setDescription(String description) {
+        checkNotFrozen();
         this.description = description;
     }
 
@@ -65,6 +67,7 @@ public class RequestBodyImpl extends ExtensibleImpl<RequestBody> implements Requ
      */
     @Override
     public void setContent(Content content) {
+        checkNotFrozen();
         this.content = content;
     }
 
@@ -81,6 +84,7 @@ public class RequestBodyImpl extends ExtensibleImpl<RequestBody> implements Requ
      */
     @Override
     public void setRequired(Boolean required) {
+        checkNotFrozen();
         this.required = required;
     }
 
@@ -38,6 +38,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void setRef(String ref) {
+        checkNotFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_API_RESPONSE + ref;
         }
@@ -57,6 +58,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void setDescription(String description) {
+        checkNotFrozen();
         this.description = description;
     }
 
@@ -73,6 +75,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void setHeaders(Map<String, Header> headers) {
+        checkNotFrozen();
         this.headers = ModelUtil.replace(headers, LinkedHashMap<String, Header>::new);
     }
 
@@ -82,6 +85,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public APIResponse addHeader(String name, Header header) {
+        checkNotFrozen();
         this.headers = ModelUtil.add(name, header, this.headers, LinkedHashMap<String, Header>::new);
         return this;
     }
@@ -91,6 +95,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void removeHeader(String name) {
+        checkNotFrozen();
         ModelUtil.remove(this.headers, name);
     }
 
@@ -107,6 +112,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void setContent(Content content) {
+        checkNotFrozen();
         this.content = content;
     }
 
@@ -123,6 +129,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void setLinks(Map<String, Link> links) {
+        checkNotFrozen();
         this.links = ModelUtil.replace(links, LinkedHashMap<String, Link>::new);
     }
 
@@ -132,6 +139,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public APIResponse addLink(String name, Link link) {
+        checkNotFrozen();
         this.links = ModelUtil.add(name, link, this.links, LinkedHashMap<String, Link>::new);
         return this;
     }
@@ -141,6 +149,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void removeLink(String name) {
+        checkNotFrozen();
         ModelUtil.remove(this.links, name);
     }
 
@@ -149,6 +158,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
     }
 
     public void setResponseCode(String responseCode) {
+        checkNotFrozen();
         this.responseCode = responseCode;
     }
 }
@@ -24,6 +24,7 @@ public class APIResponsesImpl extends ExtensibleImpl<APIResponses> implements AP
      */
     @Override
     public APIResponses addAPIResponse(String name, APIResponse apiResponse) {
+        checkNotFrozen();
         this.apiResponses = ModelUtil.add(name, apiResponse, this.apiResponses, LinkedHashMap<String, APIResponse>::new);
         return this;
     }
@@ -33,6 +34,7 @@ public class APIResponsesImpl extends ExtensibleImpl<APIResponses> implements AP
      */
     @Override
     public void removeAPIResponse(String name) {
+        checkNotFrozen();
         ModelUtil.remove(this.apiResponses, name);
     }
 
@@ -43,6 +45,7 @@ public class APIResponsesImpl extends ExtensibleImpl<APIResponses> implements AP
 
     @Override
     public void setAPIResponses(Map<String, APIResponse> items) {
+        checkNotFrozen();
         this.apiResponses = ModelUtil.replace(items, LinkedHashMap<String, APIResponse>::new);
     }
 
@@ -59,6 +62,7 @@ public class APIResponsesImpl extends ExtensibleImpl<APIResponses> implements AP
      */
     @Override
     public void setDefaultValue(APIResponse defaultValue) {
+        checkNotFrozen();
         if (defaultValue == null) {
             removeAPIResponse(DEFAULT);
         } else {
@@ -66,6 +70,16 @@ public class APIResponsesImpl extends ExtensibleImpl<APIResponses> implements AP
         }
     }
 
+    /**
+     * @see io.smallrye.openapi.api.models.ModelImpl#freeze()
+     */
+    @Override
+    public void freeze() {
+        // The Map methods operate on the map directly
+        this.apiResponses = ModelUtil.unmodifiableMap(this.apiResponses);
+        super.freeze();
+    }
+
     // Begin Methods to support implementation of Map for MicroProfile OpenAPI 1.1
 
     @Override
@@ -75,6 +89,7 @@ public class APIResponsesImpl extends ExtensibleImpl<APIResponses> implements AP
 
     @Override
     public void setMap(Map<String, APIResponse> map) {
+        checkNotFrozen();
         this.apiResponses = map;
     }
 
@@ -90,16 +105,19 @@ public class APIResponsesImpl extends ExtensibleImpl<APIResponses> implements AP
 
     @Override
     public APIResponse put(String key, APIResponse value) {
+        checkNotFrozen();
         return MapModel.super.put(key, value);
     }
 
     @Override
     public void putAll(Map<? extends String, ? extends APIResponse> m) {
+        checkNotFrozen();
         MapModel.super.putAll(m);
     }
 
     @Override
     public APIResponse remove(Object key) {
+        checkNotFrozen();
         return MapModel.super.remove(key);
     }
 
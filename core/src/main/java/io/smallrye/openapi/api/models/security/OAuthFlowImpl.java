@@ -32,6 +32,7 @@ public class OAuthFlowImpl extends ExtensibleImpl<OAuthFlow> implements OAuthFlo
      */
     @Override
     public void setAuthorizationUrl(String authorizationUrl) {
+        checkNotFrozen();
         this.authorizationUrl = authorizationUrl;
     }
 
@@ -48,6 +49,7 @@ public class OAuthFlowImpl extends ExtensibleImpl<OAuthFlow> implements OAuthFlo
      */
     @Override
     public void setTokenUrl(String tokenUrl) {
+        checkNotFrozen();
         this.tokenUrl = tokenUrl;
     }
 
@@ -64,6 +66,7 @@ public class OAuthFlowImpl extends ExtensibleImpl<OAuthFlow> implements OAuthFlo
      */
     @Override
     public void setRefreshUrl(String refreshUrl) {
+        checkNotFrozen();
         this.refreshUrl = refreshUrl;
     }
 
@@ -80,6 +83,7 @@ public class OAuthFlowImpl extends ExtensibleImpl<OAuthFlow> implements OAuthFlo
      */
     @Override
     public void setScopes(Map<String, String> scopes) {
+        checkNotFrozen();
         this.scopes = ModelUtil.replace(scopes, LinkedHashMap<String, String>::new);
     }
 
@@ -88,6 +92,7 @@ public class OAuthFlowImpl extends ExtensibleImpl<OAuthFlow> implements OAuthFlo
      */
     @Override
     public OAuthFlow addScope(String scope, String description) {
+        checkNotFrozen();
         this.scopes = ModelUtil.add(scope, description, this.scopes, LinkedHashMap<String, String>::new);
         return this;
     }
@@ -97,6 +102,7 @@ public class OAuthFlowImpl extends ExtensibleImpl<OAuthFlow> implements OAuthFlo
      */
     @Override
     public void removeScope(String scope) {
+        checkNotFrozen();
         ModelUtil.remove(this.scopes, scope);
     }
 
@@ -29,6 +29,7 @@ public class OAuthFlowsImpl extends ExtensibleImpl<OAuthFlows> implements OAuthF
      */
     @Override
     public void setImplicit(OAuthFlow implicit) {
+        checkNotFrozen();
         this.implicit = implicit;
     }
 
@@ -45,6 +46,7 @@ public class OAuthFlowsImpl extends ExtensibleImpl<OAuthFlows> implements OAuthF
      */
     @Override
     public void setPassword(OAuthFlow password) {
+        checkNotFrozen();
         this.password = password;
     }
 
@@ -61,6 +63,7 @@ public class OAuthFlowsImpl extends ExtensibleImpl<OAuthFlows> implements OAuthF
      */
     @Override
     public void setClientCredentials(OAuthFlow clientCredentials) {
+        checkNotFrozen();
         this.clientCredentials = clientCredentials;
     }
 
@@ -77,6 +80,7 @@ public class OAuthFlowsImpl extends ExtensibleImpl<OAuthFlows> implements OAuthF
      */
     @Override
     public void setAuthorizationCode(OAuthFlow authorizationCode) {
+        checkNotFrozen();
         this.authorizationCode = authorizationCode;
     }
 
@@ -1,13 +1,19 @@
 package io.smallrye.openapi.api.models.security;
 
+import java.util.AbstractMap;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
 
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
  * An implementation of the {@link SecurityRequirement} OpenAPI model interface.
@@ -16,6 +22,8 @@ public class SecurityRequirementImpl extends LinkedHashMap<String, List<String>>
 
     private static final long serialVersionUID = -2336114397712664136L;
 
+    private boolean frozen;
+
     /**
      * @see org.eclipse.microprofile.openapi.models.security.SecurityRequirement#addScheme(java.lang.String, java.lang.String)
      */
@@ -75,4 +83,127 @@ public class SecurityRequirementImpl extends LinkedHashMap<String, List<String>>
         this.putAll(items);
     }
 
-}
\ No newline at end of file
+    /**
+     * @see io.smallrye.openapi.api.models.ModelImpl#freeze()
+     */
+    @Override
+    public void freeze() {
+        super.replaceAll((name, scopes) -> Collections.unmodifiableList(scopes));
+        this.frozen = true;
+    }
+
+    /**
+     * @see io.smallrye.openapi.api.models.ModelImpl#isFrozen()
+     */
+    @Override
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    // Methods of the Map that modify the requirement, all of them fail once it is frozen
+
+    @Override
+    public List<String> put(String key, List<String> value) {
+        ModelUtil.checkNotFrozen(this);
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends List<String>> m) {
+        ModelUtil.checkNotFrozen(this);
+        super.putAll(m);
+    }
+
+    @Override
+    public List<String> putIfAbsent(String key, List<String> value) {
+        ModelUtil.checkNotFrozen(this);
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public List<String> remove(Object key) {
+        ModelUtil.checkNotFrozen(this);
+        return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        ModelUtil.checkNotFrozen(this);
+        return super.remove(key, value);
+    }
+
+    @Override
+    public void clear() {
+        ModelUtil.checkNotFrozen(this);
+        super.clear();
+    }
+
+    @Override
+    public List<String> replace(String key, List<String> value) {
+        ModelUtil.checkNotFrozen(this);
+        return super.replace(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, List<String> oldValue, List<String> newValue) {
+        ModelUtil.checkNotFrozen(this);
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super List<String>, ? extends List<String>> function) {
+        ModelUtil.checkNotFrozen(this);
+        super.replaceAll(function);
+    }
+
+    @Override
+    public List<String> computeIfAbsent(String key, Function<? super String, ? extends List<String>> mappingFunction) {
+        ModelUtil.checkNotFrozen(this);
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public List<String> computeIfPresent(String key,
+            BiFunction<? super String, ? super List<String>, ? extends List<String>> remappingFunction) {
+        ModelUtil.checkNotFrozen(this);
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public List<String> compute(String key,
+            BiFunction<? super String, ? super List<String>, ? extends List<String>> remappingFunction) {
+        ModelUtil.checkNotFrozen(this);
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public List<String> merge(String key, List<String> value,
+            BiFunction<? super List<String>, ? super List<String>, ? extends List<String>> remappingFunction) {
+        ModelUtil.checkNotFrozen(this);
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return frozen ? Collections.unmodifiableSet(super.keySet()) : super.keySet();
+    }
+
+    @Override
+    public Collection<List<String>> values() {
+        return frozen ? Collections.unmodifiableCollection(super.values()) : super.values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, List<String>>> entrySet() {
+        if (frozen) {
+            // Wrapped as a map so that Map.Entry#setValue is rejected as well
+            return Collections.unmodifiableMap(new AbstractMap<String, List<String>>() {
+                @Override
+                public Set<Map.Entry<String, List<String>>> entrySet() {
+                    return SecurityRequirementImpl.super.entrySet();
+                }
+            }).entrySet();
+        }
+        return super.entrySet();
+    }
+}
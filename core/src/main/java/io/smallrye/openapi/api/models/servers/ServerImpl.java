@@ -32,6 +32,7 @@ public class ServerImpl extends ExtensibleImpl<Server> implements Server, ModelI
      */
     @Override
     public void setUrl(String url) {
+        checkNotFrozen();
         this.url = url;
     }
 
@@ -48,6 +49,7 @@ public class ServerImpl extends ExtensibleImpl<Server> implements Server, ModelI
      */
     @Override
     public void setDescription(String description) {
+        checkNotFrozen();
         this.description = description;
     }
 
@@ -64,6 +66,7 @@ public class ServerImpl extends ExtensibleImpl<Server> implements Server, ModelI
      */
     @Override
     public void setVariables(Map<String, ServerVariable> variables) {
+        checkNotFrozen();
         this.variables = ModelUtil.replace(variables, LinkedHashMap<String, ServerVariable>::new);
     }
 
@@ -72,6 +75,7 @@ public class ServerImpl extends ExtensibleImpl<Server> implements Server, ModelI
      */
     @Override
     public Server addVariable(String variableName, ServerVariable variable) {
+        checkNotFrozen();
         this.variables = ModelUtil.add(variableName, variable, this.variables, LinkedHashMap<String, ServerVariable>::new);
         return this;
     }
@@ -81,6 +85,7 @@ public class ServerImpl extends ExtensibleImpl<Server> implements Server, ModelI
      */
     @Override
     public void removeVariable(String variableName) {
+        checkNotFrozen();
         ModelUtil.remove(this.variables, variableName);
     }
 }
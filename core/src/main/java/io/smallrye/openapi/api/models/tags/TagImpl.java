@@ -30,6 +30,7 @@ public class TagImpl extends ExtensibleImpl<Tag> implements Tag, ModelImpl {
      */
     @Override
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -46,6 +47,7 @@ public class TagImpl extends ExtensibleImpl<Tag> implements Tag, ModelImpl {
      */
     @Override
     public void setDescription(String description) {
+        checkNotFrozen();
         this.description = description;
     }
 
@@ -62,6 +64,7 @@ public class TagImpl extends ExtensibleImpl<Tag> implements Tag, ModelImpl {
      */
     @Override
     public void setExternalDocs(ExternalDocumentation externalDocs) {
+        checkNotFrozen();
         this.externalDocs = externalDocs;
     }
 
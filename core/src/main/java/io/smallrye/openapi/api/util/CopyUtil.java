@@ -0,0 +1,185 @@
+package io.smallrye.openapi.api.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import io.smallrye.openapi.api.models.LazyModelMap;
+import io.smallrye.openapi.api.models.MapModel;
+import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+
+/**
+ * Used to create deep copies of OAI data models. A copy shares no mutable state
+ * with the original, so it may be modified (e.g. by applying an {@link OASFilter}
+ * with {@link #filteredCopy(OASFilter, OpenAPI)}) while the original model
+ * remains unchanged and, when frozen, shared by other threads.
+ * <p>
+ * Values of lazily parsed maps that were not accessed yet are copied only when
+ * they are first accessed in the copy.
+ */
+public class CopyUtil {
+
+    private static final ClassValue<ModelProperty[]> PROPERTIES = new ClassValue<ModelProperty[]>() {
+        @Override
+        protected ModelProperty[] computeValue(Class<?> type) {
+            // The Map view of MapModel types is copied by way of their typed property
+            return Arrays.stream(ModelProperty.of(type))
+                    .filter(ModelProperty::isWritable)
+                    .filter(property -> !(MapModel.class.isAssignableFrom(type) && "map".equals(property.getName())))
+                    .toArray(ModelProperty[]::new);
+        }
+    };
+
+    private CopyUtil() {
+    }
+
+    /**
+     * Creates a deep copy of the model. Model objects referenced more than once
+     * in the original model are also shared in the copy. The copy is never frozen,
+     * even when the original is.
+     *
+     * @param model the model to copy, may be null
+     * @param <T> Type parameter
+     * @return the copy
+     */
+    public static <T> T deepCopy(T model) {
+        return new Copier(true).copy(model);
+    }
+
+    /**
+     * Creates a shallow copy of a model object. The copy has its own lists and maps,
+     * but shares the model objects they contain, and those it references directly,
+     * with the original. The copy is never frozen, even when the original is.
+     *
+     * @param model the model object to copy, may be null
+     * @param <T> Type parameter
+     * @return the copy
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T shallowCopy(T model) {
+        if (model instanceof ModelImpl) {
+            return (T) new Copier(false).copyModel((ModelImpl) model);
+        }
+        return model;
+    }
+
+    /**
+     * Applies the filter to a deep copy of the model, leaving the model itself
+     * unchanged.
+     *
+     * @param filter the filter
+     * @param model the model to filter
+     * @return the filtered copy of the model
+     */
+    public static OpenAPI filteredCopy(OASFilter filter, OpenAPI model) {
+        return FilterUtil.applyFilter(filter, deepCopy(model));
+    }
+
+    private static class Copier {
+        final Map<Object, Object> copies = new IdentityHashMap<>();
+        final UnaryOperator<Object> valueCopier;
+
+        Copier(boolean deep) {
+            this.valueCopier = deep ? this::copy : Copier::copyContainer;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T copy(T object) {
+            if (object instanceof ModelImpl) {
+                Object copy = copies.get(object);
+                return (T) (copy != null ? copy : copyModel((ModelImpl) object));
+            }
+            if (object instanceof LazyModelMap) {
+                return (T) copyLazyMap((LazyModelMap<Object>) object);
+            }
+            if (object instanceof Map) {
+                Map<Object, Object> copy = new LinkedHashMap<>();
+                ((Map<?, ?>) object).forEach((key, value) -> copy.put(key, copy(value)));
+                return (T) copy;
+            }
+            if (object instanceof List) {
+                List<Object> copy = new ArrayList<>(((List<?>) object).size());
+                for (Object value : (List<?>) object) {
+                    copy.add(copy(value));
+                }
+                return (T) copy;
+            }
+            // Remaining values (strings, numbers, enums...) are shared with the original
+            return object;
+        }
+
+        Object copyModel(ModelImpl model) {
+            ModelImpl copy = newInstance(model);
+            copies.put(model, copy);
+
+            if (model instanceof SchemaImpl) {
+                ((SchemaImpl) copy).copyFrom((SchemaImpl) model, valueCopier);
+                return copy;
+            }
+
+            for (ModelProperty property : PROPERTIES.get(model.getClass())) {
+                Object value = property.get(model);
+                if (value != null) {
+                    property.set(copy, valueCopier.apply(value));
+                } else if (property.get(copy) != null) {
+                    // Only reset properties with a default value, some setters also reset related properties
+                    property.set(copy, null);
+                }
+            }
+
+            return copy;
+        }
+
+        LazyModelMap<Object> copyLazyMap(LazyModelMap<Object> map) {
+            LazyModelMap<Object> copy = new LazyModelMap<>();
+
+            for (String key : map.keySet()) {
+                // Values not materialized yet are read again from their raw value on first access
+                if (!copy.putUnmaterialized(map, key)) {
+                    copy.put(key, copy(map.get(key)));
+                }
+            }
+
+            return copy;
+        }
+
+        static Object copyContainer(Object value) {
+            if (value instanceof ModelImpl) {
+                // Including the model types that are also maps
+                return value;
+            }
+            if (value instanceof LazyModelMap) {
+                return LazyModelMap.copyOf((LazyModelMap<?>) value);
+            }
+            if (value instanceof Map) {
+                return new LinkedHashMap<>((Map<?, ?>) value);
+            }
+            if (value instanceof List) {
+                return new ArrayList<>((List<?>) value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Creates an empty model object of the same class, and with the same name for a schema.
+     */
+    static ModelImpl newInstance(ModelImpl model) {
+        if (model instanceof SchemaImpl) {
+            return new SchemaImpl(((SchemaImpl) model).getName());
+        }
+        try {
+            return model.getClass().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -2,11 +2,16 @@ package io.smallrye.openapi.api.util;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
 import org.eclipse.microprofile.openapi.OASFilter;
@@ -26,6 +31,8 @@ import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
 import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import org.eclipse.microprofile.openapi.models.responses.APIResponses;
 
+import io.smallrye.openapi.runtime.util.JfrEvents;
+
 /**
  * @author eric.wittmann@gmail.com
  *
@@ -45,22 +52,120 @@ public class FilterUtil {
      * @return Filtered OpenAPI model
      */
     public static final OpenAPI applyFilter(OASFilter filter, OpenAPI model) {
-        filterComponents(filter, model.getComponents());
+        try (JfrEvents.Span span = JfrEvents.filter(filter.getClass())) {
+            if (filter instanceof ThreadSafeFilter) {
+                filterInParallel(filter, model);
+            } else {
+                filterComponents(filter, model.getComponents());
+
+                if (model.getPaths() != null) {
+                    filter(filter,
+                            model.getPaths().getPathItems(),
+                            FilterUtil::filterPathItem,
+                            filter::filterPathItem,
+                            model.getPaths()::removePathItem);
+                }
+            }
+
+            filter(filter, model.getServers(), null, filter::filterServer, model::removeServer);
+            filter(filter, model.getTags(), null, filter::filterTag, model::removeTag);
+
+            filter.filterOpenAPI(model);
+        }
+
+        return model;
+    }
+
+    /**
+     * Filters the components and path items of the model in parallel. Those that are
+     * removed by the filter are removed afterwards, in the same order as when filtering
+     * sequentially.
+     *
+     * @param filter
+     * @param model
+     */
+    private static void filterInParallel(OASFilter filter, OpenAPI model) {
+        List<FilterTask> tasks = new ArrayList<>();
+        Components components = model.getComponents();
+
+        if (components != null) {
+            addTasks(tasks, filter, components.getCallbacks(), FilterUtil::filterCallback, filter::filterCallback,
+                    components::removeCallback);
+            addTasks(tasks, filter, components.getHeaders(), FilterUtil::filterHeader, filter::filterHeader,
+                    components::removeHeader);
+            addTasks(tasks, filter, components.getLinks(), FilterUtil::filterLink, filter::filterLink,
+                    components::removeLink);
+            addTasks(tasks, filter, components.getParameters(), FilterUtil::filterParameter, filter::filterParameter,
+                    components::removeParameter);
+            addTasks(tasks, filter, components.getRequestBodies(), FilterUtil::filterRequestBody, filter::filterRequestBody,
+                    components::removeRequestBody);
+            addTasks(tasks, filter, components.getResponses(), FilterUtil::filterAPIResponse, filter::filterAPIResponse,
+                    components::removeResponse);
+            addTasks(tasks, filter, components.getSchemas(), FilterUtil::filterSchema, filter::filterSchema,
+                    components::removeSchema);
+            addTasks(tasks, filter, components.getSecuritySchemes(), null, filter::filterSecurityScheme,
+                    components::removeSecurityScheme);
+        }
 
         if (model.getPaths() != null) {
-            filter(filter,
-                    model.getPaths().getPathItems(),
-                    FilterUtil::filterPathItem,
-                    filter::filterPathItem,
+            addTasks(tasks, filter, model.getPaths().getPathItems(), FilterUtil::filterPathItem, filter::filterPathItem,
                     model.getPaths()::removePathItem);
         }
 
-        filter(filter, model.getServers(), null, filter::filterServer, model::removeServer);
-        filter(filter, model.getTags(), null, filter::filterTag, model::removeTag);
+        tasks.parallelStream().forEach(FilterTask::filter);
 
-        filter.filterOpenAPI(model);
+        for (FilterTask task : tasks) {
+            if (task.removed) {
+                task.remover.run();
+            }
+        }
+    }
 
-        return model;
+    /**
+     * Adds a task for each of the given models.
+     *
+     * @param tasks the list of tasks
+     * @param filter OASFilter
+     * @param models map of models to be filtered
+     * @param contentFilter a filter method to be applied over the properties of each model
+     * @param modelFilter a filter method - reference to method of OASFilter
+     * @param remover
+     *        reference to the containing model's method for removing models
+     */
+    private static <K, V> void addTasks(List<FilterTask> tasks,
+            OASFilter filter,
+            Map<K, V> models,
+            BiConsumer<OASFilter, V> contentFilter,
+            UnaryOperator<V> modelFilter,
+            Consumer<K> remover) {
+
+        if (models != null) {
+            // Lazily parsed values are materialized here, by a single thread
+            for (Map.Entry<K, V> entry : models.entrySet()) {
+                K key = entry.getKey();
+                V model = entry.getValue();
+                tasks.add(new FilterTask(() -> filterModel(filter, model, contentFilter, modelFilter) == null,
+                        () -> remover.accept(key)));
+            }
+        }
+    }
+
+    /**
+     * Filters one path item or component, remembering whether it is to be removed.
+     */
+    private static class FilterTask {
+        final BooleanSupplier filter;
+        final Runnable remover;
+        boolean removed;
+
+        FilterTask(BooleanSupplier filter, Runnable remover) {
+            this.filter = filter;
+            this.remover = remover;
+        }
+
+        void filter() {
+            removed = filter.getAsBoolean();
+        }
     }
 
     /**
@@ -100,18 +205,12 @@ public class FilterUtil {
             UnaryOperator<V> modelFilter,
             Consumer<K> remover) {
 
-        if (models != null) {
-            // The collection must be copied since the original may be modified via the remover
-            for (Map.Entry<K, V> entry : new LinkedHashSet<>(models.entrySet())) {
-                V model = entry.getValue();
+        List<Map.Entry<K, V>> removed = visit(models == null ? null : models.entrySet(), FilterUtil::sameKey,
+                entry -> filterModel(filter, entry.getValue(), contentFilter, modelFilter) == null);
 
-                if (contentFilter != null) {
-                    contentFilter.accept(filter, model);
-                }
-
-                if (modelFilter.apply(model) == null) {
-                    remover.accept(entry.getKey());
-                }
+        if (removed != null) {
+            for (Map.Entry<K, V> entry : removed) {
+                remover.accept(entry.getKey());
             }
         }
     }
@@ -132,18 +231,124 @@ public class FilterUtil {
             UnaryOperator<T> modelFilter,
             Consumer<T> remover) {
 
-        if (models != null) {
-            // The collection must be copied since the original may be modified via the remover
-            for (T model : new ArrayList<>(models)) {
-                if (contentFilter != null) {
-                    contentFilter.accept(filter, model);
-                }
+        List<T> removed = visit(models, FilterUtil::same,
+                model -> filterModel(filter, model, contentFilter, modelFilter) == null);
 
-                if (modelFilter.apply(model) == null) {
-                    remover.accept(model);
+        if (removed != null) {
+            removed.forEach(remover);
+        }
+    }
+
+    /**
+     * Visits the elements of a live collection of models, without copying it as long as the
+     * filter does not modify it. The elements to remove are returned rather than removed while
+     * visiting, the list being only allocated when there are any.
+     * <p>
+     * A filter may still add to or remove from the collection it is visiting, e.g. add a schema
+     * to the components while filtering schemas. This is detected by a change of the size of the
+     * collection (or of its iterator failing, when models are replaced), after which the visit
+     * continues with the elements of a snapshot that follow the last one visited, so that added
+     * elements are visited and removed ones are not. A replacement that does not change the size
+     * is only detected while there are at least two elements left, otherwise the visit ends as it
+     * would have with a snapshot taken upfront.
+     *
+     * @param elements the collection, may be null
+     * @param same tells whether two elements are the same element of the collection
+     * @param filter returns true when the element is to be removed
+     * @return the elements to remove, or null if there are none
+     */
+    private static <E> List<E> visit(Collection<E> elements, BiPredicate<E, E> same, Predicate<E> filter) {
+        if (elements == null || elements.isEmpty()) {
+            return null;
+        }
+        List<E> removed = null;
+        int size = elements.size();
+        int count = 0;
+        E last = null;
+        Iterator<E> iterator = elements.iterator();
+        E current = iterator.next();
+
+        while (current != null) {
+            E next;
+            try {
+                // Fetched before filtering the current element, to know where to continue if the filter modifies the collection
+                next = iterator.hasNext() ? iterator.next() : null;
+            } catch (ConcurrentModificationException e) {
+                // The previous element's filter replaced elements without changing the size
+                iterator = resume(elements, same, last, current, count);
+                current = iterator.hasNext() ? iterator.next() : null;
+                continue;
+            }
+
+            if (filter.test(current)) {
+                removed = add(removed, current);
+            }
+            count++;
+            last = current;
+
+            if (elements.size() != size) {
+                size = elements.size();
+                iterator = resume(elements, same, current, next, count);
+                next = iterator.hasNext() ? iterator.next() : null;
+            }
+            current = next;
+        }
+
+        return removed;
+    }
+
+    /**
+     * Continues a visit with a snapshot of the modified collection, after the last element visited
+     * or else at the next element. When the filter removed both, it is assumed that it did not
+     * remove any other element that was already visited.
+     */
+    private static <E> Iterator<E> resume(Collection<E> elements, BiPredicate<E, E> same, E visited, E unvisited,
+            int count) {
+        List<E> snapshot = new ArrayList<>(elements);
+        int index = indexOf(snapshot, same, visited);
+
+        if (index >= 0) {
+            index++;
+        } else if (unvisited == null || (index = indexOf(snapshot, same, unvisited)) < 0) {
+            index = Math.min(count - 1, snapshot.size());
+        }
+
+        return snapshot.listIterator(index);
+    }
+
+    private static <E> int indexOf(List<E> elements, BiPredicate<E, E> same, E element) {
+        if (element != null) {
+            for (int i = 0; i < elements.size(); i++) {
+                if (same.test(elements.get(i), element)) {
+                    return i;
                 }
             }
         }
+        return -1;
+    }
+
+    private static <K, V> boolean sameKey(Map.Entry<K, V> entry1, Map.Entry<K, V> entry2) {
+        return Objects.equals(entry1.getKey(), entry2.getKey());
+    }
+
+    private static <T> boolean same(T model1, T model2) {
+        return model1 == model2;
+    }
+
+    /**
+     * Adds the element to the list, creating the list when it is null, so that
+     * nothing is allocated as long as nothing is removed.
+     *
+     * @param list the list or null
+     * @param element the element to add
+     * @return the list
+     */
+    private static <T> List<T> add(List<T> list, T element) {
+        if (list == null) {
+            list = new ArrayList<>();
+        }
+        list.add(element);
+        return list;
     }
 
     /**
@@ -163,12 +368,43 @@ public class FilterUtil {
             Consumer<T> mutator) {
 
         if (model != null) {
-            if (contentFilter != null) {
-                contentFilter.accept(filter, model);
+            mutator.accept(filterModel(filter, model, contentFilter, modelFilter));
+        }
+    }
+
+    /**
+     * Filters a given model, first its content and then the model itself. When filtering
+     * in parallel, the model is locked while it is filtered, since model objects may be
+     * shared by the path items and components filtered by different threads.
+     *
+     * @param filter OASFilter
+     * @param model model to be filtered
+     * @param contentFilter a filter method to be applied over the properties the model
+     * @param modelFilter a filter method - reference to method of OASFilter
+     * @return the result of the model filter
+     */
+    private static <T> T filterModel(OASFilter filter,
+            T model,
+            BiConsumer<OASFilter, T> contentFilter,
+            UnaryOperator<T> modelFilter) {
+
+        if (model != null && filter instanceof ThreadSafeFilter) {
+            synchronized (model) {
+                return filterContentAndModel(filter, model, contentFilter, modelFilter);
             }
+        }
+        return filterContentAndModel(filter, model, contentFilter, modelFilter);
+    }
+
+    private static <T> T filterContentAndModel(OASFilter filter,
+            T model,
+            BiConsumer<OASFilter, T> contentFilter,
+            UnaryOperator<T> modelFilter) {
 
-            mutator.accept(modelFilter.apply(model));
+        if (contentFilter != null) {
+            contentFilter.accept(filter, model);
         }
+        return modelFilter.apply(model);
     }
 
     /**
@@ -179,15 +415,7 @@ public class FilterUtil {
      */
     private static void filterCallback(OASFilter filter, Callback model) {
         if (model != null) {
-            Collection<String> keys = new ArrayList<>(model.getPathItems().keySet());
-            for (String key : keys) {
-                PathItem childModel = model.getPathItem(key);
-                filterPathItem(filter, childModel);
-
-                if (filter.filterPathItem(childModel) == null) {
-                    model.removePathItem(key);
-                }
-            }
+            filter(filter, model.getPathItems(), FilterUtil::filterPathItem, filter::filterPathItem, model::removePathItem);
         }
     }
 
@@ -259,12 +487,11 @@ public class FilterUtil {
      * @param model
      */
     private static void filterContent(OASFilter filter, Content model) {
-        if (model != null && model.getMediaTypes() != null) {
-            Collection<String> keys = new ArrayList<>(model.getMediaTypes().keySet());
-            for (String key : keys) {
-                MediaType childModel = model.getMediaType(key);
+        if (model != null) {
+            visit(model.getMediaTypes() == null ? null : model.getMediaTypes().values(), FilterUtil::same, childModel -> {
                 filterMediaType(filter, childModel);
-            }
+                return false;
+            });
         }
     }
 
@@ -289,11 +516,10 @@ public class FilterUtil {
      */
     private static void filterEncoding(OASFilter filter, Map<String, Encoding> models) {
         if (models != null) {
-            Collection<String> keys = new ArrayList<>(models.keySet());
-            for (String key : keys) {
-                Encoding model = models.get(key);
+            visit(models.values(), FilterUtil::same, model -> {
                 filterEncoding(filter, model);
-            }
+                return false;
+            });
         }
     }
 
@@ -0,0 +1,79 @@
+package io.smallrye.openapi.api.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import io.smallrye.openapi.api.models.ModelImpl;
+
+/**
+ * Used to make a complete OAI data model immutable. Once frozen, any attempt to
+ * modify the model, or any of the model objects reachable from it, results in an
+ * {@link UnsupportedOperationException}. A frozen model can be read concurrently
+ * by any number of threads without synchronization, provided it is published
+ * safely after it has been frozen.
+ * <p>
+ * Values of lazily parsed maps are materialized while freezing, so that reading the
+ * frozen model never modifies it.
+ */
+public class FreezeUtil {
+
+    private FreezeUtil() {
+    }
+
+    /**
+     * Freezes the model and every model object reachable from it.
+     *
+     * @param model the model to freeze, may be null
+     * @param <T> Type parameter
+     * @return the model, now frozen
+     */
+    public static <T> T freeze(T model) {
+        freezeObject(model, Collections.newSetFromMap(new IdentityHashMap<>()));
+        return model;
+    }
+
+    /**
+     * @param model the model to check
+     * @return true if the model is a model object that has been frozen
+     */
+    public static boolean isFrozen(Object model) {
+        return model instanceof ModelImpl && ((ModelImpl) model).isFrozen();
+    }
+
+    private static void freezeObject(Object object, Set<Object> visited) {
+        if (object instanceof ModelImpl) {
+            ModelImpl model = (ModelImpl) object;
+            if (!model.isFrozen() && visited.add(model)) {
+                freezeProperties(model, visited);
+                model.freeze();
+            }
+        } else if (object instanceof Map) {
+            // Iterating the values also materializes those of lazily parsed maps
+            freezeAll(((Map<?, ?>) object).values(), visited);
+        } else if (object instanceof Collection) {
+            freezeAll((Collection<?>) object, visited);
+        }
+    }
+
+    private static void freezeAll(Collection<?> values, Set<Object> visited) {
+        for (Object value : values) {
+            freezeObject(value, visited);
+        }
+    }
+
+    private static void freezeProperties(ModelImpl model, Set<Object> visited) {
+        for (ModelProperty property : ModelProperty.of(model.getClass())) {
+            Class<?> type = property.getType();
+
+            if (type != null && (ModelImpl.class.isAssignableFrom(type)
+                    || Map.class.isAssignableFrom(type)
+                    || Collection.class.isAssignableFrom(type)
+                    || type.isInterface())) {
+                freezeObject(property.get(model), visited);
+            }
+        }
+    }
+}
@@ -1,19 +1,18 @@
 package io.smallrye.openapi.api.util;
 
-import java.beans.IntrospectionException;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
 
+import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
@@ -24,7 +23,9 @@ import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
 import org.eclipse.microprofile.openapi.models.servers.Server;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 
+import io.smallrye.openapi.api.models.LazyModelMap;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.runtime.util.JfrEvents;
 
 /**
  * Used to merge OAI data models into a single one. The MP+OAI 1.0 spec
@@ -37,12 +38,32 @@ import io.smallrye.openapi.api.models.ModelImpl;
  */
 public class MergeUtil {
 
+    /**
+     * The minimum number of paths and components of the documents for {@link #mergeAll(List)}
+     * to merge them in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = 500;
+
     private static final Set<String> EXCLUDED_PROPERTIES = new HashSet<>();
     static {
         EXCLUDED_PROPERTIES.add("class");
         EXCLUDED_PROPERTIES.add("openapi");
     }
 
+    /**
+     * The writable properties of each model class that take part in a merge,
+     * computed once per class.
+     */
+    private static final ClassValue<ModelProperty[]> MERGED_PROPERTIES = new ClassValue<ModelProperty[]>() {
+        @Override
+        protected ModelProperty[] computeValue(Class<?> type) {
+            return Arrays.stream(ModelProperty.of(type))
+                    .filter(ModelProperty::isWritable)
+                    .filter(property -> !EXCLUDED_PROPERTIES.contains(property.getName()))
+                    .toArray(ModelProperty[]::new);
+        }
+    };
+
     private MergeUtil() {
     }
 
@@ -54,7 +75,9 @@ public class MergeUtil {
      * @return Merged OpenAPIImpl instance
      */
     public static final OpenAPI merge(OpenAPI document1, OpenAPI document2) {
-        return mergeObjects(document1, document2);
+        try (JfrEvents.Span span = JfrEvents.merge(2)) {
+            return mergeObjects(document1, document2);
+        }
     }
 
     /**
@@ -65,7 +88,6 @@ public class MergeUtil {
      * @param <T> Type parameter
      * @return Merged object
      */
-    @SuppressWarnings({ "rawtypes" })
     public static <T> T mergeObjects(T object1, T object2) {
         if (object1 == null && object2 != null) {
             return object2;
@@ -83,62 +105,248 @@ public class MergeUtil {
             return object2;
         }
 
-        PropertyDescriptor[] descriptors = new PropertyDescriptor[0];
-        try {
-            descriptors = Introspector.getBeanInfo(object1.getClass()).getPropertyDescriptors();
-        } catch (IntrospectionException e) {
-            UtilLogging.logger.failedToIntrospectBeanInfo(object1.getClass(), e);
+        for (ModelProperty property : MERGED_PROPERTIES.get(object1.getClass())) {
+            mergeProperty(object1, object2, property);
         }
+        return object1;
+    }
 
-        for (PropertyDescriptor descriptor : descriptors) {
-            if (EXCLUDED_PROPERTIES.contains(descriptor.getName())) {
-                continue;
+    /**
+     * Merges the documents and returns the result, which is the same as the result of
+     * merging them one at a time, from first to last, with {@link #merge(OpenAPI, OpenAPI)}.
+     * Like that merge, the first document (that is not null) is modified to hold the result.
+     * <p>
+     * Each property of a document is merged independently of the others, so when the documents
+     * hold at least {@value #PARALLEL_THRESHOLD} paths and components, the paths, each map of
+     * components and the remaining properties are merged for all documents in parallel, using
+     * the common fork-join pool. Smaller documents, and documents sharing a model instance
+     * between those parts (e.g. a schema used both in the components and inline), are merged
+     * sequentially.
+     *
+     * @param documents the documents to merge, any of which may be null
+     * @return Merged OpenAPIImpl instance, or null if all documents are null
+     */
+    public static OpenAPI mergeAll(List<OpenAPI> documents) {
+        return mergeAll(documents, countEntries(documents) >= PARALLEL_THRESHOLD);
+    }
+
+    static OpenAPI mergeAll(List<OpenAPI> documents, boolean parallel) {
+        try (JfrEvents.Span span = JfrEvents.merge(documents.size())) {
+            if (parallel) {
+                List<OpenAPI> present = present(documents);
+
+                if (present.size() > 1 && !sharesModels(present)) {
+                    List<ForkJoinTask<?>> tasks = new ArrayList<>();
+                    OpenAPI result = mergeAll(present, tasks);
+                    ForkJoinTask.invokeAll(tasks);
+                    return result;
+                }
+            }
+
+            OpenAPI result = null;
+            for (OpenAPI document : documents) {
+                result = mergeObjects(result, document);
+            }
+            return result;
+        }
+    }
+
+    private static <T> List<T> present(List<T> objects) {
+        List<T> present = new ArrayList<>(objects.size());
+        for (T object : objects) {
+            if (object != null) {
+                present.add(object);
             }
-            Class ptype = descriptor.getPropertyType();
-            Method writeMethod = descriptor.getWriteMethod();
-            if (writeMethod != null) {
-                if (Constructible.class.isAssignableFrom(ptype)) {
-                    try {
-                        Object val1 = descriptor.getReadMethod().invoke(object1);
-                        Object val2 = descriptor.getReadMethod().invoke(object2);
-                        Object newValue = mergeObjects(val1, val2);
-                        if (newValue != null) {
-                            writeMethod.invoke(object1, newValue);
+        }
+        return present;
+    }
+
+    /**
+     * @return the number of paths and components of the documents
+     */
+    private static int countEntries(List<OpenAPI> documents) {
+        int count = 0;
+        for (OpenAPI document : documents) {
+            if (document != null) {
+                if (document.getPaths() != null && document.getPaths().getPathItems() != null) {
+                    count += document.getPaths().getPathItems().size();
+                }
+                if (document.getComponents() != null) {
+                    for (ModelProperty property : MERGED_PROPERTIES.get(document.getComponents().getClass())) {
+                        Object value = property.get(document.getComponents());
+                        if (value instanceof Map) {
+                            count += ((Map<?, ?>) value).size();
                         }
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
-                    }
-                } else if (Map.class.isAssignableFrom(ptype)) {
-                    try {
-                        Map values1 = (Map) descriptor.getReadMethod().invoke(object1);
-                        Map values2 = (Map) descriptor.getReadMethod().invoke(object2);
-                        Map newValues = mergeMaps(values1, values2);
-                        writeMethod.invoke(object1, newValues);
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
                     }
-                } else if (List.class.isAssignableFrom(ptype)) {
-                    try {
-                        List values1 = (List) descriptor.getReadMethod().invoke(object1);
-                        List values2 = (List) descriptor.getReadMethod().invoke(object2);
-                        List newValues = mergeLists(values1, values2).orElse(null);
-                        writeMethod.invoke(object1, newValues);
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
-                    }
-                } else {
-                    try {
-                        Object newValue = descriptor.getReadMethod().invoke(object2);
-                        if (newValue != null) {
-                            writeMethod.invoke(object1, newValue);
-                        }
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Tells whether any model instance is reachable from more than one of the parts of the
+     * documents that are merged in parallel, in which case it could be modified by several
+     * threads. Values of lazily parsed documents that were not accessed yet are not visited,
+     * since they cannot be shared.
+     *
+     * @param documents the documents to merge, none of which is null
+     * @return true if a model instance is shared between parts
+     */
+    private static boolean sharesModels(List<OpenAPI> documents) {
+        List<List<Object>> roots = new ArrayList<>();
+        addRoots(documents, roots);
+        Map<Object, Object> owners = new IdentityHashMap<>();
+
+        for (List<Object> values : roots) {
+            for (Object value : values) {
+                if (isShared(value, values, owners)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the values of each property that is merged by a task of its own to the roots,
+     * in the same way as {@link #mergeAll(List, List)} splits the merge into tasks.
+     */
+    private static <T> void addRoots(List<T> objects, List<List<Object>> roots) {
+        for (ModelProperty property : MERGED_PROPERTIES.get(objects.get(0).getClass())) {
+            List<Object> values = new ArrayList<>(objects.size());
+            for (T object : objects) {
+                values.add(property.get(object));
+            }
+            if (Components.class.isAssignableFrom(property.getType())) {
+                List<Object> present = present(values);
+                if (!present.isEmpty()) {
+                    addRoots(present, roots);
+                }
+            } else {
+                roots.add(values);
+            }
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static boolean isShared(Object value, Object owner, Map<Object, Object> owners) {
+        if (value instanceof Constructible) {
+            Object previousOwner = owners.putIfAbsent(value, owner);
+            if (previousOwner != null) {
+                return previousOwner != owner;
+            }
+            for (ModelProperty property : MERGED_PROPERTIES.get(value.getClass())) {
+                if (isShared(property.get(value), owner, owners)) {
+                    return true;
+                }
+            }
+        } else if (value instanceof LazyModelMap) {
+            LazyModelMap map = (LazyModelMap) value;
+            for (Object key : map.keySet()) {
+                if (map.isMaterialized(key) && isShared(map.get(key), owner, owners)) {
+                    return true;
+                }
+            }
+        } else if (value instanceof Map) {
+            for (Object entry : ((Map) value).values()) {
+                if (isShared(entry, owner, owners)) {
+                    return true;
+                }
+            }
+        } else if (value instanceof List) {
+            for (Object element : (List) value) {
+                if (isShared(element, owner, owners)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Merges the objects into the first one, adding a task for each of its properties
+     * to the list of tasks. The properties of components are split into tasks of their
+     * own.
+     *
+     * @param objects objects to merge, any of which may be null
+     * @param tasks the tasks that must be completed before the result is complete
+     * @return the first object, or the result of a sequential merge if the objects are of different types
+     */
+    private static <T> T mergeAll(List<T> objects, List<ForkJoinTask<?>> tasks) {
+        List<T> present = present(objects);
+        if (present.isEmpty()) {
+            return null;
+        }
+        if (present.size() == 1) {
+            return present.get(0);
+        }
+
+        T target = present.get(0);
+        Class<?> type = target.getClass();
+
+        if (present.stream().anyMatch(object -> !type.equals(object.getClass()))) {
+            // An object of another type replaces the result so far, keep it simple
+            T result = target;
+            for (int i = 1; i < present.size(); i++) {
+                result = mergeObjects(result, present.get(i));
+            }
+            return result;
+        }
+
+        for (ModelProperty property : MERGED_PROPERTIES.get(type)) {
+            if (Components.class.isAssignableFrom(property.getType())) {
+                List<Object> values = new ArrayList<>(present.size());
+                for (T object : present) {
+                    values.add(property.get(object));
+                }
+                Object merged = mergeAll(values, tasks);
+                if (merged != null) {
+                    property.set(target, merged);
+                }
+            } else {
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    for (int i = 1; i < present.size(); i++) {
+                        mergeProperty(target, present.get(i), property);
                     }
+                }));
+            }
+        }
+
+        return target;
+    }
+
+    /**
+     * Merges a single property of object2 into object1.
+     *
+     * @param object1 First object
+     * @param object2 Second object
+     * @param property the property to merge
+     */
+    @SuppressWarnings({ "rawtypes" })
+    private static void mergeProperty(Object object1, Object object2, ModelProperty property) {
+        switch (property.getKind()) {
+            case CONSTRUCTIBLE: {
+                Object newValue = mergeObjects(property.get(object1), property.get(object2));
+                if (newValue != null) {
+                    property.set(object1, newValue);
+                }
+                break;
+            }
+            case MAP:
+                property.set(object1, mergeMaps((Map) property.get(object1), (Map) property.get(object2)));
+                break;
+            case LIST:
+                property.set(object1, mergeLists((List) property.get(object1), (List) property.get(object2)).orElse(null));
+                break;
+            default: {
+                Object newValue = property.get(object2);
+                if (newValue != null) {
+                    property.set(object1, newValue);
                 }
+                break;
             }
         }
-        return object1;
     }
 
     /**
@@ -160,10 +368,13 @@ public class MergeUtil {
             return values2;
         }
 
-        if (!(values1 instanceof ModelImpl)) {
+        if (values1 instanceof LazyModelMap || (values2 instanceof LazyModelMap && !(values1 instanceof ModelImpl))) {
+            // Keep values from a lazily parsed document unmaterialized unless both maps contain them
+            values1 = LazyModelMap.copyOf(values1);
+        } else if (!(values1 instanceof ModelImpl)) {
             values1 = new LinkedHashMap<>(values1);
         }
-        if (!(values2 instanceof ModelImpl)) {
+        if (!(values2 instanceof ModelImpl) && !(values2 instanceof LazyModelMap)) {
             values2 = new LinkedHashMap<>(values2);
         }
 
@@ -180,6 +391,8 @@ public class MergeUtil {
                 } else {
                     values1.put(key, pval2);
                 }
+            } else if (values1 instanceof LazyModelMap) {
+                ((LazyModelMap) values1).putFrom(values2, (String) key);
             } else {
                 Object pval2 = values2.get(key);
                 values1.put(key, pval2);
@@ -0,0 +1,142 @@
+package io.smallrye.openapi.api.util;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.Constructible;
+
+/**
+ * A bean property of a model class, accessed through method handles. The properties
+ * of each class are introspected only once, so that operations applied to whole
+ * models such as merging or copying do not need to use the {@link Introspector} or
+ * reflective invocation for every object.
+ */
+final class ModelProperty {
+
+    /**
+     * How a property is merged and copied, depending on its type.
+     */
+    enum Kind {
+        CONSTRUCTIBLE,
+        MAP,
+        LIST,
+        OTHER
+    }
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final ModelProperty[] NONE = {};
+
+    private static final ClassValue<ModelProperty[]> PROPERTIES = new ClassValue<ModelProperty[]>() {
+        @Override
+        protected ModelProperty[] computeValue(Class<?> type) {
+            PropertyDescriptor[] descriptors;
+            try {
+                descriptors = Introspector.getBeanInfo(type).getPropertyDescriptors();
+            } catch (IntrospectionException e) {
+                UtilLogging.logger.failedToIntrospectBeanInfo(type, e);
+                return NONE;
+            }
+
+            ModelProperty[] properties = new ModelProperty[descriptors.length];
+            int count = 0;
+
+            for (PropertyDescriptor descriptor : descriptors) {
+                if (descriptor.getReadMethod() != null) {
+                    properties[count++] = new ModelProperty(descriptor);
+                }
+            }
+
+            return count == properties.length ? properties : Arrays.copyOf(properties, count);
+        }
+    };
+
+    private final String name;
+    private final Class<?> type;
+    private final Kind kind;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private ModelProperty(PropertyDescriptor descriptor) {
+        this.name = descriptor.getName();
+        this.type = descriptor.getPropertyType();
+
+        if (type == null) {
+            this.kind = Kind.OTHER;
+        } else if (Constructible.class.isAssignableFrom(type)) {
+            this.kind = Kind.CONSTRUCTIBLE;
+        } else if (Map.class.isAssignableFrom(type)) {
+            this.kind = Kind.MAP;
+        } else if (List.class.isAssignableFrom(type)) {
+            this.kind = Kind.LIST;
+        } else {
+            this.kind = Kind.OTHER;
+        }
+
+        this.getter = handle(descriptor.getReadMethod(), GETTER_TYPE);
+        this.setter = handle(descriptor.getWriteMethod(), SETTER_TYPE);
+    }
+
+    private static MethodHandle handle(Method method, MethodType type) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(type);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @param type the model class
+     * @return the properties of the class that can be read, ordered by name
+     */
+    static ModelProperty[] of(Class<?> type) {
+        return PROPERTIES.get(type);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Class<?> getType() {
+        return type;
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    boolean isWritable() {
+        return setter != null;
+    }
+
+    Object get(Object bean) {
+        try {
+            return (Object) getter.invokeExact(bean);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    void set(Object bean, Object value) {
+        try {
+            setter.invokeExact(bean, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
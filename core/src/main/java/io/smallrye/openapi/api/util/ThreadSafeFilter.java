@@ -0,0 +1,16 @@
+package io.smallrye.openapi.api.util;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+
+/**
+ * An {@link OASFilter} that may be invoked by several threads at the same time. The
+ * path items and the entries of each map of components of a model are independent
+ * of each other, so {@link FilterUtil} filters them in parallel when the filter
+ * implements this interface.
+ * <p>
+ * A model object that is shared by several path items or components (e.g. a
+ * sub-schema) is only filtered by one thread at a time, but the filter must not
+ * depend on the order in which the path items and components are filtered.
+ */
+public interface ThreadSafeFilter extends OASFilter {
+}
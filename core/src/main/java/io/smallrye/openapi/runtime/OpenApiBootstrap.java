@@ -0,0 +1,317 @@
+package io.smallrye.openapi.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.OASModelReader;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.IndexView;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiDocument;
+import io.smallrye.openapi.api.PhaseEvent;
+import io.smallrye.openapi.api.PhaseListener;
+import io.smallrye.openapi.api.util.ClassLoaderUtil;
+import io.smallrye.openapi.runtime.io.OpenApiSnapshot;
+
+/**
+ * Builds the final OpenAPI model of a single application from its config, static
+ * files, annotations, model reader and filters.
+ * <p>
+ * Unlike {@link OpenApiDocument#INSTANCE}, the state of a bootstrap is not shared with
+ * anything else, so any number of applications may be bootstrapped at the same time,
+ * each with its own instance. A single instance is not thread-safe.
+ *
+ * <pre>
+ * OpenAPI model = new OpenApiBootstrap()
+ *         .config(config)
+ *         .index(index)
+ *         .staticFile(staticFile)
+ *         .build();
+ * </pre>
+ */
+public class OpenApiBootstrap {
+
+    private OpenApiConfig config;
+    private ClassLoader classLoader = ClassLoaderUtil.getDefaultClassLoader();
+    private IndexView index;
+    private final List<OpenApiStaticFile> staticFiles = new ArrayList<>();
+    private OpenAPI staticModel;
+    private OpenAPI annotationsModel;
+    private OASModelReader modelReader;
+    private final List<OASFilter> filters = new ArrayList<>();
+    private PhaseListener phaseListener;
+    private String archiveName;
+    private String version;
+
+    /**
+     * @param config the config of the application, required
+     * @return this bootstrap
+     */
+    public OpenApiBootstrap config(OpenApiConfig config) {
+        this.config = config;
+        return this;
+    }
+
+    /**
+     * Sets the class loader used when scanning and to load the model reader and the
+     * filter named in the config. Defaults to the
+     * {@link ClassLoaderUtil#getDefaultClassLoader() default class loader}. When set to
+     * null, the model reader and filter of the config are not used.
+     *
+     * @param classLoader the class loader of the application
+     * @return this bootstrap
+     */
+    public OpenApiBootstrap classLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        return this;
+    }
+
+    /**
+     * @param index the index to scan for annotations, may be null to skip scanning
+     * @return this bootstrap
+     */
+    public OpenApiBootstrap index(IndexView index) {
+        this.index = index;
+        return this;
+    }
+
+    /**
+     * Adds a static file to parse. When more than one is given, the model of the last
+     * one is used. The bootstrap does NOT close the static files, the caller is
+     * responsible for that.
+     *
+     * @param staticFile the static file
+     * @return this bootstrap
+     */
+    public OpenApiBootstrap staticFile(OpenApiStaticFile staticFile) {
+        if (staticFile != null) {
+            this.staticFiles.add(staticFile);
+        }
+        return this;
+    }
+
+    /**
+     * @param staticFiles the static files, see {@link #staticFile(OpenApiStaticFile)}
+     * @return this bootstrap
+     */
+    public OpenApiBootstrap staticFiles(OpenApiStaticFile... staticFiles) {
+        if (staticFiles != null) {
+            Arrays.stream(staticFiles).forEach(this::staticFile);
+        }
+        return this;
+    }
+
+    /**
+     * Sets an already parsed static file model, used when no static file is added.
+     *
+     * @param staticModel the static file model
+     * @return this bootstrap
+     */
+    public OpenApiBootstrap staticModel(OpenAPI staticModel) {
+        this.staticModel = staticModel;
+        return this;
+    }
+
+    /**
+     * Sets an already scanned annotations model, used instead of scanning the index.
+     *
+     * @param annotationsModel the annotations model
+     * @return this bootstrap
+     */
+    public OpenApiBootstrap annotationsModel(OpenAPI annotationsModel) {
+        this.annotationsModel = annotationsModel;
+        return this;
+    }
+
+    /**
+     * Uses the static file and annotations models of a snapshot generated at build time.
+     *
+     * @param snapshot the snapshot
+     * @return this bootstrap
+     */
+    public OpenApiBootstrap snapshot(OpenApiSnapshot snapshot) {
+        this.staticModel = snapshot.getStaticModel();
+        this.annotationsModel = snapshot.getAnnotationsModel();
+        return this;
+    }
+
+    /**
+     * Sets the model reader to use instead of the one named in the config.
+     *
+     * @param modelReader the model reader
+     * @return this bootstrap
+     */
+    public OpenApiBootstrap modelReader(OASModelReader modelReader) {
+        this.modelReader = modelReader;
+        return this;
+    }
+
+    /**
+     * Adds a filter, applied before the filter named in the config.
+     *
+     * @param filter the filter
+     * @return this bootstrap
+     */
+    public OpenApiBootstrap filter(OASFilter filter) {
+        if (filter != null) {
+            this.filters.add(filter);
+        }
+        return this;
+    }
+
+    /**
+     * Sets the listener notified of the phases of the bootstrap and of the serialization of
+     * the document, used instead of the one named in the config.
+     *
+     * @param phaseListener the listener
+     * @return this bootstrap
+     */
+    public OpenApiBootstrap phaseListener(PhaseListener phaseListener) {
+        this.phaseListener = phaseListener;
+        return this;
+    }
+
+    /**
+     * @param archiveName the name used for the default title of the document
+     * @return this bootstrap
+     */
+    public OpenApiBootstrap archiveName(String archiveName) {
+        this.archiveName = archiveName;
+        return this;
+    }
+
+    /**
+     * @param version the default version of the document
+     * @return this bootstrap
+     */
+    public OpenApiBootstrap version(String version) {
+        this.version = version;
+        return this;
+    }
+
+    /**
+     * Parses the static files, scans the index, invokes the model reader and then
+     * merges and filters the resulting models.
+     *
+     * @return the final model
+     * @throws IllegalStateException If the config is not set
+     */
+    public OpenAPI build() {
+        return build(this::staticModel, this::annotationsModel);
+    }
+
+    /**
+     * Builds the final model using the static file and annotations models returned by the
+     * functions, which are called with the phase listener of the build.
+     */
+    OpenAPI build(Function<PhaseListener, OpenAPI> staticModelFunction,
+            Function<PhaseListener, OpenAPI> annotationsModelFunction) {
+        if (config == null) {
+            throw RuntimeMessages.msg.configNotSet();
+        }
+        long start = System.nanoTime();
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        PhaseListener listener = phaseListener();
+
+        document.config(config);
+        document.archiveName(archiveName);
+        document.version(version);
+        document.phaseListener(listener);
+
+        document.modelFromStaticFile(staticModelFunction.apply(listener));
+        document.modelFromAnnotations(annotationsModelFunction.apply(listener));
+        document.modelFromReader(readerModel(listener));
+
+        filters.forEach(document::filter);
+        if (classLoader != null) {
+            document.filter(OpenApiProcessor.getFilter(config, classLoader));
+        }
+
+        document.initialize();
+
+        OpenAPI model = document.get();
+        PhaseListener.notify(listener, PhaseEvent.Phase.BOOTSTRAP, archiveName, start, 0, model);
+        return model;
+    }
+
+    /**
+     * Starts the build in the background, using the common fork-join pool. See
+     * {@link #buildAsync(Executor)}.
+     *
+     * @return the future final model
+     */
+    public CompletableFuture<OpenAPI> buildAsync() {
+        return CompletableFuture.supplyAsync(this::build);
+    }
+
+    /**
+     * Starts the build in the background, so that the application does not have to wait
+     * for it before it is ready. This bootstrap, and the static files given to it, must
+     * not be modified or closed until the returned future has completed.
+     *
+     * @param executor the executor running the build
+     * @return the future final model
+     * @see OpenApiDocument#setLazy(java.util.function.Supplier)
+     */
+    public CompletableFuture<OpenAPI> buildAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::build, executor);
+    }
+
+    OpenApiConfig getConfig() {
+        return config;
+    }
+
+    private PhaseListener phaseListener() {
+        if (phaseListener != null || classLoader == null) {
+            return phaseListener;
+        }
+        return OpenApiProcessor.getPhaseListener(config, classLoader);
+    }
+
+    private OpenAPI staticModel(PhaseListener listener) {
+        OpenAPI model = staticModel;
+        for (OpenApiStaticFile staticFile : staticFiles) {
+            long start = System.nanoTime();
+            model = OpenApiProcessor.modelFromStaticFile(config, staticFile);
+            PhaseListener.notify(listener, PhaseEvent.Phase.STATIC_FILE_PARSE, String.valueOf(staticFile.getFormat()),
+                    start, 0, model);
+        }
+        return model;
+    }
+
+    OpenAPI annotationsModel(PhaseListener listener) {
+        if (annotationsModel != null || index == null) {
+            return annotationsModel;
+        }
+        return OpenApiProcessor.modelFromAnnotations(config, classLoader, index, listener);
+    }
+
+    private OpenAPI readerModel(PhaseListener listener) {
+        if (modelReader == null && classLoader == null) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        OpenAPI model;
+        String name;
+
+        if (modelReader != null) {
+            model = modelReader.buildModel();
+            name = modelReader.getClass().getName();
+        } else {
+            model = OpenApiProcessor.modelFromReader(config, classLoader);
+            name = config.modelReader();
+        }
+
+        if (name != null) {
+            PhaseListener.notify(listener, PhaseEvent.Phase.READER, name, start, 0, model);
+        }
+        return model;
+    }
+}
@@ -3,8 +3,13 @@ package io.smallrye.openapi.runtime;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
@@ -15,11 +20,14 @@ import org.jboss.jandex.IndexView;
 
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.OpenApiConfigImpl;
-import io.smallrye.openapi.api.OpenApiDocument;
+import io.smallrye.openapi.api.PhaseListener;
 import io.smallrye.openapi.api.util.ClassLoaderUtil;
 import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSnapshot;
+import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerFactory;
 
 /**
  * Provides some core archive processing functionality.
@@ -28,6 +36,22 @@ import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
  */
 public class OpenApiProcessor {
 
+    /**
+     * The locations of the static files of an app, in the order they are loaded.
+     */
+    static final Map<String, Format> STATIC_FILES;
+
+    static {
+        Map<String, Format> staticFiles = new LinkedHashMap<>();
+        staticFiles.put("/META-INF/openapi.yaml", Format.YAML);
+        staticFiles.put("/WEB-INF/classes/META-INF/openapi.yaml", Format.YAML);
+        staticFiles.put("/META-INF/openapi.yml", Format.YAML);
+        staticFiles.put("/WEB-INF/classes/META-INF/openapi.yml", Format.YAML);
+        staticFiles.put("/META-INF/openapi.json", Format.JSON);
+        staticFiles.put("/WEB-INF/classes/META-INF/openapi.json", Format.JSON);
+        STATIC_FILES = Collections.unmodifiableMap(staticFiles);
+    }
+
     private OpenApiProcessor() {
     }
 
@@ -47,42 +71,55 @@ public class OpenApiProcessor {
         return bootstrap(config, index, defaultClassLoader, staticFiles);
     }
 
+    /**
+     * Bootstrap the final model from the static files found by the class loader and from
+     * the index. If {@link OpenApiConfig#snapshotEnable()} is set and the application
+     * contains a snapshot generated at build time, the snapshot is used instead and the
+     * index is ignored. The snapshot is not checked against the index, so it must be
+     * regenerated whenever the application changes.
+     * 
+     * @param config OpenApiConfig
+     * @param index IndexView of Archive
+     * @param classLoader ClassLoader used to find the static files and snapshot
+     * @return the final model
+     */
     public static OpenAPI bootstrap(OpenApiConfig config, IndexView index, ClassLoader classLoader) {
+        if (config.snapshotEnable()) {
+            OpenApiSnapshot snapshot = loadOpenApiSnapshot(classLoader);
+            if (snapshot != null) {
+                return bootstrap(config, classLoader, snapshot);
+            }
+        }
         List<OpenApiStaticFile> staticfiles = loadOpenApiStaticFiles(classLoader);
         return bootstrap(config, index, classLoader, staticfiles.toArray(new OpenApiStaticFile[] {}));
     }
 
+    /**
+     * Bootstrap the final model from a snapshot generated at build time. The models in
+     * the snapshot take the place of parsing the static file and of scanning the index,
+     * the model reader and filter configured for the application are applied as usual.
+     * 
+     * @param config OpenApiConfig
+     * @param classLoader ClassLoader used to load the model reader and filter
+     * @param snapshot the snapshot of the static file and annotation models
+     * @return the final model
+     */
+    public static OpenAPI bootstrap(OpenApiConfig config, ClassLoader classLoader, OpenApiSnapshot snapshot) {
+        return new OpenApiBootstrap()
+                .config(config)
+                .classLoader(classLoader)
+                .snapshot(snapshot)
+                .build();
+    }
+
     public static OpenAPI bootstrap(OpenApiConfig config, IndexView index, ClassLoader classLoader,
             OpenApiStaticFile... staticFiles) {
-        OpenApiDocument.INSTANCE.reset();
-
-        // Set the config
-        if (config != null) {
-            OpenApiDocument.INSTANCE.config(config);
-        }
-        // Load all static files
-        if (staticFiles != null && staticFiles.length > 0) {
-            for (OpenApiStaticFile staticFile : staticFiles) {
-                OpenApiDocument.INSTANCE.modelFromStaticFile(modelFromStaticFile(staticFile));
-            }
-        }
-        // Scan annotations
-        if (config != null && index != null) {
-            OpenApiDocument.INSTANCE.modelFromAnnotations(modelFromAnnotations(config, classLoader, index));
-        }
-        // Filter and model
-        if (config != null && classLoader != null) {
-            OpenApiDocument.INSTANCE.modelFromReader(modelFromReader(config, classLoader));
-            OpenApiDocument.INSTANCE.filter(getFilter(config, classLoader));
-        }
-
-        OpenApiDocument.INSTANCE.initialize();
-
-        OpenAPI openAPI = OpenApiDocument.INSTANCE.get();
-
-        OpenApiDocument.INSTANCE.reset();
-
-        return openAPI;
+        return new OpenApiBootstrap()
+                .config(config)
+                .classLoader(classLoader)
+                .index(index)
+                .staticFiles(staticFiles)
+                .build();
     }
 
     /**
@@ -94,11 +131,24 @@ public class OpenApiProcessor {
      * @return OpenApiImpl
      */
     public static OpenAPI modelFromStaticFile(OpenApiStaticFile staticFile) {
+        return modelFromStaticFile(null, staticFile);
+    }
+
+    /**
+     * Parse the static file content and return the resulting model, using the parser
+     * selected by the given config. Note that this method does NOT close the resources
+     * in the static file. The caller is responsible for that.
+     * 
+     * @param config OpenApiConfig, may be null
+     * @param staticFile OpenApiStaticFile to be parsed
+     * @return OpenApiImpl
+     */
+    public static OpenAPI modelFromStaticFile(OpenApiConfig config, OpenApiStaticFile staticFile) {
         if (staticFile == null) {
             return null;
         }
         try {
-            return OpenApiParser.parse(staticFile.getContent(), staticFile.getFormat());
+            return OpenApiParser.parse(staticFile.getContent(), staticFile.getFormat(), config);
         } catch (IOException e) {
             throw new OpenApiRuntimeException(e);
         }
@@ -128,11 +178,52 @@ public class OpenApiProcessor {
      * @return OpenAPIImpl generated from annotations
      */
     public static OpenAPI modelFromAnnotations(OpenApiConfig config, ClassLoader loader, IndexView index) {
+        return modelFromAnnotations(config, loader, index, null);
+    }
+
+    /**
+     * Create an {@link OpenAPI} model by scanning the deployment for relevant JAX-RS and
+     * OpenAPI annotations, notifying the listener of each phase of the scan. If scanning is
+     * disabled, this method returns null. If a scan cache directory is configured, the model
+     * of a previous scan of the same index with the same config is returned without scanning,
+     * see {@link OpenApiScanCache}.
+     * 
+     * @param config OpenApiConfig
+     * @param loader ClassLoader
+     * @param index IndexView of Archive
+     * @param phaseListener PhaseListener, may be null
+     * @return OpenAPIImpl generated from annotations
+     */
+    public static OpenAPI modelFromAnnotations(OpenApiConfig config, ClassLoader loader, IndexView index,
+            PhaseListener phaseListener) {
         if (config.scanDisable()) {
             return null;
         }
 
-        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(config, loader, index);
+        if (config.scanCacheDirectory() == null) {
+            return scan(config, loader, index, phaseListener);
+        }
+
+        OpenApiScanCache cache = new OpenApiScanCache(Paths.get(config.scanCacheDirectory()));
+        List<String> scannerNames = new AnnotationScannerFactory(loader).getAnnotationScanners()
+                .stream()
+                .map(scanner -> scanner.getName() + ' ' + OpenApiScanCache.version(scanner.getClass()))
+                .collect(Collectors.toList());
+        String fingerprint = OpenApiScanCache.fingerprint(config, index, scannerNames);
+        OpenAPI model = cache.load(fingerprint);
+
+        if (model == null) {
+            model = scan(config, loader, index, phaseListener);
+            cache.store(fingerprint, model);
+        }
+
+        return model;
+    }
+
+    private static OpenAPI scan(OpenApiConfig config, ClassLoader loader, IndexView index, PhaseListener phaseListener) {
+        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(config, loader, index,
+                Collections.singletonList(new AnnotationScannerExtension() {
+                }), phaseListener);
         return scanner.scan();
     }
 
@@ -181,15 +272,48 @@ public class OpenApiProcessor {
         }
     }
 
+    /**
+     * Instantiate the {@link PhaseListener} configured by the app.
+     * 
+     * @param config OpenApiConfig
+     * @param loader ClassLoader
+     * @return PhaseListener instance retrieved from loader, or null if none is configured
+     */
+    public static PhaseListener getPhaseListener(OpenApiConfig config, ClassLoader loader) {
+        String listenerClassName = config.phaseListenerClass();
+        if (listenerClassName == null) {
+            return null;
+        }
+        try {
+            Class<?> c = loader.loadClass(listenerClassName);
+            return (PhaseListener) c.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new OpenApiRuntimeException(e);
+        }
+    }
+
+    /**
+     * Load the snapshot generated at build time, if the application contains one.
+     * 
+     * @param classLoader ClassLoader used to find the snapshot
+     * @return the snapshot, or null if there is none
+     */
+    public static OpenApiSnapshot loadOpenApiSnapshot(ClassLoader classLoader) {
+        if (classLoader == null) {
+            return null;
+        }
+        try (InputStream stream = classLoader.getResourceAsStream(OpenApiSnapshot.RESOURCE_NAME)) {
+            return stream != null ? OpenApiSnapshot.read(stream) : null;
+        } catch (IOException e) {
+            throw new OpenApiRuntimeException(e);
+        }
+    }
+
     private static List<OpenApiStaticFile> loadOpenApiStaticFiles(ClassLoader classLoader) {
         List<OpenApiStaticFile> apiStaticFiles = new ArrayList<>();
 
-        loadOpenApiStaticFile(apiStaticFiles, classLoader, "/META-INF/openapi.yaml", Format.YAML);
-        loadOpenApiStaticFile(apiStaticFiles, classLoader, "/WEB-INF/classes/META-INF/openapi.yaml", Format.YAML);
-        loadOpenApiStaticFile(apiStaticFiles, classLoader, "/META-INF/openapi.yml", Format.YAML);
-        loadOpenApiStaticFile(apiStaticFiles, classLoader, "/WEB-INF/classes/META-INF/openapi.yml", Format.YAML);
-        loadOpenApiStaticFile(apiStaticFiles, classLoader, "/META-INF/openapi.json", Format.JSON);
-        loadOpenApiStaticFile(apiStaticFiles, classLoader, "/WEB-INF/classes/META-INF/openapi.json", Format.JSON);
+        STATIC_FILES.forEach((path, format) -> loadOpenApiStaticFile(apiStaticFiles, classLoader, path, format));
 
         return apiStaticFiles;
     }
@@ -0,0 +1,389 @@
+package io.smallrye.openapi.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.runtime.io.OpenApiSnapshot;
+
+/**
+ * An on-disk cache of the models created by scanning annotations, used by
+ * {@link OpenApiProcessor#modelFromAnnotations(OpenApiConfig, ClassLoader, IndexView, io.smallrye.openapi.api.PhaseListener)}
+ * when {@link OpenApiConfig#scanCacheDirectory()} is set.
+ * <p>
+ * Each entry is keyed by a fingerprint of everything the scan depends on: the names and
+ * the indexed content (declaration, fields, methods and annotations) of all classes of the
+ * index, the config values read by the scanners, the names of the available annotation
+ * scanners and the versions of this library and of the scanners. An application restarted with the same
+ * archives and config finds the entry of its previous start and skips scanning.
+ * <p>
+ * An entry is a header holding the fingerprint, the length and the checksum of the model,
+ * followed by the model in the {@link OpenApiSnapshot} format. Entries that cannot be
+ * read, are truncated, or do not match the expected fingerprint are skipped and replaced
+ * after scanning. Entries are written to a temporary file first and then moved in place,
+ * so applications sharing a directory never read a partially written entry.
+ */
+public class OpenApiScanCache {
+
+    private static final byte[] MAGIC = { 'O', 'A', 'S', 'C' };
+    private static final int VERSION = 1;
+    private static final String PREFIX = "openapi-";
+    private static final String SUFFIX = ".scan";
+    private static final Map<String, String> CODE_SOURCE_VERSIONS = new ConcurrentHashMap<>();
+
+    private final Path directory;
+
+    /**
+     * @param directory the directory of the entries, created when the first entry is written
+     */
+    public OpenApiScanCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Computes the fingerprint of a scan.
+     *
+     * @param config the config of the scan
+     * @param index the index to scan
+     * @param scannerNames the names of the annotation scanners used, with their versions
+     * @return the fingerprint, a hexadecimal string
+     */
+    public static String fingerprint(OpenApiConfig config, IndexView index, Collection<String> scannerNames) {
+        Fingerprint fingerprint = new Fingerprint();
+
+        fingerprint.add(version(OpenApiScanCache.class));
+        fingerprint.add(scannerNames);
+        addConfig(fingerprint, config);
+
+        List<ClassInfo> classes = new ArrayList<>(index.getKnownClasses());
+        classes.sort(Comparator.comparing(ClassInfo::name));
+
+        for (ClassInfo classInfo : classes) {
+            addClass(fingerprint, classInfo);
+        }
+
+        return fingerprint.toString();
+    }
+
+    /**
+     * Returns the version of the library containing a class. This is the implementation
+     * version of its jar or, when the jar has none or the classes are not packaged, e.g. in
+     * an exploded or IDE build, a hash of the jar or of the class files of the directory.
+     *
+     * @param type a class of the library
+     * @return the version of the library
+     */
+    static String version(Class<?> type) {
+        Package pkg = type.getPackage();
+        String version = pkg != null ? pkg.getImplementationVersion() : null;
+        if (version != null) {
+            return version;
+        }
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        URL location = codeSource != null ? codeSource.getLocation() : null;
+        if (location == null) {
+            return hashClass(type);
+        }
+        // Hashed once, a directory may hold many classes
+        return CODE_SOURCE_VERSIONS.computeIfAbsent(location.toString(), key -> hashCodeSource(location, type));
+    }
+
+    private static String hashCodeSource(URL location, Class<?> type) {
+        try {
+            Path path = Paths.get(location.toURI());
+            Fingerprint fingerprint = new Fingerprint();
+            if (Files.isRegularFile(path)) {
+                fingerprint.add(Files.readAllBytes(path));
+            } else if (Files.isDirectory(path)) {
+                List<Path> classFiles;
+                try (Stream<Path> files = Files.walk(path)) {
+                    classFiles = files.filter(file -> file.toString().endsWith(".class"))
+                            .sorted()
+                            .collect(Collectors.toList());
+                }
+                for (Path classFile : classFiles) {
+                    fingerprint.add(path.relativize(classFile).toString());
+                    fingerprint.add(Files.readAllBytes(classFile));
+                }
+            } else {
+                return hashClass(type);
+            }
+            return fingerprint.toString();
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            // Not a file, e.g. nested in another archive
+            return hashClass(type);
+        }
+    }
+
+    private static String hashClass(Class<?> type) {
+        Fingerprint fingerprint = new Fingerprint();
+        fingerprint.add(type.getName());
+        try (InputStream stream = type.getResourceAsStream('/' + type.getName().replace('.', '/') + ".class")) {
+            if (stream != null) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = stream.read(buffer)) != -1) {
+                    bytes.write(buffer, 0, read);
+                }
+                fingerprint.add(bytes.toByteArray());
+            }
+        } catch (IOException e) {
+            // Only the name of the class then
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * Adds the config values read by the annotation scanners.
+     */
+    private static void addConfig(Fingerprint fingerprint, OpenApiConfig config) {
+        fingerprint.add(config.scanPackages());
+        fingerprint.add(config.scanClasses());
+        fingerprint.add(config.scanExcludePackages());
+        fingerprint.add(config.scanExcludeClasses());
+        fingerprint.add(config.getScanProfiles());
+        fingerprint.add(config.getScanExcludeProfiles());
+        fingerprint.add(String.valueOf(config.scanBeanValidation()));
+        fingerprint.add(String.valueOf(config.arrayReferencesEnable()));
+        fingerprint.add(String.valueOf(config.customSchemaRegistryClass()));
+        fingerprint.add(String.valueOf(config.applicationPathDisable()));
+        fingerprint.add(String.valueOf(config.privatePropertiesEnable()));
+        fingerprint.add(String.valueOf(config.propertyNamingStrategy()));
+        fingerprint.add(String.valueOf(config.sortedPropertiesEnable()));
+        fingerprint.add(String.valueOf(config.getOperationIdStrategy()));
+        fingerprint.add(config.getDefaultProduces().map(Arrays::toString).orElse(""));
+        fingerprint.add(config.getDefaultConsumes().map(Arrays::toString).orElse(""));
+        fingerprint.add(String.valueOf(config.allowNakedPathParameter().orElse(null)));
+
+        Map<String, String> schemas = config.getSchemas();
+        fingerprint.add(String.valueOf(schemas != null ? new TreeMap<>(schemas) : null));
+    }
+
+    /**
+     * Adds the name and the indexed content of a class. The annotations are sorted, as their
+     * order depends on the way the index was built.
+     */
+    private static void addClass(Fingerprint fingerprint, ClassInfo classInfo) {
+        fingerprint.add(classInfo.name().toString());
+        fingerprint.add(String.valueOf(classInfo.flags()));
+        fingerprint.add(String.valueOf(classInfo.superClassType()));
+        fingerprint.add(String.valueOf(classInfo.interfaceTypes()));
+        fingerprint.add(String.valueOf(classInfo.typeParameters()));
+
+        for (FieldInfo field : classInfo.fields()) {
+            fingerprint.add(field.flags() + " " + field);
+        }
+
+        for (MethodInfo method : classInfo.methods()) {
+            fingerprint.add(method.flags() + " " + method + " " + method.exceptions() + " " + method.defaultValue());
+            for (int i = 0; i < method.parameters().size(); i++) {
+                fingerprint.add(String.valueOf(method.parameterName(i)));
+            }
+        }
+
+        List<String> annotations = new ArrayList<>();
+        for (List<AnnotationInstance> instances : classInfo.annotations().values()) {
+            for (AnnotationInstance instance : instances) {
+                annotations.add(instance.target() + " " + instance);
+            }
+        }
+        fingerprint.add(annotations);
+    }
+
+    /**
+     * Reads the model of an entry.
+     *
+     * @param fingerprint the fingerprint of the scan
+     * @return the model, or null if there is no valid entry for the fingerprint
+     */
+    public OpenAPI load(String fingerprint) {
+        Path file = entry(fingerprint);
+
+        try {
+            OpenAPI model = read(file, fingerprint);
+            RuntimeLogging.logger.loadedFromScanCache(file);
+            return model;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            RuntimeLogging.logger.invalidScanCacheEntry(file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes an entry, replacing any previous entry of the fingerprint. Errors are logged
+     * rather than thrown, the cache being only an optimization.
+     *
+     * @param fingerprint the fingerprint of the scan
+     * @param model the model created by the scan
+     */
+    public void store(String fingerprint, OpenAPI model) {
+        Path file = entry(fingerprint);
+
+        try {
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, PREFIX, ".tmp");
+            try {
+                Files.write(temporary, write(fingerprint, model));
+                move(temporary, file);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException | RuntimeException e) {
+            RuntimeLogging.logger.scanCacheWriteFailed(file, e);
+        }
+    }
+
+    Path entry(String fingerprint) {
+        return directory.resolve(PREFIX + fingerprint + SUFFIX);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static byte[] write(String fingerprint, OpenAPI model) throws IOException {
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        new OpenApiSnapshot(null, model).write(snapshot);
+        byte[] content = snapshot.toByteArray();
+
+        CRC32 checksum = new CRC32();
+        checksum.update(content);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length + 128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        out.writeUTF(fingerprint);
+        out.writeInt(content.length);
+        out.writeLong(checksum.getValue());
+        out.write(content);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static OpenAPI read(Path file, String fingerprint) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw RuntimeMessages.msg.invalidScanCacheEntry(file);
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw RuntimeMessages.msg.unsupportedScanCacheVersion(version, file);
+        }
+        if (!fingerprint.equals(in.readUTF())) {
+            throw RuntimeMessages.msg.scanCacheFingerprintMismatch(file);
+        }
+
+        int length = in.readInt();
+        long expectedChecksum = in.readLong();
+        if (length != in.available()) {
+            throw RuntimeMessages.msg.invalidScanCacheEntry(file);
+        }
+
+        byte[] content = new byte[length];
+        in.readFully(content);
+        CRC32 checksum = new CRC32();
+        checksum.update(content);
+        if (checksum.getValue() != expectedChecksum) {
+            throw RuntimeMessages.msg.invalidScanCacheEntry(file);
+        }
+
+        OpenAPI model = OpenApiSnapshot.read(new ByteArrayInputStream(content)).getAnnotationsModel();
+        if (model == null) {
+            throw RuntimeMessages.msg.invalidScanCacheEntry(file);
+        }
+        return model;
+    }
+
+    /**
+     * A SHA-256 digest of a sequence of strings and byte arrays.
+     */
+    private static class Fingerprint {
+        private final MessageDigest digest;
+
+        Fingerprint() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new OpenApiRuntimeException(e);
+            }
+        }
+
+        void add(String value) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            // Separates the values, so that moving characters from a value to the next changes the digest
+            digest.update((byte) 0);
+        }
+
+        void add(byte[] value) {
+            add(String.valueOf(value.length));
+            digest.update(value);
+        }
+
+        void add(Collection<String> values) {
+            if (values == null) {
+                add("null");
+                return;
+            }
+            List<String> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            add(String.valueOf(sorted.size()));
+            sorted.forEach(this::add);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        }
+    }
+}
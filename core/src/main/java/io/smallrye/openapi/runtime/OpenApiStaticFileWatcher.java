@@ -0,0 +1,255 @@
+package io.smallrye.openapi.runtime;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import io.smallrye.openapi.api.PhaseEvent;
+import io.smallrye.openapi.api.PhaseListener;
+import io.smallrye.openapi.api.util.CopyUtil;
+import io.smallrye.openapi.runtime.io.Format;
+
+/**
+ * Watches the static files of an app and rebuilds the OpenAPI document whenever one of
+ * them changes, e.g. while editing <code>META-INF/openapi.yaml</code> during development.
+ * <p>
+ * The annotations are scanned only once, by the first build. A rebuild parses the static
+ * file again and merges and filters it with a copy of the cached annotations model, so its
+ * duration depends on the size of the document rather than on the size of the app. As
+ * with {@link OpenApiBootstrap#staticFile(OpenApiStaticFile)}, the last of the watched
+ * files that exists is used.
+ *
+ * <pre>
+ * OpenApiStaticFileWatcher watcher = OpenApiStaticFileWatcher.forClassLoader(bootstrap, classLoader,
+ *         OpenApiDocument.INSTANCE::set);
+ * watcher.start();
+ * </pre>
+ */
+public class OpenApiStaticFileWatcher implements Closeable {
+
+    // Editors often write a file in several steps, they are handled by a single rebuild
+    private static final long SETTLE_MILLIS = 100;
+
+    private final OpenApiBootstrap bootstrap;
+    private final List<Path> paths;
+    private final Consumer<OpenAPI> consumer;
+    private final Map<Path, OpenAPI> staticModels = new HashMap<>();
+    private OpenAPI annotationsModel;
+    private WatchService watchService;
+
+    /**
+     * Constructor. The bootstrap should not have any static files of its own, it is used
+     * by the watcher and must not be modified afterwards.
+     *
+     * @param bootstrap the bootstrap of the app
+     * @param paths the static files to watch, in the order they are loaded
+     * @param consumer receives the document of the first build and of each rebuild
+     */
+    public OpenApiStaticFileWatcher(OpenApiBootstrap bootstrap, List<Path> paths, Consumer<OpenAPI> consumer) {
+        this.bootstrap = bootstrap;
+        this.paths = new ArrayList<>(paths.size());
+        this.consumer = consumer;
+
+        for (Path path : paths) {
+            this.paths.add(path.toAbsolutePath().normalize());
+        }
+    }
+
+    /**
+     * Creates a watcher for the static files of an app that are found by the class loader
+     * in the same locations as those loaded by {@link OpenApiProcessor#bootstrap(io.smallrye.openapi.api.OpenApiConfig,
+     * org.jboss.jandex.IndexView, ClassLoader)}, if they are files in a directory.
+     *
+     * @param bootstrap the bootstrap of the app
+     * @param classLoader the class loader of the app
+     * @param consumer receives the document of the first build and of each rebuild
+     * @return the watcher
+     */
+    public static OpenApiStaticFileWatcher forClassLoader(OpenApiBootstrap bootstrap, ClassLoader classLoader,
+            Consumer<OpenAPI> consumer) {
+        List<Path> paths = new ArrayList<>();
+
+        for (String name : OpenApiProcessor.STATIC_FILES.keySet()) {
+            URL url = classLoader.getResource(name);
+            if (url == null) {
+                url = classLoader.getResource(name.substring(1));
+            }
+            if (url != null && "file".equals(url.getProtocol())) {
+                try {
+                    paths.add(Paths.get(url.toURI()));
+                } catch (URISyntaxException e) {
+                    throw new OpenApiRuntimeException(e);
+                }
+            }
+        }
+
+        return new OpenApiStaticFileWatcher(bootstrap, paths, consumer);
+    }
+
+    /**
+     * Builds the document, passes it to the consumer and starts watching the static files.
+     * The watcher can only be started again once it has been closed.
+     *
+     * @return the document
+     * @throws IOException If the static files cannot be watched
+     * @throws IllegalStateException If the watcher has already been started
+     */
+    public synchronized OpenAPI start() throws IOException {
+        if (watchService != null) {
+            throw RuntimeMessages.msg.watcherAlreadyStarted();
+        }
+        OpenAPI model = rebuild(paths);
+        consumer.accept(model);
+
+        watchService = FileSystems.getDefault().newWatchService();
+        Set<Path> directories = new LinkedHashSet<>();
+        for (Path path : paths) {
+            directories.add(path.getParent());
+        }
+        for (Path directory : directories) {
+            if (Files.isDirectory(directory)) {
+                directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            }
+        }
+
+        Thread thread = new Thread(this::watch, "smallrye-open-api-static-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+
+        RuntimeLogging.logger.watchingStaticFiles(paths);
+        return model;
+    }
+
+    /**
+     * Stops watching the static files.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+    }
+
+    /**
+     * Builds the document again, parsing only the static files that changed.
+     *
+     * @param changed the static files that changed
+     * @return the document
+     */
+    synchronized OpenAPI rebuild(Collection<Path> changed) {
+        changed.forEach(staticModels::remove);
+        return bootstrap.build(this::staticModel, this::annotationsModel);
+    }
+
+    private OpenAPI staticModel(PhaseListener listener) {
+        for (int i = paths.size() - 1; i >= 0; i--) {
+            Path path = paths.get(i);
+            if (!Files.isRegularFile(path)) {
+                continue;
+            }
+            OpenAPI model = staticModels.get(path);
+            if (model == null) {
+                model = parse(path, listener);
+                staticModels.put(path, model);
+            }
+            // The merge modifies the models, the cached one is used again by the next rebuild
+            return CopyUtil.deepCopy(model);
+        }
+        return null;
+    }
+
+    private OpenAPI parse(Path path, PhaseListener listener) {
+        Format format = path.getFileName().toString().endsWith(".json") ? Format.JSON : Format.YAML;
+        long start = System.nanoTime();
+
+        try (InputStream stream = Files.newInputStream(path)) {
+            OpenAPI model = OpenApiProcessor.modelFromStaticFile(bootstrap.getConfig(),
+                    new OpenApiStaticFile(stream, format));
+            PhaseListener.notify(listener, PhaseEvent.Phase.STATIC_FILE_PARSE, path.toString(), start, 0, model);
+            return model;
+        } catch (IOException e) {
+            throw new OpenApiRuntimeException(e);
+        }
+    }
+
+    private OpenAPI annotationsModel(PhaseListener listener) {
+        if (annotationsModel == null) {
+            annotationsModel = bootstrap.annotationsModel(listener);
+        }
+        return CopyUtil.deepCopy(annotationsModel);
+    }
+
+    private void watch() {
+        WatchService service = watchService;
+
+        try {
+            while (true) {
+                Set<Path> changed = new LinkedHashSet<>();
+                WatchKey key = service.take();
+
+                while (key != null) {
+                    Path directory = (Path) key.watchable();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == OVERFLOW) {
+                            changed.addAll(paths);
+                        } else {
+                            Path path = directory.resolve((Path) event.context());
+                            if (paths.contains(path)) {
+                                changed.add(path);
+                            }
+                        }
+                    }
+                    key.reset();
+                    key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+
+                if (!changed.isEmpty()) {
+                    reload(changed);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Closed, stop watching
+        }
+    }
+
+    private void reload(Set<Path> changed) {
+        OpenAPI model;
+        try {
+            model = rebuild(changed);
+        } catch (RuntimeException e) {
+            RuntimeLogging.logger.rebuildFailed(changed, e);
+            return;
+        }
+        consumer.accept(model);
+        RuntimeLogging.logger.rebuiltAfterChanges(changed);
+    }
+}
@@ -0,0 +1,40 @@
+package io.smallrye.openapi.runtime;
+
+import java.nio.file.Path;
+import java.util.Collection;
+
+import org.jboss.logging.BasicLogger;
+import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
+import org.jboss.logging.annotations.LogMessage;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageLogger;
+
+@MessageLogger(projectCode = "SROAP", length = 5)
+interface RuntimeLogging extends BasicLogger {
+    RuntimeLogging logger = Logger.getMessageLogger(RuntimeLogging.class, RuntimeLogging.class.getPackage().getName());
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 15000, value = "Watching the static files %s for changes")
+    void watchingStaticFiles(Collection<Path> paths);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 15001, value = "Rebuilt the OpenAPI document after changes of %s")
+    void rebuiltAfterChanges(Collection<Path> paths);
+
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 15002, value = "Failed to rebuild the OpenAPI document after changes of %s, keeping the previous document")
+    void rebuildFailed(Collection<Path> paths, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 15003, value = "Loaded the annotations model from the scan cache entry %s")
+    void loadedFromScanCache(Path file);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 15004, value = "Skipping the scan cache entry %s, the annotations will be scanned")
+    void invalidScanCacheEntry(Path file, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 15005, value = "Failed to write the scan cache entry %s")
+    void scanCacheWriteFailed(Path file, @Cause Throwable cause);
+}
@@ -0,0 +1,28 @@
+package io.smallrye.openapi.runtime;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.jboss.logging.Messages;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageBundle;
+
+@MessageBundle(projectCode = "SROAP", length = 5)
+interface RuntimeMessages {
+    RuntimeMessages msg = Messages.getBundle(RuntimeMessages.class);
+
+    @Message(id = 16000, value = "Invalid or corrupt scan cache entry %s")
+    IOException invalidScanCacheEntry(Path file);
+
+    @Message(id = 16001, value = "Unsupported scan cache entry version %d in %s")
+    IOException unsupportedScanCacheVersion(int version, Path file);
+
+    @Message(id = 16002, value = "The scan cache entry %s was written for another index or config")
+    IOException scanCacheFingerprintMismatch(Path file);
+
+    @Message(id = 16003, value = "OpenApiConfig must be set before build")
+    IllegalStateException configNotSet();
+
+    @Message(id = 16004, value = "The static file watcher has already been started")
+    IllegalStateException watcherAlreadyStarted();
+}
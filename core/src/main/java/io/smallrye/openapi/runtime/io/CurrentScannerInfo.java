@@ -3,62 +3,127 @@ package io.smallrye.openapi.runtime.io;
 import org.jboss.jandex.Type;
 
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 
 /**
- * A simple registry to hold the current scanner info
+ * Static access to the current scanner info, which is held by the
+ * {@link AnnotationScannerContext} of each scan.
+ * <p>
+ * The deprecated methods remain for code that is not given the context. They see the
+ * context bound to the current thread by the annotation scanner for the duration of a
+ * scan, and nothing on other threads or outside of a scan.
  *
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class CurrentScannerInfo {
-    private static final ThreadLocal<CurrentScannerInfo> current = new ThreadLocal<>();
+    private static final ThreadLocal<AnnotationScannerContext> current = new ThreadLocal<>();
 
+    private CurrentScannerInfo() {
+    }
+
+    /**
+     * Binds the context of a scan to the current thread, for the deprecated static methods
+     * of this class and of {@link io.smallrye.openapi.runtime.scanner.SchemaRegistry}.
+     *
+     * @param context the context, or null to remove the bound context
+     */
+    public static void bind(AnnotationScannerContext context) {
+        if (context != null) {
+            current.set(context);
+        } else {
+            current.remove();
+        }
+    }
+
+    /**
+     * @return the context bound to the current thread, or null if there is none
+     */
+    public static AnnotationScannerContext getCurrentContext() {
+        return current.get();
+    }
+
+    /**
+     * @deprecated use {@link AnnotationScannerContext#setCurrentScanner(AnnotationScanner)}
+     */
+    @Deprecated
     public static void register(AnnotationScanner annotationScanner) {
-        CurrentScannerInfo registry = new CurrentScannerInfo(annotationScanner);
-        current.set(registry);
+        AnnotationScannerContext context = current.get();
+        if (context != null) {
+            context.setCurrentScanner(annotationScanner);
+        }
     }
 
+    /**
+     * @deprecated use {@link AnnotationScannerContext#getCurrentScanner()}
+     */
+    @Deprecated
     public static AnnotationScanner getCurrentAnnotationScanner() {
-        CurrentScannerInfo info = current.get();
-        return info != null ? info.annotationScanner : null;
+        AnnotationScannerContext context = current.get();
+        return context != null ? context.getCurrentScanner() : null;
     }
 
+    /**
+     * @deprecated use {@link AnnotationScannerContext#setCurrentConsumes(String[])}
+     */
+    @Deprecated
     public static void setCurrentConsumes(final String[] currentConsumes) {
-        current.get().currentConsumes = currentConsumes;
+        AnnotationScannerContext context = current.get();
+        if (context != null) {
+            context.setCurrentConsumes(currentConsumes);
+        }
     }
 
+    /**
+     * @deprecated use {@link AnnotationScannerContext#getCurrentConsumes()}
+     */
+    @Deprecated
     public static String[] getCurrentConsumes() {
-        return current.get().currentConsumes;
+        AnnotationScannerContext context = current.get();
+        return context != null ? context.getCurrentConsumes() : null;
     }
 
+    /**
+     * @deprecated use {@link AnnotationScannerContext#setCurrentProduces(String[])}
+     */
+    @Deprecated
     public static void setCurrentProduces(final String[] currentProduces) {
-        current.get().currentProduces = currentProduces;
+        AnnotationScannerContext context = current.get();
+        if (context != null) {
+            context.setCurrentProduces(currentProduces);
+        }
     }
 
+    /**
+     * @deprecated use {@link AnnotationScannerContext#getCurrentProduces()}
+     */
+    @Deprecated
     public static String[] getCurrentProduces() {
-        return current.get().currentProduces;
+        AnnotationScannerContext context = current.get();
+        return context != null ? context.getCurrentProduces() : null;
     }
 
+    /**
+     * Removes the context bound to the current thread.
+     */
     public static void remove() {
         current.remove();
     }
 
+    /**
+     * @deprecated use {@link AnnotationScannerContext#isWrapperType(Type)}
+     */
+    @Deprecated
     public static boolean isWrapperType(Type type) {
-        AnnotationScanner scanner = getCurrentAnnotationScanner();
-        return scanner != null && scanner.isWrapperType(type);
+        AnnotationScannerContext context = current.get();
+        return context != null && context.isWrapperType(type);
     }
 
+    /**
+     * @deprecated use {@link AnnotationScannerContext#isScannerInternalResponse(Type)}
+     */
+    @Deprecated
     public static boolean isScannerInternalResponse(Type type) {
-        AnnotationScanner scanner = getCurrentAnnotationScanner();
-        return scanner != null && scanner.isScannerInternalResponse(type);
-    }
-
-    private String[] currentConsumes;
-    private String[] currentProduces;
-    private final AnnotationScanner annotationScanner;
-
-    private CurrentScannerInfo(final AnnotationScanner annotationScanner) {
-        this.annotationScanner = annotationScanner;
-        this.currentConsumes = null;
-        this.currentProduces = null;
+        AnnotationScannerContext context = current.get();
+        return context != null && context.isScannerInternalResponse(type);
     }
-}
\ No newline at end of file
+}
@@ -18,4 +18,10 @@ interface IoMessages {
 
     @Message(id = 3002, value = "Invalid file extension for URL (expected json, yaml, or yml): %s")
     IOException invalidFileExtension(String url);
+
+    @Message(id = 3003, value = "Invalid or corrupt OpenAPI snapshot")
+    IOException invalidSnapshot();
+
+    @Message(id = 3004, value = "Unsupported OpenAPI snapshot version: %d")
+    IOException unsupportedSnapshotVersion(int version);
 }
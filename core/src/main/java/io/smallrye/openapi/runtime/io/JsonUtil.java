@@ -1,5 +1,6 @@
 package io.smallrye.openapi.runtime.io;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -9,13 +10,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import io.smallrye.openapi.runtime.OpenApiRuntimeException;
+
 /**
  * Utilities methods for reading information from a Json Tree.
  * 
@@ -71,6 +79,22 @@ public final class JsonUtil {
         node.set(propertyName, factory.textNode(propertyValue));
     }
 
+    /**
+     * Writes the value of a property to the given generator. If the value is null,
+     * then the property is not written.
+     * 
+     * @param generator JsonGenerator
+     * @param propertyName Property to be written
+     * @param propertyValue Value to be written
+     * @throws IOException Errors writing to the generator
+     */
+    public static void stringProperty(JsonGenerator generator, String propertyName, String propertyValue) throws IOException {
+        if (propertyValue == null) {
+            return;
+        }
+        generator.writeStringField(propertyName, propertyValue);
+    }
+
     /**
      * Sets the value of a property for a given json node. If the value is null,
      * then the property is not written.
@@ -87,6 +111,24 @@ public final class JsonUtil {
         node.set(propertyName, factory.textNode(propertyValue.toString()));
     }
 
+    /**
+     * Writes the value of a property to the given generator. If the value is null,
+     * then the property is not written.
+     * 
+     * @param generator JsonGenerator
+     * @param propertyName Property to be written
+     * @param propertyValue Value to be written
+     * @param <E> Type of the property value
+     * @throws IOException Errors writing to the generator
+     */
+    public static <E extends Enum<E>> void enumProperty(JsonGenerator generator, String propertyName, E propertyValue)
+            throws IOException {
+        if (propertyValue == null) {
+            return;
+        }
+        generator.writeStringField(propertyName, propertyValue.toString());
+    }
+
     /**
      * Extract a boolean property from the given json tree. Returns null if no
      * property exists or is not a boolean node.
@@ -118,6 +160,23 @@ public final class JsonUtil {
         node.set(propertyName, factory.booleanNode(propertyValue));
     }
 
+    /**
+     * Writes the value of a property to the given generator. If the value is null,
+     * then the property is not written.
+     * 
+     * @param generator JsonGenerator
+     * @param propertyName Property to be written
+     * @param propertyValue Boolean value to be written
+     * @throws IOException Errors writing to the generator
+     */
+    public static void booleanProperty(JsonGenerator generator, String propertyName, Boolean propertyValue)
+            throws IOException {
+        if (propertyValue == null) {
+            return;
+        }
+        generator.writeBooleanField(propertyName, propertyValue);
+    }
+
     /**
      * Extract a integer property from the given json tree. Returns null if no
      * property exists or is not a boolean node.
@@ -149,6 +208,22 @@ public final class JsonUtil {
         node.set(propertyName, factory.numberNode(propertyValue));
     }
 
+    /**
+     * Writes the value of a property to the given generator. If the value is null,
+     * then the property is not written.
+     * 
+     * @param generator JsonGenerator
+     * @param propertyName Property to be written
+     * @param propertyValue Integer value to be written
+     * @throws IOException Errors writing to the generator
+     */
+    public static void intProperty(JsonGenerator generator, String propertyName, Integer propertyValue) throws IOException {
+        if (propertyValue == null) {
+            return;
+        }
+        generator.writeNumberField(propertyName, propertyValue.intValue());
+    }
+
     /**
      * Extract a BigDecimal property from the given json tree. Returns null if no
      * property exists or is not a boolean node.
@@ -184,10 +259,77 @@ public final class JsonUtil {
         }
     }
 
+    /**
+     * Writes the value of a property to the given generator. If the value is null,
+     * then the property is not written.
+     * 
+     * @param generator JsonGenerator
+     * @param propertyName Property to be written
+     * @param propertyValue BigDecimal value to be written
+     * @throws IOException Errors writing to the generator
+     */
+    public static void bigDecimalProperty(JsonGenerator generator, String propertyName, BigDecimal propertyValue)
+            throws IOException {
+        if (propertyValue == null) {
+            return;
+        }
+        generator.writeFieldName(propertyName);
+        if (isIntegerValue(propertyValue)) {
+            generator.writeNumber(propertyValue.toBigInteger());
+        } else {
+            generator.writeNumber(normalizeDecimal(propertyValue));
+        }
+    }
+
     private static boolean isIntegerValue(BigDecimal bd) {
         return bd.signum() == 0 || bd.scale() <= 0 || bd.stripTrailingZeros().scale() <= 0;
     }
 
+    /**
+     * Normalizes a decimal the same way {@link JsonNodeFactory#numberNode(BigDecimal)} does,
+     * so that values streamed to a {@link JsonGenerator} match those written via a tree.
+     * 
+     * @param bd the decimal value
+     * @return the normalized value
+     */
+    static BigDecimal normalizeDecimal(BigDecimal bd) {
+        if (bd.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        try {
+            return bd.stripTrailingZeros();
+        } catch (ArithmeticException e) {
+            return bd;
+        }
+    }
+
+    /**
+     * Captures the value the parser is positioned on as compact Json bytes, deferring
+     * its conversion to a model until the returned supplier is invoked. The parser is
+     * left on the last token of the value.
+     * 
+     * @param parser the Json parser, positioned on the first token of the value
+     * @param reader converts the Json node of the value into a model
+     * @param <T> the model type
+     * @return supplier of the model read from the captured value
+     * @throws IOException Errors reading from the parser
+     */
+    public static <T> Supplier<T> readLazy(JsonParser parser, Function<JsonNode, T> reader) throws IOException {
+        ByteArrayBuilder buffer = new ByteArrayBuilder();
+        try (JsonGenerator generator = MAPPER.getFactory().createGenerator(buffer)) {
+            generator.copyCurrentStructure(parser);
+        }
+        byte[] raw = buffer.toByteArray();
+
+        return () -> {
+            try {
+                return reader.apply(MAPPER.readTree(raw));
+            } catch (IOException e) {
+                throw new OpenApiRuntimeException(e);
+            }
+        };
+    }
+
     /**
      * Reads the node as a Java object.This is typically expected to be a literal of
      * some sort, as in the case of default values and examples. The node may be anything
@@ -1,10 +1,12 @@
 package io.smallrye.openapi.runtime.io;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -148,4 +150,126 @@ public class ObjectWriter {
             node.add((String) null);
         }
     }
+
+    /**
+     * Writes an array of strings to the generator.
+     * 
+     * @param generator the json generator
+     * @param models list of Strings
+     * @param propertyName the name of the node
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeStringArray(JsonGenerator generator, List<String> models, String propertyName)
+            throws IOException {
+        if (models == null) {
+            return;
+        }
+        generator.writeArrayFieldStart(propertyName);
+        for (String model : models) {
+            generator.writeString(model);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes an array of objects to the generator.
+     * 
+     * @param generator the json generator
+     * @param models list of objects
+     * @param propertyName the name of the node
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeObjectArray(JsonGenerator generator, List<Object> models, String propertyName)
+            throws IOException {
+        if (models == null) {
+            return;
+        }
+        generator.writeArrayFieldStart(propertyName);
+        for (Object model : models) {
+            writeValue(generator, model);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes a map of strings to the generator.
+     * 
+     * @param generator the json generator
+     * @param models map of strings
+     * @param propertyName name of the node
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeStringMap(JsonGenerator generator, Map<String, String> models, String propertyName)
+            throws IOException {
+        if (models == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(propertyName);
+        for (Map.Entry<String, String> entry : models.entrySet()) {
+            generator.writeStringField(entry.getKey(), entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Write an object to the generator
+     * 
+     * @param generator the json generator
+     * @param key key
+     * @param value value
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeObject(JsonGenerator generator, String key, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        generator.writeFieldName(key);
+        writeValue(generator, value);
+    }
+
+    /**
+     * Writes a single value to the generator, using the same conversions as
+     * {@link #addObject(ArrayNode, Object)} so that both outputs are identical.
+     * 
+     * @param generator
+     * @param value
+     * @throws IOException
+     */
+    private static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        if (value instanceof String) {
+            generator.writeString((String) value);
+        } else if (value instanceof JsonNode) {
+            generator.writeTree((JsonNode) value);
+        } else if (value instanceof BigDecimal) {
+            generator.writeNumber(JsonUtil.normalizeDecimal((BigDecimal) value));
+        } else if (value instanceof BigInteger) {
+            generator.writeNumber(JsonUtil.normalizeDecimal(new BigDecimal((BigInteger) value)));
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            generator.writeNumber((Double) value);
+        } else if (value instanceof Float) {
+            generator.writeNumber((Float) value);
+        } else if (value instanceof Integer) {
+            generator.writeNumber((Integer) value);
+        } else if (value instanceof Long) {
+            generator.writeNumber((Long) value);
+        } else if (value instanceof List) {
+            generator.writeStartArray();
+            for (Object valueItem : List.class.cast(value)) {
+                writeValue(generator, valueItem);
+            }
+            generator.writeEndArray();
+        } else if (value instanceof Map) {
+            generator.writeStartObject();
+            @SuppressWarnings("unchecked")
+            Map<String, Object> values = (Map<String, Object>) value;
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                writeObject(generator, entry.getKey(), entry.getValue());
+            }
+            generator.writeEndObject();
+        } else {
+            generator.writeNull();
+        }
+    }
 }
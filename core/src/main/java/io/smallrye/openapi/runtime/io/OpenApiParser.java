@@ -8,10 +8,12 @@ import java.net.URL;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.media.Schema;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
+import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
 import io.smallrye.openapi.runtime.io.schema.SchemaReader;
@@ -67,12 +69,37 @@ public class OpenApiParser {
      * @throws IOException Errors in reading the stream
      */
     public static final OpenAPI parse(InputStream stream, Format format) throws IOException {
+        return parse(stream, format, null);
+    }
+
+    /**
+     * Parses the resource found at the given stream. The format of the stream must
+     * be specified. When the streaming parser is enabled in the given config, the
+     * document is read token by token and the paths and components are materialized
+     * one entry at a time instead of building the tree of the whole document first.
+     * When the lazy parser is enabled, path items, component schemas and component
+     * examples are additionally kept in their raw form until they are first accessed.
+     * 
+     * @param stream InputStream containing an OpenAPI document
+     * @param format Format of the stream
+     * @param config OpenApiConfig, may be null
+     * @return OpenAPIImpl parsed from the stream
+     * @throws IOException Errors in reading the stream
+     */
+    public static final OpenAPI parse(InputStream stream, Format format, OpenApiConfig config) throws IOException {
         ObjectMapper mapper;
         if (format == Format.JSON) {
             mapper = new ObjectMapper();
         } else {
             mapper = new ObjectMapper(new YAMLFactory());
         }
+
+        if (config != null && (config.streamingParserEnable() || config.lazyParserEnable())) {
+            try (JsonParser parser = mapper.createParser(stream)) {
+                return new OpenApiStreamingParser(parser, config.lazyParserEnable()).parse();
+            }
+        }
+
         JsonNode tree = mapper.readTree(stream);
 
         OpenApiParser parser = new OpenApiParser(tree);
@@ -1,16 +1,24 @@
 package io.smallrye.openapi.runtime.io;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 
 import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
+import io.smallrye.openapi.runtime.util.JfrEvents;
 
 /**
  * Class used to serialize an OpenAPI
@@ -19,6 +27,17 @@ import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
  */
 public class OpenApiSerializer {
 
+    private static final com.fasterxml.jackson.databind.ObjectWriter JSON_WRITER = new ObjectMapper()
+            .writerWithDefaultPrettyPrinter();
+    private static final com.fasterxml.jackson.databind.ObjectWriter YAML_WRITER;
+
+    static {
+        YAMLFactory factory = new YAMLFactory();
+        factory.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
+        factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
+        YAML_WRITER = new ObjectMapper(factory).writer();
+    }
+
     private OpenApiSerializer() {
     }
 
@@ -31,24 +50,98 @@ public class OpenApiSerializer {
      * @throws IOException Errors in processing the JSON
      */
     public static final String serialize(OpenAPI openApi, Format format) throws IOException {
+        StringWriter writer = new StringWriter();
+        serialize(openApi, writer, format);
+        return writer.toString();
+    }
+
+    /**
+     * Serializes the given OpenAPI object into either JSON or YAML and writes it to
+     * the given writer. The writer is flushed but not closed.
+     * 
+     * @param openApi the OpenAPI object
+     * @param writer the target of the serialized document
+     * @param format the serialization format
+     * @throws IOException Errors in processing the JSON or writing to the writer
+     */
+    public static final void serialize(OpenAPI openApi, Writer writer, Format format) throws IOException {
+        try (JfrEvents.Span span = JfrEvents.serialize(format)) {
+            write(openApi, writerFor(format).createGenerator(writer));
+        }
+    }
 
-        try {
-            ObjectNode tree = JsonUtil.objectNode();
-            DefinitionWriter.writeOpenAPI(tree, openApi);
-
-            ObjectMapper mapper;
-            if (format == Format.JSON) {
-                mapper = new ObjectMapper();
-                return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(tree);
-            } else {
-                YAMLFactory factory = new YAMLFactory();
-                factory.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
-                factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
-                mapper = new ObjectMapper(factory);
-                return mapper.writer().writeValueAsString(tree);
-            }
-        } catch (JsonProcessingException e) {
-            throw new IOException(e);
+    /**
+     * Serializes the given OpenAPI object into either JSON or YAML and writes it to
+     * the given stream using UTF-8 encoding. The document is encoded directly into
+     * Jackson's recycled output buffers, without creating an intermediate String.
+     * The stream is flushed but not closed.
+     * 
+     * @param openApi the OpenAPI object
+     * @param stream the target of the serialized document
+     * @param format the serialization format
+     * @throws IOException Errors in processing the JSON or writing to the stream
+     */
+    public static final void serialize(OpenAPI openApi, OutputStream stream, Format format) throws IOException {
+        try (JfrEvents.Span span = JfrEvents.serialize(format)) {
+            write(openApi, writerFor(format).createGenerator(stream, JsonEncoding.UTF8));
+        }
+    }
+
+    /**
+     * Serializes the given OpenAPI object into either JSON or YAML and writes it to
+     * the given channel using UTF-8 encoding. The channel is not closed. A channel
+     * in non-blocking mode is not supported.
+     * 
+     * @param openApi the OpenAPI object
+     * @param channel the target of the serialized document
+     * @param format the serialization format
+     * @throws IOException Errors in processing the JSON or writing to the channel
+     */
+    public static final void serialize(OpenAPI openApi, WritableByteChannel channel, Format format) throws IOException {
+        serialize(openApi, Channels.newOutputStream(channel), format);
+    }
+
+    /**
+     * Serializes the given OpenAPI object into either JSON or YAML and puts it into
+     * the given buffer using UTF-8 encoding, starting at the buffer's current position.
+     * On return, the position of the buffer has been advanced past the document.
+     * 
+     * @param openApi the OpenAPI object
+     * @param buffer the target of the serialized document
+     * @param format the serialization format
+     * @throws IOException Errors in processing the JSON
+     * @throws java.nio.BufferOverflowException if the document does not fit in the remaining space of the buffer
+     */
+    public static final void serialize(OpenAPI openApi, ByteBuffer buffer, Format format) throws IOException {
+        serialize(openApi, new ByteBufferBackedOutputStream(buffer), format);
+    }
+
+    /**
+     * Creates a {@link JsonGenerator} for the given format, configured the same
+     * way the serializer configures its own output (pretty-printed JSON, or YAML
+     * with minimized quotes). The caller is responsible for closing the generator.
+     * 
+     * @param writer the target of the generated output
+     * @param format the serialization format
+     * @return a new generator writing to the writer
+     * @throws IOException Errors creating the generator
+     */
+    public static JsonGenerator createGenerator(Writer writer, Format format) throws IOException {
+        return writerFor(format).createGenerator(writer);
+    }
+
+    private static com.fasterxml.jackson.databind.ObjectWriter writerFor(Format format) {
+        return format == Format.JSON ? JSON_WRITER : YAML_WRITER;
+    }
+
+    /**
+     * Writes the document to the generator and closes it, leaving the generator's
+     * target open for the caller.
+     */
+    private static void write(OpenAPI openApi, JsonGenerator generator) throws IOException {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try (JsonGenerator g = generator) {
+            DefinitionWriter.writeOpenAPI(g, openApi);
         }
     }
 
@@ -0,0 +1,357 @@
+package io.smallrye.openapi.runtime.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
+import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
+
+/**
+ * A compact binary snapshot of the models produced at build time from the static
+ * file and from annotation scanning. Loading a snapshot at startup replaces both
+ * parsing the static file and scanning the index, while the remaining phases
+ * (model reader, filters and defaults) are still applied as usual.
+ * <p>
+ * The format is a header followed by a table of all strings (property names and
+ * textual values, each stored once) and the Json structure of each model, in
+ * which strings are referenced by their position in the table.
+ * <p>
+ * Loading decodes the structure into a Json tree that is then read into a model by
+ * {@link DefinitionReader}, as when parsing the static file: a snapshot saves the
+ * text parsing and the scan, not the tree. Decoding straight into the models would
+ * require a reader for each model type working on the snapshot format.
+ */
+public class OpenApiSnapshot {
+
+    /**
+     * Location of a snapshot within an application archive.
+     */
+    public static final String RESOURCE_NAME = "META-INF/openapi.snapshot";
+
+    private static final byte[] MAGIC = { 'O', 'A', 'S', 'S' };
+    private static final int VERSION = 1;
+
+    private static final int NO_MODEL = 0;
+    private static final int MODEL = 1;
+
+    private static final int NULL = 0;
+    private static final int TRUE = 1;
+    private static final int FALSE = 2;
+    private static final int INT = 3;
+    private static final int LONG = 4;
+    private static final int BIG_INTEGER = 5;
+    private static final int FLOAT = 6;
+    private static final int DOUBLE = 7;
+    private static final int BIG_DECIMAL = 8;
+    private static final int STRING = 9;
+    private static final int BINARY = 10;
+    private static final int OBJECT = 11;
+    private static final int ARRAY = 12;
+
+    private final OpenAPI staticModel;
+    private final OpenAPI annotationsModel;
+
+    public OpenApiSnapshot(OpenAPI staticModel, OpenAPI annotationsModel) {
+        this.staticModel = staticModel;
+        this.annotationsModel = annotationsModel;
+    }
+
+    /**
+     * @return the model read from the static file, or null if there was none
+     */
+    public OpenAPI getStaticModel() {
+        return staticModel;
+    }
+
+    /**
+     * @return the model created by scanning annotations, or null if scanning was disabled
+     */
+    public OpenAPI getAnnotationsModel() {
+        return annotationsModel;
+    }
+
+    /**
+     * Writes the snapshot to the stream. The stream is not closed.
+     *
+     * @param stream the target stream
+     * @throws IOException Errors writing to the stream
+     */
+    public void write(OutputStream stream) throws IOException {
+        Encoder encoder = new Encoder();
+        encoder.writeModel(staticModel);
+        encoder.writeModel(annotationsModel);
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        writeVarInt(out, encoder.strings.size());
+        for (String value : encoder.strings) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+        encoder.body.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Reads a snapshot from the stream. The stream is not closed.
+     *
+     * @param stream the source stream
+     * @return the snapshot
+     * @throws IOException Errors reading from the stream, or the stream does not contain a snapshot
+     */
+    public static OpenApiSnapshot read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        int version = in.readUnsignedByte();
+
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic[i] != MAGIC[i]) {
+                throw IoMessages.msg.invalidSnapshot();
+            }
+        }
+        if (version != VERSION) {
+            throw IoMessages.msg.unsupportedSnapshotVersion(version);
+        }
+
+        String[] strings = new String[readVarInt(in)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readVarInt(in)];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        Decoder decoder = new Decoder(in, strings);
+        OpenAPI staticModel = decoder.readModel();
+        OpenAPI annotationsModel = decoder.readModel();
+        return new OpenApiSnapshot(staticModel, annotationsModel);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw IoMessages.msg.invalidSnapshot();
+    }
+
+    /**
+     * Writes the Json structure of the models, collecting the string table on the way.
+     */
+    private static class Encoder {
+        final List<String> strings = new ArrayList<>();
+        final Map<String, Integer> stringIndex = new HashMap<>();
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(body);
+
+        void writeModel(OpenAPI model) throws IOException {
+            if (model == null) {
+                out.writeByte(NO_MODEL);
+                return;
+            }
+            ObjectNode root = JsonUtil.objectNode();
+            DefinitionWriter.writeOpenAPI(root, model);
+            out.writeByte(MODEL);
+            writeNode(root);
+        }
+
+        void writeString(String value) throws IOException {
+            Integer index = stringIndex.get(value);
+            if (index == null) {
+                index = strings.size();
+                strings.add(value);
+                stringIndex.put(value, index);
+            }
+            writeVarInt(out, index);
+        }
+
+        void writeNode(JsonNode node) throws IOException {
+            switch (node.getNodeType()) {
+                case OBJECT:
+                    out.writeByte(OBJECT);
+                    writeVarInt(out, node.size());
+                    for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext();) {
+                        Map.Entry<String, JsonNode> field = fields.next();
+                        writeString(field.getKey());
+                        writeNode(field.getValue());
+                    }
+                    break;
+                case ARRAY:
+                    out.writeByte(ARRAY);
+                    writeVarInt(out, node.size());
+                    for (JsonNode element : node) {
+                        writeNode(element);
+                    }
+                    break;
+                case BOOLEAN:
+                    out.writeByte(node.booleanValue() ? TRUE : FALSE);
+                    break;
+                case NUMBER:
+                    writeNumber(node);
+                    break;
+                case STRING:
+                    out.writeByte(STRING);
+                    writeString(node.textValue());
+                    break;
+                case BINARY:
+                    byte[] bytes = node.binaryValue();
+                    out.writeByte(BINARY);
+                    writeVarInt(out, bytes.length);
+                    out.write(bytes);
+                    break;
+                case POJO:
+                    out.writeByte(STRING);
+                    writeString(node.asText());
+                    break;
+                default:
+                    out.writeByte(NULL);
+                    break;
+            }
+        }
+
+        void writeNumber(JsonNode node) throws IOException {
+            switch (node.numberType()) {
+                case INT:
+                    out.writeByte(INT);
+                    out.writeInt(node.intValue());
+                    break;
+                case LONG:
+                    out.writeByte(LONG);
+                    out.writeLong(node.longValue());
+                    break;
+                case BIG_INTEGER:
+                    out.writeByte(BIG_INTEGER);
+                    writeString(node.bigIntegerValue().toString());
+                    break;
+                case FLOAT:
+                    out.writeByte(FLOAT);
+                    out.writeFloat(node.floatValue());
+                    break;
+                case DOUBLE:
+                    out.writeByte(DOUBLE);
+                    out.writeDouble(node.doubleValue());
+                    break;
+                default:
+                    out.writeByte(BIG_DECIMAL);
+                    writeString(node.decimalValue().toString());
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the Json structure of the models and reads them.
+     */
+    private static class Decoder {
+        final DataInputStream in;
+        final String[] strings;
+        final JsonNodeFactory factory = JsonNodeFactory.instance;
+
+        Decoder(DataInputStream in, String[] strings) {
+            this.in = in;
+            this.strings = strings;
+        }
+
+        OpenAPI readModel() throws IOException {
+            int marker = in.readUnsignedByte();
+            if (marker == NO_MODEL) {
+                return null;
+            }
+            if (marker != MODEL) {
+                throw IoMessages.msg.invalidSnapshot();
+            }
+            OpenAPI model = new OpenAPIImpl();
+            DefinitionReader.processDefinition(model, readNode());
+            return model;
+        }
+
+        String readString() throws IOException {
+            int index = readVarInt(in);
+            if (index < 0 || index >= strings.length) {
+                throw IoMessages.msg.invalidSnapshot();
+            }
+            return strings[index];
+        }
+
+        JsonNode readNode() throws IOException {
+            int type = in.readUnsignedByte();
+            switch (type) {
+                case NULL:
+                    return factory.nullNode();
+                case TRUE:
+                    return factory.booleanNode(true);
+                case FALSE:
+                    return factory.booleanNode(false);
+                case INT:
+                    return factory.numberNode(in.readInt());
+                case LONG:
+                    return factory.numberNode(in.readLong());
+                case BIG_INTEGER:
+                    return factory.numberNode(new BigInteger(readString()));
+                case FLOAT:
+                    return factory.numberNode(in.readFloat());
+                case DOUBLE:
+                    return factory.numberNode(in.readDouble());
+                case BIG_DECIMAL:
+                    return factory.numberNode(new BigDecimal(readString()));
+                case STRING:
+                    return factory.textNode(readString());
+                case BINARY:
+                    byte[] bytes = new byte[readVarInt(in)];
+                    in.readFully(bytes);
+                    return factory.binaryNode(bytes);
+                case OBJECT:
+                    ObjectNode object = factory.objectNode();
+                    for (int i = readVarInt(in); i > 0; i--) {
+                        String name = readString();
+                        object.set(name, readNode());
+                    }
+                    return object;
+                case ARRAY:
+                    ArrayNode array = factory.arrayNode();
+                    for (int i = readVarInt(in); i > 0; i--) {
+                        array.add(readNode());
+                    }
+                    return array;
+                default:
+                    throw IoMessages.msg.invalidSnapshot();
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package io.smallrye.openapi.runtime.io;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.api.models.LazyModelMap;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.PathsImpl;
+import io.smallrye.openapi.runtime.io.callback.CallbackReader;
+import io.smallrye.openapi.runtime.io.components.ComponentsConstant;
+import io.smallrye.openapi.runtime.io.components.ComponentsReader;
+import io.smallrye.openapi.runtime.io.definition.DefinitionConstant;
+import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
+import io.smallrye.openapi.runtime.io.example.ExampleReader;
+import io.smallrye.openapi.runtime.io.extension.ExtensionConstant;
+import io.smallrye.openapi.runtime.io.extension.ExtensionReader;
+import io.smallrye.openapi.runtime.io.header.HeaderReader;
+import io.smallrye.openapi.runtime.io.link.LinkReader;
+import io.smallrye.openapi.runtime.io.parameter.ParameterReader;
+import io.smallrye.openapi.runtime.io.paths.PathsReader;
+import io.smallrye.openapi.runtime.io.requestbody.RequestBodyReader;
+import io.smallrye.openapi.runtime.io.response.ResponseReader;
+import io.smallrye.openapi.runtime.io.schema.SchemaReader;
+import io.smallrye.openapi.runtime.io.securityscheme.SecuritySchemeReader;
+
+/**
+ * A class used to parse an OpenAPI document from a stream of Json tokens into a
+ * Microprofile OpenAPI model tree. The paths and the components are consumed entry
+ * by entry, so that only the Json subtree of a single path item or component is held
+ * in memory at any time rather than the tree of the complete document. Each subtree
+ * is handed to the same node readers used by {@link OpenApiParser}.
+ * <p>
+ * This only bounds the peak size of the Json tree held while parsing: a tree is still
+ * built for every path item and component before it is read into a model, so the
+ * total number of nodes allocated is the same as with {@link OpenApiParser}. Reading
+ * the models straight from the tokens would require token-based variants of all the
+ * node readers.
+ * <p>
+ * This is kept apart from the node readers, which are also used by the annotation
+ * scanners, so that those never need to link the Jackson streaming types.
+ */
+public class OpenApiStreamingParser {
+
+    private final JsonParser parser;
+    private final boolean lazy;
+
+    /**
+     * Constructor.
+     *
+     * @param parser the Json parser, not yet positioned on the first token
+     * @param lazy whether to keep path items, component schemas and component examples
+     *        in their raw form until they are first accessed
+     */
+    public OpenApiStreamingParser(JsonParser parser, boolean lazy) {
+        this.parser = parser;
+        this.lazy = lazy;
+    }
+
+    /**
+     * Parses the stream of Json tokens into an OpenAPI data model.
+     *
+     * @return OpenAPIImpl parsed from the stream
+     * @throws IOException Errors reading from the parser
+     */
+    public OpenAPI parse() throws IOException {
+        OpenAPI oai = new OpenAPIImpl();
+        if (parser.nextToken() != null) {
+            readDefinition(oai);
+        }
+        return oai;
+    }
+
+    /**
+     * Reads a OpenAPIDefinition, the parser positioned on its first token.
+     *
+     * @param openApi the OpenAPI model
+     * @throws IOException Errors reading from the parser
+     */
+    private void readDefinition(final OpenAPI openApi) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            JsonNode node = parser.readValueAsTree();
+            if (node != null) {
+                DefinitionReader.processDefinition(openApi, node);
+            }
+            return;
+        }
+
+        // Everything besides the paths and components is small, collect it and use the tree reader
+        ObjectNode node = JsonUtil.objectNode();
+        Paths paths = null;
+        Components components = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+
+            if (DefinitionConstant.PROP_PATHS.equals(fieldName)) {
+                paths = readPaths();
+            } else if (DefinitionConstant.PROP_COMPONENTS.equals(fieldName)) {
+                components = readComponents();
+            } else {
+                node.set(fieldName, parser.readValueAsTree());
+            }
+        }
+
+        DefinitionReader.processDefinition(openApi, node);
+        openApi.setPaths(paths);
+        openApi.setComponents(components);
+    }
+
+    /**
+     * Reads the {@link Paths} OpenAPI object one path item at a time. In lazy mode,
+     * path items are only kept in their raw form and converted to a model when they
+     * are first accessed.
+     *
+     * @return Paths model
+     * @throws IOException Errors reading from the parser
+     */
+    private Paths readPaths() throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return PathsReader.readPaths((JsonNode) parser.readValueAsTree());
+        }
+        Paths paths = new PathsImpl();
+        LazyModelMap<PathItem> pathItems = lazy ? new LazyModelMap<>() : null;
+        ObjectNode extensions = JsonUtil.objectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (ExtensionConstant.isExtensionField(fieldName)) {
+                extensions.set(fieldName, parser.readValueAsTree());
+            } else if (lazy) {
+                pathItems.putLazy(fieldName, JsonUtil.readLazy(parser, PathsReader::readPathItem));
+            } else {
+                paths.addPathItem(fieldName, PathsReader.readPathItem((JsonNode) parser.readValueAsTree()));
+            }
+        }
+        if (lazy && !pathItems.isEmpty()) {
+            paths.setPathItems(pathItems);
+        }
+        ExtensionReader.readExtensions(extensions, paths);
+        return paths;
+    }
+
+    /**
+     * Reads the {@link Components} OpenAPI object. Each entry of the component maps is
+     * read and converted to a model individually. In lazy mode, schemas and examples are
+     * only kept in their raw form and converted to a model when they are first accessed.
+     *
+     * @return Components model
+     * @throws IOException Errors reading from the parser
+     */
+    private Components readComponents() throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return ComponentsReader.readComponents((JsonNode) parser.readValueAsTree());
+        }
+        IoLogging.logger.singleJsonNode("Components");
+        Components components = new ComponentsImpl();
+        ObjectNode extensions = JsonUtil.objectNode();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+
+            if (token != JsonToken.START_OBJECT) {
+                // Not a component map, keep it in case it is an extension
+                extensions.set(fieldName, parser.readValueAsTree());
+                continue;
+            }
+
+            switch (fieldName) {
+                case ComponentsConstant.PROP_CALLBACKS:
+                    components.setCallbacks(readMap(CallbackReader::readCallback, false));
+                    break;
+                case ComponentsConstant.PROP_EXAMPLES:
+                    components.setExamples(readMap(ExampleReader::readExample, lazy));
+                    break;
+                case ComponentsConstant.PROP_HEADERS:
+                    components.setHeaders(readMap(HeaderReader::readHeader, false));
+                    break;
+                case ComponentsConstant.PROP_LINKS:
+                    components.setLinks(readMap(LinkReader::readLink, false));
+                    break;
+                case ComponentsConstant.PROP_PARAMETERS:
+                    components.setParameters(readMap(ParameterReader::readParameter, false));
+                    break;
+                case ComponentsConstant.PROP_REQUEST_BODIES:
+                    components.setRequestBodies(readMap(RequestBodyReader::readRequestBody, false));
+                    break;
+                case ComponentsConstant.PROP_RESPONSES:
+                    components.setResponses(readMap(ResponseReader::readResponse, false));
+                    break;
+                case ComponentsConstant.PROP_SCHEMAS:
+                    components.setSchemas(readMap(SchemaReader::readSchema, lazy));
+                    break;
+                case ComponentsConstant.PROP_SECURITY_SCHEMES:
+                    components.setSecuritySchemes(readMap(SecuritySchemeReader::readSecurityScheme, false));
+                    break;
+                default:
+                    extensions.set(fieldName, parser.readValueAsTree());
+                    break;
+            }
+        }
+
+        ExtensionReader.readExtensions(extensions, components);
+        return components;
+    }
+
+    /**
+     * Reads a map of component entries, converting the Json subtree of each entry
+     * with the given reader either as soon as it has been read or, when deferred,
+     * when the entry is first accessed.
+     *
+     * @param entryReader converts the Json node of an entry into a model
+     * @param deferred whether to defer reading the entries
+     * @return map of the models read
+     * @throws IOException Errors reading from the parser
+     */
+    private <T> Map<String, T> readMap(Function<JsonNode, T> entryReader, boolean deferred) throws IOException {
+        if (deferred) {
+            LazyModelMap<T> models = new LazyModelMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                models.putLazy(fieldName, JsonUtil.readLazy(parser, entryReader));
+            }
+            return models;
+        }
+        Map<String, T> models = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            models.put(fieldName, entryReader.apply(parser.readValueAsTree()));
+        }
+        return models;
+    }
+}
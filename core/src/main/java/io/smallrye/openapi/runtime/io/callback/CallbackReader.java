@@ -119,7 +119,7 @@ public class CallbackReader {
      * @param node the json node
      * @return Callback model
      */
-    private static Callback readCallback(final JsonNode node) {
+    public static Callback readCallback(final JsonNode node) {
         if (node == null || !node.isObject()) {
             return null;
         }
@@ -1,11 +1,13 @@
 package io.smallrye.openapi.runtime.io.callback;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.callbacks.Callback;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -71,4 +73,50 @@ public class CallbackWriter {
             ExtensionWriter.writeExtensions(node, model);
         }
     }
+
+    /**
+     * Writes a map of {@link Callback} to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param callbacks map of callbacks
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeCallbacks(JsonGenerator generator, Map<String, Callback> callbacks) throws IOException {
+        if (callbacks == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_CALLBACKS);
+        for (Map.Entry<String, Callback> entry : callbacks.entrySet()) {
+            writeCallback(generator, entry.getValue(), entry.getKey());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a {@link Callback} object to the JSON generator.
+     * 
+     * @param generator
+     * @param model
+     * @param name
+     * @throws IOException
+     */
+    private static void writeCallback(JsonGenerator generator, Callback model, String name) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(name);
+
+        if (StringUtil.isNotEmpty(model.getRef())) {
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        } else {
+            if (model.getPathItems() != null) {
+                for (Map.Entry<String, PathItem> entry : model.getPathItems().entrySet()) {
+                    PathsWriter.writePathItem(generator, entry.getValue(), entry.getKey());
+                }
+            }
+
+            ExtensionWriter.writeExtensions(generator, model);
+        }
+        generator.writeEndObject();
+    }
 }
@@ -1,7 +1,10 @@
 package io.smallrye.openapi.runtime.io.components;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.Components;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.callback.CallbackWriter;
@@ -52,4 +55,29 @@ public class ComponentsWriter {
         CallbackWriter.writeCallbacks(node, components.getCallbacks());
         ExtensionWriter.writeExtensions(node, components);
     }
+
+    /**
+     * Writes a {@link Components} to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param components the components model
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeComponents(JsonGenerator generator, Components components) throws IOException {
+        if (components == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(DefinitionConstant.PROP_COMPONENTS);
+        SchemaWriter.writeSchemas(generator, components.getSchemas());
+        ResponseWriter.writeAPIResponses(generator, components.getResponses());
+        ParameterWriter.writeParameters(generator, components.getParameters());
+        ExampleWriter.writeExamples(generator, components.getExamples());
+        RequestBodyWriter.writeRequestBodies(generator, components.getRequestBodies());
+        HeaderWriter.writeHeaders(generator, components.getHeaders());
+        SecuritySchemeWriter.writeSecuritySchemes(generator, components.getSecuritySchemes());
+        LinkWriter.writeLinks(generator, components.getLinks());
+        CallbackWriter.writeCallbacks(generator, components.getCallbacks());
+        ExtensionWriter.writeExtensions(generator, components);
+        generator.writeEndObject();
+    }
 }
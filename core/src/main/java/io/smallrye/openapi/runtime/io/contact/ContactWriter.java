@@ -1,7 +1,10 @@
 package io.smallrye.openapi.runtime.io.contact;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.info.Contact;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -40,4 +43,22 @@ public class ContactWriter {
         ExtensionWriter.writeExtensions(node, model);
     }
 
+    /**
+     * Writes the {@link Contact} model to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param model the Contact model
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeContact(JsonGenerator generator, Contact model) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(InfoConstant.PROP_CONTACT);
+        JsonUtil.stringProperty(generator, ContactConstant.PROP_NAME, model.getName());
+        JsonUtil.stringProperty(generator, ContactConstant.PROP_URL, model.getUrl());
+        JsonUtil.stringProperty(generator, ContactConstant.PROP_EMAIL, model.getEmail());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
@@ -1,11 +1,13 @@
 package io.smallrye.openapi.runtime.io.content;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.media.Content;
 import org.eclipse.microprofile.openapi.models.media.MediaType;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.mediatype.MediaTypeWriter;
@@ -40,4 +42,23 @@ public class ContentWriter {
         }
     }
 
+    /**
+     * Writes a {@link Content} to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param model the Content model
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeContent(JsonGenerator generator, Content model) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ContentConstant.PROP_CONTENT);
+        if (model.getMediaTypes() != null) {
+            for (Map.Entry<String, MediaType> entry : model.getMediaTypes().entrySet()) {
+                MediaTypeWriter.writeMediaType(generator, entry.getValue(), entry.getKey());
+            }
+        }
+        generator.writeEndObject();
+    }
 }
@@ -1,7 +1,10 @@
 package io.smallrye.openapi.runtime.io.definition;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -45,4 +48,24 @@ public class DefinitionWriter {
         ExtensionWriter.writeExtensions(node, model);
     }
 
+    /**
+     * Writes the given model to the generator as a complete JSON object.
+     * 
+     * @param generator the json generator
+     * @param model the OpenAPI model
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeOpenAPI(JsonGenerator generator, OpenAPI model) throws IOException {
+        generator.writeStartObject();
+        JsonUtil.stringProperty(generator, DefinitionConstant.PROP_OPENAPI, model.getOpenapi());
+        InfoWriter.writeInfo(generator, model.getInfo());
+        ExternalDocsWriter.writeExternalDocumentation(generator, model.getExternalDocs());
+        ServerWriter.writeServers(generator, model.getServers());
+        SecurityRequirementWriter.writeSecurityRequirements(generator, model.getSecurity());
+        TagWriter.writeTags(generator, model.getTags());
+        PathsWriter.writePaths(generator, model.getPaths());
+        ComponentsWriter.writeComponents(generator, model.getComponents());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
@@ -1,9 +1,11 @@
 package io.smallrye.openapi.runtime.io.encoding;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.media.Encoding;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -58,4 +60,44 @@ public class EncodingWriter {
         JsonUtil.booleanProperty(node, EncodingConstant.PROP_ALLOW_RESERVED, model.getAllowReserved());
         ExtensionWriter.writeExtensions(node, model);
     }
+
+    /**
+     * Writes a map of {@link Encoding} objects to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param models map of Encoding models
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeEncodings(JsonGenerator generator, Map<String, Encoding> models) throws IOException {
+        if (models == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(EncodingConstant.PROP_ENCODING);
+        for (Map.Entry<String, Encoding> entry : models.entrySet()) {
+            writeEncoding(generator, entry.getValue(), entry.getKey());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a {@link Encoding} object to the JSON generator.
+     * 
+     * @param generator
+     * @param model
+     * @param name
+     * @throws IOException
+     */
+    private static void writeEncoding(JsonGenerator generator, Encoding model, String name) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(name);
+        JsonUtil.stringProperty(generator, EncodingConstant.PROP_CONTENT_TYPE, model.getContentType());
+        HeaderWriter.writeHeaders(generator, model.getHeaders());
+        JsonUtil.enumProperty(generator, EncodingConstant.PROP_STYLE, model.getStyle());
+        JsonUtil.booleanProperty(generator, EncodingConstant.PROP_EXPLODE, model.getExplode());
+        JsonUtil.booleanProperty(generator, EncodingConstant.PROP_ALLOW_RESERVED, model.getAllowReserved());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
@@ -1,7 +1,10 @@
 package io.smallrye.openapi.runtime.io.externaldocs;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -37,4 +40,22 @@ public class ExternalDocsWriter {
         JsonUtil.stringProperty(node, ExternalDocsConstant.PROP_URL, model.getUrl());
         ExtensionWriter.writeExtensions(node, model);
     }
+
+    /**
+     * Writes the {@link ExternalDocumentation} model to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param model the ExternalDocumentation model
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeExternalDocumentation(JsonGenerator generator, ExternalDocumentation model) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ExternalDocsConstant.PROP_EXTERNAL_DOCS);
+        JsonUtil.stringProperty(generator, ExternalDocsConstant.PROP_DESCRIPTION, model.getDescription());
+        JsonUtil.stringProperty(generator, ExternalDocsConstant.PROP_URL, model.getUrl());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
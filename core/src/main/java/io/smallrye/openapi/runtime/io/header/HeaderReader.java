@@ -111,9 +111,10 @@ public class HeaderReader {
     /**
      * Reads a {@link Header} OpenAPI node.
      * 
-     * @param node
+     * @param node the json node
+     * @return Header model
      */
-    private static Header readHeader(final JsonNode node) {
+    public static Header readHeader(final JsonNode node) {
         if (node == null || !node.isObject()) {
             return null;
         }
@@ -1,7 +1,10 @@
 package io.smallrye.openapi.runtime.io.info;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.info.Info;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -43,4 +46,26 @@ public class InfoWriter {
         JsonUtil.stringProperty(node, InfoConstant.PROP_VERSION, model.getVersion());
         ExtensionWriter.writeExtensions(node, model);
     }
+
+    /**
+     * Writes the {@link Info} model to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param model the Info model
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeInfo(JsonGenerator generator, Info model) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(DefinitionConstant.PROP_INFO);
+        JsonUtil.stringProperty(generator, InfoConstant.PROP_TITLE, model.getTitle());
+        JsonUtil.stringProperty(generator, InfoConstant.PROP_DESCRIPTION, model.getDescription());
+        JsonUtil.stringProperty(generator, InfoConstant.PROP_TERMS_OF_SERVICE, model.getTermsOfService());
+        ContactWriter.writeContact(generator, model.getContact());
+        LicenseWriter.writeLicense(generator, model.getLicense());
+        JsonUtil.stringProperty(generator, InfoConstant.PROP_VERSION, model.getVersion());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
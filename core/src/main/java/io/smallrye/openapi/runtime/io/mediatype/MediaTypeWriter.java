@@ -1,7 +1,10 @@
 package io.smallrye.openapi.runtime.io.mediatype;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.media.MediaType;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.ObjectWriter;
@@ -42,4 +45,24 @@ public class MediaTypeWriter {
         ExtensionWriter.writeExtensions(node, model);
     }
 
+    /**
+     * Writes a {@link MediaType} to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param model the MediaType model
+     * @param name name of the node
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeMediaType(JsonGenerator generator, MediaType model, String name) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(name);
+        SchemaWriter.writeSchema(generator, model.getSchema(), MediaTypeConstant.PROP_SCHEMA);
+        ObjectWriter.writeObject(generator, MediaTypeConstant.PROP_EXAMPLE, model.getExample());
+        ExampleWriter.writeExamples(generator, model.getExamples());
+        EncodingWriter.writeEncodings(generator, model.getEncoding());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
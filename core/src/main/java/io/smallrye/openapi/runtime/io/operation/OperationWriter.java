@@ -1,7 +1,10 @@
 package io.smallrye.openapi.runtime.io.operation;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.Operation;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -55,4 +58,32 @@ public class OperationWriter {
         ExtensionWriter.writeExtensions(node, model);
     }
 
+    /**
+     * Writes a {@link Operation} to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param model the Operation model
+     * @param method the name of the node (operation method)
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeOperation(JsonGenerator generator, Operation model, String method) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(method);
+        ObjectWriter.writeStringArray(generator, model.getTags(), OperationConstant.PROP_TAGS);
+        JsonUtil.stringProperty(generator, OperationConstant.PROP_SUMMARY, model.getSummary());
+        JsonUtil.stringProperty(generator, OperationConstant.PROP_DESCRIPTION, model.getDescription());
+        ExternalDocsWriter.writeExternalDocumentation(generator, model.getExternalDocs());
+        JsonUtil.stringProperty(generator, OperationConstant.PROP_OPERATION_ID, model.getOperationId());
+        ParameterWriter.writeParameterList(generator, model.getParameters());
+        RequestBodyWriter.writeRequestBody(generator, model.getRequestBody());
+        ResponseWriter.writeAPIResponses(generator, model.getResponses());
+        CallbackWriter.writeCallbacks(generator, model.getCallbacks());
+        JsonUtil.booleanProperty(generator, OperationConstant.PROP_DEPRECATED, model.getDeprecated());
+        SecurityRequirementWriter.writeSecurityRequirements(generator, model.getSecurity());
+        ServerWriter.writeServers(generator, model.getServers());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
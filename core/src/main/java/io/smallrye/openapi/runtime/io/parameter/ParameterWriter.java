@@ -1,10 +1,12 @@
 package io.smallrye.openapi.runtime.io.parameter;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -108,4 +110,74 @@ public class ParameterWriter {
         }
     }
 
+    /**
+     * Writes a map of {@link Parameter} to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param parameters map of Parameter models
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeParameters(JsonGenerator generator, Map<String, Parameter> parameters) throws IOException {
+        if (parameters == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_PARAMETERS);
+        for (Map.Entry<String, Parameter> entry : parameters.entrySet()) {
+            Parameter model = entry.getValue();
+            if (model != null) {
+                generator.writeObjectFieldStart(entry.getKey());
+                writeParameter(generator, model);
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a list of {@link Parameter} to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param models list of Parameter models
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeParameterList(JsonGenerator generator, List<Parameter> models) throws IOException {
+        if (models == null) {
+            return;
+        }
+        generator.writeArrayFieldStart(ComponentsConstant.PROP_PARAMETERS);
+        for (Parameter model : models) {
+            generator.writeStartObject();
+            writeParameter(generator, model);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes the properties of a {@link Parameter} into the current JSON object.
+     * 
+     * @param generator
+     * @param model
+     * @throws IOException
+     */
+    private static void writeParameter(JsonGenerator generator, Parameter model) throws IOException {
+        if (StringUtil.isNotEmpty(model.getRef())) {
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        } else {
+            JsonUtil.stringProperty(generator, Parameterizable.PROP_NAME, model.getName());
+            JsonUtil.enumProperty(generator, ParameterConstant.PROP_IN, model.getIn());
+            JsonUtil.stringProperty(generator, Parameterizable.PROP_DESCRIPTION, model.getDescription());
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_REQUIRED, model.getRequired());
+            SchemaWriter.writeSchema(generator, model.getSchema(), Parameterizable.PROP_SCHEMA);
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_ALLOW_EMPTY_VALUE, model.getAllowEmptyValue());
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_DEPRECATED, model.getDeprecated());
+            JsonUtil.enumProperty(generator, Parameterizable.PROP_STYLE, model.getStyle());
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_EXPLODE, model.getExplode());
+            JsonUtil.booleanProperty(generator, ParameterConstant.PROP_ALLOW_RESERVED, model.getAllowReserved());
+            ObjectWriter.writeObject(generator, Parameterizable.PROP_EXAMPLE, model.getExample());
+            ExampleWriter.writeExamples(generator, model.getExamples());
+            ContentWriter.writeContent(generator, model.getContent());
+            ExtensionWriter.writeExtensions(generator, model);
+        }
+    }
 }
@@ -1,9 +1,11 @@
 package io.smallrye.openapi.runtime.io.requestbody;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -76,4 +78,59 @@ public class RequestBodyWriter {
             ExtensionWriter.writeExtensions(node, model);
         }
     }
+
+    /**
+     * Writes a map of {@link RequestBody} to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param requestBodies map of RequestBody models
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeRequestBodies(JsonGenerator generator, Map<String, RequestBody> requestBodies) throws IOException {
+        if (requestBodies == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_REQUEST_BODIES);
+        for (Map.Entry<String, RequestBody> entry : requestBodies.entrySet()) {
+            writeRequestBody(generator, entry.getValue(), entry.getKey());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a {@link RequestBody} to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param model RequestBody model
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeRequestBody(JsonGenerator generator, RequestBody model) throws IOException {
+        writeRequestBody(generator, model, RequestBodyConstant.PROP_REQUEST_BODY);
+    }
+
+    /**
+     * Writes a {@link RequestBody} object to the JSON generator.
+     * 
+     * @param generator
+     * @param model
+     * @param name
+     * @throws IOException
+     */
+    private static void writeRequestBody(JsonGenerator generator, RequestBody model, String name) throws IOException {
+        if (model == null) {
+            return;
+        }
+
+        generator.writeObjectFieldStart(name);
+
+        if (StringUtil.isNotEmpty(model.getRef())) {
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        } else {
+            JsonUtil.stringProperty(generator, RequestBodyConstant.PROP_DESCRIPTION, model.getDescription());
+            ContentWriter.writeContent(generator, model.getContent());
+            JsonUtil.booleanProperty(generator, RequestBodyConstant.PROP_REQUIRED, model.getRequired());
+            ExtensionWriter.writeExtensions(generator, model);
+        }
+        generator.writeEndObject();
+    }
 }
@@ -1,11 +1,13 @@
 package io.smallrye.openapi.runtime.io.response;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import org.eclipse.microprofile.openapi.models.responses.APIResponses;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -90,4 +92,73 @@ public class ResponseWriter {
             ExtensionWriter.writeExtensions(node, model);
         }
     }
+
+    /**
+     * Writes a map of {@link APIResponse} to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param responses map of APIResponse models
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeAPIResponses(JsonGenerator generator, Map<String, APIResponse> responses) throws IOException {
+        if (responses == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_RESPONSES);
+        for (Map.Entry<String, APIResponse> entry : responses.entrySet()) {
+            writeAPIResponse(generator, entry.getValue(), entry.getKey());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a {@link APIResponses} map to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param model APIResponse model
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeAPIResponses(JsonGenerator generator, APIResponses model) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_RESPONSES);
+        ExtensionWriter.writeExtensions(generator, model);
+        writeAPIResponse(generator, model.getDefaultValue(), ResponseConstant.PROP_DEFAULT);
+        if (model.getAPIResponses() != null) {
+            for (Map.Entry<String, APIResponse> entry : model.getAPIResponses().entrySet()) {
+                // The default response (if any) has already been written above
+                if (!ResponseConstant.PROP_DEFAULT.equals(entry.getKey())) {
+                    writeAPIResponse(generator, entry.getValue(), entry.getKey());
+                }
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a {@link APIResponse} object to the JSON generator.
+     * 
+     * @param generator
+     * @param model
+     * @param name
+     * @throws IOException
+     */
+    private static void writeAPIResponse(JsonGenerator generator, APIResponse model, String name) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(name);
+
+        if (StringUtil.isNotEmpty(model.getRef())) {
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        } else {
+            JsonUtil.stringProperty(generator, ResponseConstant.PROP_DESCRIPTION, model.getDescription());
+            HeaderWriter.writeHeaders(generator, model.getHeaders());
+            ContentWriter.writeContent(generator, model.getContent());
+            LinkWriter.writeLinks(generator, model.getLinks());
+            ExtensionWriter.writeExtensions(generator, model);
+        }
+        generator.writeEndObject();
+    }
 }
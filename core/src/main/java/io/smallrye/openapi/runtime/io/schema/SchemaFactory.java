@@ -32,7 +32,6 @@ import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.media.DiscriminatorImpl;
 import io.smallrye.openapi.api.models.media.SchemaImpl;
 import io.smallrye.openapi.api.util.MergeUtil;
-import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
 import io.smallrye.openapi.runtime.io.IoLogging;
 import io.smallrye.openapi.runtime.io.extension.ExtensionReader;
 import io.smallrye.openapi.runtime.io.externaldocs.ExternalDocsConstant;
@@ -442,9 +441,9 @@ public class SchemaFactory {
         if (TypeUtil.isWrappedType(type)) {
             // Recurse using the optional's type
             schema = typeToSchema(context, TypeUtil.unwrapType(type), extensions);
-        } else if (CurrentScannerInfo.isWrapperType(type)) {
+        } else if (context.isWrapperType(type)) {
             // Recurse using the wrapped type
-            schema = typeToSchema(context, CurrentScannerInfo.getCurrentAnnotationScanner().unwrapType(type), extensions);
+            schema = typeToSchema(context, context.getCurrentScanner().unwrapType(type), extensions);
         } else if (TypeUtil.isTerminalType(type)) {
             schema = new SchemaImpl();
             TypeUtil.applyTypeAttributes(type, schema);
@@ -562,7 +561,7 @@ public class SchemaFactory {
     private static Schema introspectClassToSchema(final AnnotationScannerContext context, ClassType ctype,
             boolean schemaReferenceSupported) {
 
-        if (CurrentScannerInfo.isScannerInternalResponse(ctype)) {
+        if (context.isScannerInternalResponse(ctype)) {
             return null;
         }
 
@@ -574,18 +573,18 @@ public class SchemaFactory {
                 return null;
             }
         }
-        SchemaRegistry schemaRegistry = SchemaRegistry.currentInstance();
+        SchemaRegistry schemaRegistry = context.getSchemaRegistry();
 
         if (schemaRegistry != null && schemaRegistry.hasSchema(ctype)) {
             if (schemaReferenceSupported) {
                 return schemaRegistry.lookupRef(ctype);
             } else {
-                // Clone the schema from the registry using mergeObjects
-                return MergeUtil.mergeObjects(new SchemaImpl(), schemaRegistry.lookupSchema(ctype));
+                // Copy the schema from the registry
+                return SchemaImpl.copyOf(schemaRegistry.lookupSchema(ctype));
             }
         } else if (context.getScanStack().contains(ctype)) {
             // Protect against stack overflow when the type is in the process of being scanned.
-            return SchemaRegistry.registerReference(ctype, null, new SchemaImpl());
+            return SchemaRegistry.registerReference(context, ctype, null, new SchemaImpl());
         } else {
             Schema schema = OpenApiDataObjectScanner.process(context, ctype);
 
@@ -606,7 +605,7 @@ public class SchemaFactory {
      * @return a reference to the registered schema or the input schema when registration is not allowed/possible
      */
     public static Schema schemaRegistration(final AnnotationScannerContext context, Type type, Schema schema) {
-        SchemaRegistry schemaRegistry = SchemaRegistry.currentInstance();
+        SchemaRegistry schemaRegistry = context.getSchemaRegistry();
 
         if (allowRegistration(context, schemaRegistry, type, schema)) {
             schema = schemaRegistry.register(type, schema);
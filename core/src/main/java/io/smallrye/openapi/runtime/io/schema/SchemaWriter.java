@@ -1,10 +1,12 @@
 package io.smallrye.openapi.runtime.io.schema;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.media.Schema;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -143,4 +145,129 @@ public class SchemaWriter {
             writeSchema(schemasNode.addObject(), schema);
         }
     }
+
+    /**
+     * Writes a map of {@link Schema} to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param schemas map of Schema models
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeSchemas(JsonGenerator generator, Map<String, Schema> schemas) throws IOException {
+        writeSchemas(generator, schemas, ComponentsConstant.PROP_SCHEMAS);
+    }
+
+    /**
+     * Writes a map of {@link Schema} to the JSON generator.
+     * 
+     * @param generator
+     * @param schemas
+     * @param propertyName
+     * @throws IOException
+     */
+    private static void writeSchemas(JsonGenerator generator, Map<String, Schema> schemas, String propertyName)
+            throws IOException {
+        if (schemas == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(propertyName);
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            writeSchema(generator, entry.getValue(), entry.getKey());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a {@link Schema} to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param model Schema model
+     * @param name name of the node
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeSchema(JsonGenerator generator, Schema model, String name) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeFieldName(name);
+        writeSchema(generator, model);
+    }
+
+    /**
+     * Writes the {@link Schema} model to the generator as a JSON object.
+     * 
+     * @param generator
+     * @param model
+     * @throws IOException
+     */
+    private static void writeSchema(JsonGenerator generator, Schema model) throws IOException {
+        generator.writeStartObject();
+        if (StringUtil.isNotEmpty(model.getRef())) {
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        } else {
+            JsonUtil.stringProperty(generator, SchemaConstant.PROP_FORMAT, model.getFormat());
+            JsonUtil.stringProperty(generator, SchemaConstant.PROP_TITLE, model.getTitle());
+            JsonUtil.stringProperty(generator, SchemaConstant.PROP_DESCRIPTION, model.getDescription());
+            ObjectWriter.writeObject(generator, SchemaConstant.PROP_DEFAULT, model.getDefaultValue());
+            JsonUtil.bigDecimalProperty(generator, SchemaConstant.PROP_MULTIPLE_OF, model.getMultipleOf());
+            JsonUtil.bigDecimalProperty(generator, SchemaConstant.PROP_MAXIMUM, model.getMaximum());
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_EXCLUSIVE_MAXIMUM, model.getExclusiveMaximum());
+            JsonUtil.bigDecimalProperty(generator, SchemaConstant.PROP_MINIMUM, model.getMinimum());
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_EXCLUSIVE_MINIMUM, model.getExclusiveMinimum());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MAX_LENGTH, model.getMaxLength());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MIN_LENGTH, model.getMinLength());
+            JsonUtil.stringProperty(generator, SchemaConstant.PROP_PATTERN, model.getPattern());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MAX_ITEMS, model.getMaxItems());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MIN_ITEMS, model.getMinItems());
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_UNIQUE_ITEMS, model.getUniqueItems());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MAX_PROPERTIES, model.getMaxProperties());
+            JsonUtil.intProperty(generator, SchemaConstant.PROP_MIN_PROPERTIES, model.getMinProperties());
+            ObjectWriter.writeStringArray(generator, model.getRequired(), SchemaConstant.PROP_REQUIRED);
+            ObjectWriter.writeObjectArray(generator, model.getEnumeration(), SchemaConstant.PROP_ENUM);
+            JsonUtil.enumProperty(generator, SchemaConstant.PROP_TYPE, model.getType());
+            writeSchema(generator, model.getItems(), SchemaConstant.PROP_ITEMS);
+            writeSchemaList(generator, model.getAllOf(), SchemaConstant.PROP_ALL_OF);
+            writeSchemas(generator, model.getProperties(), SchemaConstant.PROP_PROPERTIES);
+            if (model.getAdditionalPropertiesBoolean() != null) {
+                JsonUtil.booleanProperty(generator, SchemaConstant.PROP_ADDITIONAL_PROPERTIES,
+                        model.getAdditionalPropertiesBoolean());
+            } else {
+                writeSchema(generator, model.getAdditionalPropertiesSchema(),
+                        SchemaConstant.PROP_ADDITIONAL_PROPERTIES);
+            }
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_READ_ONLY, model.getReadOnly());
+            XmlWriter.writeXML(generator, model.getXml());
+            ExternalDocsWriter.writeExternalDocumentation(generator, model.getExternalDocs());
+            ObjectWriter.writeObject(generator, SchemaConstant.PROP_EXAMPLE, model.getExample());
+            writeSchemaList(generator, model.getOneOf(), SchemaConstant.PROP_ONE_OF);
+            writeSchemaList(generator, model.getAnyOf(), SchemaConstant.PROP_ANY_OF);
+            writeSchema(generator, model.getNot(), SchemaConstant.PROP_NOT);
+            DiscriminatorWriter.writeDiscriminator(generator, model.getDiscriminator());
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_NULLABLE, model.getNullable());
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_WRITE_ONLY, model.getWriteOnly());
+            JsonUtil.booleanProperty(generator, SchemaConstant.PROP_DEPRECATED, model.getDeprecated());
+            ExtensionWriter.writeExtensions(generator, model);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a list of {@link Schema} to the JSON generator.
+     * 
+     * @param generator
+     * @param models
+     * @param propertyName
+     * @throws IOException
+     */
+    private static void writeSchemaList(JsonGenerator generator, List<Schema> models, String propertyName)
+            throws IOException {
+        if (models == null) {
+            return;
+        }
+        generator.writeArrayFieldStart(propertyName);
+        for (Schema schema : models) {
+            writeSchema(generator, schema);
+        }
+        generator.writeEndArray();
+    }
 }
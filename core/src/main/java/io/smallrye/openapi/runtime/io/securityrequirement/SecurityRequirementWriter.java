@@ -1,10 +1,12 @@
 package io.smallrye.openapi.runtime.io.securityrequirement;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -58,4 +60,43 @@ public class SecurityRequirementWriter {
             }
         }
     }
+
+    /**
+     * Writes a list of {@link SecurityRequirement} to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param models list of SecurityRequirement models
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeSecurityRequirements(JsonGenerator generator, List<SecurityRequirement> models)
+            throws IOException {
+        if (models == null) {
+            return;
+        }
+        generator.writeArrayFieldStart(DefinitionConstant.PROP_SECURITY);
+        for (SecurityRequirement securityRequirement : models) {
+            generator.writeStartObject();
+            writeSecurityRequirement(generator, securityRequirement);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes the properties of a {@link SecurityRequirement} into the current JSON object.
+     * 
+     * @param generator
+     * @param model
+     * @throws IOException
+     */
+    private static void writeSecurityRequirement(JsonGenerator generator, SecurityRequirement model) throws IOException {
+        if (model == null) {
+            return;
+        }
+        if (model.getSchemes() != null) {
+            for (Map.Entry<String, List<String>> entry : model.getSchemes().entrySet()) {
+                ObjectWriter.writeStringArray(generator, entry.getValue(), entry.getKey());
+            }
+        }
+    }
 }
@@ -122,7 +122,7 @@ public class SecuritySchemeReader {
      * @param node json node
      * @return SecurityScheme model
      */
-    private static SecurityScheme readSecurityScheme(final JsonNode node) {
+    public static SecurityScheme readSecurityScheme(final JsonNode node) {
         if (node == null || !node.isObject()) {
             return null;
         }
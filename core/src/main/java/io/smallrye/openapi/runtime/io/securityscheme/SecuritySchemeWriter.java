@@ -1,9 +1,11 @@
 package io.smallrye.openapi.runtime.io.securityscheme;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -71,4 +73,52 @@ public class SecuritySchemeWriter {
         }
     }
 
+    /**
+     * Writes a map of {@link SecurityScheme} to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param securitySchemes map of SecurityScheme models
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeSecuritySchemes(JsonGenerator generator, Map<String, SecurityScheme> securitySchemes)
+            throws IOException {
+        if (securitySchemes == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_SECURITY_SCHEMES);
+        for (Map.Entry<String, SecurityScheme> entry : securitySchemes.entrySet()) {
+            writeSecurityScheme(generator, entry.getValue(), entry.getKey());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a {@link SecurityScheme} object to the JSON generator.
+     * 
+     * @param generator
+     * @param model
+     * @param name
+     * @throws IOException
+     */
+    private static void writeSecurityScheme(JsonGenerator generator, SecurityScheme model, String name) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(name);
+
+        if (StringUtil.isNotEmpty(model.getRef())) {
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        } else {
+            JsonUtil.enumProperty(generator, SecuritySchemeConstant.PROP_TYPE, model.getType());
+            JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_DESCRIPTION, model.getDescription());
+            JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_NAME, model.getName());
+            JsonUtil.enumProperty(generator, SecuritySchemeConstant.PROP_IN, model.getIn());
+            JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_SCHEME, model.getScheme());
+            JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_BEARER_FORMAT, model.getBearerFormat());
+            OAuthWriter.writeOAuthFlows(generator, model.getFlows());
+            JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_OPEN_ID_CONNECT_URL, model.getOpenIdConnectUrl());
+            ExtensionWriter.writeExtensions(generator, model);
+        }
+        generator.writeEndObject();
+    }
 }
@@ -1,9 +1,11 @@
 package io.smallrye.openapi.runtime.io.server;
 
+import java.io.IOException;
 import java.util.List;
 
 import org.eclipse.microprofile.openapi.models.servers.Server;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -62,4 +64,47 @@ public class ServerWriter {
         ServerVariableWriter.writeServerVariables(node, model.getVariables());
         ExtensionWriter.writeExtensions(node, model);
     }
+
+    /**
+     * Writes the {@link Server} model array to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param servers list of Server models
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeServers(JsonGenerator generator, List<Server> servers) throws IOException {
+        if (servers == null) {
+            return;
+        }
+        generator.writeArrayFieldStart(DefinitionConstant.PROP_SERVERS);
+        for (Server server : servers) {
+            generator.writeStartObject();
+            writeServerToNode(generator, server);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes a {@link Server} model to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param model Server model
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeServer(JsonGenerator generator, Server model) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ServerConstant.PROP_SERVER);
+        writeServerToNode(generator, model);
+        generator.writeEndObject();
+    }
+
+    private static void writeServerToNode(JsonGenerator generator, Server model) throws IOException {
+        JsonUtil.stringProperty(generator, ServerConstant.PROP_URL, model.getUrl());
+        JsonUtil.stringProperty(generator, ServerConstant.PROP_DESCRIPTION, model.getDescription());
+        ServerVariableWriter.writeServerVariables(generator, model.getVariables());
+        ExtensionWriter.writeExtensions(generator, model);
+    }
 }
@@ -1,11 +1,13 @@
 package io.smallrye.openapi.runtime.io.servervariable;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -69,4 +71,50 @@ public class ServerVariableWriter {
         ExtensionWriter.writeExtensions(node, model);
     }
 
+    /**
+     * Writes the {@link ServerVariable} model to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param variables map of ServerVariable models
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeServerVariables(JsonGenerator generator, Map<String, ServerVariable> variables)
+            throws IOException {
+        if (variables == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ServerConstant.PROP_VARIABLES);
+        for (Map.Entry<String, ServerVariable> entry : variables.entrySet()) {
+            writeServerVariable(generator, entry.getValue(), entry.getKey());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a {@link ServerVariable} to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param model the ServerVariable model
+     * @param variableName the node name
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeServerVariable(JsonGenerator generator, ServerVariable model, String variableName)
+            throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(variableName);
+        JsonUtil.stringProperty(generator, ServerVariableConstant.PROP_DEFAULT, model.getDefaultValue());
+        JsonUtil.stringProperty(generator, ServerVariableConstant.PROP_DESCRIPTION, model.getDescription());
+        List<String> enumeration = model.getEnumeration();
+        if (enumeration != null) {
+            generator.writeArrayFieldStart(ServerVariableConstant.PROP_ENUM);
+            for (String enumValue : enumeration) {
+                generator.writeString(enumValue);
+            }
+            generator.writeEndArray();
+        }
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
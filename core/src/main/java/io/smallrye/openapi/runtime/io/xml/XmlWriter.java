@@ -1,7 +1,10 @@
 package io.smallrye.openapi.runtime.io.xml;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.media.XML;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -39,4 +42,25 @@ public class XmlWriter {
         JsonUtil.booleanProperty(node, XmlConstant.PROP_WRAPPED, model.getWrapped());
         ExtensionWriter.writeExtensions(node, model);
     }
+
+    /**
+     * Writes a {@link XML} object to the JSON generator.
+     * 
+     * @param generator the json generator
+     * @param model the XML model
+     * @throws IOException Errors writing to the generator
+     */
+    public static void writeXML(JsonGenerator generator, XML model) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(SchemaConstant.PROP_XML);
+        JsonUtil.stringProperty(generator, XmlConstant.PROP_NAME, model.getName());
+        JsonUtil.stringProperty(generator, XmlConstant.PROP_NAMESPACE, model.getNamespace());
+        JsonUtil.stringProperty(generator, XmlConstant.PROP_PREFIX, model.getPrefix());
+        JsonUtil.booleanProperty(generator, XmlConstant.PROP_ATTRIBUTE, model.getAttribute());
+        JsonUtil.booleanProperty(generator, XmlConstant.PROP_WRAPPED, model.getWrapped());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
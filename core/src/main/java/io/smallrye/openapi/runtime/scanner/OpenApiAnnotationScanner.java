@@ -1,30 +1,42 @@
 package io.smallrye.openapi.runtime.scanner;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Type;
 
 import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.PhaseEvent;
+import io.smallrye.openapi.api.PhaseListener;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.api.util.ClassLoaderUtil;
+import io.smallrye.openapi.api.util.CopyUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
 import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
 import io.smallrye.openapi.runtime.io.definition.DefinitionConstant;
@@ -34,6 +46,8 @@ import io.smallrye.openapi.runtime.io.schema.SchemaFactory;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerFactory;
+import io.smallrye.openapi.runtime.util.JfrEvents;
+import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
  * Scans a deployment (using the archive and jandex annotation index) for OpenAPI annotations.
@@ -49,6 +63,7 @@ public class OpenApiAnnotationScanner {
 
     private final AnnotationScannerContext annotationScannerContext;
     private final AnnotationScannerFactory annotationScannerFactory;
+    private final PhaseListener phaseListener;
 
     /**
      * Constructor.
@@ -93,6 +108,34 @@ public class OpenApiAnnotationScanner {
      */
     public OpenApiAnnotationScanner(OpenApiConfig config, ClassLoader loader, IndexView index,
             List<AnnotationScannerExtension> extensions) {
+        this(config, loader, index, extensions, null);
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param config OpenApiConfig instance
+     * @param index IndexView of deployment
+     * @param extensions A set of extensions to scanning
+     * @param phaseListener listener notified of the phases of the scan, may be null
+     */
+    public OpenApiAnnotationScanner(OpenApiConfig config, ClassLoader loader, IndexView index,
+            List<AnnotationScannerExtension> extensions, PhaseListener phaseListener) {
+        this(config, loader, index, extensions, phaseListener, null);
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param config OpenApiConfig instance
+     * @param index IndexView of deployment
+     * @param extensions A set of extensions to scanning
+     * @param phaseListener listener notified of the phases of the scan, may be null
+     * @param dependencies recorder of the model elements contributed by each class, required
+     *        by {@link #rescan(OpenAPI, Collection, String...)}, may be null
+     */
+    public OpenApiAnnotationScanner(OpenApiConfig config, ClassLoader loader, IndexView index,
+            List<AnnotationScannerExtension> extensions, PhaseListener phaseListener, ScanDependencies dependencies) {
         FilteredIndexView filteredIndexView;
 
         if (index instanceof FilteredIndexView) {
@@ -102,8 +145,9 @@ public class OpenApiAnnotationScanner {
         }
 
         this.annotationScannerContext = new AnnotationScannerContext(filteredIndexView, loader, extensions, config,
-                new OpenAPIImpl());
+                new OpenAPIImpl(), dependencies);
         this.annotationScannerFactory = new AnnotationScannerFactory(loader);
+        this.phaseListener = phaseListener;
     }
 
     /**
@@ -114,8 +158,189 @@ public class OpenApiAnnotationScanner {
      * @return OpenAPI generated from scanning annotations
      */
     public OpenAPI scan(String... filter) {
+        annotationScannerContext.getDependencies().ifPresent(ScanDependencies::clear);
+
+        try (JfrEvents.Span span = JfrEvents.annotationScan(filter)) {
+            return scanAnnotations(annotationScannerContext, filter);
+        }
+    }
+
+    /**
+     * Scan again only the classes affected by a change, using the dependencies recorded by
+     * the previous scan of the application. The operations and schemas contributed by the
+     * resource classes and the <code>@Schema</code> classes that depend on the changed
+     * classes are removed from a copy of the previous model, then those classes and the
+     * changed classes are scanned again and the results added to the copy. The previous
+     * model itself is not modified.
+     * <p>
+     * A full {@link #scan(String...)} is done instead when nothing was recorded yet, or when a
+     * changed class contributes to the model as a whole, e.g. a JAX-RS application or a class
+     * annotated with <code>@OpenAPIDefinition</code>.
+     * <p>
+     * Schema names are derived by the rescan alone, so when several types have the same
+     * default schema name, the sequence numbers appended to those names may differ from
+     * those of a full scan.
+     * 
+     * @param previous the model returned by the previous scan or rescan of the application
+     * @param changedClassNames the names of the classes added, changed or removed since then
+     * @param filter Filter to only include certain scanners, see {@link #scan(String...)}
+     * @return OpenAPI generated from scanning annotations
+     */
+    public OpenAPI rescan(OpenAPI previous, Collection<String> changedClassNames, String... filter) {
+        ScanDependencies dependencies = annotationScannerContext.getDependencies().orElse(null);
+        Set<DotName> changed = changedClassNames.stream()
+                .map(DotName::createSimple)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (previous == null || dependencies == null || dependencies.isEmpty() || dependencies.isGlobal(changed)
+                || hasDefinition(changed)) {
+            return scan(filter);
+        }
+
+        try (JfrEvents.Span span = JfrEvents.annotationScan(filter)) {
+            return rescanAnnotations(previous, dependencies, changed, filter);
+        }
+    }
+
+    private OpenAPI rescanAnnotations(OpenAPI previous, ScanDependencies dependencies, Set<DotName> changed,
+            String... filter) {
+        Set<ScanDependencies.Owner> dependents = dependencies.dependentOwners(changed);
+        Set<String> schemaNames = dependencies.schemaNames(changed);
+        dependents.forEach(owner -> schemaNames.addAll(owner.schemas));
+        schemaNames.removeIf(name -> dependencies.isUsedByOthers(name, dependents));
+
+        OpenAPI openApi = CopyUtil.deepCopy(previous);
+        removeContributions(openApi, dependents, schemaNames);
+
+        AnnotationScannerContext context = new AnnotationScannerContext(annotationScannerContext.getIndex(),
+                annotationScannerContext.getClassLoader(), annotationScannerContext.getExtensions(),
+                annotationScannerContext.getConfig(), new OpenAPIImpl(), dependencies);
+
+        Set<String> paths = new HashSet<>();
+        dependents.forEach(owner -> owner.operations.keySet().forEach(operation -> paths.add(operation.path)));
+
+        dependencies.startRescan(dependents, changed);
+        try {
+            OpenAPI rescanned = scanAnnotations(context, filter);
+            if (rescanned.getPaths() != null && rescanned.getPaths().getPathItems() != null) {
+                paths.addAll(rescanned.getPaths().getPathItems().keySet());
+            }
+            addContributions(openApi, rescanned);
+        } finally {
+            dependencies.endRescan();
+        }
+
+        resetPathParameters(openApi, dependencies, paths);
+
+        sortTags(context, openApi);
+        sortMaps(openApi);
+
+        return openApi;
+    }
+
+    private boolean hasDefinition(Set<DotName> classes) {
+        for (DotName name : classes) {
+            ClassInfo classInfo = annotationScannerContext.getIndex().getClassByName(name);
+            if (classInfo != null && classInfo.classAnnotation(DefinitionConstant.DOTNAME_OPEN_API_DEFINITION) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void removeContributions(OpenAPI openApi, Set<ScanDependencies.Owner> owners,
+            Set<String> schemaNames) {
+        Paths paths = openApi.getPaths();
+
+        if (paths != null) {
+            for (ScanDependencies.Owner owner : owners) {
+                for (ScanDependencies.OperationKey operation : owner.operations.keySet()) {
+                    PathItem pathItem = paths.getPathItem(operation.path);
+                    if (pathItem != null) {
+                        pathItem.setOperation(operation.method, null);
+                        if (pathItem.getOperations().isEmpty()) {
+                            paths.removePathItem(operation.path);
+                        }
+                    }
+                }
+            }
+        }
+
+        Components components = openApi.getComponents();
+
+        if (components != null && components.getSchemas() != null) {
+            schemaNames.forEach(components::removeSchema);
+        }
+    }
+
+    /**
+     * Sets the path-level parameters of the paths again from the ones recorded for their
+     * operations, as those of the owners that were removed or scanned again were merged
+     * with the ones of other owners.
+     */
+    private static void resetPathParameters(OpenAPI openApi, ScanDependencies dependencies, Set<String> paths) {
+        if (openApi.getPaths() == null) {
+            return;
+        }
+
+        for (String path : paths) {
+            PathItem pathItem = openApi.getPaths().getPathItem(path);
+
+            if (pathItem != null) {
+                pathItem.setParameters(null);
+
+                for (List<Parameter> parameters : dependencies.pathParameters(path)) {
+                    if (parameters != null) {
+                        ModelUtil.addParameters(pathItem, ScanDependencies.copy(parameters));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addContributions(OpenAPI openApi, OpenAPI rescanned) {
+        if (rescanned.getPaths() != null && rescanned.getPaths().getPathItems() != null) {
+            rescanned.getPaths().getPathItems().forEach((path, pathItem) -> pathItem.getOperations()
+                    .forEach((method, operation) -> ModelUtil.addOperation(ModelUtil.paths(openApi), path, method,
+                            operation, pathItem.getParameters())));
+        }
+
+        if (rescanned.getTags() != null) {
+            for (Tag tag : rescanned.getTags()) {
+                if (openApi.getTags() == null || openApi.getTags()
+                        .stream()
+                        .noneMatch(existing -> Objects.equals(existing.getName(), tag.getName()))) {
+                    openApi.addTag(tag);
+                }
+            }
+        }
+
+        Components components = rescanned.getComponents();
+
+        if (components != null) {
+            if (components.getSchemas() != null) {
+                components.getSchemas().forEach(ModelUtil.components(openApi)::addSchema);
+            }
+            if (components.getSecuritySchemes() != null) {
+                components.getSecuritySchemes().forEach(ModelUtil.components(openApi)::addSecurityScheme);
+            }
+        }
+    }
+
+    private OpenAPI scanAnnotations(final AnnotationScannerContext context, String... filter) {
+        // The state of the scan is held by the context, it is only bound for code still using the deprecated static accessors
+        AnnotationScannerContext previous = CurrentScannerInfo.getCurrentContext();
+        CurrentScannerInfo.bind(context);
+        try {
+            return scanAnnotationsInContext(context, filter);
+        } finally {
+            CurrentScannerInfo.bind(previous);
+        }
+    }
+
+    private OpenAPI scanAnnotationsInContext(final AnnotationScannerContext context, String... filter) {
         // First scan the MicroProfile OpenAPI Annotations. Maybe later we can load this with SPI as well, and allow other Annotation sets.
-        OpenAPI openApi = scanMicroProfileOpenApiAnnotations();
+        OpenAPI openApi = scanMicroProfileOpenApiAnnotations(context);
 
         // Now load all entry points with SPI and scan those
         List<AnnotationScanner> annotationScanners = annotationScannerFactory.getAnnotationScanners();
@@ -123,34 +348,39 @@ public class OpenApiAnnotationScanner {
         for (AnnotationScanner annotationScanner : annotationScanners) {
             if (filter == null || filter.length == 0 || Arrays.asList(filter).contains(annotationScanner.getName())) {
                 ScannerLogging.logger.scanning(annotationScanner.getName());
-                CurrentScannerInfo.register(annotationScanner);
-                openApi = annotationScanner.scan(annotationScannerContext, openApi);
+                context.setCurrentScanner(annotationScanner);
+                long start = System.nanoTime();
+                try (JfrEvents.Span span = JfrEvents.annotationScanner(annotationScanner.getName())) {
+                    openApi = annotationScanner.scan(context, openApi);
+                }
+                notifyPhase(PhaseEvent.Phase.ANNOTATION_SCAN, annotationScanner.getName(), start,
+                        context.getScannedClasses(), openApi);
             }
         }
 
-        sortTags(annotationScannerContext, openApi);
+        sortTags(context, openApi);
         sortMaps(openApi);
 
         return openApi;
     }
 
-    private OpenAPI scanMicroProfileOpenApiAnnotations() {
+    private OpenAPI scanMicroProfileOpenApiAnnotations(final AnnotationScannerContext context) {
 
         // Initialize a new OAI document.  Even if nothing is found, this will be returned.
-        OpenAPI openApi = this.annotationScannerContext.getOpenApi();
+        OpenAPI openApi = context.getOpenApi();
         openApi.setOpenapi(OpenApiConstants.OPEN_API_VERSION);
 
-        // Creating a new instance of a registry which will be set on the thread context.
-        SchemaRegistry schemaRegistry = SchemaRegistry.newInstance(annotationScannerContext);
+        // Creating a new instance of a registry which will be set on the scanner context.
+        SchemaRegistry schemaRegistry = SchemaRegistry.newInstance(context);
 
         // Register custom schemas if available
-        getCustomSchemaRegistry(annotationScannerContext.getConfig()).registerCustomSchemas(schemaRegistry);
+        getCustomSchemaRegistry(context.getConfig()).registerCustomSchemas(schemaRegistry);
 
         // Find all OpenAPIDefinition annotations at the package level
         ScannerLogging.logger.scanning("OpenAPI");
-        processPackageOpenAPIDefinitions(annotationScannerContext, openApi);
+        processPackageOpenAPIDefinitions(context, openApi);
 
-        processClassSchemas(annotationScannerContext);
+        processClassSchemas(context);
 
         return openApi;
     }
@@ -171,12 +401,19 @@ public class OpenApiAnnotationScanner {
                 .filter(annotation -> annotation.target().asClass().name().withoutPackagePrefix().equals("package-info"))
                 .collect(Collectors.toList());
 
+        long start = System.nanoTime();
+        List<OpenAPI> models = new ArrayList<>(packageDefs.size() + 1);
+        models.add(oai);
         for (AnnotationInstance packageDef : packageDefs) {
+            context.getDependencies()
+                    .ifPresent(dependencies -> dependencies.addGlobalClass(packageDef.target().asClass().name()));
             OpenAPI packageOai = new OpenAPIImpl();
             DefinitionReader.processDefinition(context, packageOai, packageDef);
-            oai = MergeUtil.merge(oai, packageOai);
+            models.add(packageOai);
         }
-        return oai;
+        OpenAPI merged = MergeUtil.mergeAll(models);
+        notifyPhase(PhaseEvent.Phase.PACKAGE_DEFINITIONS_SCAN, null, start, packageDefs.size(), merged);
+        return merged;
     }
 
     private CustomSchemaRegistry getCustomSchemaRegistry(final OpenApiConfig config) {
@@ -198,14 +435,28 @@ public class OpenApiAnnotationScanner {
     }
 
     private void processClassSchemas(final AnnotationScannerContext context) {
-        CurrentScannerInfo.register(null);
+        context.setCurrentScanner(null);
 
-        context.getIndex()
+        long start = System.nanoTime();
+        List<ClassInfo> classes = context.getIndex()
                 .getAnnotations(SchemaConstant.DOTNAME_SCHEMA)
                 .stream()
                 .filter(this::annotatedClasses)
-                .map(annotation -> Type.create(annotation.target().asClass().name(), Type.Kind.CLASS))
-                .forEach(type -> SchemaFactory.typeToSchema(context, type, context.getExtensions()));
+                .map(annotation -> annotation.target().asClass())
+                .filter(context::isScanned)
+                .collect(Collectors.toList());
+
+        for (ClassInfo classInfo : classes) {
+            Type type = Type.create(classInfo.name(), Type.Kind.CLASS);
+            context.getDependencies().ifPresent(dependencies -> dependencies.startClass(classInfo, context.getIndex()));
+            SchemaFactory.typeToSchema(context, type, context.getExtensions());
+            context.getDependencies().ifPresent(ScanDependencies::endClass);
+        }
+        notifyPhase(PhaseEvent.Phase.CLASS_SCHEMAS_SCAN, null, start, classes.size(), context.getOpenApi());
+    }
+
+    private void notifyPhase(PhaseEvent.Phase phase, String name, long start, int classes, OpenAPI openApi) {
+        PhaseListener.notify(phaseListener, phase, name, start, classes, openApi);
     }
 
     private boolean annotatedClasses(AnnotationInstance annotation) {
@@ -31,6 +31,7 @@ import io.smallrye.openapi.runtime.scanner.dataobject.AugmentedIndexView;
 import io.smallrye.openapi.runtime.scanner.dataobject.DataObjectDeque;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.util.JfrEvents;
 import io.smallrye.openapi.runtime.util.TypeUtil;
 
 /**
@@ -154,7 +155,7 @@ public class OpenApiDataObjectScanner {
      * @return the OAI schema
      */
     public static Schema process(final AnnotationScannerContext context, Type type) {
-        try {
+        try (JfrEvents.Span span = JfrEvents.dataObjectScan(type)) {
             context.getScanStack().push(type);
             return new OpenApiDataObjectScanner(context, type).process();
         } finally {
@@ -221,7 +222,7 @@ public class OpenApiDataObjectScanner {
 
             Type currentType = currentPathEntry.getClazzType();
 
-            if (SchemaRegistry.hasSchema(currentType, null)) {
+            if (SchemaRegistry.hasSchema(context, currentType, null)) {
                 // This type has already been scanned and registered, don't do it again!
                 continue;
             }
@@ -229,6 +230,10 @@ public class OpenApiDataObjectScanner {
             ClassInfo currentClass = currentPathEntry.getClazz();
             Schema currentSchema = currentPathEntry.getSchema();
 
+            if (currentClass != null) {
+                context.getDependencies().ifPresent(dependencies -> dependencies.addClass(currentClass, context.getIndex()));
+            }
+
             // First, handle class annotations (re-assign since readKlass may return new schema)
             currentSchema = readKlass(currentClass, currentType, currentSchema);
             TypeUtil.mapDeprecated(currentClass, currentSchema::getDeprecated, currentSchema::setDeprecated);
@@ -292,9 +297,9 @@ public class OpenApiDataObjectScanner {
                 this.rootSchema = enclosingSchema;
             }
 
-            if (SchemaRegistry.hasSchema(currentType, null)) {
+            if (SchemaRegistry.hasSchema(context, currentType, null)) {
                 // Replace the registered schema if one is present
-                SchemaRegistry.currentInstance().register(currentType, enclosingSchema);
+                context.getSchemaRegistry().register(currentType, enclosingSchema);
             }
         }
     }
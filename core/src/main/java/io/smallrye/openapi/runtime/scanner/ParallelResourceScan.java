@@ -0,0 +1,364 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+import org.jboss.jandex.ClassInfo;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.PathItemImpl;
+import io.smallrye.openapi.api.util.CopyUtil;
+import io.smallrye.openapi.api.util.FilterUtil;
+import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
+import io.smallrye.openapi.runtime.io.securityscheme.SecuritySchemeReader;
+import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.util.ModelUtil;
+
+/**
+ * Scans the resource classes of an annotation scanner concurrently, on the common fork-join
+ * pool, when enabled with {@link OpenApiConfig#parallelScanEnable()}.
+ * <p>
+ * Each class is scanned by a {@link Task}, created on the thread scanning the class, with a
+ * context of its own holding its own resolver and scan stacks, a model with the components of
+ * the scan read by the scan of a class, and a copy of the schema registry that reads the types
+ * registered so far from the registry of the scan. The operations found are recorded by the task rather than added to its
+ * model. Once
+ * all classes are scanned, the results of the tasks are added to the model of the scan in the
+ * order of the classes: the types registered by the task (renaming the schemas, and the
+ * references to them, when a class before it registered another schema with the same name),
+ * the tags, the scopes given by the Java security annotations to the security scheme, and the
+ * operations. The model is the same as when the classes are scanned one after the other.
+ * <p>
+ * The scan of a class must not modify any other state shared with the other classes, so the
+ * annotation scanner extensions must be thread-safe. Security schemes declared by resource
+ * classes change the scan of the classes after them: when a resource class declares any, the
+ * classes must be scanned sequentially. This is only known after the scan for the
+ * sub-resources of a class, in which case the results of the tasks are discarded.
+ */
+public class ParallelResourceScan {
+
+    private ParallelResourceScan() {
+    }
+
+    /**
+     * Whether the resource classes of the scan may be scanned in parallel. They may when
+     * enabled by the config, there is more than one class, and the scan does not record the
+     * dependencies of the classes.
+     *
+     * @param context the context of the scan
+     * @param classCount the number of resource classes
+     * @return true if the classes may be scanned in parallel
+     */
+    public static boolean isEnabled(AnnotationScannerContext context, int classCount) {
+        return context.getConfig().parallelScanEnable()
+                && classCount > 1
+                && !context.getDependencies().isPresent()
+                && context.getSchemaRegistry() != null;
+    }
+
+    /**
+     * Scans the resource classes in parallel, and adds the results to the model of the scan.
+     *
+     * @param context the context of the scan
+     * @param resourceClasses the resource classes, in the order of a sequential scan
+     * @param scanner scans the class of a task, using the context of the task
+     * @return true if the results were added to the model, false if a class declares security
+     *         schemes and the classes must be scanned sequentially instead
+     */
+    public static boolean scan(AnnotationScannerContext context, List<ClassInfo> resourceClasses, Consumer<Task> scanner) {
+        for (ClassInfo resourceClass : resourceClasses) {
+            if (!SecuritySchemeReader.getSecuritySchemeAnnotations(resourceClass).isEmpty()) {
+                ScannerLogging.logger.sequentialScanForSecuritySchemes(resourceClass.name());
+                return false;
+            }
+        }
+
+        List<Task> tasks = resourceClasses.parallelStream()
+                .map(resourceClass -> {
+                    Task task = new Task(context, resourceClass);
+                    task.run(scanner);
+                    return task;
+                })
+                .collect(Collectors.toList());
+
+        for (Task task : tasks) {
+            if (task.declaresSecuritySchemes()) {
+                ScannerLogging.logger.sequentialScanForSecuritySchemes(task.resourceClass.name());
+                return false;
+            }
+        }
+
+        for (Task task : tasks) {
+            task.merge(context);
+        }
+
+        return true;
+    }
+
+    /**
+     * The scan of a single resource class.
+     */
+    public static class Task {
+        private final ClassInfo resourceClass;
+        private final AnnotationScannerContext context;
+        private final SchemaRegistry schemaRegistry;
+        private final Map<String, SecurityScheme> securitySchemes;
+        private final List<AddedOperation> operations = new ArrayList<>();
+
+        Task(AnnotationScannerContext scanContext, ClassInfo resourceClass) {
+            this.resourceClass = resourceClass;
+            this.context = new AnnotationScannerContext(scanContext, new OpenAPIImpl());
+            copyComponents(scanContext.getOpenApi(), this.context.getOpenApi());
+            this.securitySchemes = new HashMap<>(securitySchemes(this.context.getOpenApi()));
+            this.schemaRegistry = scanContext.getSchemaRegistry().copy(this.context);
+        }
+
+        /**
+         * @return the resource class to scan
+         */
+        public ClassInfo getResourceClass() {
+            return resourceClass;
+        }
+
+        /**
+         * @return the context of the scan of the class
+         */
+        public AnnotationScannerContext getContext() {
+            return context;
+        }
+
+        /**
+         * Records an operation, added to the paths of the model of the scan once all classes
+         * are scanned, as by {@link ModelUtil#addOperation}.
+         *
+         * @param path the path of the operation
+         * @param method the HTTP method of the operation
+         * @param operation the operation
+         * @param parameters the path-level parameters of the operation, may be null
+         */
+        public void addOperation(String path, PathItem.HttpMethod method, Operation operation, List<Parameter> parameters) {
+            operations.add(new AddedOperation(path, method, operation, parameters));
+        }
+
+        void run(Consumer<Task> scanner) {
+            AnnotationScannerContext previous = CurrentScannerInfo.getCurrentContext();
+            CurrentScannerInfo.bind(context);
+            try {
+                scanner.accept(this);
+            } finally {
+                JavaSecurityProcessor.remove();
+                CurrentScannerInfo.bind(previous);
+            }
+        }
+
+        /**
+         * Whether the security schemes of the model of the task are not those it was given.
+         */
+        boolean declaresSecuritySchemes() {
+            Map<String, SecurityScheme> schemes = securitySchemes(context.getOpenApi());
+
+            if (schemes.size() != securitySchemes.size()) {
+                return true;
+            }
+
+            for (Map.Entry<String, SecurityScheme> entry : schemes.entrySet()) {
+                if (securitySchemes.get(entry.getKey()) != entry.getValue()) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        void merge(AnnotationScannerContext scanContext) {
+            OpenAPI openApi = scanContext.getOpenApi();
+            List<Schema> added = new ArrayList<>();
+            Map<String, String> renamed = scanContext.getSchemaRegistry().merge(schemaRegistry, added);
+
+            if (!renamed.isEmpty()) {
+                renameReferences(renamed, added);
+            }
+
+            List<Tag> tags = context.getOpenApi().getTags();
+            if (tags != null) {
+                tags.forEach(tag -> ModelUtil.addTag(openApi, tag));
+            }
+
+            mergeScopes(openApi, context.getOpenApi());
+
+            for (AddedOperation operation : operations) {
+                ModelUtil.addOperation(ModelUtil.paths(openApi), operation.path, operation.method, operation.operation,
+                        operation.parameters);
+            }
+        }
+
+        /**
+         * Updates the references to the renamed schemas held by the operations and the schemas
+         * of the task.
+         */
+        private void renameReferences(Map<String, String> renamed, List<Schema> added) {
+            OpenAPI model = new OpenAPIImpl();
+            Components components = new ComponentsImpl();
+            model.setComponents(components);
+
+            for (int i = 0; i < added.size(); i++) {
+                components.addSchema(String.valueOf(i), added.get(i));
+            }
+
+            for (int i = 0; i < operations.size(); i++) {
+                AddedOperation operation = operations.get(i);
+                PathItem pathItem = new PathItemImpl();
+                pathItem.setOperation(operation.method, operation.operation);
+                pathItem.setParameters(operation.parameters);
+                ModelUtil.paths(model).addPathItem(String.valueOf(i), pathItem);
+            }
+
+            FilterUtil.applyFilter(new SchemaRenamer(renamed), model);
+        }
+    }
+
+    /**
+     * Gives the model of a task the components of the scan read by the scan of the class: the
+     * responses, referenced by name, and the security schemes. The schemas are not needed, as
+     * the copy of the schema registry reads their names from the registry of the scan. Only the
+     * security schemes with an OAuth flow without scopes are copied, as the scopes are set by
+     * the Java security annotations, the other models are shared.
+     */
+    static void copyComponents(OpenAPI openApi, OpenAPI taskOpenApi) {
+        Components components = openApi.getComponents();
+
+        if (components != null) {
+            Components copy = new ComponentsImpl();
+            copy.setResponses(components.getResponses());
+            Map<String, SecurityScheme> schemes = components.getSecuritySchemes();
+
+            if (schemes != null) {
+                Map<String, SecurityScheme> schemeCopies = new LinkedHashMap<>();
+                schemes.forEach((name, scheme) -> schemeCopies.put(name,
+                        hasFlowWithoutScopes(scheme) ? CopyUtil.deepCopy(scheme) : scheme));
+                copy.setSecuritySchemes(schemeCopies);
+            }
+
+            taskOpenApi.setComponents(copy);
+        }
+    }
+
+    private static boolean hasFlowWithoutScopes(SecurityScheme scheme) {
+        OAuthFlows flows = scheme.getFlows();
+
+        return flows != null && (hasNoScopes(flows.getAuthorizationCode())
+                || hasNoScopes(flows.getClientCredentials())
+                || hasNoScopes(flows.getImplicit())
+                || hasNoScopes(flows.getPassword()));
+    }
+
+    private static boolean hasNoScopes(OAuthFlow flow) {
+        return flow != null && flow.getScopes() == null;
+    }
+
+    private static Map<String, SecurityScheme> securitySchemes(OpenAPI openApi) {
+        Components components = openApi.getComponents();
+
+        if (components == null || components.getSecuritySchemes() == null) {
+            return Collections.emptyMap();
+        }
+
+        return components.getSecuritySchemes();
+    }
+
+    /**
+     * Sets the scopes given by the Java security annotations to the flows of the security
+     * schemes of the scan. As with a sequential scan, the scopes are those of the first class
+     * that gave scopes to a flow that had none.
+     */
+    static void mergeScopes(OpenAPI openApi, OpenAPI taskOpenApi) {
+        Map<String, SecurityScheme> taskSchemes = securitySchemes(taskOpenApi);
+
+        securitySchemes(openApi).forEach((name, scheme) -> {
+            SecurityScheme taskScheme = taskSchemes.get(name);
+            OAuthFlows flows = scheme.getFlows();
+
+            if (taskScheme != null && flows != null && taskScheme.getFlows() != null) {
+                OAuthFlows taskFlows = taskScheme.getFlows();
+                mergeScopes(flows.getAuthorizationCode(), taskFlows.getAuthorizationCode());
+                mergeScopes(flows.getClientCredentials(), taskFlows.getClientCredentials());
+                mergeScopes(flows.getImplicit(), taskFlows.getImplicit());
+                mergeScopes(flows.getPassword(), taskFlows.getPassword());
+            }
+        });
+    }
+
+    private static void mergeScopes(OAuthFlow flow, OAuthFlow taskFlow) {
+        if (flow != null && taskFlow != null && flow.getScopes() == null && taskFlow.getScopes() != null) {
+            flow.setScopes(taskFlow.getScopes());
+        }
+    }
+
+    /**
+     * An operation found by a task.
+     */
+    static class AddedOperation {
+        final String path;
+        final PathItem.HttpMethod method;
+        final Operation operation;
+        final List<Parameter> parameters;
+
+        AddedOperation(String path, PathItem.HttpMethod method, Operation operation, List<Parameter> parameters) {
+            this.path = path;
+            this.method = method;
+            this.operation = operation;
+            this.parameters = parameters;
+        }
+    }
+
+    /**
+     * Updates the references to renamed schemas. Each schema is updated once, as the same
+     * schema may be reached more than once, and a name may be given to another schema.
+     */
+    static class SchemaRenamer implements OASFilter {
+        private final Map<String, String> renamed;
+        private final Set<Schema> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        SchemaRenamer(Map<String, String> renamed) {
+            this.renamed = renamed;
+        }
+
+        @Override
+        public Schema filterSchema(Schema schema) {
+            String ref = schema.getRef();
+
+            if (ref != null && ref.startsWith(OpenApiConstants.REF_PREFIX_SCHEMA) && visited.add(schema)) {
+                String name = renamed.get(ref.substring(OpenApiConstants.REF_PREFIX_SCHEMA.length()));
+
+                if (name != null) {
+                    schema.setRef(OpenApiConstants.REF_PREFIX_SCHEMA + name);
+                }
+            }
+
+            return schema;
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
+
+import io.smallrye.openapi.api.util.CopyUtil;
+
+/**
+ * Records which parts of the OpenAPI model each class contributed during an annotation
+ * scan: the operations added while scanning a resource class (JAX-RS resource, Spring
+ * controller, Vert.x route class) with their path-level parameters, and the component schemas registered or referenced
+ * while scanning a resource class or a class annotated with <code>@Schema</code>. Such a
+ * class is called an owner. Each owner also records the classes its contributions depend
+ * on: itself, its super classes and interfaces, its sub-resources and the data objects
+ * read for its schemas.
+ * <p>
+ * The recorded dependencies allow
+ * {@link OpenApiAnnotationScanner#rescan(org.eclipse.microprofile.openapi.models.OpenAPI, Collection, String...)}
+ * to scan again only the owners depending on a set of changed classes. Classes that
+ * contribute to the model as a whole, like JAX-RS applications, are recorded as global
+ * and require a full scan when changed.
+ * <p>
+ * Instances are not thread-safe, they are meant to be kept between the scans of a single
+ * application.
+ */
+public class ScanDependencies {
+
+    /**
+     * The contributions of a single owner.
+     */
+    static class Owner {
+        final DotName name;
+        final Set<DotName> classes = new HashSet<>();
+        final Map<OperationKey, List<Parameter>> operations = new LinkedHashMap<>();
+        final Set<String> schemas = new LinkedHashSet<>();
+
+        Owner(DotName name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Identifies an operation by its path and HTTP method.
+     */
+    static class OperationKey {
+        final String path;
+        final PathItem.HttpMethod method;
+
+        OperationKey(String path, PathItem.HttpMethod method) {
+            this.path = path;
+            this.method = method;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof OperationKey)) {
+                return false;
+            }
+            OperationKey other = (OperationKey) o;
+            return path.equals(other.path) && method == other.method;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, method);
+        }
+    }
+
+    private final Map<DotName, Owner> owners = new LinkedHashMap<>();
+    private final Map<DotName, Set<String>> schemaNames = new HashMap<>();
+    private final Set<DotName> globalClasses = new HashSet<>();
+    private final Deque<Owner> current = new ArrayDeque<>();
+    private Set<DotName> rescanned;
+    private Set<DotName> discarded;
+
+    /**
+     * @return true when nothing has been recorded yet, i.e. no scan has been done
+     */
+    public boolean isEmpty() {
+        return owners.isEmpty() && schemaNames.isEmpty() && globalClasses.isEmpty();
+    }
+
+    /**
+     * Whether a resource class or a class annotated with <code>@Schema</code> is to be
+     * scanned. This is always the case, except during a rescan, which only scans the owners
+     * depending on the changed classes, and the changed classes themselves.
+     *
+     * @param classInfo the class
+     * @return true if the class is to be scanned
+     */
+    public boolean isScanned(ClassInfo classInfo) {
+        return rescanned == null || rescanned.contains(classInfo.name());
+    }
+
+    /**
+     * Starts recording the contributions of an owner, until the matching call to
+     * {@link #endClass()}. Previous contributions of the owner are discarded, the owner
+     * keeping its position among the owners.
+     *
+     * @param classInfo the owner
+     * @param index the index used to find the super classes and interfaces of the owner
+     */
+    public void startClass(ClassInfo classInfo, IndexView index) {
+        Owner owner = new Owner(classInfo.name());
+        owners.put(owner.name, owner);
+        if (discarded != null) {
+            discarded.remove(owner.name);
+        }
+        current.push(owner);
+        addClass(classInfo, index);
+    }
+
+    /**
+     * Stops recording the contributions of the owner given to the last call of
+     * {@link #startClass(ClassInfo, IndexView)}.
+     */
+    public void endClass() {
+        current.pop();
+    }
+
+    /**
+     * Records that the contributions of the current owner depend on a class, its super
+     * classes and its interfaces.
+     *
+     * @param classInfo the class, e.g. a sub-resource or a data object
+     * @param index the index used to find the super classes and interfaces
+     */
+    public void addClass(ClassInfo classInfo, IndexView index) {
+        Owner owner = current.peek();
+
+        if (owner == null) {
+            return;
+        }
+
+        Deque<ClassInfo> hierarchy = new ArrayDeque<>();
+        hierarchy.push(classInfo);
+
+        while (!hierarchy.isEmpty()) {
+            ClassInfo next = hierarchy.pop();
+
+            if (!owner.classes.add(next.name())) {
+                continue;
+            }
+
+            addToHierarchy(hierarchy, next.superName(), index);
+            for (DotName interfaceName : next.interfaceNames()) {
+                addToHierarchy(hierarchy, interfaceName, index);
+            }
+        }
+    }
+
+    private static void addToHierarchy(Deque<ClassInfo> hierarchy, DotName name, IndexView index) {
+        ClassInfo classInfo = name != null ? index.getClassByName(name) : null;
+
+        if (classInfo != null) {
+            hierarchy.push(classInfo);
+        }
+    }
+
+    /**
+     * Records an operation added by the current owner, with a copy of the path-level
+     * parameters given with it, as these are merged with the ones of other operations
+     * of the same path.
+     *
+     * @param path the path of the operation
+     * @param method the HTTP method of the operation
+     * @param parameters the path-level parameters of the operation, may be null
+     */
+    public void addOperation(String path, PathItem.HttpMethod method, List<Parameter> parameters) {
+        Owner owner = current.peek();
+
+        if (owner != null) {
+            owner.operations.put(new OperationKey(path, method), copy(parameters));
+        }
+    }
+
+    static List<Parameter> copy(List<Parameter> parameters) {
+        if (parameters == null) {
+            return null;
+        }
+        List<Parameter> copies = new ArrayList<>(parameters.size());
+        for (Parameter parameter : parameters) {
+            copies.add(CopyUtil.deepCopy(parameter));
+        }
+        return copies;
+    }
+
+    /**
+     * Finds the path-level parameters recorded with the operations of a path, in the
+     * order of the owners, as they were added by a full scan.
+     */
+    List<List<Parameter>> pathParameters(String path) {
+        List<List<Parameter>> parameters = new ArrayList<>();
+
+        for (Owner owner : owners.values()) {
+            owner.operations.forEach((operation, operationParameters) -> {
+                if (operation.path.equals(path)) {
+                    parameters.add(operationParameters);
+                }
+            });
+        }
+
+        return parameters;
+    }
+
+    /**
+     * Records the name of the component schema registered for a type. When there is a
+     * current owner, the schema and the type are also recorded as used by the owner.
+     *
+     * @param type the type of the schema
+     * @param name the name of the schema in the components of the model
+     */
+    public void addSchema(Type type, String name) {
+        schemaNames.computeIfAbsent(type.name(), key -> new LinkedHashSet<>()).add(name);
+
+        Owner owner = current.peek();
+
+        if (owner != null) {
+            owner.classes.add(type.name());
+            owner.schemas.add(name);
+        }
+    }
+
+    /**
+     * Records a class that contributes to the model as a whole, rather than to the
+     * operations or schemas of an owner.
+     *
+     * @param name the name of the class
+     */
+    public void addGlobalClass(DotName name) {
+        globalClasses.add(name);
+    }
+
+    boolean isGlobal(Collection<DotName> classes) {
+        return classes.stream().anyMatch(globalClasses::contains);
+    }
+
+    /**
+     * Finds the owners depending on any of the classes, including the classes themselves
+     * when they are owners.
+     */
+    Set<Owner> dependentOwners(Collection<DotName> classes) {
+        Set<Owner> dependents = new LinkedHashSet<>();
+
+        for (Owner owner : owners.values()) {
+            if (classes.stream().anyMatch(owner.classes::contains)) {
+                dependents.add(owner);
+            }
+        }
+
+        return dependents;
+    }
+
+    /**
+     * Finds the names of the schemas registered for any of the classes.
+     */
+    Set<String> schemaNames(Collection<DotName> classes) {
+        Set<String> names = new LinkedHashSet<>();
+
+        for (DotName name : classes) {
+            names.addAll(schemaNames.getOrDefault(name, Collections.emptySet()));
+        }
+
+        return names;
+    }
+
+    /**
+     * Whether a schema is used by an owner other than the given ones.
+     */
+    boolean isUsedByOthers(String schemaName, Set<Owner> excluded) {
+        return owners.values()
+                .stream()
+                .filter(owner -> !excluded.contains(owner))
+                .anyMatch(owner -> owner.schemas.contains(schemaName));
+    }
+
+    /**
+     * Discards the schema names of the classes, then restricts the scan to the classes and
+     * the owners until {@link #endRescan()}. The contributions of the owners are replaced
+     * when they are scanned again, and discarded at the end of the rescan otherwise.
+     */
+    void startRescan(Set<Owner> dependents, Collection<DotName> classes) {
+        rescanned = new HashSet<>(classes);
+        discarded = new HashSet<>();
+
+        for (Owner owner : dependents) {
+            rescanned.add(owner.name);
+            discarded.add(owner.name);
+        }
+        for (DotName name : classes) {
+            schemaNames.remove(name);
+        }
+    }
+
+    void endRescan() {
+        owners.keySet().removeAll(discarded);
+        rescanned = null;
+        discarded = null;
+    }
+
+    /**
+     * Discards everything recorded, before a full scan.
+     */
+    void clear() {
+        owners.clear();
+        schemaNames.clear();
+        globalClasses.clear();
+        current.clear();
+        rescanned = null;
+        discarded = null;
+    }
+}
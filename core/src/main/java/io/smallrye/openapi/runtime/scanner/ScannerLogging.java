@@ -37,4 +37,8 @@ interface ScannerLogging extends BasicLogger {
     @Message(id = 4005, value = "Could not find schema class in index: %s")
     void schemaTypeNotFound(DotName className);
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4006, value = "Resource classes are scanned sequentially, as class %s declares security schemes")
+    void sequentialScanForSecuritySchemes(DotName className);
+
 }
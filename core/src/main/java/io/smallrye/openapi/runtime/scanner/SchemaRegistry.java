@@ -2,8 +2,11 @@ package io.smallrye.openapi.runtime.scanner;
 
 import static io.smallrye.openapi.runtime.util.TypeUtil.getSchemaAnnotation;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -25,6 +28,7 @@ import org.jboss.jandex.WildcardType;
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
 import io.smallrye.openapi.runtime.io.schema.SchemaConstant;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
@@ -41,14 +45,12 @@ import io.smallrye.openapi.runtime.util.TypeUtil;
  */
 public class SchemaRegistry {
 
-    // Initial value is null
-    private static final ThreadLocal<SchemaRegistry> current = new ThreadLocal<>();
-
     /**
-     * Create a new instance of a {@link SchemaRegistry} on this thread. The
-     * registry returned by this method may also be obtained by subsequent calls
-     * to {@link #currentInstance()}. Additional calls of this method will
-     * replace the registry in the current thread context with a new instance.
+     * Create a new instance of a {@link SchemaRegistry} for a scan. The registry
+     * returned by this method is held by the context and may also be obtained by
+     * subsequent calls to {@link AnnotationScannerContext#getSchemaRegistry()}.
+     * Additional calls of this method will replace the registry of the context
+     * with a new instance.
      *
      * @param context
      *        current scanner context
@@ -56,24 +58,31 @@ public class SchemaRegistry {
      */
     public static SchemaRegistry newInstance(AnnotationScannerContext context) {
         SchemaRegistry registry = new SchemaRegistry(context);
-        current.set(registry);
+        context.setSchemaRegistry(registry);
         return registry;
     }
 
     /**
-     * Retrieve the {@link SchemaRegistry} previously created by
-     * {@link SchemaRegistry#newInstance(AnnotationScannerContext)
-     * newInstance} for the current thread, or <code>null</code> if none has yet
-     * been created.
+     * Retrieve the {@link SchemaRegistry} of the scan running on the current thread,
+     * or <code>null</code> if there is none.
      *
      * @return a {@link SchemaRegistry} instance or null
+     * @deprecated use {@link AnnotationScannerContext#getSchemaRegistry()}
      */
+    @Deprecated
     public static SchemaRegistry currentInstance() {
-        return current.get();
+        AnnotationScannerContext context = CurrentScannerInfo.getCurrentContext();
+        return context != null ? context.getSchemaRegistry() : null;
     }
 
+    /**
+     * Does nothing, the registry is held by the context of the scan.
+     *
+     * @deprecated the registry is no longer held by the current thread
+     */
+    @Deprecated
     public static void remove() {
-        current.remove();
+        // Nothing to remove
     }
 
     /**
@@ -96,6 +105,8 @@ public class SchemaRegistry {
      * Only if the type has not already been registered earlier will it be
      * added.
      *
+     * @param context
+     *        current scanner context, holding the registry
      * @param type
      *        the {@link Type} the {@link Schema} applies to
      * @param resolver
@@ -106,8 +117,18 @@ public class SchemaRegistry {
      * @return the same schema if not eligible for registration, or a reference
      *         to the schema registered for the given Type
      */
+    public static Schema checkRegistration(AnnotationScannerContext context, Type type, TypeResolver resolver,
+            Schema schema) {
+        return register(context.getSchemaRegistry(), type, resolver, schema,
+                (registry, key) -> registry.register(key, schema, null));
+    }
+
+    /**
+     * @deprecated use {@link #checkRegistration(AnnotationScannerContext, Type, TypeResolver, Schema)}
+     */
+    @Deprecated
     public static Schema checkRegistration(Type type, TypeResolver resolver, Schema schema) {
-        return register(type, resolver, schema, (registry, key) -> registry.register(key, schema, null));
+        return register(currentInstance(), type, resolver, schema, (registry, key) -> registry.register(key, schema, null));
     }
 
     /**
@@ -130,6 +151,8 @@ public class SchemaRegistry {
      * Only if the type has not already been registered earlier will it be
      * added.
      *
+     * @param context
+     *        current scanner context, holding the registry
      * @param type
      *        the {@link Type} the {@link Schema} applies to
      * @param resolver
@@ -140,11 +163,21 @@ public class SchemaRegistry {
      * @return the same schema if not eligible for registration, or a reference
      *         to the schema registered for the given Type
      */
+    public static Schema registerReference(AnnotationScannerContext context, Type type, TypeResolver resolver,
+            Schema schema) {
+        return register(context.getSchemaRegistry(), type, resolver, schema,
+                (registry, key) -> registry.registerReference(key));
+    }
+
+    /**
+     * @deprecated use {@link #registerReference(AnnotationScannerContext, Type, TypeResolver, Schema)}
+     */
+    @Deprecated
     public static Schema registerReference(Type type, TypeResolver resolver, Schema schema) {
-        return register(type, resolver, schema, (registry, key) -> registry.registerReference(key));
+        return register(currentInstance(), type, resolver, schema, (registry, key) -> registry.registerReference(key));
     }
 
-    static Schema register(Type type, TypeResolver resolver, Schema schema,
+    static Schema register(SchemaRegistry registry, Type type, TypeResolver resolver, Schema schema,
             BiFunction<SchemaRegistry, TypeKey, Schema> registrationAction) {
         Type resolvedType;
 
@@ -164,8 +197,6 @@ public class SchemaRegistry {
                 return schema;
         }
 
-        SchemaRegistry registry = currentInstance();
-
         if (registry == null) {
             return schema;
         }
@@ -181,20 +212,33 @@ public class SchemaRegistry {
             schema = registrationAction.apply(registry, key);
         }
 
+        registry.addDependency(key);
+
         return schema;
     }
 
     /**
-     * Convenience method to check if the current thread's <code>SchemaRegistry</code>
+     * Convenience method to check if the <code>SchemaRegistry</code> of the context
      * contains a schema for the given type (which may require type resolution using resolver).
      * 
+     * @param context current scanner context
      * @param type type to check for existence of schema
      * @param resolver resolver for type parameter
      * @return true when schema references are enabled and the type is present in the registry, otherwise false
      */
+    public static boolean hasSchema(AnnotationScannerContext context, Type type, TypeResolver resolver) {
+        return hasSchema(context.getSchemaRegistry(), type, resolver);
+    }
+
+    /**
+     * @deprecated use {@link #hasSchema(AnnotationScannerContext, Type, TypeResolver)}
+     */
+    @Deprecated
     public static boolean hasSchema(Type type, TypeResolver resolver) {
-        SchemaRegistry registry = currentInstance();
+        return hasSchema(currentInstance(), type, resolver);
+    }
 
+    private static boolean hasSchema(SchemaRegistry registry, Type type, TypeResolver resolver) {
         if (registry == null) {
             return false;
         }
@@ -234,8 +278,18 @@ public class SchemaRegistry {
 
     private final Map<TypeKey, GeneratedSchemaInfo> registry = new LinkedHashMap<>();
     private final Set<String> names = new LinkedHashSet<>();
+    /**
+     * The registry this one was created from by {@link #copy(AnnotationScannerContext)}, read
+     * but not modified. Null for the registry of a scan.
+     */
+    private final SchemaRegistry parent;
+    /**
+     * The names of the parent freed by replacing the registration of a type.
+     */
+    private final Set<String> freedNames = new HashSet<>();
 
     private SchemaRegistry(AnnotationScannerContext context) {
+        this.parent = null;
         this.context = context;
         this.config = context.getConfig();
         this.oai = context.getOpenApi();
@@ -272,6 +326,71 @@ public class SchemaRegistry {
         });
     }
 
+    private SchemaRegistry(AnnotationScannerContext context, SchemaRegistry parent) {
+        this.parent = parent;
+        this.context = context;
+        this.config = context.getConfig();
+        this.oai = context.getOpenApi();
+        this.index = context.getAugmentedIndex();
+    }
+
+    /**
+     * Creates a copy of this registry for a part of the scan that has a context of its own,
+     * see {@link ParallelResourceScan}. The copy sees the types registered so far without
+     * copying them: it reads them from this registry, which must not be modified while the
+     * copy is in use, and holds only the types it registers itself. It adds the schemas of
+     * those types to the model of the given context. It is set on the given context.
+     *
+     * @param context the context of the part of the scan
+     * @return the copy
+     */
+    SchemaRegistry copy(AnnotationScannerContext context) {
+        SchemaRegistry copy = new SchemaRegistry(context, this);
+        context.setSchemaRegistry(copy);
+        return copy;
+    }
+
+    /**
+     * Registers the types registered by a {@link #copy(AnnotationScannerContext) copy} of this
+     * registry that are not registered yet, in the order the copy registered them. Their names
+     * are derived again, since types registered after the copy was created may have taken the
+     * names derived by the copy. The schemas and references of the copy are registered as they
+     * are: the references they hold to the renamed schemas must be updated by the caller.
+     *
+     * @param copy the copy of this registry
+     * @param added receives the schemas and references registered
+     * @return the names given by the copy that differ from those of this registry, keyed by
+     *         the name given by the copy
+     */
+    Map<String, String> merge(SchemaRegistry copy, List<Schema> added) {
+        Map<String, String> renamed = new HashMap<>();
+
+        copy.registry.forEach((key, info) -> {
+            GeneratedSchemaInfo registered = registry.get(key);
+            String name;
+
+            if (registered != null) {
+                name = registered.name;
+            } else {
+                name = deriveName(key, null);
+                registry.put(key, new GeneratedSchemaInfo(name, info.schema, info.schemaRef));
+                names.add(name);
+                added.add(info.schemaRef);
+
+                if (info.schema != null) {
+                    ModelUtil.components(oai).addSchema(name, info.schema);
+                    added.add(info.schema);
+                }
+            }
+
+            if (!name.equals(info.name)) {
+                renamed.put(info.name, name);
+            }
+        });
+
+        return renamed;
+    }
+
     /**
      * Register the provided {@link Schema} for the provided {@link Type}. If an
      * existing schema has already been registered for the type, it will be
@@ -291,7 +410,9 @@ public class SchemaRegistry {
             remove(key);
         }
 
-        return register(key, schema, null);
+        Schema schemaRef = register(key, schema, null);
+        addDependency(key);
+        return schemaRef;
     }
 
     private Schema registerReference(TypeKey key) {
@@ -351,13 +472,22 @@ public class SchemaRegistry {
         String nameBase = schemaName != null ? schemaName : key.defaultName();
         String name = nameBase;
         int idx = 1;
-        while (this.names.contains(name)) {
+        while (isNameTaken(name)) {
             name = nameBase + idx++;
         }
 
         return name;
     }
 
+    private boolean isNameTaken(String name) {
+        return names.contains(name) || (parent != null && !freedNames.contains(name) && parent.isNameTaken(name));
+    }
+
+    private GeneratedSchemaInfo get(TypeKey key) {
+        GeneratedSchemaInfo info = registry.get(key);
+        return info != null || parent == null ? info : parent.get(key);
+    }
+
     public Schema lookupRef(Type instanceType) {
         return lookupRef(new TypeKey(instanceType));
     }
@@ -385,7 +515,7 @@ public class SchemaRegistry {
     }
 
     private Schema lookupRef(TypeKey key) {
-        GeneratedSchemaInfo info = registry.get(key);
+        GeneratedSchemaInfo info = get(key);
 
         if (info == null) {
             throw ScannerMessages.msg.notRegistered(key.type.name());
@@ -395,7 +525,7 @@ public class SchemaRegistry {
     }
 
     private Schema lookupSchema(TypeKey key) {
-        GeneratedSchemaInfo info = registry.get(key);
+        GeneratedSchemaInfo info = get(key);
 
         if (info == null) {
             throw ScannerMessages.msg.notRegistered(key.type.name());
@@ -405,16 +535,34 @@ public class SchemaRegistry {
     }
 
     private boolean hasRef(TypeKey key) {
-        return registry.containsKey(key);
+        return get(key) != null;
     }
 
     private boolean hasSchema(TypeKey key) {
-        return registry.containsKey(key) && registry.get(key).schema != null;
+        GeneratedSchemaInfo info = get(key);
+        return info != null && info.schema != null;
+    }
+
+    private void addDependency(TypeKey key) {
+        GeneratedSchemaInfo info = get(key);
+
+        if (info != null) {
+            context.getDependencies().ifPresent(dependencies -> dependencies.addSchema(key.type, info.name));
+        }
     }
 
+    /**
+     * Removes the registration of a type, which is always registered again right after. The
+     * registration of a copy hides the one of its parent, only the name needs to be freed.
+     */
     private void remove(TypeKey key) {
         GeneratedSchemaInfo info = this.registry.remove(key);
-        this.names.remove(info.name);
+
+        if (info != null) {
+            this.names.remove(info.name);
+        } else {
+            freedNames.add(parent.get(key).name);
+        }
     }
 
     /************************************************************************/
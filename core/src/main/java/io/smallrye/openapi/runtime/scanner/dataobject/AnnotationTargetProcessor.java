@@ -149,10 +149,10 @@ public class AnnotationTargetProcessor implements RequirementHandler {
             if (typeSchema.getType() != SchemaType.ARRAY) {
                 // Only register a reference to the type schema. The full schema will be added by subsequent
                 // items on the stack (if not already present in the registry).
-                registeredTypeSchema = SchemaRegistry.registerReference(registrationType, typeResolver, typeSchema);
+                registeredTypeSchema = SchemaRegistry.registerReference(context, registrationType, typeResolver, typeSchema);
             } else {
                 // Allow registration of arrays since we may not encounter a List<CurrentType> again.
-                registeredTypeSchema = SchemaRegistry.checkRegistration(registrationType, typeResolver, typeSchema);
+                registeredTypeSchema = SchemaRegistry.checkRegistration(context, registrationType, typeResolver, typeSchema);
             }
         }
 
@@ -165,8 +165,8 @@ public class AnnotationTargetProcessor implements RequirementHandler {
             // The type schema was registered, start with empty schema for the field using the type from the field type's schema
             fieldSchema = new SchemaImpl().type(typeSchema.getType());
         } else {
-            // Use the type's schema for the field as a starting point (poor man's clone)
-            fieldSchema = MergeUtil.mergeObjects(new SchemaImpl(), typeSchema);
+            // Use a copy of the type's schema for the field as a starting point
+            fieldSchema = SchemaImpl.copyOf(typeSchema);
         }
 
         if (context.getBeanValidationScanner().isPresent()) {
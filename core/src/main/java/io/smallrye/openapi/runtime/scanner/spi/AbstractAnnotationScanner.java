@@ -21,6 +21,19 @@ public abstract class AbstractAnnotationScanner implements AnnotationScanner {
     protected String currentAppPath = EMPTY;
     private String contextRoot = EMPTY;
 
+    protected AbstractAnnotationScanner() {
+    }
+
+    /**
+     * Creates a scanner with the application path and the context root of the given scanner.
+     *
+     * @param scanner the scanner to copy the paths of
+     */
+    protected AbstractAnnotationScanner(AbstractAnnotationScanner scanner) {
+        this.currentAppPath = scanner.currentAppPath;
+        this.contextRoot = scanner.contextRoot;
+    }
+
     @Override
     public void setContextRoot(String path) {
         this.contextRoot = path;
@@ -51,7 +51,6 @@ import io.smallrye.openapi.api.models.media.MediaTypeImpl;
 import io.smallrye.openapi.api.models.media.SchemaImpl;
 import io.smallrye.openapi.api.models.parameters.ParameterImpl;
 import io.smallrye.openapi.api.util.MergeUtil;
-import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
 import io.smallrye.openapi.runtime.io.extension.ExtensionReader;
 import io.smallrye.openapi.runtime.io.parameter.ParameterConstant;
 import io.smallrye.openapi.runtime.io.schema.SchemaConstant;
@@ -738,7 +737,7 @@ public abstract class AbstractParameterProcessor {
 
         Content content = new ContentImpl();
 
-        Arrays.stream(getFormMediaTypes(CurrentScannerInfo::getCurrentConsumes, this::getFormMediaType))
+        Arrays.stream(getFormMediaTypes(scannerContext::getCurrentConsumes, this::getFormMediaType))
                 .forEach(mediaTypeName -> {
                     MediaType mediaType = new MediaTypeImpl();
                     Schema schema = new SchemaImpl();
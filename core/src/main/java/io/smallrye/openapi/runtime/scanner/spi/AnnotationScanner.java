@@ -51,7 +51,6 @@ import io.smallrye.openapi.api.models.media.SchemaImpl;
 import io.smallrye.openapi.api.models.parameters.RequestBodyImpl;
 import io.smallrye.openapi.api.models.responses.APIResponseImpl;
 import io.smallrye.openapi.api.util.MergeUtil;
-import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
 import io.smallrye.openapi.runtime.io.callback.CallbackReader;
 import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
 import io.smallrye.openapi.runtime.io.extension.ExtensionReader;
@@ -442,7 +441,7 @@ public interface AnnotationScanner {
                 }
 
                 Content content = new ContentImpl();
-                String[] produces = CurrentScannerInfo.getCurrentProduces();
+                String[] produces = context.getCurrentProduces();
 
                 if (produces == null || produces.length == 0) {
                     produces = context.getConfig().getDefaultProduces().orElse(OpenApiConstants.DEFAULT_MEDIA_TYPES.get());
@@ -792,36 +791,12 @@ public interface AnnotationScanner {
      * @param methodType the HTTP method type
      * @param pathItem the pathItem to set
      * @param operation the operation
+     * @deprecated no longer used by the scanners, which add operations with
+     *             {@link ModelUtil#addOperation(org.eclipse.microprofile.openapi.models.Paths, String, PathItem.HttpMethod, Operation, List)}
      */
+    @Deprecated
     default void setOperationOnPathItem(PathItem.HttpMethod methodType, PathItem pathItem, Operation operation) {
-        switch (methodType) {
-            case DELETE:
-                pathItem.setDELETE(operation);
-                break;
-            case GET:
-                pathItem.setGET(operation);
-                break;
-            case HEAD:
-                pathItem.setHEAD(operation);
-                break;
-            case OPTIONS:
-                pathItem.setOPTIONS(operation);
-                break;
-            case PATCH:
-                pathItem.setPATCH(operation);
-                break;
-            case POST:
-                pathItem.setPOST(operation);
-                break;
-            case PUT:
-                pathItem.setPUT(operation);
-                break;
-            case TRACE:
-                pathItem.setTRACE(operation);
-                break;
-            default:
-                break;
-        }
+        pathItem.setOperation(methodType, operation);
     }
 
     /**
@@ -933,7 +908,7 @@ public interface AnnotationScanner {
     }
 
     default String[] getConsumes(final AnnotationScannerContext context) {
-        String[] currentConsumes = CurrentScannerInfo.getCurrentConsumes();
+        String[] currentConsumes = context.getCurrentConsumes();
         if (currentConsumes == null || currentConsumes.length == 0) {
             currentConsumes = context.getConfig().getDefaultConsumes().orElse(null);
         }
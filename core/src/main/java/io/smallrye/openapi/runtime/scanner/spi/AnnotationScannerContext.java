@@ -8,6 +8,7 @@ import java.util.Optional;
 import java.util.function.UnaryOperator;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Type;
 
@@ -15,6 +16,8 @@ import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
+import io.smallrye.openapi.runtime.scanner.ScanDependencies;
+import io.smallrye.openapi.runtime.scanner.SchemaRegistry;
 import io.smallrye.openapi.runtime.scanner.dataobject.AugmentedIndexView;
 import io.smallrye.openapi.runtime.scanner.dataobject.BeanValidationScanner;
 import io.smallrye.openapi.runtime.scanner.dataobject.IgnoreResolver;
@@ -22,7 +25,9 @@ import io.smallrye.openapi.runtime.scanner.dataobject.PropertyNamingStrategyFact
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 
 /**
- * Context for scanners.
+ * Context for scanners. Holds all the state of a single scan, so that any number of
+ * scans may run at the same time, each with its own context. A single context is not
+ * thread-safe.
  * 
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
@@ -38,11 +43,25 @@ public class AnnotationScannerContext {
     private final Deque<Type> scanStack = new ArrayDeque<>();
     private Deque<TypeResolver> resolverStack = new ArrayDeque<>();
     private final Optional<BeanValidationScanner> beanValidationScanner;
+    private final Optional<ScanDependencies> dependencies;
+    private SchemaRegistry schemaRegistry;
+    private AnnotationScanner currentScanner;
+    private String[] currentConsumes;
+    private String[] currentProduces;
+    private int scannedClasses;
 
     public AnnotationScannerContext(FilteredIndexView index, ClassLoader classLoader,
             List<AnnotationScannerExtension> extensions,
             OpenApiConfig config,
             OpenAPI openApi) {
+        this(index, classLoader, extensions, config, openApi, null);
+    }
+
+    public AnnotationScannerContext(FilteredIndexView index, ClassLoader classLoader,
+            List<AnnotationScannerExtension> extensions,
+            OpenApiConfig config,
+            OpenAPI openApi,
+            ScanDependencies dependencies) {
         this.index = index;
         this.augmentedIndex = AugmentedIndexView.augment(index);
         this.ignoreResolver = new IgnoreResolver(this.augmentedIndex);
@@ -53,6 +72,30 @@ public class AnnotationScannerContext {
         this.propertyNameTranslator = PropertyNamingStrategyFactory.getStrategy(config.propertyNamingStrategy(), classLoader);
         this.beanValidationScanner = config.scanBeanValidation() ? Optional.of(BeanValidationScanner.INSTANCE)
                 : Optional.empty();
+        this.dependencies = Optional.ofNullable(dependencies);
+    }
+
+    /**
+     * Creates a context for a part of the scan of the given context, e.g. the scan of a single
+     * resource class on another thread. The new context shares the index, the config and the
+     * extensions of the given context, and has its own model and scanning state. It records no
+     * dependencies, and has no schema registry until one is set.
+     *
+     * @param context the context of the scan
+     * @param openApi the model of the new context
+     */
+    public AnnotationScannerContext(AnnotationScannerContext context, OpenAPI openApi) {
+        this.index = context.index;
+        this.augmentedIndex = context.augmentedIndex;
+        this.ignoreResolver = new IgnoreResolver(this.augmentedIndex);
+        this.classLoader = context.classLoader;
+        this.extensions = context.extensions;
+        this.config = context.config;
+        this.openApi = openApi;
+        this.propertyNameTranslator = context.propertyNameTranslator;
+        this.beanValidationScanner = context.beanValidationScanner;
+        this.dependencies = Optional.empty();
+        this.currentScanner = context.currentScanner;
     }
 
     public AnnotationScannerContext(IndexView index, ClassLoader classLoader,
@@ -108,4 +151,112 @@ public class AnnotationScannerContext {
         return beanValidationScanner;
     }
 
+    /**
+     * @return the recorder of the model elements contributed by each class, present only
+     *         when the scan records them
+     */
+    public Optional<ScanDependencies> getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Whether a resource class or a class annotated with <code>@Schema</code> is to be
+     * scanned, see {@link ScanDependencies#isScanned(ClassInfo)}.
+     *
+     * @param classInfo the class
+     * @return true if the class is to be scanned
+     */
+    public boolean isScanned(ClassInfo classInfo) {
+        return dependencies.map(d -> d.isScanned(classInfo)).orElse(true);
+    }
+
+    /**
+     * @return the registry of the schemas of this scan, or null if none has been created
+     * @see SchemaRegistry#newInstance(AnnotationScannerContext)
+     */
+    public SchemaRegistry getSchemaRegistry() {
+        return schemaRegistry;
+    }
+
+    public void setSchemaRegistry(SchemaRegistry schemaRegistry) {
+        this.schemaRegistry = schemaRegistry;
+    }
+
+    /**
+     * @return the annotation scanner currently scanning, or null when none is, e.g. while
+     *         scanning the classes annotated with <code>@Schema</code>
+     */
+    public AnnotationScanner getCurrentScanner() {
+        return currentScanner;
+    }
+
+    /**
+     * Sets the annotation scanner currently scanning, and clears the current media types
+     * and the number of classes reported.
+     *
+     * @param currentScanner the scanner, may be null
+     */
+    public void setCurrentScanner(AnnotationScanner currentScanner) {
+        this.currentScanner = currentScanner;
+        this.currentConsumes = null;
+        this.currentProduces = null;
+        this.scannedClasses = 0;
+    }
+
+    /**
+     * @return the number of classes reported by the current annotation scanner
+     */
+    public int getScannedClasses() {
+        return scannedClasses;
+    }
+
+    /**
+     * Reports classes processed by the current annotation scanner, e.g. its resource
+     * classes, counted for the {@link io.smallrye.openapi.api.PhaseEvent.Phase#ANNOTATION_SCAN}
+     * phase.
+     *
+     * @param count the number of classes
+     */
+    public void addScannedClasses(int count) {
+        this.scannedClasses += count;
+    }
+
+    /**
+     * @return the media types consumed by the resource method currently scanned
+     */
+    public String[] getCurrentConsumes() {
+        return currentConsumes;
+    }
+
+    public void setCurrentConsumes(String[] currentConsumes) {
+        this.currentConsumes = currentConsumes;
+    }
+
+    /**
+     * @return the media types produced by the resource method currently scanned
+     */
+    public String[] getCurrentProduces() {
+        return currentProduces;
+    }
+
+    public void setCurrentProduces(String[] currentProduces) {
+        this.currentProduces = currentProduces;
+    }
+
+    /**
+     * @param type the type
+     * @return true if the current scanner considers the type a wrapper of another type
+     */
+    public boolean isWrapperType(Type type) {
+        return currentScanner != null && currentScanner.isWrapperType(type);
+    }
+
+    /**
+     * @param type the type
+     * @return true if the current scanner considers the type an opaque response of its framework
+     */
+    public boolean isScannerInternalResponse(Type type) {
+        return currentScanner != null && currentScanner.isScannerInternalResponse(type);
+    }
+
 }
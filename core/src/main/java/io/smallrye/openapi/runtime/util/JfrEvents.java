@@ -0,0 +1,85 @@
+package io.smallrye.openapi.runtime.util;
+
+import org.jboss.jandex.Type;
+
+import io.smallrye.openapi.runtime.io.Format;
+
+/**
+ * Records Java Flight Recorder events for the expensive steps of building and
+ * serializing the OpenAPI document, so that a recording of a slow startup shows
+ * which resource classes, data objects or models the time was spent on.
+ * <p>
+ * This class records nothing, it is used on Java 8. The multi-release jar contains
+ * another implementation used on Java 11 and later, which records an event for each
+ * span when the event is enabled in the recording and otherwise does nothing either.
+ *
+ * <pre>
+ * try (JfrEvents.Span span = JfrEvents.filter(filter.getClass())) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class JfrEvents {
+
+    /**
+     * The duration of a recorded step, the event is committed when the span is closed.
+     */
+    public interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final Span NONE = () -> {
+    };
+
+    private JfrEvents() {
+    }
+
+    /**
+     * @param scanners the names of the annotation scanners used, all when empty
+     * @return the span of scanning the index for annotations
+     */
+    public static Span annotationScan(String... scanners) {
+        return NONE;
+    }
+
+    /**
+     * @param scanner the name of the annotation scanner
+     * @return the span of a single annotation scanner
+     */
+    public static Span annotationScanner(String scanner) {
+        return NONE;
+    }
+
+    /**
+     * @param rootType the root type of the data object
+     * @return the span of creating the schema of a data object
+     */
+    public static Span dataObjectScan(Type rootType) {
+        return NONE;
+    }
+
+    /**
+     * @param documents the number of documents merged
+     * @return the span of merging OpenAPI documents
+     */
+    public static Span merge(int documents) {
+        return NONE;
+    }
+
+    /**
+     * @param filterClass the class of the filter
+     * @return the span of applying a filter
+     */
+    public static Span filter(Class<?> filterClass) {
+        return NONE;
+    }
+
+    /**
+     * @param format the format of the document
+     * @return the span of serializing the document
+     */
+    public static Span serialize(Format format) {
+        return NONE;
+    }
+}
@@ -11,6 +11,7 @@ import java.util.function.UnaryOperator;
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.Paths;
 import org.eclipse.microprofile.openapi.models.media.Content;
 import org.eclipse.microprofile.openapi.models.media.MediaType;
@@ -22,6 +23,9 @@ import org.eclipse.microprofile.openapi.models.tags.Tag;
 
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.api.models.LazyModelMap;
+import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.PathItemImpl;
 import io.smallrye.openapi.api.models.PathsImpl;
 import io.smallrye.openapi.api.models.media.ContentImpl;
 import io.smallrye.openapi.api.models.media.MediaTypeImpl;
@@ -160,6 +164,108 @@ public class ModelUtil {
         return openApi.getPaths();
     }
 
+    /**
+     * Adds an operation to the {@link PathItem} of the given path, creating the path
+     * item if the path does not have one yet. The path-level parameters are added to
+     * those of the path item, a parameter with the same name and location as one the
+     * path item already has is merged into it. The operation is only merged if the path
+     * item already has an operation for the method.
+     * <p>
+     * The result is the same as merging a new path item holding only the operation and
+     * the parameters into the existing path item, without merging all its properties.
+     * 
+     * @param paths the Paths model
+     * @param path the path of the operation
+     * @param method the HTTP method of the operation
+     * @param operation the operation to add
+     * @param parameters the path-level parameters of the operation, may be null
+     */
+    public static void addOperation(Paths paths, String path, PathItem.HttpMethod method, Operation operation,
+            List<Parameter> parameters) {
+        PathItem pathItem = paths.getPathItem(path);
+
+        if (pathItem == null) {
+            pathItem = new PathItemImpl();
+            pathItem.setParameters(parameters);
+            pathItem.setOperation(method, operation);
+            paths.addPathItem(path, pathItem);
+            return;
+        }
+
+        Operation existingOperation = getOperation(pathItem, method);
+
+        if (existingOperation == null) {
+            pathItem.setOperation(method, operation);
+        } else {
+            pathItem.setOperation(method, MergeUtil.mergeObjects(existingOperation, operation));
+        }
+
+        if (parameters != null) {
+            addParameters(pathItem, parameters);
+        }
+    }
+
+    /**
+     * Gets the operation of the path item for the HTTP method.
+     * 
+     * @param pathItem the path item
+     * @param method the HTTP method
+     * @return the operation or null if the path item has none for the method
+     */
+    public static Operation getOperation(PathItem pathItem, PathItem.HttpMethod method) {
+        switch (method) {
+            case GET:
+                return pathItem.getGET();
+            case PUT:
+                return pathItem.getPUT();
+            case POST:
+                return pathItem.getPOST();
+            case DELETE:
+                return pathItem.getDELETE();
+            case OPTIONS:
+                return pathItem.getOPTIONS();
+            case HEAD:
+                return pathItem.getHEAD();
+            case PATCH:
+                return pathItem.getPATCH();
+            case TRACE:
+                return pathItem.getTRACE();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Adds path-level parameters to the path item, merging each one with an existing
+     * parameter of the same name and location, if any.
+     *
+     * @param pathItem the path item
+     * @param parameters the parameters to add
+     */
+    public static void addParameters(PathItem pathItem, List<Parameter> parameters) {
+        List<Parameter> existingParameters = pathItem.getParameters();
+
+        if (existingParameters == null || existingParameters.isEmpty()) {
+            pathItem.setParameters(parameters);
+        } else if (!existingParameters.equals(parameters)) {
+            for (Parameter parameter : parameters) {
+                Parameter match = null;
+                for (Parameter existing : pathItem.getParameters()) {
+                    if (existing.getName() != null && existing.getName().equals(parameter.getName())
+                            && existing.getIn() != null && existing.getIn().equals(parameter.getIn())) {
+                        match = existing;
+                        break;
+                    }
+                }
+                if (match == null) {
+                    pathItem.addParameter(parameter);
+                } else {
+                    MergeUtil.mergeObjects(match, parameter);
+                }
+            }
+        }
+    }
+
     /**
      * Gets the {@link APIResponses} child model from the given operation. If it's null
      * then it will be created and returned.
@@ -349,6 +455,10 @@ public class ModelUtil {
     }
 
     public static <V> Map<String, V> unmodifiableMap(Map<String, V> map) {
+        if (map instanceof LazyModelMap) {
+            // Keep values that were not accessed yet unmaterialized
+            return ((LazyModelMap<V>) map).unmodifiableView();
+        }
         return map != null ? Collections.unmodifiableMap(map) : null;
     }
 
@@ -358,6 +468,8 @@ public class ModelUtil {
 
         if (modified == null) {
             replacement = null;
+        } else if (modified instanceof LazyModelMap) {
+            replacement = ((LazyModelMap<V>) modified).copy();
         } else {
             replacement = factory.apply(modified);
         }
@@ -370,13 +482,20 @@ public class ModelUtil {
             if (map == null) {
                 map = factory.get();
             }
-            map.put(key, value);
+            if (map instanceof LazyModelMap) {
+                // Do not materialize a replaced value that was not accessed
+                ((LazyModelMap<V>) map).putValue(key, value);
+            } else {
+                map.put(key, value);
+            }
         }
         return map;
     }
 
     public static <V> void remove(Map<String, V> map, String key) {
-        if (map != null) {
+        if (map instanceof LazyModelMap) {
+            ((LazyModelMap<V>) map).removeLazy(key);
+        } else if (map != null) {
             map.remove(key);
         }
     }
@@ -412,4 +531,16 @@ public class ModelUtil {
             list.remove(value);
         }
     }
+
+    /**
+     * Verifies that the model object may still be modified.
+     *
+     * @param model the model object
+     * @throws UnsupportedOperationException if the model object has been frozen
+     */
+    public static void checkNotFrozen(ModelImpl model) {
+        if (model.isFrozen()) {
+            throw UtilMessages.msg.modelFrozen(model.getClass().getSimpleName());
+        }
+    }
 }
@@ -14,4 +14,7 @@ interface UtilMessages {
 
     @Message(id = 8001, value = "Unknown primitive: %s")
     IllegalArgumentException unknownPrimitive(PrimitiveType primitive);
+
+    @Message(id = 8002, value = "Model %s is frozen and cannot be modified")
+    UnsupportedOperationException modelFrozen(String modelType);
 }
@@ -0,0 +1,185 @@
+package io.smallrye.openapi.runtime.util;
+
+import org.jboss.jandex.Type;
+
+import io.smallrye.openapi.runtime.io.Format;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Records Java Flight Recorder events for the expensive steps of building and
+ * serializing the OpenAPI document, so that a recording of a slow startup shows
+ * which resource classes, data objects or models the time was spent on.
+ * <p>
+ * An event is only created and committed when it is enabled in a running recording.
+ * Otherwise the spans returned do nothing and no event is allocated.
+ */
+public final class JfrEvents {
+
+    /**
+     * The duration of a recorded step, the event is committed when the span is closed.
+     */
+    public interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final Span NONE = () -> {
+    };
+
+    private static final String CATEGORY = "SmallRye OpenAPI";
+
+    private static final EventType ANNOTATION_SCAN = eventType(AnnotationScanEvent.class);
+    private static final EventType ANNOTATION_SCANNER = eventType(AnnotationScannerEvent.class);
+    private static final EventType DATA_OBJECT_SCAN = eventType(DataObjectScanEvent.class);
+    private static final EventType MERGE = eventType(MergeEvent.class);
+    private static final EventType FILTER = eventType(FilterEvent.class);
+    private static final EventType SERIALIZE = eventType(SerializeEvent.class);
+
+    private JfrEvents() {
+    }
+
+    private static EventType eventType(Class<? extends Event> eventClass) {
+        try {
+            return EventType.getEventType(eventClass);
+        } catch (InternalError | RuntimeException e) {
+            // Flight Recorder is not supported by this VM
+            return null;
+        }
+    }
+
+    private static boolean isEnabled(EventType eventType) {
+        return eventType != null && eventType.isEnabled();
+    }
+
+    public static Span annotationScan(String... scanners) {
+        if (!isEnabled(ANNOTATION_SCAN)) {
+            return NONE;
+        }
+        AnnotationScanEvent event = new AnnotationScanEvent();
+        event.scanners = scanners == null || scanners.length == 0 ? "*" : String.join(",", scanners);
+        return event.start();
+    }
+
+    public static Span annotationScanner(String scanner) {
+        if (!isEnabled(ANNOTATION_SCANNER)) {
+            return NONE;
+        }
+        AnnotationScannerEvent event = new AnnotationScannerEvent();
+        event.scanner = scanner;
+        return event.start();
+    }
+
+    public static Span dataObjectScan(Type rootType) {
+        if (!isEnabled(DATA_OBJECT_SCAN)) {
+            return NONE;
+        }
+        DataObjectScanEvent event = new DataObjectScanEvent();
+        event.rootType = String.valueOf(rootType);
+        return event.start();
+    }
+
+    public static Span merge(int documents) {
+        if (!isEnabled(MERGE)) {
+            return NONE;
+        }
+        MergeEvent event = new MergeEvent();
+        event.documents = documents;
+        return event.start();
+    }
+
+    public static Span filter(Class<?> filterClass) {
+        if (!isEnabled(FILTER)) {
+            return NONE;
+        }
+        FilterEvent event = new FilterEvent();
+        event.filterClass = filterClass;
+        return event.start();
+    }
+
+    public static Span serialize(Format format) {
+        if (!isEnabled(SERIALIZE)) {
+            return NONE;
+        }
+        SerializeEvent event = new SerializeEvent();
+        event.format = String.valueOf(format);
+        return event.start();
+    }
+
+    abstract static class SpanEvent extends Event implements Span {
+        Span start() {
+            begin();
+            return this;
+        }
+
+        @Override
+        public void close() {
+            commit();
+        }
+    }
+
+    @Name("io.smallrye.openapi.AnnotationScan")
+    @Label("Annotation Scan")
+    @Description("Scanning the index for the annotations of the OpenAPI document")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class AnnotationScanEvent extends SpanEvent {
+        @Label("Scanners")
+        String scanners;
+    }
+
+    @Name("io.smallrye.openapi.AnnotationScanner")
+    @Label("Annotation Scanner")
+    @Description("Scanning the resource classes of a framework")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class AnnotationScannerEvent extends SpanEvent {
+        @Label("Scanner")
+        String scanner;
+    }
+
+    @Name("io.smallrye.openapi.DataObjectScan")
+    @Label("Data Object Scan")
+    @Description("Creating the schema of a data object and the types it references")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class DataObjectScanEvent extends SpanEvent {
+        @Label("Root Type")
+        String rootType;
+    }
+
+    @Name("io.smallrye.openapi.Merge")
+    @Label("Model Merge")
+    @Description("Merging OpenAPI documents")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class MergeEvent extends SpanEvent {
+        @Label("Documents")
+        int documents;
+    }
+
+    @Name("io.smallrye.openapi.Filter")
+    @Label("Filter")
+    @Description("Applying a filter to the OpenAPI document")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class FilterEvent extends SpanEvent {
+        @Label("Filter Class")
+        Class<?> filterClass;
+    }
+
+    @Name("io.smallrye.openapi.Serialize")
+    @Label("Serialization")
+    @Description("Serializing the OpenAPI document")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class SerializeEvent extends SpanEvent {
+        @Label("Format")
+        String format;
+    }
+}
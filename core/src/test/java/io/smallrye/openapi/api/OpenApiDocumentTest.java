@@ -0,0 +1,194 @@
+package io.smallrye.openapi.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.util.FreezeUtil;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class OpenApiDocumentTest {
+
+    private static OpenAPI model(String title) {
+        return OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .info(OASFactory.createInfo().title(title).version("1.0"))
+                .paths(OASFactory.createPaths());
+    }
+
+    @Test
+    void testSerializedDocumentMatchesSerializer() throws IOException {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        OpenAPI model = model("Test");
+        document.set(model);
+
+        for (Format format : Format.values()) {
+            SerializedDocument serialized = document.getSerialized(format);
+            String expected = OpenApiSerializer.serialize(model, format);
+
+            Assertions.assertEquals(format, serialized.getFormat());
+            Assertions.assertEquals(expected, new String(serialized.getBytes(), StandardCharsets.UTF_8));
+            Assertions.assertEquals(serialized.getLength(), serialized.asByteBuffer().remaining());
+
+            try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(serialized.getGzipBytes()))) {
+                Assertions.assertEquals(expected, IOUtils.toString(gzip, StandardCharsets.UTF_8));
+            }
+
+            Assertions.assertTrue(serialized.getETag().startsWith("\""));
+            Assertions.assertTrue(serialized.getETag().endsWith("\""));
+            Assertions.assertNotEquals(serialized.getETag(), serialized.getGzipETag());
+        }
+    }
+
+    @Test
+    void testSerializedDocumentCachedUntilModelChanges() {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        document.set(model("Test"));
+
+        SerializedDocument json = document.getSerialized(Format.JSON);
+        Assertions.assertSame(json, document.getSerialized(Format.JSON));
+        Assertions.assertNotSame(json, document.getSerialized(Format.YAML));
+
+        // An equal model produces the same entity tag
+        document.set(model("Test"));
+        SerializedDocument equal = document.getSerialized(Format.JSON);
+        Assertions.assertNotSame(json, equal);
+        Assertions.assertEquals(json.getETag(), equal.getETag());
+
+        document.set(model("Changed"));
+        Assertions.assertNotEquals(json.getETag(), document.getSerialized(Format.JSON).getETag());
+
+        document.reset();
+        Assertions.assertThrows(IllegalStateException.class, () -> document.getSerialized(Format.JSON));
+    }
+
+    @Test
+    void testSerializedDocumentCreatedOncePerFormat() throws Exception {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        document.set(model("Concurrent"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<SerializedDocument>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                Format format = i % 2 == 0 ? Format.JSON : Format.YAML;
+                results.add(executor.submit(() -> document.getSerialized(format)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                Format format = i % 2 == 0 ? Format.JSON : Format.YAML;
+                Assertions.assertSame(document.getSerialized(format), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testSerializedBytesAreNotShared() {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        document.set(model("Test"));
+
+        SerializedDocument json = document.getSerialized(Format.JSON);
+        byte[] bytes = json.getBytes();
+        bytes[0] = 'x';
+
+        Assertions.assertNotEquals('x', json.getBytes()[0]);
+        Assertions.assertTrue(json.asByteBuffer().isReadOnly());
+    }
+
+    @Test
+    void testModelFrozenWhenEnabled() {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        document.config(new OpenApiConfig() {
+            @Override
+            public boolean freezeModelEnable() {
+                return true;
+            }
+        });
+        document.modelFromStaticFile(model("Test"));
+        document.initialize();
+
+        OpenAPI model = document.get();
+        Assertions.assertTrue(FreezeUtil.isFrozen(model));
+        Assertions.assertTrue(FreezeUtil.isFrozen(model.getInfo()));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> model.getInfo().setTitle("Changed"));
+    }
+
+    @Test
+    void testLazyModelSuppliedOnce() throws Exception {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        document.setLazy(() -> {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return model("Lazy");
+        });
+        Assertions.assertTrue(document.isSet());
+        Assertions.assertEquals(0, calls.get());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<OpenAPI>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(document::get));
+            }
+            started.await();
+            release.countDown();
+
+            OpenAPI model = results.get(0).get();
+            Assertions.assertEquals("Lazy", model.getInfo().getTitle());
+            for (Future<OpenAPI> result : results) {
+                Assertions.assertSame(model, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertThrows(IllegalStateException.class, () -> document.initialize());
+    }
+
+    @Test
+    void testLazyModelRetriedAfterFailure() {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        AtomicInteger calls = new AtomicInteger();
+
+        document.setLazy(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("First build fails");
+            }
+            return model("Retried");
+        });
+
+        Assertions.assertThrows(IllegalStateException.class, document::get);
+        Assertions.assertNotNull(document.getSerialized(Format.JSON));
+        Assertions.assertEquals("Retried", document.get().getInfo().getTitle());
+        Assertions.assertEquals(2, calls.get());
+
+        document.reset();
+        Assertions.assertFalse(document.isSet());
+    }
+}
@@ -0,0 +1,114 @@
+package io.smallrye.openapi.api.models;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LazyModelMapTest {
+
+    private static final int ENTRIES = 500;
+    private static final int THREADS = 8;
+
+    @Test
+    void testConcurrentReadsMaterializeOnce() throws Exception {
+        LazyModelMap<Schema> map = new LazyModelMap<>();
+        AtomicInteger created = new AtomicInteger();
+
+        for (int i = 0; i < ENTRIES; i++) {
+            map.putLazy("Schema" + i, () -> {
+                created.incrementAndGet();
+                return OASFactory.createSchema();
+            });
+        }
+
+        Map<String, Schema> view = map.unmodifiableView();
+        List<Callable<List<Schema>>> readers = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            boolean byEntries = t % 2 == 0;
+            readers.add(() -> {
+                List<Schema> values = new ArrayList<>(ENTRIES);
+                if (byEntries) {
+                    view.entrySet().forEach(entry -> values.add(entry.getValue()));
+                } else {
+                    view.keySet().forEach(key -> values.add(view.get(key)));
+                }
+                return values;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<List<Schema>> results = new ArrayList<>();
+        try {
+            for (Future<List<Schema>> result : executor.invokeAll(readers)) {
+                results.add(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertEquals(ENTRIES, created.get());
+        Assertions.assertEquals(ENTRIES, map.size());
+
+        List<Schema> expected = results.get(0);
+        for (List<Schema> values : results) {
+            for (int i = 0; i < ENTRIES; i++) {
+                Assertions.assertSame(expected.get(i), values.get(i));
+            }
+        }
+        for (int i = 0; i < ENTRIES; i++) {
+            Assertions.assertTrue(map.isMaterialized("Schema" + i));
+            Assertions.assertSame(expected.get(i), map.get("Schema" + i));
+        }
+    }
+
+    @Test
+    void testCopySharesPendingValues() {
+        LazyModelMap<Schema> map = new LazyModelMap<>();
+        map.putLazy("A", OASFactory::createSchema);
+
+        LazyModelMap<Schema> copy = map.copy();
+        Assertions.assertFalse(map.isMaterialized("A"));
+        Assertions.assertFalse(copy.isMaterialized("A"));
+
+        Schema schema = copy.get("A");
+        Assertions.assertTrue(map.isMaterialized("A"));
+        Assertions.assertSame(schema, map.get("A"));
+
+        copy.remove("A");
+        Assertions.assertTrue(map.containsKey("A"));
+    }
+
+    @Test
+    void testReplaceAndRemoveWithoutMaterializing() {
+        LazyModelMap<Schema> map = new LazyModelMap<>();
+        AtomicInteger created = new AtomicInteger();
+        map.putLazy("A", () -> {
+            created.incrementAndGet();
+            return OASFactory.createSchema();
+        });
+        map.putLazy("B", () -> {
+            created.incrementAndGet();
+            return OASFactory.createSchema();
+        });
+
+        Schema replacement = OASFactory.createSchema();
+        map.putValue("A", replacement);
+        Assertions.assertTrue(map.removeLazy("B"));
+        Assertions.assertFalse(map.removeLazy("B"));
+
+        Assertions.assertEquals(0, created.get());
+        Assertions.assertSame(replacement, map.get("A"));
+        Assertions.assertFalse(map.containsKey("B"));
+    }
+}
@@ -0,0 +1,161 @@
+package io.smallrye.openapi.api.models.media;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.media.XML;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import io.smallrye.openapi.api.models.ExtensibleImpl;
+
+class SchemaImplTest {
+
+    /**
+     * The fields of {@link SchemaImpl} before its properties were packed into an array,
+     * one for each property.
+     */
+    @SuppressWarnings("unused")
+    static class FieldPerPropertySchema extends ExtensibleImpl<FieldPerPropertySchema> {
+        private String ref;
+        private String format;
+        private final String name = null;
+        private String title;
+        private String description;
+        private Object defaultValue;
+        private BigDecimal multipleOf;
+        private BigDecimal maximum;
+        private Boolean exclusiveMaximum;
+        private BigDecimal minimum;
+        private Boolean exclusiveMinimum;
+        private Integer maxLength;
+        private Integer minLength;
+        private String pattern;
+        private Integer maxItems;
+        private Integer minItems;
+        private Boolean uniqueItems;
+        private Integer maxProperties;
+        private Integer minProperties;
+        private List<String> required;
+        private List<Object> enumeration;
+        private SchemaType type;
+        private Schema items;
+        private List<Schema> allOf;
+        private Map<String, Schema> properties;
+        private Schema additionalPropertiesSchema;
+        private Boolean additionalPropertiesBoolean;
+        private Boolean readOnly;
+        private XML xml;
+        private ExternalDocumentation externalDocs;
+        private Object example;
+        private List<Schema> oneOf;
+        private List<Schema> anyOf;
+        private Schema not;
+        private Discriminator discriminator;
+        private Boolean nullable;
+        private Boolean writeOnly;
+        private Boolean deprecated;
+        private int modCount;
+    }
+
+    @Test
+    void testPropertiesSetInAnyOrder() {
+        Schema items = OASFactory.createSchema().type(SchemaType.INTEGER);
+        SchemaImpl schema = new SchemaImpl();
+
+        schema.setDeprecated(Boolean.TRUE);
+        schema.setRef("MySchema");
+        schema.setMaximum(BigDecimal.TEN);
+        schema.setItems(items);
+        schema.setTitle("Title");
+        schema.addRequired("name");
+
+        Assertions.assertEquals(Boolean.TRUE, schema.getDeprecated());
+        Assertions.assertEquals("#/components/schemas/MySchema", schema.getRef());
+        Assertions.assertEquals(BigDecimal.TEN, schema.getMaximum());
+        Assertions.assertSame(items, schema.getItems());
+        Assertions.assertEquals("Title", schema.getTitle());
+        Assertions.assertEquals(Arrays.asList("name"), schema.getRequired());
+        Assertions.assertNull(schema.getDescription());
+        Assertions.assertNull(schema.getMinimum());
+
+        schema.setMaximum(null);
+        schema.setRef(null);
+        schema.setTitle("Other");
+
+        Assertions.assertNull(schema.getMaximum());
+        Assertions.assertNull(schema.getRef());
+        Assertions.assertEquals("Other", schema.getTitle());
+        Assertions.assertEquals(Boolean.TRUE, schema.getDeprecated());
+        Assertions.assertSame(items, schema.getItems());
+        Assertions.assertEquals(Arrays.asList("name"), schema.getRequired());
+
+        schema.setAdditionalPropertiesBoolean(Boolean.FALSE);
+        schema.setAdditionalPropertiesSchema(items);
+        Assertions.assertNull(schema.getAdditionalPropertiesBoolean());
+        Assertions.assertSame(items, schema.getAdditionalPropertiesSchema());
+    }
+
+    @Test
+    void testCopyOfSharesSubSchemasOnly() {
+        Schema name = OASFactory.createSchema().type(SchemaType.STRING);
+        SchemaImpl schema = new SchemaImpl("Person");
+        schema.type(SchemaType.OBJECT)
+                .description("A person")
+                .addProperty("name", name)
+                .addRequired("name")
+                .addEnumeration("x")
+                .addExtension("x-person", Boolean.TRUE);
+
+        Schema copy = SchemaImpl.copyOf(schema);
+
+        Assertions.assertNotSame(schema, copy);
+        Assertions.assertNull(((SchemaImpl) copy).getName());
+        Assertions.assertFalse(SchemaImpl.isNamed(copy));
+        Assertions.assertEquals(SchemaType.OBJECT, copy.getType());
+        Assertions.assertEquals("A person", copy.getDescription());
+        Assertions.assertSame(name, copy.getProperties().get("name"));
+        Assertions.assertEquals(Arrays.asList("name"), copy.getRequired());
+        Assertions.assertEquals(Arrays.asList("x"), copy.getEnumeration());
+        Assertions.assertEquals(Boolean.TRUE, copy.getExtensions().get("x-person"));
+
+        copy.addProperty("age", OASFactory.createSchema().type(SchemaType.INTEGER));
+        copy.addRequired("age");
+        copy.addExtension("x-copy", Boolean.TRUE);
+        copy.setDescription("A copy");
+
+        Assertions.assertEquals(1, schema.getProperties().size());
+        Assertions.assertEquals(Arrays.asList("name"), schema.getRequired());
+        Assertions.assertEquals(1, schema.getExtensions().size());
+        Assertions.assertEquals("A person", schema.getDescription());
+        Assertions.assertNull(SchemaImpl.copyOf(null).getType());
+    }
+
+    @Test
+    void testPropertySchemaFootprint() {
+        SchemaImpl schema = new SchemaImpl();
+        schema.setType(SchemaType.STRING);
+        schema.setFormat("date");
+        schema.setDescription("The date of birth");
+
+        // Only count the schema's own storage, not the values it holds
+        long footprint = GraphLayout.parseInstance(schema)
+                .subtract(GraphLayout.parseInstance(SchemaType.STRING, "date", "The date of birth"))
+                .totalSize();
+
+        // The field-per-property schema holds no objects of its own besides the values
+        long fieldPerProperty = ClassLayout.parseClass(FieldPerPropertySchema.class).instanceSize();
+
+        Assertions.assertTrue(footprint * 2 < fieldPerProperty,
+                () -> "Schema footprint " + footprint + " not less than half of " + fieldPerProperty);
+    }
+}
@@ -0,0 +1,169 @@
+package io.smallrye.openapi.api.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.models.LazyModelMap;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class CopyUtilTest {
+
+    private static final OpenApiConfig LAZY_PARSER_CONFIG = new OpenApiConfig() {
+        @Override
+        public boolean lazyParserEnable() {
+            return true;
+        }
+    };
+
+    private static OpenAPI parse(String resource, OpenApiConfig config) throws IOException {
+        Format format = resource.endsWith(".json") ? Format.JSON : Format.YAML;
+        try (InputStream stream = CopyUtilTest.class.getResourceAsStream(resource)) {
+            return OpenApiParser.parse(stream, format, config);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "filter-before.json",
+            "/io/smallrye/openapi/runtime/io/_everything.json",
+            "/io/smallrye/openapi/runtime/io/_everything.yaml",
+            "/io/smallrye/openapi/runtime/io/schemas-with-allOf.json",
+            "/io/smallrye/openapi/runtime/io/extensions.json" })
+    void testDeepCopyMatchesOriginal(String resource) throws IOException {
+        OpenAPI model = parse(resource, null);
+        OpenAPI copy = CopyUtil.deepCopy(model);
+
+        Assertions.assertNotSame(model, copy);
+        Assertions.assertEquals(OpenApiSerializer.serialize(model, Format.JSON),
+                OpenApiSerializer.serialize(copy, Format.JSON));
+    }
+
+    @Test
+    void testSharedSchemasRemainSharedInDeepCopy() {
+        Schema shared = OASFactory.createSchema().type(Schema.SchemaType.STRING);
+        Schema schema = OASFactory.createSchema()
+                .addProperty("first", shared)
+                .addProperty("second", shared)
+                .items(shared);
+
+        Schema copy = CopyUtil.deepCopy(schema);
+
+        Assertions.assertNotSame(shared, copy.getItems());
+        Assertions.assertSame(copy.getItems(), copy.getProperties().get("first"));
+        Assertions.assertSame(copy.getItems(), copy.getProperties().get("second"));
+        Assertions.assertEquals(Schema.SchemaType.STRING, copy.getItems().getType());
+    }
+
+    @Test
+    void testShallowCopySharesNestedModels() throws IOException {
+        OpenAPI model = parse("filter-before.json", null);
+        OpenAPI copy = CopyUtil.shallowCopy(model);
+
+        Assertions.assertNotSame(model, copy);
+        Assertions.assertSame(model.getInfo(), copy.getInfo());
+        Assertions.assertSame(model.getComponents(), copy.getComponents());
+        Assertions.assertEquals(model.getTags(), copy.getTags());
+
+        copy.addTag(OASFactory.createTag().name("added"));
+        Assertions.assertTrue(model.getTags().stream().noneMatch(tag -> "added".equals(tag.getName())));
+        Assertions.assertEquals(OpenApiSerializer.serialize(parse("filter-before.json", null), Format.JSON),
+                OpenApiSerializer.serialize(model, Format.JSON));
+    }
+
+    @Test
+    void testCopyOfFrozenModelIsModifiable() throws IOException {
+        OpenAPI model = FreezeUtil.freeze(parse("filter-before.json", null));
+        String original = OpenApiSerializer.serialize(model, Format.JSON);
+
+        OpenAPI copy = CopyUtil.deepCopy(model);
+        Schema schema = copy.getComponents().getSchemas().values().iterator().next();
+
+        Assertions.assertFalse(FreezeUtil.isFrozen(copy));
+        Assertions.assertFalse(FreezeUtil.isFrozen(schema));
+        Assertions.assertNotSame(model.getComponents().getSchemas().values().iterator().next(), schema);
+
+        copy.getInfo().setTitle("Changed");
+        schema.setDescription("Changed");
+        copy.getPaths().getPathItems().values().iterator().next().setSummary("Changed");
+
+        Assertions.assertEquals(original, OpenApiSerializer.serialize(model, Format.JSON));
+    }
+
+    @Test
+    void testFilteredCopyLeavesOriginalUnchanged() throws IOException {
+        OpenAPI model = FreezeUtil.freeze(parse("filter-before.json", null));
+        String original = OpenApiSerializer.serialize(model, Format.JSON);
+
+        OpenAPI filtered = CopyUtil.filteredCopy(new OASFilter() {
+            @Override
+            public Tag filterTag(Tag tag) {
+                return "tag-1".equals(tag.getName()) ? null : tag;
+            }
+
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                openAPI.getInfo().setTitle("Updated API Title");
+            }
+        }, model);
+
+        Assertions.assertEquals("Updated API Title", filtered.getInfo().getTitle());
+        Assertions.assertTrue(filtered.getTags().stream().noneMatch(tag -> "tag-1".equals(tag.getName())));
+        Assertions.assertTrue(model.getTags().stream().anyMatch(tag -> "tag-1".equals(tag.getName())));
+        Assertions.assertEquals(original, OpenApiSerializer.serialize(model, Format.JSON));
+    }
+
+    @Test
+    void testLazyValuesCopiedOnAccess() throws IOException {
+        OpenAPI model = parse("filter-before.json", LAZY_PARSER_CONFIG);
+        OpenAPI copy = CopyUtil.deepCopy(model);
+
+        LazyModelMap<Schema> schemas = (LazyModelMap<Schema>) model.getComponents().getSchemas();
+        LazyModelMap<Schema> copiedSchemas = (LazyModelMap<Schema>) copy.getComponents().getSchemas();
+
+        Assertions.assertEquals(schemas.keySet(), copiedSchemas.keySet());
+        for (String name : schemas.keySet()) {
+            Assertions.assertFalse(schemas.isMaterialized(name));
+            Assertions.assertFalse(copiedSchemas.isMaterialized(name));
+        }
+
+        for (Map.Entry<String, Schema> entry : copiedSchemas.entrySet()) {
+            Assertions.assertNotSame(schemas.get(entry.getKey()), entry.getValue());
+            Assertions.assertEquals(OpenApiSerializer.serialize(model, Format.JSON),
+                    OpenApiSerializer.serialize(copy, Format.JSON));
+        }
+    }
+
+    @Test
+    void testLazyValuesCopiedFromRawValue() throws IOException {
+        OpenAPI model = parse("filter-before.json", LAZY_PARSER_CONFIG);
+        OpenAPI copy = CopyUtil.deepCopy(model);
+
+        LazyModelMap<Schema> schemas = (LazyModelMap<Schema>) model.getComponents().getSchemas();
+        LazyModelMap<Schema> copiedSchemas = (LazyModelMap<Schema>) copy.getComponents().getSchemas();
+        Iterator<String> names = schemas.keySet().iterator();
+        String name = names.next();
+
+        Assertions.assertNotNull(copiedSchemas.get(name));
+        Assertions.assertFalse(schemas.isMaterialized(name));
+
+        // A later change to the original does not reach a copied value that was not accessed yet
+        String other = names.next();
+        schemas.get(other).setTitle("Modified");
+        Assertions.assertNotEquals("Modified", copiedSchemas.get(other).getTitle());
+    }
+}
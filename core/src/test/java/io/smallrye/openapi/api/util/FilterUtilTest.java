@@ -2,16 +2,25 @@ package io.smallrye.openapi.api.util;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.openapi.OASFactory;
 import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
 import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 import org.json.JSONException;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 
@@ -130,4 +139,166 @@ class FilterUtilTest {
         };
     }
 
+    @Test
+    void testParallelFilterMatchesSequentialFilter() throws Exception {
+        URL beforeUrl = FilterUtilTest.class.getResource("filter-before.json");
+
+        OpenAPI sequential = FilterUtil.applyFilter(new RemovingFilter(), OpenApiParser.parse(beforeUrl));
+        OpenAPI parallel = FilterUtil.applyFilter(new ThreadSafeRemovingFilter(), OpenApiParser.parse(beforeUrl));
+
+        Assertions.assertTrue(parallel.getComponents().getSchemas().isEmpty());
+        Assertions.assertNull(parallel.getPaths().getPathItem("/foo/{fooId}"));
+        Assertions.assertNotNull(parallel.getPaths().getPathItem("/foo"));
+        Assertions.assertEquals(OpenApiSerializer.serialize(sequential, Format.JSON),
+                OpenApiSerializer.serialize(parallel, Format.JSON));
+    }
+
+    @Test
+    void testParallelFilterWithSharedSchema() {
+        Schema shared = OASFactory.createSchema()
+                .addProperty("kept", OASFactory.createSchema().type(Schema.SchemaType.STRING))
+                .addProperty("removed", OASFactory.createSchema().type(Schema.SchemaType.STRING).title("removed"));
+        Components components = OASFactory.createComponents();
+
+        for (int i = 0; i < 1000; i++) {
+            components.addSchema("Schema" + i, OASFactory.createSchema().addProperty("shared", shared));
+        }
+
+        OpenAPI model = FilterUtil.applyFilter(new ThreadSafeRemovingFilter(),
+                OASFactory.createOpenAPI().components(components));
+
+        Assertions.assertEquals(1000, model.getComponents().getSchemas().size());
+        Assertions.assertEquals(Collections.singleton("kept"), shared.getProperties().keySet());
+    }
+
+    @Test
+    void testFilterAddsWhileFiltering() {
+        Components components = OASFactory.createComponents()
+                .addSchema("A", OASFactory.createSchema().title("A"))
+                .addSchema("B", OASFactory.createSchema().title("B"));
+        OpenAPI model = OASFactory.createOpenAPI()
+                .components(components)
+                .addTag(OASFactory.createTag().name("tag-1"));
+        List<String> visited = new ArrayList<>();
+
+        FilterUtil.applyFilter(new OASFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                visited.add(schema.getTitle());
+                if ("A".equals(schema.getTitle())) {
+                    components.addSchema("Added", OASFactory.createSchema().title("Added"));
+                }
+                return schema;
+            }
+
+            @Override
+            public Tag filterTag(Tag tag) {
+                if ("tag-1".equals(tag.getName())) {
+                    model.addTag(OASFactory.createTag().name("tag-2"));
+                }
+                return tag;
+            }
+        }, model);
+
+        Assertions.assertEquals(Arrays.asList("A", "B", "Added"), visited);
+        Assertions.assertEquals(Arrays.asList("A", "B", "Added"),
+                new ArrayList<>(model.getComponents().getSchemas().keySet()));
+        Assertions.assertEquals(2, model.getTags().size());
+        Assertions.assertEquals("tag-2", model.getTags().get(1).getName());
+    }
+
+    @Test
+    void testFilterRemovesAfterVisiting() {
+        Components components = OASFactory.createComponents()
+                .addSchema("A", OASFactory.createSchema().title("A"))
+                .addSchema("B", OASFactory.createSchema().title("B"))
+                .addSchema("C", OASFactory.createSchema().title("C"));
+        OpenAPI model = OASFactory.createOpenAPI().components(components);
+        List<String> seenByB = new ArrayList<>();
+        List<String> visited = new ArrayList<>();
+
+        FilterUtil.applyFilter(new OASFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                visited.add(schema.getTitle());
+                switch (schema.getTitle()) {
+                    case "A":
+                        return null;
+                    case "B":
+                        seenByB.addAll(components.getSchemas().keySet());
+                        components.removeSchema("C");
+                        return schema;
+                    default:
+                        return schema;
+                }
+            }
+        }, model);
+
+        // Removals by the filter utility are deferred, the ones made by the filter are not
+        Assertions.assertEquals(Arrays.asList("A", "B", "C"), seenByB);
+        Assertions.assertEquals(Arrays.asList("A", "B"), visited);
+        Assertions.assertEquals(Collections.singleton("B"), model.getComponents().getSchemas().keySet());
+    }
+
+    @Test
+    void testFilterReplacesWhileFiltering() {
+        Components components = OASFactory.createComponents()
+                .addSchema("A", OASFactory.createSchema().title("A"))
+                .addSchema("B", OASFactory.createSchema().title("B"))
+                .addSchema("C", OASFactory.createSchema().title("C"));
+        OpenAPI model = OASFactory.createOpenAPI().components(components);
+        List<String> visited = new ArrayList<>();
+
+        FilterUtil.applyFilter(new OASFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                visited.add(schema.getTitle());
+                if ("A".equals(schema.getTitle())) {
+                    // Same size, so only detected by the failing iterator
+                    components.removeSchema("B");
+                    components.addSchema("D", OASFactory.createSchema().title("D"));
+                }
+                return schema;
+            }
+        }, model);
+
+        Assertions.assertEquals(Arrays.asList("A", "C", "D"), visited);
+        Assertions.assertEquals(Arrays.asList("A", "C", "D"),
+                new ArrayList<>(model.getComponents().getSchemas().keySet()));
+    }
+
+    /**
+     * Removes some of the path items, components and properties of schemas.
+     */
+    static class RemovingFilter implements OASFilter {
+        @Override
+        public PathItem filterPathItem(PathItem pathItem) {
+            return pathItem.getRef() != null ? null : pathItem;
+        }
+
+        @Override
+        public Operation filterOperation(Operation operation) {
+            operation.setDescription("Filtered: " + operation.getDescription());
+            return operation;
+        }
+
+        @Override
+        public Schema filterSchema(Schema schema) {
+            boolean empty = schema.getType() == null && schema.getRef() == null && schema.getProperties() == null;
+            return empty || "removed".equals(schema.getTitle()) ? null : schema;
+        }
+
+        @Override
+        public Parameter filterParameter(Parameter parameter) {
+            return "Param1".equals(parameter.getName()) ? null : parameter;
+        }
+
+        @Override
+        public Tag filterTag(Tag tag) {
+            return "tag-1".equals(tag.getName()) ? null : tag;
+        }
+    }
+
+    static class ThreadSafeRemovingFilter extends RemovingFilter implements ThreadSafeFilter {
+    }
 }
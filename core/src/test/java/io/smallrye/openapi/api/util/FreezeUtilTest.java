@@ -0,0 +1,112 @@
+package io.smallrye.openapi.api.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.models.LazyModelMap;
+import io.smallrye.openapi.api.models.PathsImpl;
+import io.smallrye.openapi.api.models.security.SecurityRequirementImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class FreezeUtilTest {
+
+    private static final OpenApiConfig LAZY_PARSER_CONFIG = new OpenApiConfig() {
+        @Override
+        public boolean lazyParserEnable() {
+            return true;
+        }
+    };
+
+    private static OpenAPI parse(String resource, OpenApiConfig config) throws IOException {
+        try (InputStream stream = FreezeUtilTest.class.getResourceAsStream(resource)) {
+            return OpenApiParser.parse(stream, Format.JSON, config);
+        }
+    }
+
+    @Test
+    void testMapModelViewsOfEmptyModel() {
+        PathsImpl paths = new PathsImpl();
+        Set<String> names = paths.keySet();
+        paths.addPathItem("/foo", OASFactory.createPathItem());
+        Assertions.assertEquals(Collections.singleton("/foo"), names);
+
+        PathsImpl frozen = new PathsImpl();
+        FreezeUtil.freeze(frozen);
+        Assertions.assertTrue(frozen.keySet().isEmpty());
+        Assertions.assertTrue(frozen.values().isEmpty());
+        Assertions.assertTrue(frozen.entrySet().isEmpty());
+        Assertions.assertNull(frozen.getPathItems());
+    }
+
+    @Test
+    void testFrozenModelRejectsModification() throws IOException {
+        OpenAPI model = parse("filter-before.json", null);
+        FreezeUtil.freeze(model);
+
+        PathItem pathItem = model.getPaths().getPathItems().values().iterator().next();
+        Schema schema = model.getComponents().getSchemas().values().iterator().next();
+
+        Assertions.assertTrue(FreezeUtil.isFrozen(model));
+        Assertions.assertTrue(FreezeUtil.isFrozen(pathItem));
+        Assertions.assertTrue(FreezeUtil.isFrozen(schema));
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> model.setOpenapi("3.0.0"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> model.getInfo().setTitle("Changed"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> model.getPaths().removePathItem("/foo"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> pathItem.setSummary("Changed"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> schema.addRequired("name"));
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> model.getComponents().getSchemas().put("Other", OASFactory.createSchema()));
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> model.addExtension("x-changed", Boolean.TRUE));
+    }
+
+    @Test
+    void testFrozenMapModelsRejectModification() {
+        SecurityRequirement requirement = OASFactory.createSecurityRequirement().addScheme("oauth", "read");
+        OpenAPI model = OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths().addPathItem("/foo", OASFactory.createPathItem()))
+                .addSecurityRequirement(requirement);
+        FreezeUtil.freeze(model);
+
+        @SuppressWarnings("unchecked")
+        Map<String, PathItem> paths = (Map<String, PathItem>) model.getPaths();
+
+        Assertions.assertEquals(1, paths.size());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> paths.put("/bar", OASFactory.createPathItem()));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> paths.keySet().clear());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> requirement.addScheme("basic"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> requirement.getScheme("oauth").add("write"));
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> ((SecurityRequirementImpl) requirement).entrySet().iterator().next().setValue(Collections.emptyList()));
+    }
+
+    @Test
+    void testFreezeMaterializesLazyValues() throws IOException {
+        OpenAPI model = parse("filter-before.json", LAZY_PARSER_CONFIG);
+        String expected = OpenApiSerializer.serialize(parse("filter-before.json", null), Format.JSON);
+
+        Map<String, Schema> schemas = model.getComponents().getSchemas();
+        Assertions.assertTrue(schemas instanceof LazyModelMap);
+        FreezeUtil.freeze(model);
+
+        for (String name : schemas.keySet()) {
+            Assertions.assertTrue(((LazyModelMap<Schema>) schemas).isMaterialized(name));
+        }
+        Assertions.assertEquals(expected, OpenApiSerializer.serialize(model, Format.JSON));
+    }
+}
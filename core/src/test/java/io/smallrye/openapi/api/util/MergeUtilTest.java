@@ -1,15 +1,25 @@
 package io.smallrye.openapi.api.util;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.io.IOUtils;
+import org.eclipse.microprofile.openapi.OASFactory;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.json.JSONException;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.models.LazyModelMap;
 import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
 import io.smallrye.openapi.runtime.io.OpenApiSerializer;
@@ -19,6 +29,13 @@ import io.smallrye.openapi.runtime.io.OpenApiSerializer;
  */
 class MergeUtilTest {
 
+    private static final OpenApiConfig LAZY_PARSER_CONFIG = new OpenApiConfig() {
+        @Override
+        public boolean lazyParserEnable() {
+            return true;
+        }
+    };
+
     /**
      * Loads a resource as a string (reads the content at the URL).
      * 
@@ -40,6 +57,18 @@ class MergeUtilTest {
         JSONAssert.assertEquals(expected, actual, true);
     }
 
+    /**
+     * Parses a JSON resource with the lazy parser.
+     * 
+     * @param resource
+     * @throws IOException
+     */
+    private static OpenAPI parseLazy(URL resource) throws IOException {
+        try (InputStream stream = resource.openStream()) {
+            return OpenApiParser.parse(stream, Format.JSON, LAZY_PARSER_CONFIG);
+        }
+    }
+
     /**
      * Performs a single full merge test. Two documents are loaded (as resources) and then
      * merged. The expected merge result is then loaded and compared with the actual result.
@@ -67,6 +96,9 @@ class MergeUtilTest {
         String actual = OpenApiSerializer.serialize(actualModel, Format.JSON);
 
         assertJsonEquals(expectedContent, actual);
+
+        OpenAPI lazyModel = MergeUtil.merge(parseLazy(resource1Url), parseLazy(resource2Url));
+        assertJsonEquals(expectedContent, OpenApiSerializer.serialize(lazyModel, Format.JSON));
     }
 
     /**
@@ -158,4 +190,81 @@ class MergeUtilTest {
     void testMerge_EmptyQueryParam() throws IOException, ParseException, JSONException {
         doTest("_pathEmpty/pathEmpty1.json", "_pathEmpty/pathEmpty2.json", "_pathEmpty/merged.json");
     }
+
+    @Test
+    void testMergeKeepsLazySchemasUnmaterialized() throws IOException {
+        OpenAPI staticModel = parseLazy(MergeUtilTest.class.getResource("filter-before.json"));
+        OpenAPI annotationsModel = OASFactory.createOpenAPI()
+                .components(OASFactory.createComponents().addSchema("Added", OASFactory.createSchema()));
+
+        List<String> staticNames = new ArrayList<>(staticModel.getComponents().getSchemas().keySet());
+
+        OpenAPI merged = MergeUtil.merge(MergeUtil.merge(null, staticModel), annotationsModel);
+        Map<String, Schema> schemas = merged.getComponents().getSchemas();
+
+        Assertions.assertTrue(schemas instanceof LazyModelMap);
+        LazyModelMap<Schema> lazySchemas = (LazyModelMap<Schema>) schemas;
+
+        for (String name : staticNames) {
+            Assertions.assertFalse(lazySchemas.isMaterialized(name), name);
+        }
+        Assertions.assertTrue(lazySchemas.isMaterialized("Added"));
+
+        String name = staticNames.get(0);
+        Assertions.assertNotNull(schemas.get(name));
+        Assertions.assertTrue(lazySchemas.isMaterialized(name));
+        Assertions.assertSame(schemas.get(name), staticModel.getComponents().getSchemas().get(name));
+    }
+
+    @Test
+    void testMergeAllMatchesSequentialMerge() throws IOException {
+        List<String> resources = Arrays.asList("_info/info1.json", "_tags/tags1.json", "_servers/servers1.json",
+                "_pathDocs/path1.json", "_callbacks/callbacks1.json", "_security/security1.json", "filter-before.json",
+                "_info/info2.json", "_tags/tags2.json", "_servers/servers2.json", "_pathDocs/path2.json",
+                "_callbacks/callbacks2.json", "_security/security2.json", "_extensions/extensions1.json",
+                "_extensions/extensions2.json");
+
+        OpenAPI expected = null;
+        List<OpenAPI> documents = new ArrayList<>();
+
+        for (String resource : resources) {
+            URL url = MergeUtilTest.class.getResource(resource);
+            expected = MergeUtil.merge(expected, OpenApiParser.parse(url));
+            documents.add(OpenApiParser.parse(url));
+            documents.add(null);
+        }
+
+        OpenAPI actual = MergeUtil.mergeAll(documents, true);
+
+        Assertions.assertSame(documents.get(0), actual);
+        Assertions.assertEquals(OpenApiSerializer.serialize(expected, Format.JSON),
+                OpenApiSerializer.serialize(actual, Format.JSON));
+        Assertions.assertNull(MergeUtil.mergeAll(Arrays.asList((OpenAPI) null, null)));
+    }
+
+    @Test
+    void testMergeAllSharedModels() throws IOException {
+        Schema shared = OASFactory.createSchema().addProperty("a", OASFactory.createSchema());
+        OpenAPI document1 = document(shared, shared);
+        OpenAPI document2 = document(OASFactory.createSchema().addProperty("b", OASFactory.createSchema()),
+                OASFactory.createSchema().addProperty("c", OASFactory.createSchema()));
+
+        OpenAPI expected = MergeUtil.merge(CopyUtil.deepCopy(document1), CopyUtil.deepCopy(document2));
+        OpenAPI actual = MergeUtil.mergeAll(Arrays.asList(document1, document2), true);
+
+        Assertions.assertEquals(OpenApiSerializer.serialize(expected, Format.JSON),
+                OpenApiSerializer.serialize(actual, Format.JSON));
+        Assertions.assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(shared.getProperties().keySet()));
+    }
+
+    private static OpenAPI document(Schema component, Schema inline) {
+        return OASFactory.createOpenAPI()
+                .components(OASFactory.createComponents().addSchema("S", component))
+                .paths(OASFactory.createPaths().addPathItem("/p", OASFactory.createPathItem()
+                        .GET(OASFactory.createOperation()
+                                .requestBody(OASFactory.createRequestBody()
+                                        .content(OASFactory.createContent()
+                                                .addMediaType("application/json",
+                                                        OASFactory.createMediaType().schema(inline)))))));
+    }
 }
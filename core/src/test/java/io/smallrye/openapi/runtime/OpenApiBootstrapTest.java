@@ -0,0 +1,168 @@
+package io.smallrye.openapi.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.json.JSONException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import io.smallrye.openapi.api.LoggingPhaseListener;
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiDocument;
+import io.smallrye.openapi.api.PhaseEvent;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class OpenApiBootstrapTest {
+
+    private static final OpenApiConfig CONFIG = new OpenApiConfig() {
+    };
+
+    private static OpenAPI bootstrap(String resource) throws IOException {
+        try (OpenApiStaticFile staticFile = new OpenApiStaticFile(
+                OpenApiBootstrapTest.class.getResourceAsStream("io/" + resource), Format.JSON)) {
+            return new OpenApiBootstrap()
+                    .config(CONFIG)
+                    .staticFile(staticFile)
+                    .build();
+        }
+    }
+
+    @Test
+    void testBootstrapMatchesStaticFile() throws IOException, JSONException {
+        String expected;
+        try (InputStream stream = getClass().getResourceAsStream("io/_everything.json")) {
+            expected = IOUtils.toString(stream, StandardCharsets.UTF_8);
+        }
+
+        // The static file is complete, so bootstrapping it with an empty config must not change it
+        JSONAssert.assertEquals(expected, OpenApiSerializer.serialize(bootstrap("_everything.json"), Format.JSON), true);
+    }
+
+    @Test
+    void testConcurrentBootstraps() throws Exception {
+        String[] resources = { "_everything.json", "info.json", "tags.json", "servers.json" };
+        List<String> expected = new ArrayList<>();
+        for (String resource : resources) {
+            expected.add(OpenApiSerializer.serialize(bootstrap(resource), Format.JSON));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(resources.length);
+        try {
+            List<Future<OpenAPI>> results = new ArrayList<>();
+            for (int i = 0; i < resources.length * 10; i++) {
+                String resource = resources[i % resources.length];
+                results.add(executor.submit(() -> bootstrap(resource)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                Assertions.assertEquals(expected.get(i % resources.length),
+                        OpenApiSerializer.serialize(results.get(i).get(), Format.JSON));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testBuildAsync() throws Exception {
+        String expected = OpenApiSerializer.serialize(bootstrap("tags.json"), Format.JSON);
+        OpenApiDocument document = OpenApiDocument.newInstance();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<OpenAPI> future = new OpenApiBootstrap()
+                    .config(CONFIG)
+                    .staticModel(bootstrap("tags.json"))
+                    .buildAsync(executor);
+            document.setLazy(future::join);
+
+            Assertions.assertEquals(expected, OpenApiSerializer.serialize(document.get(), Format.JSON));
+            Assertions.assertSame(future.get(), document.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testBootstrapLeavesGlobalDocumentUnchanged() throws IOException {
+        OpenAPI global = bootstrap("info.json");
+        OpenApiDocument.INSTANCE.set(global);
+
+        try {
+            OpenAPI model = new OpenApiBootstrap()
+                    .config(CONFIG)
+                    .staticModel(bootstrap("tags.json"))
+                    .filter(new OASFilter() {
+                        @Override
+                        public void filterOpenAPI(OpenAPI openAPI) {
+                            openAPI.getInfo().setTitle("Filtered");
+                        }
+                    })
+                    .build();
+
+            Assertions.assertEquals("Filtered", model.getInfo().getTitle());
+            Assertions.assertSame(global, OpenApiDocument.INSTANCE.get());
+        } finally {
+            OpenApiDocument.INSTANCE.reset();
+        }
+    }
+
+    @Test
+    void testPhaseListenerNotified() throws IOException {
+        List<PhaseEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+        try (OpenApiStaticFile staticFile = new OpenApiStaticFile(
+                getClass().getResourceAsStream("io/_everything.json"), Format.JSON)) {
+            OpenAPI model = new OpenApiBootstrap()
+                    .config(CONFIG)
+                    .staticFile(staticFile)
+                    .filter(new OASFilter() {
+                    })
+                    .phaseListener(events::add)
+                    .build();
+
+            Assertions.assertEquals(Arrays.asList(PhaseEvent.Phase.STATIC_FILE_PARSE, PhaseEvent.Phase.MERGE,
+                    PhaseEvent.Phase.FILTER, PhaseEvent.Phase.APPLY_CONFIG, PhaseEvent.Phase.BOOTSTRAP),
+                    events.stream().map(PhaseEvent::getPhase).collect(Collectors.toList()));
+
+            PhaseEvent bootstrap = events.get(events.size() - 1);
+            Assertions.assertEquals(model.getComponents().getSchemas().size(), bootstrap.getSchemas());
+            Assertions.assertTrue(bootstrap.getOperations() > 0);
+            Assertions.assertTrue(bootstrap.getDurationNanos() >= events.get(0).getDurationNanos());
+            Assertions.assertEquals("JSON", events.get(0).getName());
+        }
+    }
+
+    @Test
+    void testLoggingPhaseListener() throws IOException {
+        try (OpenApiStaticFile staticFile = new OpenApiStaticFile(
+                getClass().getResourceAsStream("io/_everything.json"), Format.JSON)) {
+            Assertions.assertNotNull(new OpenApiBootstrap()
+                    .config(CONFIG)
+                    .staticFile(staticFile)
+                    .phaseListener(new LoggingPhaseListener())
+                    .build());
+        }
+    }
+
+    @Test
+    void testConfigRequired() {
+        OpenApiBootstrap bootstrap = new OpenApiBootstrap();
+        Assertions.assertThrows(IllegalStateException.class, bootstrap::build);
+    }
+}
@@ -0,0 +1,140 @@
+package io.smallrye.openapi.runtime;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.PhaseEvent;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+class OpenApiScanCacheTest {
+
+    @Schema(name = "Fruit")
+    static class Fruit {
+        public String name;
+        public int weight;
+    }
+
+    @Schema(name = "Basket")
+    static class Basket {
+        public List<Fruit> fruits;
+    }
+
+    private Path directory;
+
+    @BeforeEach
+    void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("openapi-cache");
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private OpenApiConfig config(boolean sortedProperties) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(OpenApiConstants.SMALLRYE_SCAN_CACHE_DIRECTORY, directory.toString());
+        properties.put(OpenApiConstants.SMALLRYE_SORTED_PROPERTIES_ENABLE, sortedProperties);
+        return IndexScannerTestBase.dynamicConfig(properties);
+    }
+
+    private static OpenAPI scan(OpenApiConfig config, Index index, List<PhaseEvent> events) {
+        return OpenApiProcessor.modelFromAnnotations(config, OpenApiScanCacheTest.class.getClassLoader(), index,
+                events::add);
+    }
+
+    private static String json(OpenAPI model) throws IOException {
+        return OpenApiSerializer.serialize(model, Format.JSON);
+    }
+
+    @Test
+    void testCacheHitSkipsScan() throws IOException {
+        Index index = IndexScannerTestBase.indexOf(Fruit.class, Basket.class);
+        List<PhaseEvent> events = new ArrayList<>();
+
+        OpenAPI scanned = scan(config(false), index, events);
+        Assertions.assertFalse(events.isEmpty());
+        Assertions.assertNotNull(scanned.getComponents().getSchemas().get("Basket"));
+
+        events.clear();
+        OpenAPI cached = scan(config(false), index, events);
+        Assertions.assertTrue(events.isEmpty());
+        Assertions.assertEquals(json(scanned), json(cached));
+    }
+
+    @Test
+    void testCorruptEntryIsSkipped() throws IOException {
+        Index index = IndexScannerTestBase.indexOf(Fruit.class, Basket.class);
+        List<PhaseEvent> events = new ArrayList<>();
+        OpenAPI scanned = scan(config(false), index, events);
+
+        Path entry;
+        try (Stream<Path> files = Files.list(directory)) {
+            entry = files.findFirst().orElseThrow(AssertionError::new);
+        }
+        byte[] bytes = Files.readAllBytes(entry);
+        bytes[bytes.length - 1] ^= 0x55;
+        Files.write(entry, bytes);
+
+        events.clear();
+        Assertions.assertEquals(json(scanned), json(scan(config(false), index, events)));
+        Assertions.assertFalse(events.isEmpty());
+
+        // The corrupt entry has been replaced
+        events.clear();
+        Assertions.assertEquals(json(scanned), json(scan(config(false), index, events)));
+        Assertions.assertTrue(events.isEmpty());
+
+        Files.write(entry, new byte[] { 'O', 'A', 'S' });
+        Assertions.assertEquals(json(scanned), json(scan(config(false), index, events)));
+    }
+
+    @Test
+    void testFingerprint() {
+        Index index = IndexScannerTestBase.indexOf(Fruit.class, Basket.class);
+        String fingerprint = OpenApiScanCache.fingerprint(config(false), index, Collections.singleton("JAX-RS"));
+
+        Assertions.assertEquals(fingerprint, OpenApiScanCache.fingerprint(config(false),
+                IndexScannerTestBase.indexOf(Basket.class, Fruit.class), Collections.singleton("JAX-RS")));
+        Assertions.assertNotEquals(fingerprint, OpenApiScanCache.fingerprint(config(false),
+                IndexScannerTestBase.indexOf(Fruit.class), Collections.singleton("JAX-RS")));
+        Assertions.assertNotEquals(fingerprint, OpenApiScanCache.fingerprint(config(true), index,
+                Collections.singleton("JAX-RS")));
+        Assertions.assertNotEquals(fingerprint, OpenApiScanCache.fingerprint(config(false), index,
+                Collections.singleton("Spring")));
+    }
+
+    @Test
+    void testVersionWithoutManifest() {
+        // The classes are not packaged while testing, so their version is a hash of their directory
+        String version = OpenApiScanCache.version(OpenApiScanCache.class);
+
+        Assertions.assertNotNull(version);
+        Assertions.assertEquals(version, OpenApiScanCache.version(OpenApiProcessor.class));
+        Assertions.assertNotEquals(version, OpenApiScanCache.version(OpenApiScanCacheTest.class));
+    }
+}
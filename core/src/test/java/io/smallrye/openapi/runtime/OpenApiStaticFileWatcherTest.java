@@ -0,0 +1,133 @@
+package io.smallrye.openapi.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.PhaseEvent;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class OpenApiStaticFileWatcherTest {
+
+    private static final OpenApiConfig CONFIG = new OpenApiConfig() {
+    };
+
+    private Path directory;
+    private Path staticFile;
+
+    @BeforeEach
+    void createStaticFile() throws IOException {
+        directory = Files.createTempDirectory("openapi");
+        staticFile = directory.resolve("openapi.yaml");
+        writeStaticFile("First");
+    }
+
+    @AfterEach
+    void deleteStaticFile() throws IOException {
+        Files.deleteIfExists(staticFile);
+        Files.deleteIfExists(directory);
+    }
+
+    private void writeStaticFile(String title) throws IOException {
+        String content = "openapi: 3.0.3\ninfo:\n  title: " + title + "\n  version: '1.0'\n";
+        Files.write(staticFile, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static OpenAPI annotationsModel() throws IOException {
+        try (InputStream stream = OpenApiStaticFileWatcherTest.class.getResourceAsStream("io/paths-get.json")) {
+            return OpenApiParser.parse(stream, Format.JSON, null);
+        }
+    }
+
+    @Test
+    void testRebuildParsesOnlyStaticFile() throws IOException {
+        OpenAPI annotations = annotationsModel();
+        String original = OpenApiSerializer.serialize(annotations, Format.JSON);
+        List<PhaseEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+        OpenApiBootstrap bootstrap = new OpenApiBootstrap()
+                .config(CONFIG)
+                .annotationsModel(annotations)
+                .phaseListener(events::add);
+
+        try (OpenApiStaticFileWatcher watcher = new OpenApiStaticFileWatcher(bootstrap, Arrays.asList(staticFile),
+                model -> {
+                })) {
+            OpenAPI first = watcher.rebuild(Collections.emptyList());
+            Assertions.assertEquals("First", first.getInfo().getTitle());
+            Assertions.assertNotNull(first.getPaths().getPathItem("/foo"));
+
+            // Unchanged files are not parsed again
+            watcher.rebuild(Collections.emptyList());
+            Assertions.assertEquals(1, events.stream()
+                    .filter(event -> event.getPhase() == PhaseEvent.Phase.STATIC_FILE_PARSE)
+                    .count());
+
+            writeStaticFile("Second");
+            OpenAPI second = watcher.rebuild(Collections.singletonList(staticFile));
+            Assertions.assertEquals("Second", second.getInfo().getTitle());
+            Assertions.assertNotNull(second.getPaths().getPathItem("/foo"));
+            Assertions.assertNotSame(first.getPaths().getPathItem("/foo"), second.getPaths().getPathItem("/foo"));
+        }
+
+        Assertions.assertEquals(original, OpenApiSerializer.serialize(annotations, Format.JSON));
+    }
+
+    @Test
+    void testChangedFileRebuildsDocument() throws Exception {
+        BlockingQueue<OpenAPI> models = new LinkedBlockingQueue<>();
+        OpenApiBootstrap bootstrap = new OpenApiBootstrap()
+                .config(CONFIG)
+                .annotationsModel(annotationsModel());
+
+        try (OpenApiStaticFileWatcher watcher = new OpenApiStaticFileWatcher(bootstrap, Arrays.asList(staticFile),
+                models::add)) {
+            Assertions.assertEquals("First", watcher.start().getInfo().getTitle());
+            Assertions.assertEquals("First", models.take().getInfo().getTitle());
+
+            writeStaticFile("Second");
+
+            OpenAPI model = models.poll(30, TimeUnit.SECONDS);
+            Assertions.assertNotNull(model);
+            Assertions.assertEquals("Second", model.getInfo().getTitle());
+            Assertions.assertNotNull(model.getPaths().getPathItem("/foo"));
+        }
+    }
+
+    @Test
+    void testStartedOnlyOnce() throws IOException {
+        OpenApiBootstrap bootstrap = new OpenApiBootstrap()
+                .config(CONFIG)
+                .annotationsModel(annotationsModel());
+        List<OpenAPI> models = Collections.synchronizedList(new ArrayList<>());
+
+        try (OpenApiStaticFileWatcher watcher = new OpenApiStaticFileWatcher(bootstrap, Arrays.asList(staticFile),
+                models::add)) {
+            watcher.start();
+            Assertions.assertThrows(IllegalStateException.class, watcher::start);
+            Assertions.assertEquals(1, models.size());
+
+            watcher.close();
+            Assertions.assertEquals("First", watcher.start().getInfo().getTitle());
+            Assertions.assertEquals(2, models.size());
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package io.smallrye.openapi.runtime.io;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.net.URL;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 
 import org.apache.commons.io.IOUtils;
@@ -13,11 +19,33 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
+
 /**
  * @author eric.wittmann@gmail.com
  */
 class OpenApiParserAndSerializerTest {
 
+    private static final OpenApiConfig STREAMING_PARSER_CONFIG = new OpenApiConfig() {
+        @Override
+        public boolean streamingParserEnable() {
+            return true;
+        }
+    };
+
+    private static final OpenApiConfig LAZY_PARSER_CONFIG = new OpenApiConfig() {
+        @Override
+        public boolean lazyParserEnable() {
+            return true;
+        }
+    };
+
     /**
      * Loads a resource as a string (reads the content at the URL).
      * 
@@ -69,6 +97,26 @@ class OpenApiParserAndSerializerTest {
         }
     }
 
+    /**
+     * Serializes the model by first building the complete JSON tree, then writing it.
+     * 
+     * @param openApi
+     * @param format
+     * @throws IOException
+     */
+    private static String serializeTree(OpenAPI openApi, Format format) throws IOException {
+        ObjectNode tree = JsonUtil.objectNode();
+        DefinitionWriter.writeOpenAPI(tree, openApi);
+
+        if (format == Format.JSON) {
+            return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(tree);
+        }
+        YAMLFactory factory = new YAMLFactory();
+        factory.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
+        factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
+        return new ObjectMapper(factory).writer().writeValueAsString(tree);
+    }
+
     /**
      * Performs a full round-trip parse+serialize test on a single resource.
      * 
@@ -84,6 +132,23 @@ class OpenApiParserAndSerializerTest {
         OpenAPI impl = OpenApiParser.parse(testResource);
         String roundTrip = OpenApiSerializer.serialize(impl, format);
 
+        // Streamed output must be identical to the output written via the JSON tree
+        Assertions.assertEquals(serializeTree(impl, format), roundTrip);
+
+        // The streaming parser must produce the same model as the tree parser
+        try (InputStream stream = testResource.openStream()) {
+            Format sourceFormat = resource.endsWith(".json") ? Format.JSON : Format.YAML;
+            OpenAPI streamed = OpenApiParser.parse(stream, sourceFormat, STREAMING_PARSER_CONFIG);
+            Assertions.assertEquals(roundTrip, OpenApiSerializer.serialize(streamed, format));
+        }
+
+        // As must the lazy parser, once every part of the model has been accessed
+        try (InputStream stream = testResource.openStream()) {
+            Format sourceFormat = resource.endsWith(".json") ? Format.JSON : Format.YAML;
+            OpenAPI lazy = OpenApiParser.parse(stream, sourceFormat, LAZY_PARSER_CONFIG);
+            Assertions.assertEquals(roundTrip, OpenApiSerializer.serialize(lazy, format));
+        }
+
         try {
             if (format == Format.JSON) {
                 assertJsonEquals(original, roundTrip);
@@ -482,4 +547,35 @@ class OpenApiParserAndSerializerTest {
         doTest("_everything.yaml", Format.YAML);
     }
 
+    /**
+     * Test method for {@link OpenApiSerializer#serialize(OpenAPI, java.io.OutputStream, Format)}
+     * and the channel and buffer variants.
+     */
+    @Test
+    void testSerializeToByteSinks() throws IOException {
+        OpenAPI impl = OpenApiParser.parse(OpenApiParserAndSerializerTest.class.getResource("_everything.yaml"));
+
+        for (Format format : Format.values()) {
+            String expected = OpenApiSerializer.serialize(impl, format);
+
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            OpenApiSerializer.serialize(impl, stream, format);
+            Assertions.assertEquals(expected, new String(stream.toByteArray(), StandardCharsets.UTF_8));
+
+            stream.reset();
+            OpenApiSerializer.serialize(impl, Channels.newChannel(stream), format);
+            Assertions.assertEquals(expected, new String(stream.toByteArray(), StandardCharsets.UTF_8));
+
+            ByteBuffer buffer = ByteBuffer.allocate(stream.size());
+            OpenApiSerializer.serialize(impl, buffer, format);
+            Assertions.assertFalse(buffer.hasRemaining());
+            buffer.flip();
+            Assertions.assertEquals(expected, StandardCharsets.UTF_8.decode(buffer).toString());
+
+            ByteBuffer tooSmall = ByteBuffer.allocate(stream.size() - 1);
+            Assertions.assertThrows(BufferOverflowException.class,
+                    () -> OpenApiSerializer.serialize(impl, tooSmall, format));
+        }
+    }
+
 }
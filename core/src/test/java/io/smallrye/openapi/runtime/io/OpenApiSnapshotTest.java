@@ -0,0 +1,100 @@
+package io.smallrye.openapi.runtime.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.OpenApiProcessor;
+import io.smallrye.openapi.runtime.OpenApiStaticFile;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+class OpenApiSnapshotTest {
+
+    private static OpenAPI parse(String resource) throws IOException {
+        return OpenApiParser.parse(OpenApiSnapshotTest.class.getResource(resource));
+    }
+
+    private static OpenApiSnapshot roundTrip(OpenApiSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        snapshot.write(stream);
+        return OpenApiSnapshot.read(new ByteArrayInputStream(stream.toByteArray()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "_everything.json",
+            "_everything.yaml",
+            "schemas-with-allOf.json",
+            "paths-all-operations.json",
+            "components-schemas.json",
+            "extensions.json" })
+    void testSnapshotRoundTrip(String resource) throws IOException {
+        OpenAPI model = parse(resource);
+        OpenApiSnapshot snapshot = roundTrip(new OpenApiSnapshot(model, null));
+
+        Assertions.assertNull(snapshot.getAnnotationsModel());
+        Assertions.assertEquals(OpenApiSerializer.serialize(model, Format.JSON),
+                OpenApiSerializer.serialize(snapshot.getStaticModel(), Format.JSON));
+    }
+
+    @Test
+    void testSnapshotBootstrapMatchesStaticFile() throws IOException {
+        OpenApiConfig config = IndexScannerTestBase.emptyConfig();
+        ClassLoader classLoader = getClass().getClassLoader();
+        OpenAPI expected;
+        OpenAPI actual;
+
+        try (OpenApiStaticFile staticFile = new OpenApiStaticFile(getClass().getResourceAsStream("_everything.yaml"),
+                Format.YAML)) {
+            expected = OpenApiProcessor.bootstrap(config, null, classLoader, staticFile);
+        }
+        try (OpenApiStaticFile staticFile = new OpenApiStaticFile(getClass().getResourceAsStream("_everything.yaml"),
+                Format.YAML)) {
+            OpenApiSnapshot snapshot = new OpenApiSnapshot(OpenApiProcessor.modelFromStaticFile(config, staticFile), null);
+            actual = OpenApiProcessor.bootstrap(config, classLoader, roundTrip(snapshot));
+        }
+
+        Assertions.assertEquals(OpenApiSerializer.serialize(expected, Format.YAML),
+                OpenApiSerializer.serialize(actual, Format.YAML));
+    }
+
+    @Test
+    void testSnapshotOnClasspathRequiresOptIn(@TempDir Path dir) throws IOException {
+        Path snapshotFile = dir.resolve(OpenApiSnapshot.RESOURCE_NAME);
+        Files.createDirectories(snapshotFile.getParent());
+        try (OutputStream stream = Files.newOutputStream(snapshotFile)) {
+            new OpenApiSnapshot(parse("paths-all-operations.json"), null).write(stream);
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { dir.toUri().toURL() },
+                getClass().getClassLoader())) {
+            OpenAPI ignored = OpenApiProcessor.bootstrap(IndexScannerTestBase.emptyConfig(), null, classLoader);
+            Assertions.assertNull(ignored.getPaths().getPathItem("/foo"));
+
+            OpenApiConfig config = IndexScannerTestBase.dynamicConfig(OpenApiConstants.SMALLRYE_SNAPSHOT_ENABLE, Boolean.TRUE);
+            OpenAPI loaded = OpenApiProcessor.bootstrap(config, null, classLoader);
+            Assertions.assertNotNull(loaded.getPaths().getPathItem("/foo"));
+        }
+    }
+
+    @Test
+    void testInvalidSnapshot() {
+        byte[] invalid = "openapi: 3.0.3".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertThrows(IOException.class, () -> OpenApiSnapshot.read(new ByteArrayInputStream(invalid)));
+    }
+}
@@ -47,7 +47,6 @@ public class IndexScannerTestBase {
 
     @AfterEach
     public void removeSchemaRegistry() {
-        SchemaRegistry.remove();
         CurrentScannerInfo.remove();
     }
 
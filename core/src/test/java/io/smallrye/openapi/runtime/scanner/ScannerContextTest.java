@@ -0,0 +1,63 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class ScannerContextTest extends IndexScannerTestBase {
+
+    @Schema(name = "Planet")
+    static class Planet {
+        public String name;
+        public List<Moon> moons;
+    }
+
+    @Schema(name = "Moon")
+    static class Moon {
+        public String name;
+        public double radius;
+    }
+
+    @Test
+    void testScanLeavesNothingOnThread() {
+        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(emptyConfig(), indexOf(Planet.class, Moon.class));
+
+        OpenAPI result = scanner.scan();
+
+        Assertions.assertNotNull(result.getComponents().getSchemas().get("Planet"));
+        Assertions.assertNull(CurrentScannerInfo.getCurrentContext());
+    }
+
+    @Test
+    void testConcurrentScansOnPooledThreads() throws Exception {
+        Index index = indexOf(Planet.class, Moon.class);
+        String expected = OpenApiSerializer.serialize(new OpenApiAnnotationScanner(emptyConfig(), index).scan(),
+                Format.JSON);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<OpenAPI>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                results.add(executor.submit(() -> new OpenApiAnnotationScanner(emptyConfig(), index).scan()));
+            }
+            for (Future<OpenAPI> result : results) {
+                Assertions.assertEquals(expected, OpenApiSerializer.serialize(result.get(), Format.JSON));
+            }
+            Assertions.assertNull(executor.submit(CurrentScannerInfo::getCurrentContext).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+
+class SchemaRegistryCopyTest extends IndexScannerTestBase {
+
+    static class Planet {
+        public String name;
+    }
+
+    static class Moon {
+        public String name;
+    }
+
+    private static Type type(Class<?> clazz) {
+        return Type.create(DotName.createSimple(clazz.getName()), Type.Kind.CLASS);
+    }
+
+    @Test
+    void testCopyReadsParentAndKeepsItsOwnTypes() {
+        Index index = indexOf(Planet.class, Moon.class);
+        AnnotationScannerContext context = new AnnotationScannerContext(index, getClass().getClassLoader(),
+                emptyConfig());
+        SchemaRegistry registry = SchemaRegistry.newInstance(context);
+        registry.register(type(Planet.class), new SchemaImpl());
+
+        AnnotationScannerContext taskContext = new AnnotationScannerContext(context, new OpenAPIImpl());
+        SchemaRegistry copy = registry.copy(taskContext);
+
+        Assertions.assertTrue(copy.hasSchema(type(Planet.class)));
+        Assertions.assertSame(registry.lookupRef(type(Planet.class)), copy.lookupRef(type(Planet.class)));
+
+        copy.register(type(Moon.class), new SchemaImpl());
+        Assertions.assertFalse(registry.hasRef(type(Moon.class)));
+        Assertions.assertEquals(1, taskContext.getOpenApi().getComponents().getSchemas().size());
+
+        // A replacement registration by the copy takes the name back, without modifying the parent
+        Schema replacement = new SchemaImpl();
+        Schema ref = copy.register(type(Planet.class), replacement);
+        Assertions.assertEquals(registry.lookupRef(type(Planet.class)).getRef(), ref.getRef());
+        Assertions.assertSame(replacement, copy.lookupSchema(type(Planet.class)));
+        Assertions.assertNotSame(replacement, registry.lookupSchema(type(Planet.class)));
+
+        List<Schema> added = new ArrayList<>();
+        Map<String, String> renamed = registry.merge(copy, added);
+        Assertions.assertTrue(renamed.isEmpty());
+        Assertions.assertTrue(registry.hasSchema(type(Moon.class)));
+    }
+}
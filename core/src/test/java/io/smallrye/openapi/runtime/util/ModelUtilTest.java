@@ -0,0 +1,90 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ModelUtilTest {
+
+    private static Parameter parameter(String name, Parameter.In in, String description) {
+        return OASFactory.createParameter().name(name).in(in).description(description);
+    }
+
+    @Test
+    void testAddOperationsOfDifferentMethods() {
+        Paths paths = OASFactory.createPaths();
+        Operation get = OASFactory.createOperation().operationId("get");
+        Operation post = OASFactory.createOperation().operationId("post");
+
+        ModelUtil.addOperation(paths, "/items", PathItem.HttpMethod.GET, get, null);
+        ModelUtil.addOperation(paths, "/items", PathItem.HttpMethod.POST, post, null);
+
+        PathItem pathItem = paths.getPathItem("/items");
+        Assertions.assertEquals(1, paths.getPathItems().size());
+        Assertions.assertSame(get, pathItem.getGET());
+        Assertions.assertSame(post, pathItem.getPOST());
+        Assertions.assertNull(pathItem.getParameters());
+    }
+
+    @Test
+    void testAddOperationOfSameMethodMerged() {
+        Paths paths = OASFactory.createPaths();
+        Operation first = OASFactory.createOperation().operationId("list").summary("List items");
+        Operation second = OASFactory.createOperation().operationId("list").description("Lists all items");
+
+        ModelUtil.addOperation(paths, "/items", PathItem.HttpMethod.GET, first, null);
+        ModelUtil.addOperation(paths, "/items", PathItem.HttpMethod.GET, second, null);
+
+        Operation merged = paths.getPathItem("/items").getGET();
+        Assertions.assertEquals("list", merged.getOperationId());
+        Assertions.assertEquals("List items", merged.getSummary());
+        Assertions.assertEquals("Lists all items", merged.getDescription());
+    }
+
+    @Test
+    void testAddPathParametersMergedByNameAndLocation() {
+        Paths paths = OASFactory.createPaths();
+
+        ModelUtil.addOperation(paths, "/items/{id}", PathItem.HttpMethod.GET, OASFactory.createOperation(),
+                Arrays.asList(parameter("id", Parameter.In.PATH, null),
+                        parameter("tenant", Parameter.In.HEADER, "The tenant")));
+        ModelUtil.addOperation(paths, "/items/{id}", PathItem.HttpMethod.DELETE, OASFactory.createOperation(),
+                Arrays.asList(parameter("id", Parameter.In.PATH, "The item"),
+                        parameter("tenant", Parameter.In.QUERY, "The tenant")));
+
+        PathItem pathItem = paths.getPathItem("/items/{id}");
+        Assertions.assertNotNull(pathItem.getGET());
+        Assertions.assertNotNull(pathItem.getDELETE());
+        Assertions.assertEquals(3, pathItem.getParameters().size());
+
+        Parameter id = pathItem.getParameters().get(0);
+        Assertions.assertEquals("id", id.getName());
+        Assertions.assertEquals(Parameter.In.PATH, id.getIn());
+        Assertions.assertEquals("The item", id.getDescription());
+
+        Assertions.assertEquals(Parameter.In.HEADER, pathItem.getParameters().get(1).getIn());
+        Assertions.assertEquals(Parameter.In.QUERY, pathItem.getParameters().get(2).getIn());
+    }
+
+    @Test
+    void testAddSamePathParametersKeepsParameters() {
+        Paths paths = OASFactory.createPaths();
+        Parameter id = parameter("id", Parameter.In.PATH, "The item");
+
+        ModelUtil.addOperation(paths, "/items/{id}", PathItem.HttpMethod.GET, OASFactory.createOperation(),
+                Collections.singletonList(id));
+        ModelUtil.addOperation(paths, "/items/{id}", PathItem.HttpMethod.PUT, OASFactory.createOperation(),
+                Collections.singletonList(parameter("id", Parameter.In.PATH, "The item")));
+
+        PathItem pathItem = paths.getPathItem("/items/{id}");
+        Assertions.assertEquals(1, pathItem.getParameters().size());
+        Assertions.assertSame(id, pathItem.getParameters().get(0));
+    }
+}
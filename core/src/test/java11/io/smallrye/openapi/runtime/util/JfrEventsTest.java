@@ -0,0 +1,99 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiDocument;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Runs on Java 11 and later only, against the implementation of {@link JfrEvents}
+ * in the multi-release part of the jar.
+ */
+class JfrEventsTest extends IndexScannerTestBase {
+
+    private static final List<String> EVENTS = Arrays.asList(
+            "io.smallrye.openapi.AnnotationScan",
+            "io.smallrye.openapi.Merge",
+            "io.smallrye.openapi.Filter",
+            "io.smallrye.openapi.Serialize");
+
+    @Schema
+    static class RecordedBean {
+        public String name;
+    }
+
+    @Test
+    void testEventsRecorded(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("openapi.jfr");
+
+        try (Recording recording = new Recording()) {
+            EVENTS.forEach(recording::enable);
+            recording.start();
+            buildDocument();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Set<String> recorded = RecordingFile.readAllEvents(file)
+                .stream()
+                .map(RecordedEvent::getEventType)
+                .map(type -> type.getName())
+                .collect(Collectors.toSet());
+
+        for (String event : EVENTS) {
+            Assertions.assertTrue(recorded.contains(event), event);
+        }
+    }
+
+    @Test
+    void testNothingRecordedWhenDisabled(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("openapi.jfr");
+
+        try (Recording recording = new Recording()) {
+            EVENTS.forEach(recording::disable);
+            recording.start();
+            buildDocument();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Assertions.assertTrue(RecordingFile.readAllEvents(file)
+                .stream()
+                .noneMatch(event -> EVENTS.contains(event.getEventType().getName())));
+    }
+
+    private static void buildDocument() throws IOException {
+        OpenApiConfig config = emptyConfig();
+        OpenAPI scanned = new OpenApiAnnotationScanner(config, indexOf(RecordedBean.class))
+                .scan();
+
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        document.config(config);
+        document.modelFromAnnotations(scanned);
+        document.filter(new OASFilter() {
+        });
+        document.initialize();
+
+        Assertions.assertTrue(document.get().getComponents().getSchemas().containsKey("RecordedBean"));
+        Assertions.assertNotNull(OpenApiSerializer.serialize(document.get(), Format.JSON));
+    }
+}
@@ -33,15 +33,15 @@ import org.jboss.jandex.Type;
 
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
-import io.smallrye.openapi.api.models.PathItemImpl;
 import io.smallrye.openapi.api.util.ListUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
-import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
 import io.smallrye.openapi.runtime.io.parameter.ParameterReader;
 import io.smallrye.openapi.runtime.io.response.ResponseReader;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
+import io.smallrye.openapi.runtime.scanner.ParallelResourceScan;
 import io.smallrye.openapi.runtime.scanner.ResourceParameters;
+import io.smallrye.openapi.runtime.scanner.ScanDependencies;
 import io.smallrye.openapi.runtime.scanner.dataobject.AugmentedIndexView;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
@@ -62,6 +62,23 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
     private static final String JAKARTA_PACKAGE = "jakarta.ws.rs";
 
     private final Deque<JaxRsSubResourceLocator> subResourceStack = new LinkedList<>();
+    private final ParallelResourceScan.Task task;
+
+    public JaxRsAnnotationScanner() {
+        this.task = null;
+    }
+
+    /**
+     * Creates a scanner for the resource class of a task of a parallel scan, with its own
+     * application path and sub-resource locators.
+     *
+     * @param scanner the scanner of the scan
+     * @param task the task
+     */
+    private JaxRsAnnotationScanner(JaxRsAnnotationScanner scanner, ParallelResourceScan.Task task) {
+        super(scanner);
+        this.task = task;
+    }
 
     @Override
     public String getName() {
@@ -171,10 +188,12 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         // this can be a useful extension point to set/override the application path
         processScannerExtensions(context, applications);
 
+        List<OpenAPI> models = new ArrayList<>(applications.size() + 1);
+        models.add(openApi);
         for (ClassInfo classInfo : applications) {
-            OpenAPI applicationOpenApi = processApplicationClass(context, classInfo);
-            openApi = MergeUtil.merge(openApi, applicationOpenApi);
+            models.add(processApplicationClass(context, classInfo));
         }
+        MergeUtil.mergeAll(models);
     }
 
     /**
@@ -188,6 +207,9 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         OpenAPI openApi = new OpenAPIImpl();
         openApi.setOpenapi(OpenApiConstants.OPEN_API_VERSION);
 
+        // The application contributes to the whole model, changing it requires a full scan
+        context.getDependencies().ifPresent(dependencies -> dependencies.addGlobalClass(applicationClass.name()));
+
         // Get the @ApplicationPath info and save it for later (also support @Path which seems nonstandard but common).
         AnnotationInstance applicationPathAnnotation = JandexUtil.getClassAnnotation(applicationClass,
                 JaxRsConstants.APPLICATION_PATH);
@@ -215,15 +237,49 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
 
     private void processResourceClasses(final AnnotationScannerContext context, OpenAPI openApi) {
         // Now find all jax-rs endpoints
-        Collection<ClassInfo> resourceClasses = getJaxRsResourceClasses(context);
+        List<ClassInfo> resourceClasses = getJaxRsResourceClasses(context)
+                .stream()
+                .filter(context::isScanned)
+                .collect(Collectors.toList());
+        context.addScannedClasses(resourceClasses.size());
+
+        if (ParallelResourceScan.isEnabled(context, resourceClasses.size())
+                && ParallelResourceScan.scan(context, resourceClasses, this::processResourceClass)) {
+            return;
+        }
+
         for (ClassInfo resourceClass : resourceClasses) {
-            TypeResolver resolver = TypeResolver.forClass(context, resourceClass, null);
-            context.getResolverStack().push(resolver);
-            processResourceClass(context, openApi, resourceClass, null);
-            context.getResolverStack().pop();
+            processResourceClass(context, openApi, resourceClass);
         }
     }
 
+    /**
+     * Processing a JAX-RS resource class found in the index.
+     * 
+     * @param context the scanning context
+     * @param openApi the OpenApi model being processed
+     * @param resourceClass the resource class
+     */
+    private void processResourceClass(final AnnotationScannerContext context, OpenAPI openApi, ClassInfo resourceClass) {
+        TypeResolver resolver = TypeResolver.forClass(context, resourceClass, null);
+        context.getResolverStack().push(resolver);
+        context.getDependencies().ifPresent(dependencies -> dependencies.startClass(resourceClass, context.getIndex()));
+        processResourceClass(context, openApi, resourceClass, null);
+        context.getDependencies().ifPresent(ScanDependencies::endClass);
+        context.getResolverStack().pop();
+    }
+
+    /**
+     * Processing the resource class of a task of a parallel scan, with a scanner of its own.
+     * 
+     * @param task the task
+     */
+    private void processResourceClass(ParallelResourceScan.Task task) {
+        AnnotationScannerContext taskContext = task.getContext();
+        new JaxRsAnnotationScanner(this, task).processResourceClass(taskContext, taskContext.getOpenApi(),
+                task.getResourceClass());
+    }
+
     /**
      * Processing a single JAX-RS resource class (annotated with @Path).
      * 
@@ -390,6 +446,7 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
 
             TypeResolver resolver = TypeResolver.forClass(context, subResourceClass, methodReturnType);
             context.getResolverStack().push(resolver);
+            context.getDependencies().ifPresent(dependencies -> dependencies.addClass(subResourceClass, context.getIndex()));
 
             /*
              * Combine parameters passed previously with all of those from the current resource class and
@@ -428,10 +485,10 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         JaxRsLogging.log.processingMethod(method.toString());
 
         // Figure out the current @Produces and @Consumes (if any)
-        CurrentScannerInfo.setCurrentConsumes(getMediaTypes(method, JaxRsConstants.CONSUMES,
+        context.setCurrentConsumes(getMediaTypes(method, JaxRsConstants.CONSUMES,
                 context.getConfig().getDefaultConsumes().orElse(OpenApiConstants.DEFAULT_MEDIA_TYPES.get()))
                         .orElse(null));
-        CurrentScannerInfo.setCurrentProduces(getMediaTypes(method, JaxRsConstants.PRODUCES,
+        context.setCurrentProduces(getMediaTypes(method, JaxRsConstants.PRODUCES,
                 context.getConfig().getDefaultProduces().orElse(OpenApiConstants.DEFAULT_MEDIA_TYPES.get()))
                         .orElse(null));
 
@@ -452,8 +509,8 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
                 reader, context.getExtensions());
         operation.setParameters(params.getOperationParameters());
 
-        PathItem pathItem = new PathItemImpl();
-        pathItem.setParameters(ListUtil.mergeNullableLists(locatorPathParameters, params.getPathItemParameters()));
+        List<Parameter> pathItemParameters = ListUtil.mergeNullableLists(locatorPathParameters,
+                params.getPathItemParameters());
 
         // Process any @RequestBody annotation (note: the @RequestBody annotation can be found on a method argument *or* on the method)
         RequestBody requestBody = processRequestBody(context, method, params);
@@ -479,9 +536,6 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         // Process Security Roles
         JavaSecurityProcessor.processSecurityRoles(method, operation);
 
-        // Now set the operation on the PathItem as appropriate based on the Http method type
-        setOperationOnPathItem(methodType, pathItem, operation);
-
         if (!processProfiles(context.getConfig(), operation)) {
             return;
         }
@@ -496,15 +550,14 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
             path = super.makePath(params.getOperationPath());
         }
 
-        // Get or create a PathItem to hold the operation
-        PathItem existingPath = ModelUtil.paths(context.getOpenApi()).getPathItem(path);
-
-        if (existingPath == null) {
-            ModelUtil.paths(context.getOpenApi()).addPathItem(path, pathItem);
+        // Add the operation to the PathItem for the path, creating it if needed
+        if (task != null) {
+            // The operations of a parallel scan are added once all resource classes are scanned
+            task.addOperation(path, methodType, operation, pathItemParameters);
         } else {
-            // Changes applied to 'existingPath', no need to re-assign or add to OAI.
-            MergeUtil.mergeObjects(existingPath, pathItem);
+            ModelUtil.addOperation(ModelUtil.paths(context.getOpenApi()), path, methodType, operation, pathItemParameters);
         }
+        context.getDependencies().ifPresent(dependencies -> dependencies.addOperation(path, methodType, pathItemParameters));
     }
 
     static Optional<String[]> getMediaTypes(MethodInfo resourceMethod, Set<DotName> annotationName, String[] defaultValue) {
@@ -1,13 +1,20 @@
 package io.smallrye.openapi.runtime.scanner;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.jboss.jandex.Index;
 import org.jboss.jandex.Indexer;
 import org.json.JSONException;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.openapi.api.PhaseEvent;
+import io.smallrye.openapi.api.util.ClassLoaderUtil;
+
 /**
  * Basic tests mostly to compare with Spring
  * 
@@ -146,4 +153,25 @@ class JaxRsAnnotationScannerBasicTest extends JaxRsDataObjectScannerTestBase {
         printToConsole(result);
         assertJsonEquals("resource.testBasicJaxRsDeleteDefinitionScanning.json", result);
     }
+
+    @Test
+    void testAnnotationScanReportsResourceClasses() throws IOException {
+        Indexer indexer = new Indexer();
+        index(indexer, "test/io/smallrye/openapi/runtime/scanner/resources/jakarta/GreetingGetResource.class");
+        index(indexer, "test/io/smallrye/openapi/runtime/scanner/resources/jakarta/GreetingPostResource.class");
+        index(indexer, "test/io/smallrye/openapi/runtime/scanner/entities/Greeting.class");
+
+        List<PhaseEvent> events = new ArrayList<>();
+        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(emptyConfig(),
+                ClassLoaderUtil.getDefaultClassLoader(), indexer.complete(),
+                Collections.singletonList(new AnnotationScannerExtension() {
+                }), events::add);
+        scanner.scan();
+
+        PhaseEvent jaxrs = events.stream()
+                .filter(e -> e.getPhase() == PhaseEvent.Phase.ANNOTATION_SCAN && "JAX-RS".equals(e.getName()))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        Assertions.assertEquals(2, jaxrs.getClasses());
+    }
 }
@@ -0,0 +1,131 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.io.IOException;
+import java.util.List;
+
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+import org.eclipse.microprofile.openapi.annotations.enums.SecuritySchemeType;
+import org.eclipse.microprofile.openapi.annotations.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import test.io.smallrye.openapi.runtime.scanner.jakarta.NoRolesResource;
+import test.io.smallrye.openapi.runtime.scanner.jakarta.RolesAllowedApp;
+import test.io.smallrye.openapi.runtime.scanner.jakarta.RolesAllowedResource1;
+import test.io.smallrye.openapi.runtime.scanner.jakarta.RolesAllowedResource2;
+import test.io.smallrye.openapi.runtime.scanner.jakarta.RolesDeclaredResource;
+
+class ParallelScanTest extends IndexScannerTestBase {
+
+    static class Warehouse {
+        static class Item {
+            public String sku;
+            public int quantity;
+        }
+    }
+
+    static class Catalog {
+        static class Item {
+            public String title;
+            public List<Review> reviews;
+        }
+    }
+
+    static class Review {
+        public String text;
+        public Catalog.Item item;
+    }
+
+    @Path("/catalog")
+    @Tag(name = "catalog", description = "The catalog")
+    static class CatalogResource {
+        @GET
+        public List<Catalog.Item> list() {
+            return null;
+        }
+
+        @Path("{id}/reviews")
+        public ReviewLocator reviews(@PathParam("id") String id) {
+            return null;
+        }
+    }
+
+    static class ReviewLocator {
+        @GET
+        @RolesAllowed("reader")
+        public List<Review> list() {
+            return null;
+        }
+
+        @POST
+        @Tag(name = "reviews")
+        public void add(Review review) {
+        }
+    }
+
+    @Path("/warehouse")
+    @Tag(name = "warehouse")
+    @RolesAllowed("clerk")
+    static class WarehouseResource {
+        @GET
+        public List<Warehouse.Item> list() {
+            return null;
+        }
+
+        @GET
+        @Path("{id}/reviews")
+        @Tag(name = "catalog", description = "Reviews of the catalog")
+        public List<Review> reviews(@PathParam("id") String id) {
+            return null;
+        }
+    }
+
+    @Path("/schemes")
+    @SecurityScheme(securitySchemeName = "apiKey", type = SecuritySchemeType.APIKEY, apiKeyName = "key")
+    static class SecuritySchemeResource {
+        @GET
+        @RolesAllowed("admin")
+        public Warehouse.Item get() {
+            return null;
+        }
+    }
+
+    private static String scan(Index index, boolean parallel) throws IOException {
+        OpenAPI result = new OpenApiAnnotationScanner(
+                dynamicConfig(OpenApiConstants.SMALLRYE_PARALLEL_SCAN_ENABLE, parallel), index).scan();
+        return OpenApiSerializer.serialize(result, Format.JSON);
+    }
+
+    @Test
+    void testSameModelAsSequentialScan() throws IOException {
+        Index index = indexOf(RolesAllowedApp.class, RolesAllowedResource1.class, RolesAllowedResource2.class,
+                RolesDeclaredResource.class, NoRolesResource.class, CatalogResource.class, ReviewLocator.class,
+                WarehouseResource.class, Warehouse.Item.class, Catalog.Item.class, Review.class);
+
+        String sequential = scan(index, false);
+        Assertions.assertTrue(sequential.contains("\"Item1\""));
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(sequential, scan(index, true));
+        }
+    }
+
+    @Test
+    void testResourceSecuritySchemesScannedSequentially() throws IOException {
+        Index index = indexOf(RolesAllowedApp.class, RolesAllowedResource1.class, SecuritySchemeResource.class,
+                WarehouseResource.class, Warehouse.Item.class, Catalog.Item.class, Review.class);
+
+        Assertions.assertEquals(scan(index, false), scan(index, true));
+    }
+}
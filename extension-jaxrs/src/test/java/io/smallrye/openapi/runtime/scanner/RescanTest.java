@@ -0,0 +1,162 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class RescanTest extends IndexScannerTestBase {
+
+    static class Item {
+        public String name;
+    }
+
+    static class Order {
+        public List<Item> items;
+        public long id;
+    }
+
+    static class Customer {
+        public String name;
+    }
+
+    @Path("/orders")
+    static class OrderResource {
+        @GET
+        public Order get() {
+            return null;
+        }
+
+        @POST
+        public void post(Order order) {
+        }
+    }
+
+    @Path("/items")
+    static class ItemResource {
+        @GET
+        public Item get() {
+            return null;
+        }
+    }
+
+    @Path("/customers")
+    static class CustomerResource {
+        @GET
+        public Customer get() {
+            return null;
+        }
+    }
+
+    @Path("/accounts/{id}")
+    static class AccountResource {
+        @PathParam("id")
+        String id;
+
+        @GET
+        public Customer get() {
+            return null;
+        }
+    }
+
+    @Path("/accounts/{id}")
+    static class AccountAdminResource {
+        @PathParam("id")
+        String id;
+        @HeaderParam("X-Admin")
+        String admin;
+
+        @DELETE
+        public void delete() {
+        }
+    }
+
+    private static OpenAPI scan(Index index, ScanDependencies dependencies) {
+        return new OpenApiAnnotationScanner(emptyConfig(), Thread.currentThread().getContextClassLoader(), index,
+                Collections.singletonList(new AnnotationScannerExtension() {
+                }), null, dependencies).scan();
+    }
+
+    private static OpenAPI rescan(Index index, ScanDependencies dependencies, OpenAPI previous, Class<?>... changed) {
+        return new OpenApiAnnotationScanner(emptyConfig(), Thread.currentThread().getContextClassLoader(), index,
+                Collections.singletonList(new AnnotationScannerExtension() {
+                }), null, dependencies)
+                        .rescan(previous, Arrays.stream(changed).map(Class::getName).collect(Collectors.toList()));
+    }
+
+    private static void assertSameModel(OpenAPI expected, OpenAPI actual) throws IOException {
+        Assertions.assertEquals(OpenApiSerializer.serialize(expected, Format.JSON),
+                OpenApiSerializer.serialize(actual, Format.JSON));
+    }
+
+    @Test
+    void testRescanAddedAndRemovedResources() throws IOException {
+        ScanDependencies dependencies = new ScanDependencies();
+        OpenAPI previous = scan(indexOf(OrderResource.class, ItemResource.class, Order.class, Item.class), dependencies);
+        String original = OpenApiSerializer.serialize(previous, Format.JSON);
+
+        Index index = indexOf(OrderResource.class, CustomerResource.class, Order.class, Item.class, Customer.class);
+        OpenAPI result = rescan(index, dependencies, previous, ItemResource.class, CustomerResource.class);
+
+        assertSameModel(scan(index, null), result);
+        Assertions.assertNull(result.getPaths().getPathItem("/items"));
+        Assertions.assertNotNull(result.getComponents().getSchemas().get("Customer"));
+        // Item is still used by Order
+        Assertions.assertNotNull(result.getComponents().getSchemas().get("Item"));
+        Assertions.assertEquals(original, OpenApiSerializer.serialize(previous, Format.JSON));
+    }
+
+    @Test
+    void testRescanChangedDataObject() throws IOException {
+        ScanDependencies dependencies = new ScanDependencies();
+        Index index = indexOf(OrderResource.class, ItemResource.class, CustomerResource.class, Order.class, Item.class,
+                Customer.class);
+        OpenAPI previous = scan(index, dependencies);
+
+        // Only the resources using Item are scanned again, the result is the same as a full scan
+        OpenAPI result = rescan(index, dependencies, previous, Item.class);
+        assertSameModel(previous, result);
+
+        OpenAPI again = rescan(index, dependencies, result, OrderResource.class);
+        assertSameModel(previous, again);
+    }
+
+    @Test
+    void testRescanWithoutDependenciesScansAll() throws IOException {
+        Index index = indexOf(OrderResource.class, Order.class, Item.class);
+        ScanDependencies dependencies = new ScanDependencies();
+
+        OpenAPI result = rescan(index, dependencies, null, OrderResource.class);
+        Assertions.assertFalse(dependencies.isEmpty());
+        assertSameModel(scan(index, null), result);
+    }
+
+    @Test
+    void testRescanRemovedPathParameters() throws IOException {
+        ScanDependencies dependencies = new ScanDependencies();
+        OpenAPI previous = scan(indexOf(AccountResource.class, AccountAdminResource.class, Customer.class), dependencies);
+        Assertions.assertEquals(2, previous.getPaths().getPathItem("/accounts/{id}").getParameters().size());
+
+        Index index = indexOf(AccountResource.class, Customer.class);
+        OpenAPI result = rescan(index, dependencies, previous, AccountAdminResource.class);
+
+        assertSameModel(scan(index, null), result);
+        Assertions.assertEquals(1, result.getPaths().getPathItem("/accounts/{id}").getParameters().size());
+    }
+}
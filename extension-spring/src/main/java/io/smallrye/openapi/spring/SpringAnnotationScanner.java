@@ -24,13 +24,12 @@ import org.jboss.jandex.Type;
 
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
-import io.smallrye.openapi.api.models.PathItemImpl;
 import io.smallrye.openapi.api.util.ListUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
-import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
 import io.smallrye.openapi.runtime.io.parameter.ParameterReader;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.ResourceParameters;
+import io.smallrye.openapi.runtime.scanner.ScanDependencies;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
 import io.smallrye.openapi.runtime.scanner.spi.AbstractAnnotationScanner;
@@ -159,10 +158,18 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
         // this can be a useful extension point to set/override the application path
         processScannerExtensions(context, applications);
 
+        List<OpenAPI> models = new ArrayList<>(applications.size() + 1);
+        models.add(openApi);
         for (ClassInfo controller : applications) {
-            OpenAPI applicationOpenApi = processControllerClass(context, controller);
-            openApi = MergeUtil.merge(openApi, applicationOpenApi);
+            if (!context.isScanned(controller)) {
+                continue;
+            }
+            context.getDependencies().ifPresent(dependencies -> dependencies.startClass(controller, context.getIndex()));
+            models.add(processControllerClass(context, controller));
+            context.getDependencies().ifPresent(ScanDependencies::endClass);
         }
+        context.addScannedClasses(models.size() - 1);
+        MergeUtil.mergeAll(models);
     }
 
     /**
@@ -291,10 +298,10 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
         SpringLogging.log.processingMethod(method.toString());
 
         // Figure out the current @Produces and @Consumes (if any)
-        CurrentScannerInfo.setCurrentConsumes(getMediaTypes(method, SpringConstants.MAPPING_CONSUMES,
+        context.setCurrentConsumes(getMediaTypes(method, SpringConstants.MAPPING_CONSUMES,
                 context.getConfig().getDefaultConsumes().orElse(OpenApiConstants.DEFAULT_MEDIA_TYPES.get())).orElse(null));
 
-        CurrentScannerInfo.setCurrentProduces(getMediaTypes(method, SpringConstants.MAPPING_PRODUCES,
+        context.setCurrentProduces(getMediaTypes(method, SpringConstants.MAPPING_PRODUCES,
                 context.getConfig().getDefaultProduces().orElse(OpenApiConstants.DEFAULT_MEDIA_TYPES.get())).orElse(null));
 
         // Process any @Operation annotation
@@ -308,14 +315,14 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
         processOperationTags(context, method, openApi, resourceTags, operation);
 
         // Process @Parameter annotations.
-        PathItem pathItem = new PathItemImpl();
         Function<AnnotationInstance, Parameter> reader = t -> ParameterReader.readParameter(context, t);
         ResourceParameters params = SpringParameterProcessor.process(context, resourceClass,
                 method, reader,
                 context.getExtensions());
         operation.setParameters(params.getOperationParameters());
 
-        pathItem.setParameters(ListUtil.mergeNullableLists(locatorPathParameters, params.getPathItemParameters()));
+        List<Parameter> pathItemParameters = ListUtil.mergeNullableLists(locatorPathParameters,
+                params.getPathItemParameters());
 
         // Process any @RequestBody annotation (note: the @RequestBody annotation can be found on a method argument *or* on the method)
         RequestBody requestBody = processRequestBody(context, method, params);
@@ -341,9 +348,6 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
         // Process Security Roles
         JavaSecurityProcessor.processSecurityRoles(method, operation);
 
-        // Now set the operation on the PathItem as appropriate based on the Http method type
-        setOperationOnPathItem(methodType, pathItem, operation);
-
         if (!processProfiles(context.getConfig(), operation)) {
             return;
         }
@@ -351,15 +355,9 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
         // Figure out the path for the operation.  This is a combination of the App, Resource, and Method @Path annotations
         String path = super.makePath(params.getOperationPath());
 
-        // Get or create a PathItem to hold the operation
-        PathItem existingPath = ModelUtil.paths(openApi).getPathItem(path);
-
-        if (existingPath == null) {
-            ModelUtil.paths(openApi).addPathItem(path, pathItem);
-        } else {
-            // Changes applied to 'existingPath', no need to re-assign or add to OAI.
-            MergeUtil.mergeObjects(existingPath, pathItem);
-        }
+        // Add the operation to the PathItem for the path, creating it if needed
+        ModelUtil.addOperation(ModelUtil.paths(openApi), path, methodType, operation, pathItemParameters);
+        context.getDependencies().ifPresent(dependencies -> dependencies.addOperation(path, methodType, pathItemParameters));
     }
 
     static Optional<String[]> getMediaTypes(MethodInfo resourceMethod, String property, String[] defaultValue) {
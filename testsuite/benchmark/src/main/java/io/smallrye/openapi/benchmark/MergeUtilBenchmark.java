@@ -0,0 +1,63 @@
+package io.smallrye.openapi.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.openapi.api.util.MergeUtil;
+
+/**
+ * Compares merging two (generated) documents with the same paths and schemas using
+ * the per-class property tables of {@link MergeUtil} with the previous implementation
+ * that introspected each merged object, {@link LegacyMergeUtil}, and with the parallel
+ * {@link MergeUtil#mergeAll(java.util.List)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergeUtilBenchmark {
+
+    @Param({ "100", "2000" })
+    int size;
+
+    OpenAPI document1;
+    OpenAPI document2;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        // Merging modifies the first document, so both are created again for every invocation
+        document1 = OpenApiParserBenchmark.generate(size);
+        document2 = OpenApiParserBenchmark.generate(size);
+    }
+
+    @Benchmark
+    public OpenAPI propertyTables() {
+        return MergeUtil.merge(document1, document2);
+    }
+
+    @Benchmark
+    public OpenAPI parallelPropertyTables() {
+        return MergeUtil.mergeAll(Arrays.asList(document1, document2));
+    }
+
+    @Benchmark
+    public OpenAPI introspection() {
+        return LegacyMergeUtil.merge(document1, document2);
+    }
+}
@@ -0,0 +1,130 @@
+package io.smallrye.openapi.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+/**
+ * Compares parsing a (generated) static file via the complete JSON tree with the
+ * token-streaming parser and the lazy parser. Run with {@code -prof gc} to compare
+ * the allocation rates of the parsers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OpenApiParserBenchmark {
+
+    private static final OpenApiConfig STREAMING = new OpenApiConfig() {
+        @Override
+        public boolean streamingParserEnable() {
+            return true;
+        }
+    };
+
+    private static final OpenApiConfig LAZY = new OpenApiConfig() {
+        @Override
+        public boolean lazyParserEnable() {
+            return true;
+        }
+    };
+
+    @Param({ "100", "2000" })
+    int size;
+
+    @Param({ "JSON", "YAML" })
+    Format format;
+
+    byte[] document;
+
+    @Setup
+    public void setup() throws IOException {
+        document = OpenApiSerializer.serialize(generate(size), format).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public OpenAPI tree() throws IOException {
+        return OpenApiParser.parse(new ByteArrayInputStream(document), format);
+    }
+
+    @Benchmark
+    public OpenAPI streaming() throws IOException {
+        return OpenApiParser.parse(new ByteArrayInputStream(document), format, STREAMING);
+    }
+
+    @Benchmark
+    public OpenAPI lazy() throws IOException {
+        return OpenApiParser.parse(new ByteArrayInputStream(document), format, LAZY);
+    }
+
+    /**
+     * Generates a document with the given number of paths and component schemas.
+     */
+    static OpenAPI generate(int size) {
+        Paths paths = OASFactory.createPaths();
+        Components components = OASFactory.createComponents();
+
+        for (int i = 0; i < size; i++) {
+            Schema schema = OASFactory.createSchema()
+                    .type(Schema.SchemaType.OBJECT)
+                    .description("Entity " + i)
+                    .addProperty("id", OASFactory.createSchema().type(Schema.SchemaType.INTEGER).format("int64"))
+                    .addProperty("name", OASFactory.createSchema().type(Schema.SchemaType.STRING).maxLength(255))
+                    .addProperty("tags", OASFactory.createSchema().type(Schema.SchemaType.ARRAY)
+                            .items(OASFactory.createSchema().type(Schema.SchemaType.STRING)))
+                    .addRequired("id");
+            components.addSchema("Entity" + i, schema);
+
+            Operation get = OASFactory.createOperation()
+                    .operationId("getEntity" + i)
+                    .summary("Read entity " + i)
+                    .addParameter(OASFactory.createParameter()
+                            .name("id")
+                            .in(Parameter.In.PATH)
+                            .required(true)
+                            .schema(OASFactory.createSchema().type(Schema.SchemaType.INTEGER)))
+                    .responses(OASFactory.createAPIResponses()
+                            .addAPIResponse("200", OASFactory.createAPIResponse()
+                                    .description("OK")
+                                    .content(OASFactory.createContent()
+                                            .addMediaType("application/json", OASFactory.createMediaType()
+                                                    .schema(OASFactory.createSchema()
+                                                            .ref("#/components/schemas/Entity" + i))))));
+
+            paths.addPathItem("/entities" + i + "/{id}", OASFactory.createPathItem().GET(get));
+        }
+
+        return OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .info(OASFactory.createInfo().title("Benchmark").version("1.0"))
+                .paths(paths)
+                .components(components);
+    }
+}
@@ -3,20 +3,30 @@ package io.smallrye.openapi.mavenplugin;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -28,16 +38,21 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.MavenProjectHelper;
 import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.OASModelReader;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.jboss.jandex.IndexView;
 
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.OpenApiDocument;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.util.CopyUtil;
+import io.smallrye.openapi.api.util.MergeUtil;
 import io.smallrye.openapi.runtime.OpenApiProcessor;
 import io.smallrye.openapi.runtime.OpenApiStaticFile;
 import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.io.OpenApiSnapshot;
 import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
 
 @Mojo(name = "generate-schema", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyCollection = ResolutionScope.COMPILE_PLUS_RUNTIME, requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME, threadSafe = true)
@@ -90,6 +105,38 @@ public class GenerateSchemaMojo extends AbstractMojo {
     @Parameter(defaultValue = "false", property = "attachArtifacts")
     private boolean attachArtifacts;
 
+    /**
+     * Write a binary snapshot of the models created from the static file and from annotations, which
+     * is loaded at runtime in place of parsing the static file and scanning the application when
+     * mp.openapi.extensions.smallrye.snapshot.enable is set.
+     */
+    @Parameter(defaultValue = "false", property = "snapshot")
+    private boolean snapshot;
+
+    /**
+     * Location of the binary snapshot. Defaults to the location where it is found at runtime.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}/META-INF/openapi.snapshot", property = "snapshotFile")
+    private File snapshotFile;
+
+    /**
+     * Fully qualified name of an OASModelReader to generate, whose source is written to the
+     * generatedSourcesDirectory and compiled to the output directory of the project. The
+     * reader builds the model of the annotations and of the configured model reader with
+     * plain constructor and setter calls. Configure it as the model reader of the application
+     * (mp.openapi.model.reader) and disable scanning (mp.openapi.scan.disable) to load the
+     * model at runtime without scanning. The static file, the filter and the configuration
+     * are not part of the generated model, they are applied at runtime as usual.
+     */
+    @Parameter(property = "modelReaderClass")
+    private String modelReaderClass;
+
+    /**
+     * Directory where to write the source of the generated model reader.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/generated-sources/openapi", property = "generatedSourcesDirectory")
+    private File generatedSourcesDirectory;
+
     /**
      * Load any properties from a file. This file is loaded first, and gets overwritten by explicitly set properties in the
      * maven configuration. Example `${basedir}/src/main/resources/application.properties`.
@@ -253,7 +300,8 @@ public class GenerateSchemaMojo extends AbstractMojo {
         }
     }
 
-    private OpenApiDocument generateSchema(IndexView index) throws IOException, DependencyResolutionRequiredException {
+    private OpenApiDocument generateSchema(IndexView index)
+            throws IOException, DependencyResolutionRequiredException, MojoExecutionException {
         if (systemPropertyVariables != null) {
             systemPropertyVariables.forEach(System::setProperty);
         }
@@ -261,10 +309,22 @@ public class GenerateSchemaMojo extends AbstractMojo {
         OpenApiConfig openApiConfig = new MavenConfig(getProperties());
         ClassLoader classLoader = getClassLoader();
 
-        OpenAPI staticModel = generateStaticModel();
+        OpenAPI staticModel = generateStaticModel(openApiConfig);
         OpenAPI annotationModel = generateAnnotationModel(index, openApiConfig, classLoader);
         OpenAPI readerModel = OpenApiProcessor.modelFromReader(openApiConfig, classLoader);
 
+        if (snapshot) {
+            // Written before the models are merged (and modified) below
+            writeSnapshot(new OpenApiSnapshot(staticModel, annotationModel));
+        }
+        if (modelReaderClass != null) {
+            // The generated reader takes the place of scanning and of the configured reader. The static file,
+            // the filter and the config are still applied at runtime, so they must not be part of its model.
+            OpenAPI generatedModel = MergeUtil.mergeAll(Arrays.asList(CopyUtil.deepCopy(readerModel),
+                    CopyUtil.deepCopy(annotationModel)));
+            writeModelReader(generatedModel != null ? generatedModel : new OpenAPIImpl());
+        }
+
         OpenApiDocument document = OpenApiDocument.newInstance();
 
         document.reset();
@@ -304,12 +364,12 @@ public class GenerateSchemaMojo extends AbstractMojo {
         return openApiAnnotationScanner.scan();
     }
 
-    private OpenAPI generateStaticModel() throws IOException {
+    private OpenAPI generateStaticModel(OpenApiConfig openApiConfig) throws IOException {
         Path staticFile = getStaticFile();
         if (staticFile != null) {
             try (InputStream is = Files.newInputStream(staticFile);
                     OpenApiStaticFile openApiStaticFile = new OpenApiStaticFile(is, getFormat(staticFile))) {
-                return OpenApiProcessor.modelFromStaticFile(openApiStaticFile);
+                return OpenApiProcessor.modelFromStaticFile(openApiConfig, openApiStaticFile);
             }
         }
         return null;
@@ -439,6 +499,77 @@ public class GenerateSchemaMojo extends AbstractMojo {
         }
     }
 
+    private void writeSnapshot(OpenApiSnapshot openApiSnapshot) throws IOException {
+        Path file = snapshotFile.toPath();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (OutputStream os = Files.newOutputStream(file)) {
+            openApiSnapshot.write(os);
+        }
+        getLog().info("Wrote the schema snapshot to " + snapshotFile.getAbsolutePath());
+    }
+
+    private void writeModelReader(OpenAPI model)
+            throws IOException, DependencyResolutionRequiredException, MojoExecutionException {
+        Path sourceFile = generatedSourcesDirectory.toPath().resolve(modelReaderClass.replace('.', '/') + ".java");
+        Files.createDirectories(sourceFile.getParent());
+        try (Writer writer = Files.newBufferedWriter(sourceFile, StandardCharsets.UTF_8)) {
+            ModelReaderGenerator.generate(model, modelReaderClass, writer);
+        }
+        getLog().info("Wrote the model reader source to " + sourceFile);
+
+        // The classes are already compiled when the application is scanned, the reader is compiled here
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new MojoExecutionException("A Java compiler is required to compile the model reader " + sourceFile);
+        }
+
+        Set<String> classpath = new LinkedHashSet<>(mavenProject.getCompileClasspathElements());
+        // The model classes and the API used by the reader, which may not be compile dependencies of the project
+        classpath.add(codeSource(OASModelReader.class));
+        classpath.add(codeSource(OpenAPIImpl.class));
+
+        List<String> options = new ArrayList<>();
+        options.add("-d");
+        options.add(mavenProject.getBuild().getOutputDirectory());
+        options.add("-classpath");
+        options.add(String.join(File.pathSeparator, classpath));
+        options.add("-encoding");
+        options.add(StandardCharsets.UTF_8.name());
+        addCompilerTarget(options);
+        options.add(sourceFile.toString());
+
+        if (compiler.run(null, null, null, options.toArray(new String[0])) != 0) {
+            throw new MojoExecutionException("Could not compile the model reader " + sourceFile);
+        }
+        getLog().info("Compiled the model reader " + modelReaderClass);
+    }
+
+    private void addCompilerTarget(List<String> options) {
+        Properties properties = mavenProject.getProperties();
+        String release = properties.getProperty("maven.compiler.release");
+        String target = properties.getProperty("maven.compiler.target");
+
+        if (release != null) {
+            options.add("--release");
+            options.add(release);
+        } else if (target != null) {
+            options.add("-source");
+            options.add(properties.getProperty("maven.compiler.source", target));
+            options.add("-target");
+            options.add(target);
+        }
+    }
+
+    private static String codeSource(Class<?> type) throws MojoExecutionException {
+        try {
+            return Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new MojoExecutionException("Could not find the location of " + type, e);
+        }
+    }
+
     private void writeSchemaFile(Path directory, String type, byte[] contents) throws IOException {
         Path file = Paths.get(directory.toString(), schemaFilename + "." + type);
         if (!Files.exists(file)) {
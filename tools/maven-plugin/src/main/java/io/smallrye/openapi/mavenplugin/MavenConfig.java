@@ -90,6 +90,16 @@ public class MavenConfig implements OpenApiConfig {
         return Boolean.parseBoolean(properties.getOrDefault(OpenApiConstants.SMALLRYE_APP_PATH_DISABLE, "false"));
     }
 
+    @Override
+    public boolean streamingParserEnable() {
+        return Boolean.parseBoolean(properties.getOrDefault(OpenApiConstants.SMALLRYE_STREAMING_PARSER_ENABLE, "false"));
+    }
+
+    @Override
+    public boolean lazyParserEnable() {
+        return Boolean.parseBoolean(properties.getOrDefault(OpenApiConstants.SMALLRYE_LAZY_PARSER_ENABLE, "false"));
+    }
+
     @Override
     public String getOpenApiVersion() {
         return properties.getOrDefault(OpenApiConstants.VERSION, null);
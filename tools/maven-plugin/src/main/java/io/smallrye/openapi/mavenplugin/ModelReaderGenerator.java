@@ -0,0 +1,445 @@
+package io.smallrye.openapi.mavenplugin;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.eclipse.microprofile.openapi.OASModelReader;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import io.smallrye.openapi.api.models.MapModel;
+import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.api.util.CopyUtil;
+
+/**
+ * Generates the Java source of an {@link OASModelReader} that builds a copy of a model
+ * with plain constructor and setter calls, so that an application can load its model
+ * at runtime without scanning, parsing or reflection.
+ * <p>
+ * The statements building the model are split across methods of at most
+ * {@value #STATEMENTS_PER_METHOD} statements, and those methods across nested classes,
+ * so that large models stay well below the limits of the JVM on the size of a method
+ * and of the constant pool of a class. Like {@link CopyUtil#deepCopy(Object)}, only the
+ * model classes of this implementation are supported, but unlike a copy, model objects
+ * referenced more than once are built again for each reference.
+ */
+final class ModelReaderGenerator {
+
+    static final int STATEMENTS_PER_METHOD = 200;
+    static final int METHODS_PER_CLASS = 64;
+
+    // Well below the limit of 65535 bytes of a string constant, even for 3 byte characters
+    private static final int MAX_LITERAL_LENGTH = 16384;
+    private static final String INDENT = "    ";
+
+    private final String packageName;
+    private final String simpleName;
+    private final int statementsPerMethod;
+    private final Map<String, String> imports = new TreeMap<>();
+    private final List<GeneratedMethod> methods = new ArrayList<>();
+    private final Map<String, String> live = new LinkedHashMap<>();
+    private GeneratedMethod current;
+    private int variables;
+
+    /**
+     * A method of the generated class, and the statements of its body.
+     */
+    private static class GeneratedMethod {
+        final String signature;
+        final List<String> statements = new ArrayList<>();
+
+        GeneratedMethod(String signature) {
+            this.signature = signature;
+        }
+    }
+
+    ModelReaderGenerator(String className, int statementsPerMethod) {
+        int lastDot = className.lastIndexOf('.');
+        this.packageName = lastDot > 0 ? className.substring(0, lastDot) : null;
+        this.simpleName = className.substring(lastDot + 1);
+        this.statementsPerMethod = statementsPerMethod;
+    }
+
+    /**
+     * Generates the source of a model reader returning a copy of the model.
+     *
+     * @param model the model to build
+     * @param className the fully qualified name of the generated class
+     * @return the source of the class
+     */
+    static String generate(OpenAPI model, String className) {
+        StringWriter writer = new StringWriter();
+        try {
+            generate(model, className, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Generates the source of a model reader returning a copy of the model.
+     *
+     * @param model the model to build
+     * @param className the fully qualified name of the generated class
+     * @param writer the writer of the source
+     * @throws IOException if the source cannot be written
+     */
+    static void generate(OpenAPI model, String className, Writer writer) throws IOException {
+        new ModelReaderGenerator(className, STATEMENTS_PER_METHOD).write(model, writer);
+    }
+
+    void write(OpenAPI model, Writer writer) throws IOException {
+        String openApiType = typeName(OpenAPI.class);
+        String readerType = typeName(OASModelReader.class);
+
+        GeneratedMethod buildModel = new GeneratedMethod("public " + openApiType + " buildModel()");
+        methods.add(buildModel);
+        current = buildModel;
+
+        // Added last to the first method, after the calls to the others, which fill the model
+        String root = value(model);
+        buildModel.statements.add("return " + root + ";");
+
+        if (packageName != null) {
+            writer.write("package " + packageName + ";\n\n");
+        }
+        for (String imported : new TreeSet<>(imports.values())) {
+            writer.write("import " + imported + ";\n");
+        }
+        writer.write("\n/**\n * Generated from the OpenAPI model of the application, do not edit.\n */\n");
+        writer.write("@SuppressWarnings({ \"rawtypes\", \"unchecked\" })\n");
+        writer.write("public class " + simpleName + " implements " + readerType + " {\n");
+
+        writeMethod(writer, buildModel, INDENT, "@Override");
+
+        for (int i = 1; i < methods.size(); i += METHODS_PER_CLASS) {
+            writer.write("\n" + INDENT + "static final class " + partName(i) + " {\n");
+            for (GeneratedMethod method : methods.subList(i, Math.min(i + METHODS_PER_CLASS, methods.size()))) {
+                writeMethod(writer, method, INDENT + INDENT, null);
+            }
+            writer.write(INDENT + "}\n");
+        }
+
+        writer.write("}\n");
+    }
+
+    private static void writeMethod(Writer writer, GeneratedMethod method, String indent, String annotation)
+            throws IOException {
+        writer.write("\n");
+        if (annotation != null) {
+            writer.write(indent + annotation + "\n");
+        }
+        writer.write(indent + method.signature + " {\n");
+        for (String statement : method.statements) {
+            writer.write(indent + INDENT + statement + "\n");
+        }
+        writer.write(indent + "}\n");
+    }
+
+    /**
+     * Adds a statement to the current method. When the method is full, the remaining
+     * statements are added to a new method, called at the end of the current one with
+     * the variables that are still to be used.
+     */
+    private void add(String statement) {
+        if (current.statements.size() >= statementsPerMethod) {
+            int index = methods.size();
+            String name = "part" + index;
+            StringBuilder parameters = new StringBuilder();
+            StringBuilder arguments = new StringBuilder();
+
+            live.forEach((variable, type) -> {
+                if (arguments.length() > 0) {
+                    parameters.append(", ");
+                    arguments.append(", ");
+                }
+                parameters.append(type).append(' ').append(variable);
+                arguments.append(variable);
+            });
+
+            current.statements.add(partName(index) + "." + name + "(" + arguments + ");");
+            current = new GeneratedMethod("static void " + name + "(" + parameters + ")");
+            methods.add(current);
+        }
+        current.statements.add(statement);
+    }
+
+    /**
+     * Returns the name of the nested class of a method, all but the first method are in
+     * nested classes.
+     */
+    private static String partName(int methodIndex) {
+        return "Part" + ((methodIndex - 1) / METHODS_PER_CLASS);
+    }
+
+    /**
+     * Adds a statement using a value, which is no longer needed after it.
+     */
+    private void use(String statement, String value) {
+        add(statement);
+        live.remove(value);
+    }
+
+    private String variable(String type, String initializer) {
+        String variable = "v" + variables++;
+        add(type + " " + variable + " = " + initializer + ";");
+        live.put(variable, type);
+        return variable;
+    }
+
+    /**
+     * Returns the expression of a value, adding the statements creating it, if any.
+     */
+    private String value(Object value) {
+        if (value instanceof ModelImpl) {
+            return model((ModelImpl) value);
+        }
+        if (value instanceof Map) {
+            return map((Map<?, ?>) value);
+        }
+        if (value instanceof List) {
+            return list((List<?>) value);
+        }
+        return literal(value);
+    }
+
+    private String model(ModelImpl model) {
+        String type = typeName(model.getClass());
+        String name = model instanceof SchemaImpl ? ((SchemaImpl) model).getName() : null;
+        String arguments = name != null ? literal(name) : "";
+        String variable = variable(type, "new " + type + "(" + arguments + ")");
+        boolean mapModel = model instanceof MapModel;
+        ModelImpl defaults = null;
+
+        for (PropertyDescriptor property : properties(model.getClass())) {
+            Method getter = property.getReadMethod();
+            Method setter = property.getWriteMethod();
+            // The Map view of MapModel types is built by way of their typed property
+            if (getter == null || setter == null || (mapModel && "map".equals(property.getName()))) {
+                continue;
+            }
+            Object propertyValue = invoke(getter, model);
+            if (propertyValue != null) {
+                String expression = value(propertyValue);
+                use(variable + "." + setter.getName() + "(" + expression + ");", expression);
+            } else {
+                // Only reset properties with a default value, like a copy does
+                if (defaults == null) {
+                    defaults = newInstance(model);
+                }
+                if (invoke(getter, defaults) != null) {
+                    add(variable + "." + setter.getName() + "((" + typeName(property.getPropertyType()) + ") null);");
+                }
+            }
+        }
+
+        return variable;
+    }
+
+    private static PropertyDescriptor[] properties(Class<?> type) {
+        try {
+            return Introspector.getBeanInfo(type).getPropertyDescriptors();
+        } catch (IntrospectionException e) {
+            throw new IllegalArgumentException("Unsupported model type: " + type.getName(), e);
+        }
+    }
+
+    private static Object invoke(Method getter, Object model) {
+        try {
+            return getter.invoke(model);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates an empty model object of the same class, and with the same name for a schema.
+     */
+    private static ModelImpl newInstance(ModelImpl model) {
+        if (model instanceof SchemaImpl) {
+            return new SchemaImpl(((SchemaImpl) model).getName());
+        }
+        try {
+            return model.getClass().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unsupported model type: " + model.getClass().getName(), e);
+        }
+    }
+
+    private String map(Map<?, ?> map) {
+        String variable = variable(typeName(Map.class), "new " + typeName(LinkedHashMap.class) + "<>()");
+
+        // Not by entries, the values of lazy maps are only materialized by get
+        for (Object key : map.keySet()) {
+            String keyExpression = value(key);
+            String valueExpression = value(map.get(key));
+            add(variable + ".put(" + keyExpression + ", " + valueExpression + ");");
+            live.remove(keyExpression);
+            live.remove(valueExpression);
+        }
+
+        return variable;
+    }
+
+    private String list(List<?> list) {
+        String variable = variable(typeName(List.class), "new " + typeName(ArrayList.class) + "<>()");
+
+        for (Object element : list) {
+            String expression = value(element);
+            use(variable + ".add(" + expression + ");", expression);
+        }
+
+        return variable;
+    }
+
+    private String literal(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof String) {
+            return stringLiteral((String) value);
+        }
+        if (value instanceof Boolean || value instanceof Integer) {
+            return value.toString();
+        }
+        if (value instanceof Long) {
+            return value + "L";
+        }
+        if (value instanceof Short) {
+            return "(short) " + value;
+        }
+        if (value instanceof Byte) {
+            return "(byte) " + value;
+        }
+        if (value instanceof Double) {
+            return doubleLiteral((Double) value);
+        }
+        if (value instanceof Float) {
+            return floatLiteral((Float) value);
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return "new " + typeName(value.getClass()) + "(\"" + value + "\")";
+        }
+        if (value instanceof Enum) {
+            Enum<?> constant = (Enum<?>) value;
+            return typeName(constant.getDeclaringClass()) + "." + constant.name();
+        }
+        throw new IllegalArgumentException("Unsupported model value type: " + value.getClass().getName());
+    }
+
+    private static String doubleLiteral(double value) {
+        if (Double.isNaN(value)) {
+            return "Double.NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+        }
+        return value + "d";
+    }
+
+    private static String floatLiteral(float value) {
+        if (Float.isNaN(value)) {
+            return "Float.NaN";
+        }
+        if (Float.isInfinite(value)) {
+            return value > 0 ? "Float.POSITIVE_INFINITY" : "Float.NEGATIVE_INFINITY";
+        }
+        return value + "f";
+    }
+
+    private static String stringLiteral(String value) {
+        if (value.length() <= MAX_LITERAL_LENGTH) {
+            return quote(value);
+        }
+
+        // Joined at runtime, the compiler would concatenate literals into a single constant
+        StringBuilder joined = new StringBuilder("String.join(\"\"");
+        int start = 0;
+        while (start < value.length()) {
+            int end = Math.min(start + MAX_LITERAL_LENGTH, value.length());
+            if (end < value.length() && Character.isHighSurrogate(value.charAt(end - 1))) {
+                // Do not split a surrogate pair
+                end--;
+            }
+            joined.append(", ").append(quote(value.substring(start, end)));
+            start = end;
+        }
+        return joined.append(')').toString();
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+            }
+        }
+
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Returns the name used for a class in the generated source, importing its
+     * outermost class unless another class of the same simple name is imported.
+     */
+    private String typeName(Class<?> type) {
+        Class<?> outermost = type;
+        while (outermost.getEnclosingClass() != null) {
+            outermost = outermost.getEnclosingClass();
+        }
+
+        String outermostName = outermost.getName();
+        String simple = outermost.getSimpleName();
+        String nested = type.getCanonicalName().substring(outermost.getCanonicalName().length());
+
+        if (outermostName.startsWith("java.lang.") && outermostName.lastIndexOf('.') == "java.lang".length()) {
+            return simple + nested;
+        }
+
+        String imported = imports.get(simple);
+
+        if (imported == null && !simple.equals(simpleName) && !simple.startsWith("Part")) {
+            imports.put(simple, outermostName);
+            imported = outermostName;
+        }
+
+        return outermostName.equals(imported) ? simple + nested : type.getCanonicalName();
+    }
+}
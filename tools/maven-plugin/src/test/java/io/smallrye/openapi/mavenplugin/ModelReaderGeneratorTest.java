@@ -0,0 +1,109 @@
+package io.smallrye.openapi.mavenplugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.eclipse.microprofile.openapi.OASModelReader;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.info.InfoImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class ModelReaderGeneratorTest {
+
+    private static final String CLASS_NAME = "test.io.smallrye.openapi.GeneratedModelReader";
+
+    private static OpenAPI parse(String resource) throws IOException {
+        Format format = resource.endsWith(".json") ? Format.JSON : Format.YAML;
+        try (InputStream stream = ModelReaderGeneratorTest.class.getResourceAsStream(resource)) {
+            return OpenApiParser.parse(stream, format, null);
+        }
+    }
+
+    private static String generate(OpenAPI model, int statementsPerMethod) throws IOException {
+        StringWriter writer = new StringWriter();
+        new ModelReaderGenerator(CLASS_NAME, statementsPerMethod).write(model, writer);
+        return writer.toString();
+    }
+
+    private static OpenAPI compileAndBuild(String source) throws Exception {
+        Path directory = Files.createTempDirectory("generated");
+        Path sourceFile = directory.resolve("GeneratedModelReader.java");
+        Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null, "-d", directory.toString(),
+                "-cp", System.getProperty("java.class.path"), sourceFile.toString());
+        Assertions.assertEquals(0, result, source);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { directory.toUri().toURL() },
+                ModelReaderGeneratorTest.class.getClassLoader())) {
+            OASModelReader reader = (OASModelReader) loader.loadClass(CLASS_NAME).getDeclaredConstructor().newInstance();
+            return reader.buildModel();
+        } finally {
+            try (java.util.stream.Stream<Path> files = Files.walk(directory)) {
+                files.map(Path::toFile).sorted((a, b) -> b.compareTo(a)).forEach(File::delete);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/io/smallrye/openapi/runtime/io/_everything.json",
+            "/io/smallrye/openapi/runtime/io/schemas-with-allOf.json",
+            "/io/smallrye/openapi/runtime/io/extensions.json" })
+    void testGeneratedReaderBuildsModel(String resource) throws Exception {
+        OpenAPI model = parse(resource);
+        // A small number of statements per method to split the model across many methods and classes
+        OpenAPI built = compileAndBuild(generate(model, 5));
+
+        Assertions.assertEquals(OpenApiSerializer.serialize(model, Format.JSON),
+                OpenApiSerializer.serialize(built, Format.JSON));
+    }
+
+    @Test
+    void testGeneratedSource() throws IOException {
+        OpenAPI model = new OpenAPIImpl();
+        model.setOpenapi("3.0.3");
+        model.setInfo(new InfoImpl());
+        model.getInfo().setTitle("Line 1\nLine \"2\" \u00e9");
+
+        String source = ModelReaderGenerator.generate(model, CLASS_NAME);
+
+        Assertions.assertTrue(source.startsWith("package test.io.smallrye.openapi;\n"));
+        Assertions.assertTrue(source.contains("public class GeneratedModelReader implements OASModelReader {"));
+        Assertions.assertTrue(source.contains(".setTitle(\"Line 1\\nLine \\\"2\\\" \\u00e9\");"));
+        Assertions.assertFalse(source.contains("static final class Part"));
+    }
+
+    @Test
+    void testLongStringSplit() throws Exception {
+        char[] chars = new char[40000];
+        Arrays.fill(chars, 'x');
+        OpenAPI model = new OpenAPIImpl();
+        model.setInfo(new InfoImpl());
+        model.getInfo().setDescription(new String(chars));
+
+        OpenAPI built = compileAndBuild(generate(model, ModelReaderGenerator.STATEMENTS_PER_METHOD));
+
+        Assertions.assertEquals(model.getInfo().getDescription(), built.getInfo().getDescription());
+    }
+}